@@ -25,7 +25,7 @@ import com.google.inject.name.Names;
 import io.fd.hc2vpp.acl.read.factory.AclReaderFactory;
 import io.fd.hc2vpp.acl.read.factory.InterfaceAclReaderFactory;
 import io.fd.hc2vpp.acl.util.AclContextManager;
-import io.fd.hc2vpp.acl.util.AclContextManagerImpl;
+import io.fd.hc2vpp.acl.util.AclContextManagerProvider;
 import io.fd.hc2vpp.acl.write.factory.InterfaceAclWriterFactory;
 import io.fd.hc2vpp.acl.write.factory.VppAclWriterFactory;
 import io.fd.honeycomb.translate.read.ReaderFactory;
@@ -65,10 +65,12 @@ public class AclModule extends AbstractModule {
         bind(FutureJVppAclFacade.class).toProvider(jvppAclProviderClass).in(Singleton.class);
 
         bind(AclContextManager.class).annotatedWith(Names.named(STANDARD_ACL_CONTEXT_NAME))
-                .toInstance(new AclContextManagerImpl(STANDARD_LEARNED_ACL_NAME_PREFIX, STANDARD_ACL_CONTEXT_NAME));
+                .toProvider(new AclContextManagerProvider(STANDARD_LEARNED_ACL_NAME_PREFIX, STANDARD_ACL_CONTEXT_NAME))
+                .in(Singleton.class);
 
         bind(AclContextManager.class).annotatedWith(Names.named(MAC_IP_ACL_CONTEXT_NAME))
-                .toInstance(new AclContextManagerImpl(MAC_IP_LEARNED_ACL_NAME_PREFIX, MAC_IP_ACL_CONTEXT_NAME));
+                .toProvider(new AclContextManagerProvider(MAC_IP_LEARNED_ACL_NAME_PREFIX, MAC_IP_ACL_CONTEXT_NAME))
+                .in(Singleton.class);
 
         final Multibinder<WriterFactory> writerFactoryMultibinder =
                 Multibinder.newSetBinder(binder(), WriterFactory.class);
@@ -17,6 +17,8 @@
 package io.fd.hc2vpp.acl;
 
 import com.google.inject.Inject;
+import io.fd.hc2vpp.common.translate.util.JVppRequestMonitor;
+import io.fd.hc2vpp.common.translate.util.JVppRequestStats;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
 import io.fd.honeycomb.binding.init.ProviderTrait;
 import io.fd.honeycomb.data.init.ShutdownHandler;
@@ -26,7 +28,11 @@ import io.fd.vpp.jvpp.acl.JVppAclImpl;
 import io.fd.vpp.jvpp.acl.dto.AclPluginGetVersion;
 import io.fd.vpp.jvpp.acl.dto.AclPluginGetVersionReply;
 import io.fd.vpp.jvpp.acl.future.FutureJVppAclFacade;
+import io.fd.vpp.jvpp.dto.JVppReply;
+import io.fd.vpp.jvpp.dto.JVppReplyDump;
+import io.fd.vpp.jvpp.dto.JVppRequest;
 import java.io.IOException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeoutException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,6 +47,9 @@ class JVppAclProvider extends ProviderTrait<FutureJVppAclFacade> implements Jvpp
     @Inject
     private ShutdownHandler shutdownHandler;
 
+    @Inject
+    private JVppRequestStats stats;
+
     private static JVppAclImpl initAclApi(final ShutdownHandler shutdownHandler) {
         final JVppAclImpl jvppAcl = new JVppAclImpl();
         // Free jvpp-acl plugin's resources on shutdown
@@ -61,7 +70,20 @@ class JVppAclProvider extends ProviderTrait<FutureJVppAclFacade> implements Jvpp
 
     private FutureJVppAclFacade reportVersionAndGet(final JVppAclImpl jvppAcl)
             throws IOException, TimeoutException, VppBaseCallException {
-        final FutureJVppAclFacade futureFacade = new FutureJVppAclFacade(registry, jvppAcl);
+        final JVppRequestMonitor monitor = stats.getMonitor("acl");
+        final FutureJVppAclFacade futureFacade = new FutureJVppAclFacade(registry, jvppAcl) {
+            @Override
+            public <REQ extends JVppRequest, REPLY extends JVppReply<REQ>> CompletionStage<REPLY> send(
+                    final REQ req) {
+                return monitor.send(() -> super.send(req));
+            }
+
+            @Override
+            public <REQ extends JVppRequest, REPLY extends JVppReply<REQ>, DUMP extends JVppReplyDump<REQ, REPLY>>
+            CompletionStage<DUMP> send(final REQ req, final DUMP emptyReplyDump) {
+                return monitor.sendDump(() -> super.send(req, emptyReplyDump));
+            }
+        };
         final AclPluginGetVersionReply pluginVersion =
                 getReply(futureFacade.aclPluginGetVersion(new AclPluginGetVersion()).toCompletableFuture());
         LOG.info("Acl plugin successfully loaded[version {}.{}]", pluginVersion.major, pluginVersion.minor);
@@ -17,7 +17,6 @@
 package io.fd.hc2vpp.acl.read;
 
 import com.google.common.base.Optional;
-import com.google.common.collect.ImmutableSet;
 import io.fd.hc2vpp.acl.util.AclContextManager;
 import io.fd.hc2vpp.acl.util.FutureJVppAclCustomizer;
 import io.fd.hc2vpp.common.translate.util.ByteDataTranslator;
@@ -30,12 +29,9 @@ import io.fd.honeycomb.translate.spi.read.InitializingListReaderCustomizer;
 import io.fd.honeycomb.translate.util.read.cache.DumpCacheManager;
 import io.fd.honeycomb.translate.util.read.cache.DumpCacheManager.DumpCacheManagerBuilder;
 import io.fd.honeycomb.translate.util.read.cache.EntityDumpExecutor;
-import io.fd.honeycomb.translate.util.read.cache.TypeAwareIdentifierCacheKeyFactory;
 import io.fd.vpp.jvpp.acl.dto.AclDetailsReplyDump;
 import io.fd.vpp.jvpp.acl.dto.AclDump;
 import io.fd.vpp.jvpp.acl.dto.AclInterfaceListDetails;
-import io.fd.vpp.jvpp.acl.dto.AclInterfaceListDetailsReplyDump;
-import io.fd.vpp.jvpp.acl.dto.AclInterfaceListDump;
 import io.fd.vpp.jvpp.acl.future.FutureJVppAclFacade;
 import java.util.Collections;
 import java.util.List;
@@ -59,7 +55,7 @@ abstract class AbstractVppAclCustomizer extends FutureJVppAclCustomizer
     private final NamingContext interfaceContext;
     private final AclContextManager standardAclContext;
 
-    private final DumpCacheManager<AclInterfaceListDetailsReplyDump, Integer> aclReferenceDumpManager;
+    private final InterfaceAclAssignments interfaceAclAssignments;
     private final DumpCacheManager<AclDetailsReplyDump, Integer> aclDumpManager;
 
     protected AbstractVppAclCustomizer(@Nonnull final FutureJVppAclFacade jVppAclFacade,
@@ -69,13 +65,8 @@ abstract class AbstractVppAclCustomizer extends FutureJVppAclCustomizer
         this.interfaceContext = interfaceContext;
         this.standardAclContext = standardAclContext;
 
-        aclReferenceDumpManager =
-            new DumpCacheManagerBuilder<AclInterfaceListDetailsReplyDump, Integer>()
-                .withExecutor(createAclReferenceDumpExecutor())
-                // Key needs to contain interface ID to distinguish dumps between interfaces
-                .withCacheKeyFactory(new TypeAwareIdentifierCacheKeyFactory(AclInterfaceListDetailsReplyDump.class,
-                    ImmutableSet.of(Interface.class)))
-                .build();
+        // assignments of all interfaces are dumped once per transaction and shared by ingress/egress/mac-ip readers
+        interfaceAclAssignments = new InterfaceAclAssignments(jVppAclFacade);
 
         aclDumpManager = new DumpCacheManagerBuilder<AclDetailsReplyDump, Integer>()
             .withExecutor(createAclExecutor())
@@ -100,15 +91,6 @@ abstract class AbstractVppAclCustomizer extends FutureJVppAclCustomizer
         };
     }
 
-    private EntityDumpExecutor<AclInterfaceListDetailsReplyDump, Integer> createAclReferenceDumpExecutor() {
-        return (identifier, params) -> {
-            AclInterfaceListDump dumpRequest = new AclInterfaceListDump();
-            dumpRequest.swIfIndex = params;
-            return getReplyForRead(getjVppAclFacade().aclInterfaceListDump(dumpRequest).toCompletableFuture(),
-                identifier);
-        };
-    }
-
     @Nonnull
     @Override
     public final List<VppAclsKey> getAllIds(@Nonnull final InstanceIdentifier<VppAcls> id,
@@ -118,14 +100,11 @@ abstract class AbstractVppAclCustomizer extends FutureJVppAclCustomizer
         final String parentInterfaceName = id.firstKeyOf(Interface.class).getName();
         final int parentInterfaceIndex = interfaceContext.getIndex(parentInterfaceName, context.getMappingContext());
 
-        final Optional<AclInterfaceListDetailsReplyDump> dumpReply =
-            aclReferenceDumpManager.getDump(id, context.getModificationCache(), parentInterfaceIndex);
+        final Optional<AclInterfaceListDetails> aclDetails =
+            interfaceAclAssignments.getStandardAcls(id, parentInterfaceIndex, context.getModificationCache());
 
-        if (dumpReply.isPresent() && !dumpReply.get().aclInterfaceListDetails.isEmpty()) {
-            // if dumpReply is present, then aclInterfaceListDetails contains single element (actually it should not be
-            // dump message in vpp)
-            final AclInterfaceListDetails aclDetails = dumpReply.get().aclInterfaceListDetails.get(0);
-            return filterAcls(aclDetails)
+        if (aclDetails.isPresent()) {
+            return filterAcls(aclDetails.get())
                 .mapToObj(aclIndex -> standardAclContext.getAclName(aclIndex, context.getMappingContext()))
                 .map(aclName -> new VppAclsKey(aclName, VppAcl.class))
                 .collect(Collectors.toList());
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.acl.read;
+
+import com.google.common.base.Optional;
+import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.fd.vpp.jvpp.acl.dto.AclInterfaceListDetails;
+import io.fd.vpp.jvpp.acl.dto.AclInterfaceListDetailsReplyDump;
+import io.fd.vpp.jvpp.acl.dto.AclInterfaceListDump;
+import io.fd.vpp.jvpp.acl.dto.MacipAclInterfaceGet;
+import io.fd.vpp.jvpp.acl.dto.MacipAclInterfaceGetReply;
+import io.fd.vpp.jvpp.acl.future.FutureJVppAclFacade;
+import java.util.HashMap;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Provides ACLs assigned to interfaces. Assignments of all interfaces are dumped once per read transaction and
+ * indexed by interface index in {@link ModificationCache}, so ingress, egress and mac-ip readers share single dump
+ * instead of dumping each interface separately.
+ */
+final class InterfaceAclAssignments implements JvppReplyConsumer {
+
+    /**
+     * Value of sw_if_index, that makes VPP dump ACL assignments of all interfaces.
+     */
+    static final int ALL_INTERFACES = ~0;
+
+    /**
+     * Returned by mac-ip lookup, if interface has no mac-ip ACL assigned.
+     */
+    static final int ACL_NOT_ASSIGNED = -1;
+
+    private static final String STANDARD_ACLS_KEY = InterfaceAclAssignments.class.getName() + "_standard";
+    private static final String MAC_IP_ACLS_KEY = InterfaceAclAssignments.class.getName() + "_macIp";
+
+    private final FutureJVppAclFacade jVppAclFacade;
+
+    InterfaceAclAssignments(@Nonnull final FutureJVppAclFacade jVppAclFacade) {
+        this.jVppAclFacade = jVppAclFacade;
+    }
+
+    /**
+     * @return standard ACLs assigned to interface, or empty if interface has no ACLs assigned
+     */
+    Optional<AclInterfaceListDetails> getStandardAcls(@Nonnull final InstanceIdentifier<?> id,
+                                                      final int swIfIndex,
+                                                      @Nonnull final ModificationCache cache)
+        throws ReadFailedException {
+        @SuppressWarnings("unchecked")
+        Map<Integer, AclInterfaceListDetails> index = (Map<Integer, AclInterfaceListDetails>) cache.get(
+            STANDARD_ACLS_KEY);
+        if (index == null) {
+            index = indexStandardAcls(dumpStandardAcls(id));
+            cache.put(STANDARD_ACLS_KEY, index);
+        }
+        return Optional.fromNullable(index.get(swIfIndex));
+    }
+
+    /**
+     * @return index of mac-ip ACL assigned to interface, or {@link #ACL_NOT_ASSIGNED}
+     */
+    int getMacIpAcl(@Nonnull final InstanceIdentifier<?> id, final int swIfIndex,
+                    @Nonnull final ModificationCache cache) throws ReadFailedException {
+        int[] index = (int[]) cache.get(MAC_IP_ACLS_KEY);
+        if (index == null) {
+            index = indexMacIpAcls(dumpMacIpAcls(id));
+            cache.put(MAC_IP_ACLS_KEY, index);
+        }
+        return swIfIndex >= 0 && swIfIndex < index.length
+            ? index[swIfIndex]
+            : ACL_NOT_ASSIGNED;
+    }
+
+    private AclInterfaceListDetailsReplyDump dumpStandardAcls(final InstanceIdentifier<?> id)
+        throws ReadFailedException {
+        final AclInterfaceListDump request = new AclInterfaceListDump();
+        request.swIfIndex = ALL_INTERFACES;
+        return getReplyForRead(jVppAclFacade.aclInterfaceListDump(request).toCompletableFuture(), id);
+    }
+
+    private MacipAclInterfaceGetReply dumpMacIpAcls(final InstanceIdentifier<?> id) throws ReadFailedException {
+        return getReplyForRead(jVppAclFacade.macipAclInterfaceGet(new MacipAclInterfaceGet()).toCompletableFuture(),
+            id);
+    }
+
+    private static Map<Integer, AclInterfaceListDetails> indexStandardAcls(
+        final AclInterfaceListDetailsReplyDump reply) {
+        if (reply == null || reply.aclInterfaceListDetails == null) {
+            return new HashMap<>();
+        }
+        final Map<Integer, AclInterfaceListDetails> index = new HashMap<>(reply.aclInterfaceListDetails.size() * 2);
+        for (final AclInterfaceListDetails details : reply.aclInterfaceListDetails) {
+            index.put(details.swIfIndex, details);
+        }
+        return index;
+    }
+
+    private static int[] indexMacIpAcls(final MacipAclInterfaceGetReply reply) {
+        if (reply == null || reply.acls == null) {
+            return new int[0];
+        }
+        // acls are indexed by sw_if_index, only first count entries are valid
+        final int count = Math.max(0, Math.min(reply.count, reply.acls.length));
+        final int[] index = new int[count];
+        System.arraycopy(reply.acls, 0, index, 0, count);
+        return index;
+    }
+}
@@ -36,8 +36,6 @@ import io.fd.honeycomb.translate.util.read.cache.DumpCacheManager;
 import io.fd.honeycomb.translate.util.read.cache.EntityDumpExecutor;
 import io.fd.vpp.jvpp.acl.dto.MacipAclDetailsReplyDump;
 import io.fd.vpp.jvpp.acl.dto.MacipAclDump;
-import io.fd.vpp.jvpp.acl.dto.MacipAclInterfaceGet;
-import io.fd.vpp.jvpp.acl.dto.MacipAclInterfaceGetReply;
 import io.fd.vpp.jvpp.acl.future.FutureJVppAclFacade;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state.Interface;
@@ -57,10 +55,10 @@ public class VppMacIpAclCustomizer extends FutureJVppAclCustomizer
 
     private static final Logger LOG = LoggerFactory.getLogger(VppMacIpAclCustomizer.class);
     @VisibleForTesting
-    protected static final int ACL_NOT_ASSIGNED = -1;
+    protected static final int ACL_NOT_ASSIGNED = InterfaceAclAssignments.ACL_NOT_ASSIGNED;
 
     private final DumpCacheManager<MacipAclDetailsReplyDump, Integer> macIpAclDumpManager;
-    private final DumpCacheManager<MacipAclInterfaceGetReply, Void> interfaceMacIpAclDumpManager;
+    private final InterfaceAclAssignments interfaceAclAssignments;
     private final NamingContext interfaceContext;
     private final AclContextManager macIpAclContext;
 
@@ -75,11 +73,8 @@ public class VppMacIpAclCustomizer extends FutureJVppAclCustomizer
             .acceptOnly(MacipAclDetailsReplyDump.class)
             .build();
 
-        // for dumping of reference on interface
-        interfaceMacIpAclDumpManager = new DumpCacheManager.DumpCacheManagerBuilder<MacipAclInterfaceGetReply, Void>()
-            .withExecutor(createInterfaceMacIpDumpExecutor())
-            .acceptOnly(MacipAclInterfaceGetReply.class)
-            .build();
+        // for dumping of reference on interface, shared with standard ACL readers
+        interfaceAclAssignments = new InterfaceAclAssignments(jVppAclFacade);
         this.interfaceContext = interfaceContext;
         this.macIpAclContext = macIpAclContext;
     }
@@ -98,12 +93,6 @@ public class VppMacIpAclCustomizer extends FutureJVppAclCustomizer
         };
     }
 
-    private EntityDumpExecutor<MacipAclInterfaceGetReply, Void> createInterfaceMacIpDumpExecutor() {
-        return (identifier, params) -> getReplyForRead(
-            getjVppAclFacade().macipAclInterfaceGet(new MacipAclInterfaceGet()).toCompletableFuture(),
-            identifier);
-    }
-
     @Nonnull
     @Override
     public VppMacipAclBuilder getBuilder(@Nonnull final InstanceIdentifier<VppMacipAcl> id) {
@@ -118,26 +107,22 @@ public class VppMacIpAclCustomizer extends FutureJVppAclCustomizer
         final MappingContext mappingContext = ctx.getMappingContext();
         final int interfaceIndex = interfaceContext.getIndex(interfaceName, mappingContext);
         final ModificationCache modificationCache = ctx.getModificationCache();
-        final Optional<MacipAclInterfaceGetReply> interfacesMacIpDumpReply =
-            interfaceMacIpAclDumpManager.getDump(id, modificationCache);
-
-        if (interfacesMacIpDumpReply.isPresent() && interfaceIndex < interfacesMacIpDumpReply.get().count) {
-            final int aclIndex = interfacesMacIpDumpReply.get().acls[interfaceIndex];
-            if (aclIndex != ACL_NOT_ASSIGNED) {
-                final Optional<MacipAclDetailsReplyDump> macIpDumpReply =
-                    macIpAclDumpManager.getDump(id, modificationCache, aclIndex);
-
-                if (macIpDumpReply.isPresent() && !macIpDumpReply.get().macipAclDetails.isEmpty()) {
-                    builder.setName(macIpAclContext.getAclName(aclIndex, mappingContext));
-                    builder.setType(
-                        org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.acl.rev170615.VppMacipAcl.class);
-                    return;
-                } else {
-                    // this is invalid state(Interface in VPP will act as "deny-all" for security reasons), but generally
-                    // it should not happen
-                    throw new ReadFailedException(id,
-                        new IllegalStateException(String.format("ACE with index %s not found in VPP", aclIndex)));
-                }
+        final int aclIndex = interfaceAclAssignments.getMacIpAcl(id, interfaceIndex, modificationCache);
+
+        if (aclIndex != ACL_NOT_ASSIGNED) {
+            final Optional<MacipAclDetailsReplyDump> macIpDumpReply =
+                macIpAclDumpManager.getDump(id, modificationCache, aclIndex);
+
+            if (macIpDumpReply.isPresent() && !macIpDumpReply.get().macipAclDetails.isEmpty()) {
+                builder.setName(macIpAclContext.getAclName(aclIndex, mappingContext));
+                builder.setType(
+                    org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.acl.rev170615.VppMacipAcl.class);
+                return;
+            } else {
+                // this is invalid state(Interface in VPP will act as "deny-all" for security reasons), but generally
+                // it should not happen
+                throw new ReadFailedException(id,
+                    new IllegalStateException(String.format("ACE with index %s not found in VPP", aclIndex)));
             }
         }
         // this is valid state, so just logging
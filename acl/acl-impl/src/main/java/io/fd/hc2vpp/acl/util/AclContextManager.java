@@ -35,6 +35,19 @@ public interface AclContextManager {
      */
     void addAcl(final int id, @Nonnull final String name, @Nonnull final List<Ace> aces, @Nonnull final MappingContext ctx);
 
+    /**
+     * Updates metadata of existing ACL. Only mappings of ACEs that were added, removed or moved to different index are
+     * written, mappings of other ACEs are left untouched. If there is no metadata for ACL, it is created.
+     *
+     * @param id         ACL index
+     * @param name       ACL name
+     * @param acesBefore list of aces, for which metadata was created
+     * @param acesAfter  list of aces used to update rule-name to index mapping
+     * @param ctx        mapping context providing context data for current transaction
+     */
+    void updateAcl(final int id, @Nonnull final String name, @Nonnull final List<Ace> acesBefore,
+                   @Nonnull final List<Ace> acesAfter, @Nonnull final MappingContext ctx);
+
     /**
      * Check whether metadata for given ACL is present.
      *
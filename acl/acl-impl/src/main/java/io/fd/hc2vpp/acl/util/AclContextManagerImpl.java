@@ -21,11 +21,14 @@ import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.base.Optional;
+import io.fd.hc2vpp.common.translate.util.TransactionalContextStore;
 import io.fd.honeycomb.translate.MappingContext;
 import io.fd.honeycomb.translate.util.RWUtils;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collector;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
@@ -46,6 +49,10 @@ import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
 
 /**
  * Facade on top of {@link MappingContext} that manages {@link VppAclContext}.
+ *
+ * <p>Facade backed by {@link TransactionalContextStore} writes mappings to the context data tree as well as to the
+ * store and serves lookups from the store. Acl mappings are stored under the acl context name, ace mappings under
+ * separate context with acl name as their parent.
  */
 @ThreadSafe
 public final class AclContextManagerImpl implements AclContextManager {
@@ -56,16 +63,59 @@ public final class AclContextManagerImpl implements AclContextManager {
     private static final Collector<AceMapping, ?, AceMapping> SINGLE_ITEM_ACE_COLLECTOR =
         RWUtils.singleItemCollector();
 
+    // acls have no parent, all are stored under the same one
+    private static final String ACL_STORE_PARENT = "";
+
     private final InstanceIdentifier<VppAclContext> ctxIid;
 
     private final String artificialNamePrefix;
 
+    private final TransactionalContextStore store;
+
+    private final String aclStoreContext;
+
+    private final String aceStoreContext;
+
     public AclContextManagerImpl(@Nonnull final String artificialNamePrefix, @Nonnull final String aclContextName) {
         this.artificialNamePrefix = requireNonNull(artificialNamePrefix, "artificialNamePrefix should not be null");
         requireNonNull(aclContextName, "aclContextName should not be null");
         this.ctxIid = InstanceIdentifier.create(Contexts.class)
             .augmentation(VppAclContextAugmentation.class).child(VppAclMappings.class)
             .child(VppAclContext.class, new VppAclContextKey(aclContextName));
+        this.store = null;
+        this.aclStoreContext = null;
+        this.aceStoreContext = null;
+    }
+
+    /**
+     * Creates facade backed by context store.
+     *
+     * @param store store serving lookups of this context. All writes to the acl context have to go through this
+     *              instance to keep the store consistent.
+     */
+    public AclContextManagerImpl(@Nonnull final String artificialNamePrefix, @Nonnull final String aclContextName,
+                                 @Nonnull final TransactionalContextStore store) {
+        this.artificialNamePrefix = requireNonNull(artificialNamePrefix, "artificialNamePrefix should not be null");
+        requireNonNull(aclContextName, "aclContextName should not be null");
+        this.ctxIid = InstanceIdentifier.create(Contexts.class)
+            .augmentation(VppAclContextAugmentation.class).child(VppAclMappings.class)
+            .child(VppAclContext.class, new VppAclContextKey(aclContextName));
+        this.store = requireNonNull(store, "store should not be null");
+        this.aclStoreContext = aclContextName;
+        this.aceStoreContext = aclContextName + "-ace";
+        store.register(aclStoreContext, (mappingContext, mappings) -> readAclMappings(mappingContext)
+            .forEach(acl -> mappings.accept(ACL_STORE_PARENT, acl.getName(), acl.getIndex(), null)));
+        store.register(aceStoreContext, (mappingContext, mappings) -> readAclMappings(mappingContext)
+            .forEach(acl -> Optional.fromNullable(acl.getAceMapping()).or(Collections.emptyList())
+                .forEach(ace -> mappings.accept(acl.getName(), ace.getName(), ace.getIndex(), null))));
+    }
+
+    private boolean isStored() {
+        return store != null;
+    }
+
+    private List<AclMapping> readAclMappings(final MappingContext ctx) {
+        return ctx.read(ctxIid).transform(VppAclContext::getAclMapping).or(Collections.emptyList());
     }
 
     @Override
@@ -81,16 +131,76 @@ public final class AclContextManagerImpl implements AclContextManager {
         }
         aclMapping.setAceMapping(mappings);
         ctx.put(mappingIid, aclMapping.build());
+        if (isStored()) {
+            store.put(aclStoreContext, ACL_STORE_PARENT, name, id, null, ctx);
+            store.removeParent(aceStoreContext, name, ctx);
+            for (final AceMapping mapping : mappings) {
+                store.put(aceStoreContext, name, mapping.getName(), mapping.getIndex(), null, ctx);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void updateAcl(final int id, @Nonnull final String name, @Nonnull final List<Ace> acesBefore,
+                                       @Nonnull final List<Ace> acesAfter, @Nonnull final MappingContext ctx) {
+        final KeyedInstanceIdentifier<AclMapping, AclMappingKey> mappingIid = getAclIid(name);
+        final Optional<AclMapping> read = ctx.read(mappingIid);
+        if (!read.isPresent()) {
+            addAcl(id, name, acesAfter, ctx);
+            return;
+        }
+        if (!read.get().getIndex().equals(id)) {
+            // merge keeps existing ace mappings
+            ctx.merge(mappingIid, new AclMappingBuilder().setIndex(id).setName(name).build());
+            if (isStored()) {
+                store.put(aclStoreContext, ACL_STORE_PARENT, name, id, null, ctx);
+            }
+        }
+
+        final Map<String, Integer> indexesBefore = new HashMap<>(acesBefore.size() * 2);
+        int aceIndex = 0;
+        for (final Ace ace : acesBefore) {
+            indexesBefore.put(ace.getRuleName(), aceIndex++);
+        }
+
+        aceIndex = 0;
+        for (final Ace ace : acesAfter) {
+            final String aceName = ace.getRuleName();
+            final Integer indexBefore = indexesBefore.remove(aceName);
+            if (indexBefore == null || indexBefore != aceIndex) {
+                ctx.put(mappingIid.child(AceMapping.class, new AceMappingKey(aceName)),
+                    new AceMappingBuilder().setName(aceName).setIndex(aceIndex).build());
+                if (isStored()) {
+                    store.put(aceStoreContext, name, aceName, aceIndex, null, ctx);
+                }
+            }
+            aceIndex++;
+        }
+        // what is left was removed
+        for (final String aceName : indexesBefore.keySet()) {
+            ctx.delete(mappingIid.child(AceMapping.class, new AceMappingKey(aceName)));
+            if (isStored()) {
+                store.remove(aceStoreContext, name, aceName, ctx);
+            }
+        }
     }
 
     @Override
     public synchronized boolean containsAcl(@Nonnull final String name, @Nonnull final MappingContext ctx) {
+        if (isStored()) {
+            return store.getIndex(aclStoreContext, ACL_STORE_PARENT, name, ctx) != null;
+        }
         final Optional<AclMapping> read = ctx.read(getAclIid(name));
         return read.isPresent();
     }
 
     @Override
     public synchronized int getAclIndex(@Nonnull final String name, @Nonnull final MappingContext ctx) {
+        if (isStored()) {
+            final Long index = store.getIndex(aclStoreContext, ACL_STORE_PARENT, name, ctx);
+            checkArgument(index != null, "No mapping stored for name: %s", name);
+            return index.intValue();
+        }
         final Optional<AclMapping> read = ctx.read(getAclIid(name));
         checkArgument(read.isPresent(), "No mapping stored for name: %s", name);
         return read.get().getIndex();
@@ -98,6 +208,15 @@ public final class AclContextManagerImpl implements AclContextManager {
 
     @Override
     public synchronized String getAclName(final int id, @Nonnull final MappingContext ctx) {
+        if (isStored()) {
+            final String name = store.getName(aclStoreContext, ACL_STORE_PARENT, id, ctx);
+            if (name != null) {
+                return name;
+            }
+            final String artificialName = getArtificialAclName(id);
+            addAcl(id, artificialName, Collections.emptyList(), ctx);
+            return artificialName;
+        }
         if (!containsAclName(id, ctx)) {
             final String artificialName = getArtificialAclName(id);
             addAcl(id, artificialName, Collections.emptyList(), ctx);
@@ -123,11 +242,24 @@ public final class AclContextManagerImpl implements AclContextManager {
     @Override
     public synchronized void removeAcl(@Nonnull final String name, @Nonnull final MappingContext ctx) {
         ctx.delete(getAclIid(name));
+        if (isStored()) {
+            store.remove(aclStoreContext, ACL_STORE_PARENT, name, ctx);
+            store.removeParent(aceStoreContext, name, ctx);
+        }
     }
 
     @Override
     public synchronized String getAceName(@Nonnull final String aclName, final int aceIndex,
                                           @Nonnull final MappingContext ctx) {
+        if (isStored()) {
+            final String name = store.getName(aceStoreContext, aclName, aceIndex, ctx);
+            if (name != null) {
+                return name;
+            }
+            final String artificialName = getArtificialAceName(aceIndex);
+            addAce(aclName, aceIndex, artificialName, ctx);
+            return artificialName;
+        }
         if (!containsAceName(aclName, aceIndex, ctx)) {
             final String artificialName = getArtificialAceName(aceIndex);
             addAce(aclName, aceIndex, artificialName, ctx);
@@ -162,5 +294,8 @@ public final class AclContextManagerImpl implements AclContextManager {
         final KeyedInstanceIdentifier<AceMapping, AceMappingKey> iid =
             getAclIid(aclName).child(AceMapping.class, new AceMappingKey(aceName));
         ctx.put(iid, aceMapping.build());
+        if (isStored()) {
+            store.put(aceStoreContext, aclName, aceName, aceIndex, null, ctx);
+        }
     }
 }
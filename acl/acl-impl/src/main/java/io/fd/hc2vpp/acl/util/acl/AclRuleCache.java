@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.acl.util.acl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev160708.access.lists.acl.access.list.entries.Ace;
+
+/**
+ * Caches vpp rules translated from aces of each acl. Translation of an ace does not depend on anything else, so rules
+ * of aces that did not change between updates of acl are reused and only added or modified aces are translated.
+ *
+ * @param <R> type of vpp rule
+ */
+@ThreadSafe
+public final class AclRuleCache<R> {
+
+    private final Function<Ace, R> converter;
+    private final IntFunction<R[]> arrayFactory;
+    private final Map<String, Map<Ace, R>> rules = new ConcurrentHashMap<>();
+
+    /**
+     * @param converter    translates single ace to vpp rule
+     * @param arrayFactory creates array of rules of given size
+     */
+    public AclRuleCache(@Nonnull final Function<Ace, R> converter, @Nonnull final IntFunction<R[]> arrayFactory) {
+        this.converter = requireNonNull(converter, "converter should not be null");
+        this.arrayFactory = requireNonNull(arrayFactory, "arrayFactory should not be null");
+    }
+
+    /**
+     * Returns rules for aces of acl, in the same order. Replaces rules cached for the acl, so cache holds only rules of
+     * the latest aces.
+     *
+     * @param aclName name of acl
+     * @param aces    aces of acl
+     */
+    @Nonnull
+    public R[] toRules(@Nonnull final String aclName, @Nonnull final List<Ace> aces) {
+        final Map<Ace, R> cached = rules.getOrDefault(aclName, Collections.emptyMap());
+        final Map<Ace, R> translated = new HashMap<>(aces.size() * 2);
+        final R[] result = arrayFactory.apply(aces.size());
+        int i = 0;
+        for (final Ace ace : aces) {
+            R rule = cached.get(ace);
+            if (rule == null) {
+                rule = converter.apply(ace);
+            }
+            translated.put(ace, rule);
+            result[i++] = rule;
+        }
+        rules.put(aclName, translated);
+        return result;
+    }
+
+    /**
+     * Drops rules cached for acl.
+     */
+    public void invalidate(@Nonnull final String aclName) {
+        rules.remove(aclName);
+    }
+}
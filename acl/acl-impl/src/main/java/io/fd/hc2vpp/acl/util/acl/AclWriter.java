@@ -28,6 +28,8 @@ import io.fd.vpp.jvpp.acl.dto.MacipAclAdd;
 import io.fd.vpp.jvpp.acl.dto.MacipAclAddReply;
 import io.fd.vpp.jvpp.acl.dto.MacipAclDel;
 import io.fd.vpp.jvpp.acl.future.FutureJVppAclFacade;
+import io.fd.vpp.jvpp.acl.types.AclRule;
+import io.fd.vpp.jvpp.acl.types.MacipAclRule;
 import java.util.List;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev160708.access.lists.Acl;
@@ -44,6 +46,7 @@ public interface AclWriter extends AclDataExtractor, AceConverter, JvppReplyCons
     default void addStandardAcl(@Nonnull final FutureJVppAclFacade futureFacade,
                                 @Nonnull final InstanceIdentifier<Acl> id, @Nonnull final Acl acl,
                                 @Nonnull final AclContextManager standardAclContext,
+                                @Nonnull final AclRuleCache<AclRule> ruleCache,
                                 @Nonnull final MappingContext mappingContext) throws WriteFailedException {
 
         final AclAddReplace request = new AclAddReplace();
@@ -52,7 +55,7 @@ public interface AclWriter extends AclDataExtractor, AceConverter, JvppReplyCons
         request.aclIndex = ACL_INDEX_CREATE_NEW;
 
         final List<Ace> aces = getAces(acl);
-        request.r = toStandardAclRules(aces);
+        request.r = ruleCache.toRules(acl.getAclName(), aces);
         request.count = request.r.length;
 
         final AclAddReplaceReply reply =
@@ -64,29 +67,32 @@ public interface AclWriter extends AclDataExtractor, AceConverter, JvppReplyCons
 
     // according to vpp team, this was tested extensively, and should work
     default void updateStandardAcl(@Nonnull final FutureJVppAclFacade futureFacade,
-                                   @Nonnull final InstanceIdentifier<Acl> id, @Nonnull final Acl acl,
-                                   @Nonnull final AclContextManager standardAclContext,
+                                   @Nonnull final InstanceIdentifier<Acl> id, @Nonnull final Acl aclBefore,
+                                   @Nonnull final Acl aclAfter, @Nonnull final AclContextManager standardAclContext,
+                                   @Nonnull final AclRuleCache<AclRule> ruleCache,
                                    @Nonnull final MappingContext mappingContext) throws WriteFailedException {
 
         final AclAddReplace request = new AclAddReplace();
 
-        request.tag = getAclTag(acl);
+        request.tag = getAclTag(aclAfter);
         // by setting existing index, request is resolved as update
-        request.aclIndex = standardAclContext.getAclIndex(acl.getAclName(), mappingContext);
+        request.aclIndex = standardAclContext.getAclIndex(aclAfter.getAclName(), mappingContext);
 
-        final List<Ace> aces = getAces(acl);
-        request.r = toStandardAclRules(aces);
+        // only aces that changed since last write are translated
+        final List<Ace> aces = getAces(aclAfter);
+        request.r = ruleCache.toRules(aclAfter.getAclName(), aces);
         request.count = request.r.length;
 
         final AclAddReplaceReply reply = getReplyForWrite(futureFacade.aclAddReplace(request).toCompletableFuture(), id);
 
-        // overwrites existing acl metadata (aces might have been changed):
-        standardAclContext.addAcl(reply.aclIndex, acl.getAclName(), aces, mappingContext);
+        // updates mappings of aces that were changed
+        standardAclContext.updateAcl(reply.aclIndex, aclAfter.getAclName(), getAces(aclBefore), aces, mappingContext);
     }
 
     default void deleteStandardAcl(@Nonnull final FutureJVppAclFacade futureFacade,
                                    @Nonnull final InstanceIdentifier<Acl> id, @Nonnull final Acl acl,
                                    @Nonnull final AclContextManager standardAclContext,
+                                   @Nonnull final AclRuleCache<AclRule> ruleCache,
                                    @Nonnull final MappingContext mappingContext) throws WriteFailedException {
 
         final AclDel request = new AclDel();
@@ -97,18 +103,20 @@ public interface AclWriter extends AclDataExtractor, AceConverter, JvppReplyCons
 
         // removes mapping after successful delete
         standardAclContext.removeAcl(aclName, mappingContext);
+        ruleCache.invalidate(aclName);
     }
 
     default void addMacIpAcl(@Nonnull final FutureJVppAclFacade futureFacade,
                              @Nonnull final InstanceIdentifier<Acl> id, @Nonnull final Acl acl,
                              @Nonnull final AclContextManager macIpAclContext,
+                             @Nonnull final AclRuleCache<MacipAclRule> ruleCache,
                              @Nonnull final MappingContext mappingContext) throws WriteFailedException {
         final MacipAclAdd request = new MacipAclAdd();
 
         request.tag = getAclTag(acl);
 
         final List<Ace> aces = getAces(acl);
-        request.r = toMacIpAclRules(aces);
+        request.r = ruleCache.toRules(acl.getAclName(), aces);
         request.count = request.r.length;
 
         final MacipAclAddReply reply = getReplyForWrite(futureFacade.macipAclAdd(request).toCompletableFuture(), id);
@@ -117,9 +125,39 @@ public interface AclWriter extends AclDataExtractor, AceConverter, JvppReplyCons
         macIpAclContext.addAcl(reply.aclIndex, acl.getAclName(), aces, mappingContext);
     }
 
+    /**
+     * There is no direct support for update of mac-ip acl, so it is deleted and created again. Rules of unchanged aces
+     * are reused. Mapping is removed once the acl is deleted, so it never points to deleted acl if create fails.
+     */
+    default void updateMacIpAcl(@Nonnull final FutureJVppAclFacade futureFacade,
+                                @Nonnull final InstanceIdentifier<Acl> id, @Nonnull final Acl aclBefore,
+                                @Nonnull final Acl aclAfter, @Nonnull final AclContextManager macIpAclContext,
+                                @Nonnull final AclRuleCache<MacipAclRule> ruleCache,
+                                @Nonnull final MappingContext mappingContext) throws WriteFailedException {
+        final MacipAclDel delRequest = new MacipAclDel();
+        delRequest.aclIndex = macIpAclContext.getAclIndex(aclBefore.getAclName(), mappingContext);
+
+        getReplyForDelete(futureFacade.macipAclDel(delRequest).toCompletableFuture(), id);
+        macIpAclContext.removeAcl(aclBefore.getAclName(), mappingContext);
+
+        final MacipAclAdd request = new MacipAclAdd();
+
+        request.tag = getAclTag(aclAfter);
+
+        final List<Ace> aces = getAces(aclAfter);
+        request.r = ruleCache.toRules(aclAfter.getAclName(), aces);
+        request.count = request.r.length;
+
+        final MacipAclAddReply reply = getReplyForWrite(futureFacade.macipAclAdd(request).toCompletableFuture(), id);
+
+        // mac-ip acl might have got different index
+        macIpAclContext.addAcl(reply.aclIndex, aclAfter.getAclName(), aces, mappingContext);
+    }
+
     default void deleteMacIpAcl(@Nonnull final FutureJVppAclFacade futureFacade,
                                 @Nonnull final InstanceIdentifier<Acl> id, @Nonnull final Acl acl,
                                 @Nonnull final AclContextManager macIpAclContext,
+                                @Nonnull final AclRuleCache<MacipAclRule> ruleCache,
                                 @Nonnull final MappingContext mappingContext) throws WriteFailedException {
         final MacipAclDel request = new MacipAclDel();
         final String aclName = acl.getAclName();
@@ -128,7 +166,6 @@ public interface AclWriter extends AclDataExtractor, AceConverter, JvppReplyCons
         getReplyForDelete(futureFacade.macipAclDel(request).toCompletableFuture(), id);
 
         macIpAclContext.removeAcl(aclName, mappingContext);
+        ruleCache.invalidate(aclName);
     }
-
-
 }
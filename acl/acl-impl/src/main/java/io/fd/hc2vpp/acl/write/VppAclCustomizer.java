@@ -26,6 +26,7 @@ import com.google.common.base.Optional;
 import io.fd.hc2vpp.acl.util.AclContextManager;
 import io.fd.hc2vpp.acl.util.FutureJVppAclCustomizer;
 import io.fd.hc2vpp.acl.util.acl.AclDataExtractor;
+import io.fd.hc2vpp.acl.util.acl.AclRuleCache;
 import io.fd.hc2vpp.acl.util.acl.AclValidator;
 import io.fd.hc2vpp.acl.util.acl.AclWriter;
 import io.fd.honeycomb.translate.MappingContext;
@@ -33,6 +34,8 @@ import io.fd.honeycomb.translate.spi.write.ListWriterCustomizer;
 import io.fd.honeycomb.translate.write.WriteContext;
 import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.fd.vpp.jvpp.acl.future.FutureJVppAclFacade;
+import io.fd.vpp.jvpp.acl.types.AclRule;
+import io.fd.vpp.jvpp.acl.types.MacipAclRule;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -58,6 +61,9 @@ public class VppAclCustomizer extends FutureJVppAclCustomizer
 
     private final AclContextManager standardAclContext;
     private final AclContextManager macIpAclContext;
+    private final AclRuleCache<AclRule> standardAclRules = new AclRuleCache<>(this::toStandardAclRule, AclRule[]::new);
+    private final AclRuleCache<MacipAclRule> macIpAclRules =
+            new AclRuleCache<>(this::toMacIpAclRule, MacipAclRule[]::new);
 
     public VppAclCustomizer(@Nonnull final FutureJVppAclFacade jVppAclFacade,
                             @Nonnull final AclContextManager standardAclContext,
@@ -75,9 +81,9 @@ public class VppAclCustomizer extends FutureJVppAclCustomizer
         final MappingContext mappingContext = writeContext.getMappingContext();
 
         if (isStandardAcl(dataAfter)) {
-            addStandardAcl(getjVppAclFacade(), id, dataAfter, standardAclContext, mappingContext);
+            addStandardAcl(getjVppAclFacade(), id, dataAfter, standardAclContext, standardAclRules, mappingContext);
         } else if (isMacIpAcl(dataAfter)) {
-            addMacIpAcl(getjVppAclFacade(), id, dataAfter, macIpAclContext, mappingContext);
+            addMacIpAcl(getjVppAclFacade(), id, dataAfter, macIpAclContext, macIpAclRules, mappingContext);
         } else {
             // double check, first one done by validation
             throw new WriteFailedException.CreateFailedException(id, dataAfter,
@@ -94,14 +100,15 @@ public class VppAclCustomizer extends FutureJVppAclCustomizer
         final MappingContext mappingContext = writeContext.getMappingContext();
 
         if (isStandardAcl(dataAfter)) {
-            updateStandardAcl(getjVppAclFacade(), id, dataAfter, standardAclContext, mappingContext);
+            updateStandardAcl(getjVppAclFacade(), id, dataBefore, dataAfter, standardAclContext, standardAclRules,
+                    mappingContext);
         } else if (isMacIpAcl(dataAfter)) {
             synchronized (macIpAclContext) {
                 // there is no direct support for update of mac-ip acl, but only one is allowed per interface
                 // so it is atomic from vpp standpoint. Enclosed in synchronized block to prevent issues with
                 // multiple threads managing naming context
-                deleteMacIpAcl(getjVppAclFacade(), id, dataBefore, macIpAclContext, mappingContext);
-                addMacIpAcl(getjVppAclFacade(), id, dataAfter, macIpAclContext, mappingContext);
+                updateMacIpAcl(getjVppAclFacade(), id, dataBefore, dataAfter, macIpAclContext, macIpAclRules,
+                        mappingContext);
             }
         } else {
             // double check, first one done by validation
@@ -124,9 +131,9 @@ public class VppAclCustomizer extends FutureJVppAclCustomizer
         final MappingContext mappingContext = writeContext.getMappingContext();
 
         if (isStandardAcl(dataBefore)) {
-            deleteStandardAcl(getjVppAclFacade(), id, dataBefore, standardAclContext, mappingContext);
+            deleteStandardAcl(getjVppAclFacade(), id, dataBefore, standardAclContext, standardAclRules, mappingContext);
         } else if (isMacIpAcl(dataBefore)) {
-            deleteMacIpAcl(getjVppAclFacade(), id, dataBefore, macIpAclContext, mappingContext);
+            deleteMacIpAcl(getjVppAclFacade(), id, dataBefore, macIpAclContext, macIpAclRules, mappingContext);
         } else {
             // double check, first one done by validation
             throw new WriteFailedException.DeleteFailedException(id,
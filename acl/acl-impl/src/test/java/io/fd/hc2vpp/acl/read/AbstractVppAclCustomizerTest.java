@@ -16,6 +16,7 @@
 
 package io.fd.hc2vpp.acl.read;
 
+import static io.fd.hc2vpp.acl.read.InterfaceAclAssignments.ALL_INTERFACES;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -117,15 +118,15 @@ public abstract class AbstractVppAclCustomizerTest
     @Test
     public void testReadAllTwoIfacesInOneTx() throws ReadFailedException {
         final AclInterfaceListDetailsReplyDump reply = aclInterfaceDump((byte) 2, "acl1", "acl2", "acl3");
-        when(aclApi.aclInterfaceListDump(aclInterfaceRequest(IF_ID))).thenReturn(future(reply));
-
-        when(aclApi.aclInterfaceListDump(aclInterfaceRequest(IF_ID_NO_ACL)))
-            .thenReturn(future(aclInterfaceDump((byte) 0)));
+        reply.aclInterfaceListDetails.add(aclInterfaceDetails(IF_ID_NO_ACL, (byte) 0));
+        when(aclApi.aclInterfaceListDump(aclInterfaceRequest(ALL_INTERFACES))).thenReturn(future(reply));
 
         // read all for interface with defined ACLs:
         assertFalse(getCustomizer().getAllIds(getWildcardedIid(IF_NAME), ctx).isEmpty());
         // read all for interface without ACLs defined:
         assertEquals(0, getCustomizer().getAllIds(getWildcardedIid(IF_NAME_NO_ACL), ctx).size());
+        // single dump for all interfaces:
+        verify(aclApi).aclInterfaceListDump(any());
     }
 
     @Test
@@ -151,15 +152,21 @@ public abstract class AbstractVppAclCustomizerTest
 
     protected AclInterfaceListDetailsReplyDump aclInterfaceDump(final byte nInput, final String... aclNames) {
         final AclInterfaceListDetailsReplyDump reply = new AclInterfaceListDetailsReplyDump();
+        reply.aclInterfaceListDetails.add(aclInterfaceDetails(IF_ID, nInput, aclNames));
+        return reply;
+    }
+
+    protected AclInterfaceListDetails aclInterfaceDetails(final int swIfIndex, final byte nInput,
+                                                          final String... aclNames) {
         final AclInterfaceListDetails details = new AclInterfaceListDetails();
+        details.swIfIndex = swIfIndex;
         details.acls = new int[aclNames.length];
         for (int i = 0; i < aclNames.length; ++i) {
             defineMapping(mappingContext, aclNames[i], i, ACL_CTX_NAME);
             details.acls[i] = i;
         }
         details.nInput = nInput;
-        reply.aclInterfaceListDetails.add(details);
-        return reply;
+        return details;
     }
 
     protected abstract InstanceIdentifier<VppAcls> getWildcardedIid(@Nonnull final String ifName);
@@ -16,6 +16,7 @@
 
 package io.fd.hc2vpp.acl.read;
 
+import static io.fd.hc2vpp.acl.read.InterfaceAclAssignments.ALL_INTERFACES;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
@@ -44,7 +45,7 @@ public class IngressVppAclCustomizerTest extends AbstractVppAclCustomizerTest {
     @Test
     public void testGetAllIdsNoInputAclConfigured() throws ReadFailedException {
         final AclInterfaceListDetailsReplyDump reply = aclInterfaceDump((byte) 0, "acl1");
-        when(aclApi.aclInterfaceListDump(aclInterfaceRequest(IF_ID))).thenReturn(future(reply));
+        when(aclApi.aclInterfaceListDump(aclInterfaceRequest(ALL_INTERFACES))).thenReturn(future(reply));
         assertTrue(getCustomizer().getAllIds(getWildcardedIid(IF_NAME), ctx).isEmpty());
     }
 
@@ -52,7 +53,7 @@ public class IngressVppAclCustomizerTest extends AbstractVppAclCustomizerTest {
     public void testGetAllIds() throws ReadFailedException {
         final byte nInput = 2;
         final AclInterfaceListDetailsReplyDump reply = aclInterfaceDump(nInput, "acl1", "acl2", "acl3");
-        when(aclApi.aclInterfaceListDump(aclInterfaceRequest(IF_ID))).thenReturn(future(reply));
+        when(aclApi.aclInterfaceListDump(aclInterfaceRequest(ALL_INTERFACES))).thenReturn(future(reply));
         assertEquals(nInput, getCustomizer().getAllIds(getWildcardedIid(IF_NAME), ctx).size());
     }
 
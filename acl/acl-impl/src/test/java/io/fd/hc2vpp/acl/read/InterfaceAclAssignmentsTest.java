@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.acl.read;
+
+import static io.fd.hc2vpp.acl.read.InterfaceAclAssignments.ACL_NOT_ASSIGNED;
+import static io.fd.hc2vpp.acl.read.InterfaceAclAssignments.ALL_INTERFACES;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.fd.hc2vpp.common.test.util.FutureProducer;
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.vpp.jvpp.acl.dto.AclInterfaceListDetails;
+import io.fd.vpp.jvpp.acl.dto.AclInterfaceListDetailsReplyDump;
+import io.fd.vpp.jvpp.acl.dto.AclInterfaceListDump;
+import io.fd.vpp.jvpp.acl.dto.MacipAclInterfaceGetReply;
+import io.fd.vpp.jvpp.acl.future.FutureJVppAclFacade;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.InterfacesState;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class InterfaceAclAssignmentsTest implements FutureProducer {
+
+    private static final InstanceIdentifier<InterfacesState> ID = InstanceIdentifier.create(InterfacesState.class);
+
+    @Mock
+    private FutureJVppAclFacade aclApi;
+
+    private ModificationCache cache;
+    private AclInterfaceListDetails firstIface;
+    private AclInterfaceListDetails secondIface;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        cache = new ModificationCache();
+
+        firstIface = details(1);
+        secondIface = details(3);
+        final AclInterfaceListDetailsReplyDump standardReply = new AclInterfaceListDetailsReplyDump();
+        standardReply.aclInterfaceListDetails.add(firstIface);
+        standardReply.aclInterfaceListDetails.add(secondIface);
+        final AclInterfaceListDump request = new AclInterfaceListDump();
+        request.swIfIndex = ALL_INTERFACES;
+        when(aclApi.aclInterfaceListDump(request)).thenReturn(future(standardReply));
+
+        final MacipAclInterfaceGetReply macIpReply = new MacipAclInterfaceGetReply();
+        macIpReply.count = 2;
+        macIpReply.acls = new int[] {ACL_NOT_ASSIGNED, 7, 8};
+        when(aclApi.macipAclInterfaceGet(any())).thenReturn(future(macIpReply));
+    }
+
+    @Test
+    public void testStandardAclsDumpedOncePerTransaction() throws Exception {
+        // ingress and egress readers use separate instances
+        final InterfaceAclAssignments ingress = new InterfaceAclAssignments(aclApi);
+        final InterfaceAclAssignments egress = new InterfaceAclAssignments(aclApi);
+
+        assertSame(firstIface, ingress.getStandardAcls(ID, 1, cache).get());
+        assertSame(secondIface, ingress.getStandardAcls(ID, 3, cache).get());
+        assertSame(firstIface, egress.getStandardAcls(ID, 1, cache).get());
+        assertFalse(egress.getStandardAcls(ID, 2, cache).isPresent());
+        verify(aclApi).aclInterfaceListDump(any());
+
+        // new transaction
+        ingress.getStandardAcls(ID, 1, new ModificationCache());
+        verify(aclApi, times(2)).aclInterfaceListDump(any());
+    }
+
+    @Test
+    public void testMacIpAclsDumpedOncePerTransaction() throws Exception {
+        final InterfaceAclAssignments assignments = new InterfaceAclAssignments(aclApi);
+
+        assertEquals(ACL_NOT_ASSIGNED, assignments.getMacIpAcl(ID, 0, cache));
+        assertEquals(7, assignments.getMacIpAcl(ID, 1, cache));
+        // beyond count
+        assertEquals(ACL_NOT_ASSIGNED, assignments.getMacIpAcl(ID, 2, cache));
+        assertEquals(ACL_NOT_ASSIGNED, assignments.getMacIpAcl(ID, 100, cache));
+        verify(aclApi).macipAclInterfaceGet(any());
+    }
+
+    private static AclInterfaceListDetails details(final int swIfIndex) {
+        final AclInterfaceListDetails details = new AclInterfaceListDetails();
+        details.swIfIndex = swIfIndex;
+        details.acls = new int[0];
+        return details;
+    }
+}
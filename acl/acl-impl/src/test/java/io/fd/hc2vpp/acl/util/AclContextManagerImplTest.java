@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.acl.util;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.base.Optional;
+import io.fd.honeycomb.translate.MappingContext;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.Contexts;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev160708.access.lists.acl.access.list.entries.Ace;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev160708.access.lists.acl.access.list.entries.AceBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev160708.access.lists.acl.access.list.entries.AceKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.acl.context.rev170104.VppAclContextAugmentation;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.VppAclMappings;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.VppAclContext;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.VppAclContextKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.vpp.acl.context.AclMapping;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.vpp.acl.context.AclMappingBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.vpp.acl.context.AclMappingKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.vpp.acl.context.acl.mapping.AceMapping;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.vpp.acl.context.acl.mapping.AceMappingBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.vpp.acl.context.acl.mapping.AceMappingKey;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
+
+public class AclContextManagerImplTest {
+
+    private static final String ACL_CTX_NAME = "acl-context";
+    private static final String ACL_NAME = "acl1";
+    private static final int ACL_INDEX = 4;
+    private static final KeyedInstanceIdentifier<AclMapping, AclMappingKey> ACL_MAPPING_IID =
+            InstanceIdentifier.create(Contexts.class).augmentation(VppAclContextAugmentation.class)
+                    .child(VppAclMappings.class).child(VppAclContext.class, new VppAclContextKey(ACL_CTX_NAME))
+                    .child(AclMapping.class, new AclMappingKey(ACL_NAME));
+
+    @Mock
+    private MappingContext mappingContext;
+
+    private AclContextManager aclContext;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        aclContext = new AclContextManagerImpl("acl-", ACL_CTX_NAME);
+    }
+
+    @Test
+    public void testUpdateAclWritesOnlyChangedAces() {
+        when(mappingContext.read(ACL_MAPPING_IID)).thenReturn(Optional.of(aclMapping(ACL_INDEX)));
+        final List<Ace> acesBefore = Arrays.asList(ace("ace1"), ace("ace2"), ace("ace3"));
+        final List<Ace> acesAfter = Arrays.asList(ace("ace1"), ace("ace3"), ace("ace4"));
+
+        aclContext.updateAcl(ACL_INDEX, ACL_NAME, acesBefore, acesAfter, mappingContext);
+
+        verify(mappingContext, never()).put(aceMappingIid("ace1"), aceMapping("ace1", 0));
+        verify(mappingContext).put(aceMappingIid("ace3"), aceMapping("ace3", 1));
+        verify(mappingContext).put(aceMappingIid("ace4"), aceMapping("ace4", 2));
+        verify(mappingContext).delete(aceMappingIid("ace2"));
+        verify(mappingContext, never()).put(any(), any(AclMapping.class));
+        verify(mappingContext, never()).merge(any(), any());
+    }
+
+    @Test
+    public void testUpdateAclIndexChanged() {
+        when(mappingContext.read(ACL_MAPPING_IID)).thenReturn(Optional.of(aclMapping(ACL_INDEX)));
+        final List<Ace> aces = Arrays.asList(ace("ace1"), ace("ace2"));
+
+        aclContext.updateAcl(ACL_INDEX + 1, ACL_NAME, aces, aces, mappingContext);
+
+        verify(mappingContext).merge(ACL_MAPPING_IID,
+                new AclMappingBuilder().setIndex(ACL_INDEX + 1).setName(ACL_NAME).build());
+        verify(mappingContext, never()).put(any(), any());
+        verify(mappingContext, never()).delete(any());
+    }
+
+    @Test
+    public void testUpdateAclNotPresent() {
+        when(mappingContext.read(ACL_MAPPING_IID)).thenReturn(Optional.absent());
+        final List<Ace> aces = Arrays.asList(ace("ace1"), ace("ace2"));
+
+        aclContext.updateAcl(ACL_INDEX, ACL_NAME, aces, aces, mappingContext);
+
+        verify(mappingContext).put(ACL_MAPPING_IID, new AclMappingBuilder().setIndex(ACL_INDEX).setName(ACL_NAME)
+                .setAceMapping(Arrays.asList(aceMapping("ace1", 0), aceMapping("ace2", 1))).build());
+    }
+
+    private static Ace ace(final String name) {
+        return new AceBuilder().setRuleName(name).setKey(new AceKey(name)).build();
+    }
+
+    private static AclMapping aclMapping(final int index) {
+        return new AclMappingBuilder().setIndex(index).setName(ACL_NAME).build();
+    }
+
+    private static AceMapping aceMapping(final String name, final int index) {
+        return new AceMappingBuilder().setName(name).setIndex(index).build();
+    }
+
+    private static KeyedInstanceIdentifier<AceMapping, AceMappingKey> aceMappingIid(final String name) {
+        return ACL_MAPPING_IID.child(AceMapping.class, new AceMappingKey(name));
+    }
+}
@@ -17,9 +17,11 @@
 package io.fd.hc2vpp.acl.write;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -38,12 +40,14 @@ import io.fd.vpp.jvpp.acl.dto.AclDel;
 import io.fd.vpp.jvpp.acl.dto.AclDelReply;
 import io.fd.vpp.jvpp.acl.dto.MacipAclAdd;
 import io.fd.vpp.jvpp.acl.dto.MacipAclAddReply;
+import io.fd.vpp.jvpp.acl.dto.MacipAclDelReply;
 import io.fd.vpp.jvpp.acl.future.FutureJVppAclFacade;
 import io.fd.vpp.jvpp.acl.types.AclRule;
 import io.fd.vpp.jvpp.acl.types.MacipAclRule;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
@@ -51,7 +55,10 @@ import org.mockito.Captor;
 import org.mockito.Mock;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev160708.AccessLists;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev160708.access.lists.Acl;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev160708.access.lists.AclBuilder;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev160708.access.lists.AclKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev160708.access.lists.acl.AccessListEntriesBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev160708.access.lists.acl.access.list.entries.Ace;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.Interfaces;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.InterfacesBuilder;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.Interface;
@@ -121,6 +128,25 @@ public class VppAclCustomizerTest extends WriterCustomizerTest implements AclTes
         assertTrue(Arrays.equals(new byte[]{(byte)0xff, 0, 0, 0, 0, 0}, rule.srcMacMask));
     }
 
+    @Test
+    public void updateCurrentAttributesMacipAddFailed(@InjectTestData(resourcePath = "/acl/macip/macip-acl.json")
+                                                              AccessLists macipAcl) {
+        final Acl acl = macipAcl.getAcl().get(0);
+        when(macIpAclContext.getAclIndex("macip-acl", mappingContext)).thenReturn(3);
+        when(aclApi.macipAclDel(any())).thenReturn(future(new MacipAclDelReply()));
+        when(aclApi.macipAclAdd(any())).thenReturn(failedFuture());
+
+        try {
+            aclCustomizer.updateCurrentAttributes(validMacipId, acl, acl, writeContext);
+        } catch (WriteFailedException e) {
+            // mapping of deleted acl is removed
+            verify(macIpAclContext).removeAcl("macip-acl", mappingContext);
+            verify(macIpAclContext, never()).addAcl(anyInt(), any(), any(), any());
+            return;
+        }
+        fail("WriteFailedException should have been thrown");
+    }
+
     @Test
     public void writeCurrentAttributesIcmpIpv4(@InjectTestData(resourcePath = "/acl/standard/standard-acl-icmp.json")
                                                        AccessLists standardAcls) throws Exception {
@@ -206,6 +232,36 @@ public class VppAclCustomizerTest extends WriterCustomizerTest implements AclTes
     }
 
 
+    @Test
+    public void updateCurrentAttributesReusesUnchangedRules(
+            @InjectTestData(resourcePath = "/acl/standard/standard-acl-tcp.json") AccessLists tcpAcls,
+            @InjectTestData(resourcePath = "/acl/standard/standard-acl-udp.json") AccessLists udpAcls)
+            throws Exception {
+        final int aclIndex = 4;
+        when(aclApi.aclAddReplace(any())).thenReturn(future(aclAddReplaceReply(aclIndex)));
+        when(standardAclContext.getAclIndex("standard-acl", mappingContext)).thenReturn(aclIndex);
+        final Acl dataBefore = tcpAcls.getAcl().get(0);
+        final List<Ace> acesAfter = Arrays.asList(dataBefore.getAccessListEntries().getAce().get(0),
+                udpAcls.getAcl().get(0).getAccessListEntries().getAce().get(0));
+        final Acl dataAfter = new AclBuilder(dataBefore)
+                .setAccessListEntries(new AccessListEntriesBuilder().setAce(acesAfter).build())
+                .build();
+
+        aclCustomizer.writeCurrentAttributes(validId, dataBefore, writeContext);
+        aclCustomizer.updateCurrentAttributes(validId, dataBefore, dataAfter, writeContext);
+
+        verify(aclApi, times(2)).aclAddReplace(aclAddReplaceRequestCaptor.capture());
+        final AclRule[] rulesBefore = aclAddReplaceRequestCaptor.getAllValues().get(0).r;
+        final AclAddReplace update = aclAddReplaceRequestCaptor.getAllValues().get(1);
+        assertEquals(aclIndex, update.aclIndex);
+        assertEquals(2, update.count);
+        // rule of unchanged ace is not translated again
+        assertSame(rulesBefore[0], update.r[0]);
+        assertEquals(17, update.r[1].proto);
+        verify(standardAclContext).updateAcl(aclIndex, "standard-acl", dataBefore.getAccessListEntries().getAce(),
+                acesAfter, mappingContext);
+    }
+
     @Test
     public void writeCurrentAttributesUdp(@InjectTestData(resourcePath = "/acl/standard/standard-acl-udp.json")
                                                   AccessLists standardAcls) throws Exception {
@@ -299,6 +355,12 @@ public class VppAclCustomizerTest extends WriterCustomizerTest implements AclTes
         fail("IllegalStateException should have been thrown");
     }
 
+    private static AclAddReplaceReply aclAddReplaceReply(final int aclIndex) {
+        final AclAddReplaceReply reply = new AclAddReplaceReply();
+        reply.aclIndex = aclIndex;
+        return reply;
+    }
+
     private void verifyUdpRequest(final int aclIndex) {
         final AclAddReplace request = aclAddReplaceRequestCaptor.getValue();
         assertEquals(aclIndex, request.aclIndex);
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.benchmarks.acl;
+
+import static io.fd.hc2vpp.benchmarks.util.BenchmarkData.ACES;
+import static io.fd.hc2vpp.benchmarks.util.BenchmarkData.SEED;
+
+import io.fd.hc2vpp.acl.util.AclContextManager;
+import io.fd.hc2vpp.acl.util.AclContextManagerImpl;
+import io.fd.hc2vpp.acl.util.ace.AceConverter;
+import io.fd.hc2vpp.benchmarks.util.InMemoryMappingContext;
+import io.fd.vpp.jvpp.acl.types.AclRule;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev160708.access.lists.acl.access.list.entries.Ace;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev160708.access.lists.acl.access.list.entries.AceBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev160708.access.lists.acl.access.list.entries.AceKey;
+
+/**
+ * Conversion of standard ACLs between YANG ACEs and VPP rules. ACEs are split into ACLs of {@link #ACES_PER_ACL}
+ * rules, each operation converts single ACL.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AceConverterBenchmark implements AceConverter {
+
+    private static final int ACES_PER_ACL = 100;
+    private static final int ACLS = ACES / ACES_PER_ACL;
+    private static final byte TCP = 6;
+
+    private InMemoryMappingContext mappingContext;
+    private AclContextManager aclContext;
+    private String[] aclNames;
+    private AclRule[][] rules;
+    private List<List<Ace>> aces;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Random random = new Random(SEED);
+        mappingContext = new InMemoryMappingContext();
+        aclContext = new AclContextManagerImpl("vpp-acl-", "standard-acl-context");
+        aclNames = new String[ACLS];
+        rules = new AclRule[ACLS][];
+        aces = new ArrayList<>(ACLS);
+        for (int acl = 0; acl < ACLS; acl++) {
+            aclNames[acl] = "acl-" + acl;
+            rules[acl] = new AclRule[ACES_PER_ACL];
+            final List<Ace> names = new ArrayList<>(ACES_PER_ACL);
+            for (int ace = 0; ace < ACES_PER_ACL; ace++) {
+                rules[acl][ace] = rule(random);
+                final String aceName = aclNames[acl] + "-rule-" + ace;
+                names.add(new AceBuilder().setRuleName(aceName).setKey(new AceKey(aceName)).build());
+            }
+            aclContext.addAcl(acl, aclNames[acl], names, mappingContext);
+            aces.add(toStandardAces(aclNames[acl], rules[acl], aclContext, mappingContext));
+        }
+    }
+
+    private static AclRule rule(final Random random) {
+        final AclRule rule = new AclRule();
+        rule.isPermit = (byte) random.nextInt(2);
+        rule.isIpv6 = 0;
+        rule.srcIpAddr = ipv4(random);
+        rule.srcIpPrefixLen = (byte) (8 + random.nextInt(25));
+        rule.dstIpAddr = ipv4(random);
+        rule.dstIpPrefixLen = (byte) (8 + random.nextInt(25));
+        rule.proto = TCP;
+        rule.srcportOrIcmptypeFirst = 1024;
+        rule.srcportOrIcmptypeLast = (short) 65535;
+        rule.dstportOrIcmpcodeFirst = (short) random.nextInt(1024);
+        rule.dstportOrIcmpcodeLast = rule.dstportOrIcmpcodeFirst;
+        return rule;
+    }
+
+    private static byte[] ipv4(final Random random) {
+        // VPP uses 16 byte arrays for both address families
+        final byte[] address = new byte[16];
+        final byte[] ipv4 = new byte[4];
+        random.nextBytes(ipv4);
+        System.arraycopy(ipv4, 0, address, 0, ipv4.length);
+        return address;
+    }
+
+    private int nextAcl() {
+        if (++next == ACLS) {
+            next = 0;
+        }
+        return next;
+    }
+
+    /**
+     * Write of ACL.
+     */
+    @Benchmark
+    public AclRule[] toRules() {
+        return toStandardAclRules(aces.get(nextAcl()));
+    }
+
+    /**
+     * Read of ACL.
+     */
+    @Benchmark
+    public List<Ace> toAces() {
+        final int acl = nextAcl();
+        return toStandardAces(aclNames[acl], rules[acl], aclContext, mappingContext);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.benchmarks.lisp;
+
+import static io.fd.hc2vpp.benchmarks.util.BenchmarkData.SEED;
+
+import io.fd.hc2vpp.lisp.translate.read.dump.executor.params.MappingsDumpParams.EidType;
+import io.fd.hc2vpp.lisp.translate.util.EidTranslator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.lisp.rev171013.dp.subtable.grouping.local.mappings.local.mapping.Eid;
+
+/**
+ * Conversions of EIDs between VPP and YANG representation, done for every local and remote mapping read or written.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EidTranslatorBenchmark implements EidTranslator {
+
+    private static final int EIDS = 10_000;
+    private static final int VNI = 12;
+
+    @Param({"IPV4", "IPV4_PREFIX", "IPV6", "IPV6_PREFIX", "MAC"})
+    private EidType type;
+
+    private byte[][] addresses;
+    private byte prefix;
+    private Eid[] eids;
+    private Eid[] sameEids;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Random random = new Random(SEED);
+        prefix = prefix(type);
+        addresses = new byte[EIDS][];
+        eids = new Eid[EIDS];
+        sameEids = new Eid[EIDS];
+        for (int i = 0; i < EIDS; i++) {
+            addresses[i] = new byte[length(type)];
+            random.nextBytes(addresses[i]);
+            eids[i] = getArrayAsEidLocal(type, addresses[i], prefix, VNI);
+            sameEids[i] = getArrayAsEidLocal(type, addresses[i].clone(), prefix, VNI);
+        }
+    }
+
+    private static int length(final EidType type) {
+        switch (type) {
+            case IPV4:
+            case IPV4_PREFIX:
+                return 4;
+            case MAC:
+                return 6;
+            default:
+                return 16;
+        }
+    }
+
+    private static byte prefix(final EidType type) {
+        switch (type) {
+            case IPV4:
+                return DEFAULT_V4_PREFIX;
+            case IPV6:
+                return DEFAULT_V6_PREFIX;
+            case IPV4_PREFIX:
+                return 24;
+            case IPV6_PREFIX:
+                return 64;
+            default:
+                return 0;
+        }
+    }
+
+    private int nextIndex() {
+        if (++next == EIDS) {
+            next = 0;
+        }
+        return next;
+    }
+
+    @Benchmark
+    public Eid arrayToEid() {
+        return getArrayAsEidLocal(type, addresses[nextIndex()], prefix, VNI);
+    }
+
+    @Benchmark
+    public byte[] eidToArray() {
+        return getEidAsByteArray(eids[nextIndex()]);
+    }
+
+    @Benchmark
+    public byte eidPrefixLength() {
+        return getPrefixLength(eids[nextIndex()]);
+    }
+
+    @Benchmark
+    public boolean compareEids() {
+        final int index = nextIndex();
+        return compareEids(eids[index], sameEids[index]);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.benchmarks.naming;
+
+import static io.fd.hc2vpp.benchmarks.util.BenchmarkData.INTERFACES;
+import static io.fd.hc2vpp.benchmarks.util.BenchmarkData.SEED;
+import static io.fd.hc2vpp.benchmarks.util.BenchmarkData.interfaceName;
+
+import io.fd.hc2vpp.benchmarks.util.InMemoryMappingContext;
+import io.fd.hc2vpp.common.translate.util.NamingContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Lookups in {@link NamingContext} holding mappings of all interfaces, with and without index.
+ *
+ * <p>Lookups within single transaction share one mapping context, so indexed context builds its index once. Dump of
+ * all interfaces within new transaction is measured by {@link #getNamesOfAllInterfaces()}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NamingContextBenchmark {
+
+    private static final String CONTEXT_NAME = "interface-context";
+
+    @Param({"false", "true"})
+    private boolean indexed;
+
+    private InMemoryMappingContext data;
+    private InMemoryMappingContext transaction;
+    private NamingContext namingContext;
+    private int[] indexes;
+    private String[] names;
+    private List<Integer> allIndexes;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        data = new InMemoryMappingContext().withNamingContext(CONTEXT_NAME);
+        namingContext = new NamingContext("interface-", CONTEXT_NAME, indexed);
+        final InMemoryMappingContext init = data.transaction();
+        allIndexes = new ArrayList<>(INTERFACES);
+        for (int i = 0; i < INTERFACES; i++) {
+            namingContext.addName(i, interfaceName(i), init);
+            allIndexes.add(i);
+        }
+
+        // random order of lookups, so that lookups do not follow order of mappings
+        final Random random = new Random(SEED);
+        indexes = new int[INTERFACES];
+        names = new String[INTERFACES];
+        for (int i = 0; i < INTERFACES; i++) {
+            indexes[i] = random.nextInt(INTERFACES);
+            names[i] = interfaceName(random.nextInt(INTERFACES));
+        }
+        transaction = data.transaction();
+    }
+
+    private int nextIndex() {
+        if (++next == INTERFACES) {
+            next = 0;
+        }
+        return next;
+    }
+
+    @Benchmark
+    public String getName() {
+        return namingContext.getName(indexes[nextIndex()], transaction);
+    }
+
+    @Benchmark
+    public int getIndex() {
+        return namingContext.getIndex(names[nextIndex()], transaction);
+    }
+
+    @Benchmark
+    public boolean containsName() {
+        return namingContext.containsName(indexes[nextIndex()], transaction);
+    }
+
+    @Benchmark
+    public boolean containsIndex() {
+        return namingContext.containsIndex(names[nextIndex()], transaction);
+    }
+
+    /**
+     * Name resolution of all interfaces within new transaction, as done by interface dump.
+     */
+    @Benchmark
+    public Map<Integer, String> getNamesOfAllInterfaces() {
+        return namingContext.getNamesIfPresent(allIndexes, data.transaction());
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.benchmarks.nat;
+
+import static io.fd.hc2vpp.benchmarks.util.BenchmarkData.NAT_MAPPINGS;
+import static io.fd.hc2vpp.benchmarks.util.BenchmarkData.SEED;
+
+import io.fd.hc2vpp.benchmarks.util.InMemoryMappingContext;
+import io.fd.hc2vpp.common.translate.util.IpAddressCodec;
+import io.fd.hc2vpp.nat.util.MappingEntryContext;
+import io.fd.vpp.jvpp.nat.dto.Nat44StaticMappingDetails;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.Contexts;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.nat.context.rev161214.NatMappingEntryCtxAugmentation;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.nat.context.rev161214.mapping.entry.context.attributes.NatMappingEntryContext;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.nat.context.rev161214.mapping.entry.context.attributes.nat.mapping.entry.context.NatInstance;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.nat.context.rev161214.mapping.entry.context.attributes.nat.mapping.entry.context.NatInstanceKey;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.nat.context.rev161214.mapping.entry.context.attributes.nat.mapping.entry.context.nat.instance.MappingTable;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.nat.context.rev161214.mapping.entry.context.attributes.nat.mapping.entry.context.nat.instance.MappingTableBuilder;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.nat.context.rev161214.mapping.entry.context.attributes.nat.mapping.entry.context.nat.instance.mapping.table.MappingEntry;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.nat.context.rev161214.mapping.entry.context.attributes.nat.mapping.entry.context.nat.instance.mapping.table.MappingEntryBuilder;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.nat.context.rev161214.mapping.entry.context.attributes.nat.mapping.entry.context.nat.instance.mapping.table.MappingEntryKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Address;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Lookups of NAT44 static mappings in {@link MappingEntryContext}, with and without the index. Each operation reads
+ * single mapping of the table, in the same transaction, as when reading all mappings of NAT instance.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingEntryContextBenchmark {
+
+    private static final long NAT_INSTANCE = 0;
+    private static final int LOOKUPS = 10_000;
+
+    @Param({"false", "true"})
+    private boolean indexed;
+
+    private MappingEntryContext context;
+    private InMemoryMappingContext mappingContext;
+    private List<Nat44StaticMappingDetails> details;
+    private long[] indexes;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final InstanceIdentifier<MappingTable> tableId = InstanceIdentifier.create(Contexts.class)
+                .augmentation(NatMappingEntryCtxAugmentation.class)
+                .child(NatMappingEntryContext.class)
+                .child(NatInstance.class, new NatInstanceKey(NAT_INSTANCE))
+                .child(MappingTable.class);
+        context = new MappingEntryContext(indexed);
+        mappingContext = new InMemoryMappingContext().withList(tableId, MappingEntry.class,
+                entries -> new MappingTableBuilder().setMappingEntry(entries).build());
+
+        details = new ArrayList<>(NAT_MAPPINGS);
+        for (int i = 0; i < NAT_MAPPINGS; i++) {
+            final Nat44StaticMappingDetails mapping = new Nat44StaticMappingDetails();
+            // 192.168.0.0/16 -> 10.0.0.0/8
+            mapping.localIpAddress = IpAddressCodec.toArray(0xc0a80000 + i);
+            mapping.externalIpAddress = IpAddressCodec.toArray(0x0a000000 + i);
+            mapping.vrfId = 0;
+            details.add(mapping);
+
+            final MappingEntryKey key = new MappingEntryKey(
+                    new IpAddress(new Ipv4Address(IpAddressCodec.formatIpv4(0x0a000000 + i))),
+                    new IpAddress(new Ipv4Address(IpAddressCodec.formatIpv4(0xc0a80000 + i))));
+            mappingContext.put(tableId.child(MappingEntry.class, key),
+                    new MappingEntryBuilder().setKey(key).setIndex((long) i).build());
+        }
+        // VPP reports mappings in arbitrary order
+        Collections.shuffle(details, new Random(SEED));
+
+        final Random random = new Random(SEED);
+        indexes = new long[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            indexes[i] = random.nextInt(NAT_MAPPINGS);
+        }
+    }
+
+    private int nextLookup() {
+        if (++next == LOOKUPS) {
+            next = 0;
+        }
+        return next;
+    }
+
+    /**
+     * Read of single mapping.
+     */
+    @Benchmark
+    public Optional<Nat44StaticMappingDetails> findDetails() {
+        return context.findDetailsNat44(details, NAT_INSTANCE, indexes[nextLookup()], mappingContext);
+    }
+
+    /**
+     * Read of mapping keys.
+     */
+    @Benchmark
+    public long getStoredIndex() {
+        return context.getStoredOrArtificialIndex(NAT_INSTANCE, details.get((int) indexes[nextLookup()]),
+                mappingContext);
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.benchmarks.routing;
+
+import static io.fd.hc2vpp.benchmarks.util.BenchmarkData.INTERFACES;
+import static io.fd.hc2vpp.benchmarks.util.BenchmarkData.ROUTES;
+import static io.fd.hc2vpp.benchmarks.util.BenchmarkData.SEED;
+import static io.fd.hc2vpp.benchmarks.util.BenchmarkData.interfaceName;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import io.fd.hc2vpp.benchmarks.util.BenchmarkReadContext;
+import io.fd.hc2vpp.benchmarks.util.InMemoryMappingContext;
+import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
+import io.fd.hc2vpp.common.translate.util.MultiNamingContext;
+import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.routing.RoutingConfiguration;
+import io.fd.hc2vpp.routing.read.Ipv4RouteCustomizer;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.fd.honeycomb.translate.util.read.cache.DumpCacheManager;
+import io.fd.vpp.jvpp.core.dto.IpFibDetailsReplyDump;
+import io.fd.vpp.jvpp.core.dto.IpFibDump;
+import io.fd.vpp.jvpp.core.future.FutureJVppCore;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv4.unicast.routing.rev170917.StaticRoutes2;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv4.unicast.routing.rev170917.routing.state.routing.instance.routing.protocols.routing.protocol._static.routes.Ipv4;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv4.unicast.routing.rev170917.routing.state.routing.instance.routing.protocols.routing.protocol._static.routes.ipv4.Route;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv4.unicast.routing.rev170917.routing.state.routing.instance.routing.protocols.routing.protocol._static.routes.ipv4.RouteBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv4.unicast.routing.rev170917.routing.state.routing.instance.routing.protocols.routing.protocol._static.routes.ipv4.RouteKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.routing.rev140524.routing.state.routing.instance.RoutingProtocols;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.routing.rev140524.routing.state.routing.instance.routing.protocols.RoutingProtocol;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.routing.rev140524.routing.state.routing.instance.routing.protocols.RoutingProtocolKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.routing.rev140524.routing.state.routing.instance.routing.protocols.routing.protocol.StaticRoutes;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Reads of IPv4 routes by {@link Ipv4RouteCustomizer}, with VPP replaced by stub returning all routes.
+ *
+ * <p>Names of all routes are learned during setup, so benchmarks measure reads of already known routes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Ipv4RouteReadBenchmark {
+
+    private static final String INTERFACE_CONTEXT = "interface-context";
+    private static final String PROTOCOL_NAME = "learned-protocol-" + RouteData.TABLE_ID;
+    private static final int READ_ROUTES = 10_000;
+
+    private static final InstanceIdentifier<Ipv4> IPV4_ID = InstanceIdentifier.create(RoutingProtocols.class)
+            .child(RoutingProtocol.class, new RoutingProtocolKey(PROTOCOL_NAME))
+            .child(StaticRoutes.class)
+            .augmentation(StaticRoutes2.class)
+            .child(Ipv4.class);
+    private static final InstanceIdentifier<Route> ROUTES_ID = IPV4_ID.child(Route.class);
+
+    private InMemoryMappingContext data;
+    private Ipv4RouteCustomizer customizer;
+    private BenchmarkReadContext readContext;
+    private InstanceIdentifier<Route>[] routeIds;
+    private int next;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() throws ReadFailedException {
+        final IpFibDetailsReplyDump reply = new IpFibDetailsReplyDump();
+        reply.ipFibDetails = RouteData.ipv4Routes(ROUTES);
+        final FutureJVppCore jvpp = mock(FutureJVppCore.class, withSettings().stubOnly());
+        when(jvpp.ipFibDump(any(IpFibDump.class))).thenReturn(CompletableFuture.completedFuture(reply));
+
+        final DumpCacheManager<IpFibDetailsReplyDump, Void> dumpManager =
+                new DumpCacheManager.DumpCacheManagerBuilder<IpFibDetailsReplyDump, Void>()
+                        .withExecutor((identifier, params) -> JvppReplyConsumer.INSTANCE.getReplyForRead(
+                                jvpp.ipFibDump(new IpFibDump()).toCompletableFuture(), identifier))
+                        .acceptOnly(IpFibDetailsReplyDump.class)
+                        .build();
+
+        final RoutingConfiguration configuration = mock(RoutingConfiguration.class, withSettings().stubOnly());
+        when(configuration.getLearnedRouteNamePrefix()).thenReturn("learned-route");
+
+        data = new InMemoryMappingContext()
+                .withNamingContext(INTERFACE_CONTEXT)
+                .withNamingContext(RoutingConfiguration.ROUTE_CONTEXT)
+                .withNamingContext(RoutingConfiguration.ROUTING_PROTOCOL_CONTEXT);
+        // contexts configured the same way as in RoutingModule
+        final NamingContext interfaceContext = new NamingContext("interface-", INTERFACE_CONTEXT, true);
+        final NamingContext routeContext = new NamingContext("route-", RoutingConfiguration.ROUTE_CONTEXT, true);
+        final NamingContext routingProtocolContext =
+                new NamingContext("learned-protocol-", RoutingConfiguration.ROUTING_PROTOCOL_CONTEXT);
+        final MultiNamingContext routeHopContext = new MultiNamingContext(RoutingConfiguration.ROUTE_HOP_CONTEXT,
+                RoutingConfiguration.MULTI_MAPPING_START_INDEX, true);
+        customizer = new Ipv4RouteCustomizer(dumpManager, configuration, routeHopContext, interfaceContext,
+                routeContext, routingProtocolContext);
+
+        final InMemoryMappingContext init = data.transaction();
+        for (int i = 0; i < INTERFACES; i++) {
+            interfaceContext.addName(i, interfaceName(i), init);
+        }
+        routingProtocolContext.addName(RouteData.TABLE_ID, PROTOCOL_NAME, init);
+        // learns names of all routes
+        final List<RouteKey> keys = customizer.getAllIds(ROUTES_ID, new BenchmarkReadContext(init));
+
+        final Random random = new Random(SEED);
+        routeIds = new InstanceIdentifier[READ_ROUTES];
+        for (int i = 0; i < READ_ROUTES; i++) {
+            routeIds[i] = IPV4_ID.child(Route.class, keys.get(random.nextInt(keys.size())));
+        }
+        readContext = new BenchmarkReadContext(data.transaction());
+    }
+
+    /**
+     * Listing of all routes within new read transaction, including the dump.
+     */
+    @Benchmark
+    public List<RouteKey> getAllIds() throws ReadFailedException {
+        try (final BenchmarkReadContext context = new BenchmarkReadContext(data.transaction())) {
+            return customizer.getAllIds(ROUTES_ID, context);
+        }
+    }
+
+    /**
+     * Read of single route within transaction, in which routes were already dumped.
+     */
+    @Benchmark
+    public RouteBuilder readRoute() throws ReadFailedException {
+        if (++next == READ_ROUTES) {
+            next = 0;
+        }
+        final RouteBuilder builder = new RouteBuilder();
+        customizer.readCurrentAttributes(routeIds[next], builder, readContext);
+        return builder;
+    }
+}
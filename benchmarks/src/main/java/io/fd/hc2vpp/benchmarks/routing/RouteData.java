@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.benchmarks.routing;
+
+import static io.fd.hc2vpp.benchmarks.util.BenchmarkData.INTERFACES;
+
+import io.fd.hc2vpp.common.translate.util.IpAddressCodec;
+import io.fd.vpp.jvpp.core.dto.Ip6FibDetails;
+import io.fd.vpp.jvpp.core.dto.IpFibDetails;
+import io.fd.vpp.jvpp.core.types.FibPath;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Routes as dumped from VPP. Each route has single next hop, over one of the interfaces.
+ */
+final class RouteData {
+
+    static final int TABLE_ID = 1;
+
+    private RouteData() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * @return distinct /24 routes, starting at 10.0.0.0/24
+     */
+    static List<IpFibDetails> ipv4Routes(final int count) {
+        final List<IpFibDetails> routes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final IpFibDetails route = new IpFibDetails();
+            route.tableId = TABLE_ID;
+            route.address = IpAddressCodec.toArray(0x0a000000 + (i << 8));
+            route.addressLength = 24;
+            route.path = new FibPath[] {path(i, IpAddressCodec.toArray(0xc0a80000 + i % INTERFACES))};
+            routes.add(route);
+        }
+        return routes;
+    }
+
+    /**
+     * @return distinct /64 routes, starting at 2001:db8::/64
+     */
+    static List<Ip6FibDetails> ipv6Routes(final int count) {
+        final List<Ip6FibDetails> routes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final Ip6FibDetails route = new Ip6FibDetails();
+            route.tableId = TABLE_ID;
+            route.address = ipv6(0x20010db800000000L + i, 0);
+            route.addressLength = 64;
+            route.path = new FibPath[] {path(i, ipv6(0xfe80000000000000L, i % INTERFACES + 1))};
+            routes.add(route);
+        }
+        return routes;
+    }
+
+    private static FibPath path(final int route, final byte[] nextHop) {
+        final FibPath path = new FibPath();
+        path.swIfIndex = route % INTERFACES;
+        path.nextHop = nextHop;
+        path.weight = 1;
+        path.afi = (byte) (nextHop.length == 4 ? 0 : 1);
+        return path;
+    }
+
+    private static byte[] ipv6(final long high, final long low) {
+        final byte[] address = new byte[16];
+        for (int i = 0; i < 8; i++) {
+            address[i] = (byte) (high >>> (56 - 8 * i));
+            address[i + 8] = (byte) (low >>> (56 - 8 * i));
+        }
+        return address;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.benchmarks.routing;
+
+import static io.fd.hc2vpp.benchmarks.util.BenchmarkData.INTERFACES;
+import static io.fd.hc2vpp.benchmarks.util.BenchmarkData.ROUTES;
+import static io.fd.hc2vpp.benchmarks.util.BenchmarkData.interfaceName;
+
+import io.fd.hc2vpp.benchmarks.util.InMemoryMappingContext;
+import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.routing.RoutingConfiguration;
+import io.fd.hc2vpp.routing.naming.Ipv4RouteNamesFactory;
+import io.fd.hc2vpp.routing.naming.Ipv6RouteNamesFactory;
+import io.fd.vpp.jvpp.core.dto.Ip6FibDetails;
+import io.fd.vpp.jvpp.core.dto.IpFibDetails;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Naming of routes and their next hops, done for every dumped route by route readers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RouteNamesBenchmark {
+
+    private static final String INTERFACE_CONTEXT = "interface-context";
+
+    private InMemoryMappingContext mappingContext;
+    private Ipv4RouteNamesFactory ipv4NamesFactory;
+    private Ipv6RouteNamesFactory ipv6NamesFactory;
+    private List<IpFibDetails> ipv4Routes;
+    private List<Ip6FibDetails> ipv6Routes;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mappingContext = new InMemoryMappingContext()
+                .withNamingContext(INTERFACE_CONTEXT)
+                .withNamingContext(RoutingConfiguration.ROUTING_PROTOCOL_CONTEXT);
+        final NamingContext interfaceContext = new NamingContext("interface-", INTERFACE_CONTEXT, true);
+        final NamingContext routingProtocolContext =
+                new NamingContext("learned-protocol-", RoutingConfiguration.ROUTING_PROTOCOL_CONTEXT);
+        for (int i = 0; i < INTERFACES; i++) {
+            interfaceContext.addName(i, interfaceName(i), mappingContext);
+        }
+        routingProtocolContext.addName(RouteData.TABLE_ID, "learned-protocol-" + RouteData.TABLE_ID, mappingContext);
+
+        ipv4NamesFactory = new Ipv4RouteNamesFactory(interfaceContext, routingProtocolContext);
+        ipv6NamesFactory = new Ipv6RouteNamesFactory(interfaceContext, routingProtocolContext);
+        ipv4Routes = RouteData.ipv4Routes(ROUTES);
+        ipv6Routes = RouteData.ipv6Routes(ROUTES);
+    }
+
+    private int nextIndex() {
+        if (++next == ROUTES) {
+            next = 0;
+        }
+        return next;
+    }
+
+    @Benchmark
+    public String ipv4RouteName() {
+        return ipv4NamesFactory.uniqueRouteName(ipv4Routes.get(nextIndex()), mappingContext);
+    }
+
+    @Benchmark
+    public String ipv4RouteHopName() {
+        return ipv4NamesFactory.uniqueRouteHopName(ipv4Routes.get(nextIndex()).path[0], mappingContext);
+    }
+
+    @Benchmark
+    public String ipv6RouteName() {
+        return ipv6NamesFactory.uniqueRouteName(ipv6Routes.get(nextIndex()), mappingContext);
+    }
+
+    @Benchmark
+    public String ipv6RouteHopName() {
+        return ipv6NamesFactory.uniqueRouteHopName(ipv6Routes.get(nextIndex()).path[0], mappingContext);
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.benchmarks.translate;
+
+import com.google.common.net.InetAddresses;
+import io.fd.hc2vpp.common.translate.util.IpAddressCodec;
+import io.fd.hc2vpp.common.translate.util.Ipv4Translator;
+import io.fd.hc2vpp.common.translate.util.Ipv6Translator;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IetfInetUtil;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4AddressNoZone;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Prefix;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv6Address;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv6AddressNoZone;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv6Prefix;
+
+/**
+ * Compares IP address translation done by {@link Ipv4Translator} and {@link Ipv6Translator} with implementation used
+ * before {@link IpAddressCodec} was introduced (String.split, InetAddresses, formatting of each address).
+ *
+ * <p>Addresses are picked from a pool of given size, to simulate bulk reads of routes or neighbours, where the same
+ * addresses repeat. Run with {@code -prof gc} to see allocated bytes per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IpAddressTranslationBenchmark implements Ipv4Translator, Ipv6Translator {
+
+    @Param({"1000", "100000"})
+    private int poolSize;
+
+    private Ipv4Prefix[] ipv4Prefixes;
+    private Ipv4AddressNoZone[] ipv4Addresses;
+    private byte[][] ipv4Arrays;
+    private Ipv6Prefix[] ipv6Prefixes;
+    private Ipv6AddressNoZone[] ipv6Addresses;
+    private byte[][] ipv6Arrays;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Random random = new Random(42);
+        ipv4Prefixes = new Ipv4Prefix[poolSize];
+        ipv4Addresses = new Ipv4AddressNoZone[poolSize];
+        ipv4Arrays = new byte[poolSize][];
+        ipv6Prefixes = new Ipv6Prefix[poolSize];
+        ipv6Addresses = new Ipv6AddressNoZone[poolSize];
+        ipv6Arrays = new byte[poolSize][];
+        for (int i = 0; i < poolSize; i++) {
+            final int ipv4 = random.nextInt();
+            ipv4Arrays[i] = IpAddressCodec.toArray(ipv4);
+            ipv4Addresses[i] = new Ipv4AddressNoZone(IpAddressCodec.formatIpv4(ipv4));
+            ipv4Prefixes[i] = new Ipv4Prefix(IpAddressCodec.formatIpv4(ipv4) + "/" + (8 + i % 25));
+
+            // typical global unicast address, with zero groups in the middle
+            final long high = 0x20010db800000000L | random.nextInt() & 0xffffffffL;
+            final long low = random.nextInt(0xffff);
+            ipv6Arrays[i] = new byte[16];
+            for (int b = 0; b < 8; b++) {
+                ipv6Arrays[i][b] = (byte) (high >>> (56 - 8 * b));
+                ipv6Arrays[i][b + 8] = (byte) (low >>> (56 - 8 * b));
+            }
+            ipv6Addresses[i] = new Ipv6AddressNoZone(IpAddressCodec.formatIpv6(high, low));
+            ipv6Prefixes[i] = new Ipv6Prefix(IpAddressCodec.formatIpv6(high, low) + "/" + (48 + i % 81));
+        }
+    }
+
+    private int nextIndex() {
+        if (++next == poolSize) {
+            next = 0;
+        }
+        return next;
+    }
+
+    @Benchmark
+    public byte[] ipv4PrefixToArrayLegacy() {
+        final String value = ipv4Prefixes[nextIndex()].getValue();
+        final byte[] retval = new byte[4];
+        final String[] address = value.substring(0, value.indexOf('/')).split("\\.");
+        for (int d = 0; d < 4; d++) {
+            retval[d] = (byte) (Short.parseShort(address[d]) & 0xff);
+        }
+        return retval;
+    }
+
+    @Benchmark
+    public byte[] ipv4PrefixToArray() {
+        return ipv4AddressPrefixToArray(ipv4Prefixes[nextIndex()]);
+    }
+
+    @Benchmark
+    public byte ipv4ExtractPrefixLegacy() {
+        final String value = ipv4Prefixes[nextIndex()].getValue();
+        return Byte.valueOf(value.substring(value.indexOf('/') + 1));
+    }
+
+    @Benchmark
+    public byte ipv4ExtractPrefix() {
+        return extractPrefix(ipv4Prefixes[nextIndex()]);
+    }
+
+    @Benchmark
+    public Ipv4AddressNoZone ipv4ArrayToAddressLegacy() {
+        return new Ipv4AddressNoZone(IetfInetUtil.INSTANCE.ipv4AddressFor(ipv4Arrays[nextIndex()]));
+    }
+
+    @Benchmark
+    public Ipv4AddressNoZone ipv4ArrayToAddress() {
+        return arrayToIpv4AddressNoZone(ipv4Arrays[nextIndex()]);
+    }
+
+    @Benchmark
+    public byte[] ipv4AddressToArrayLegacy() {
+        final byte[] retval = new byte[4];
+        final String[] dots = ipv4Addresses[nextIndex()].getValue().split("\\.");
+        for (int d = 0; d < 4; d++) {
+            retval[d] = (byte) (Short.parseShort(dots[d]) & 0xff);
+        }
+        return retval;
+    }
+
+    @Benchmark
+    public byte[] ipv4AddressToArray() {
+        return ipv4AddressNoZoneToArray(ipv4Addresses[nextIndex()]);
+    }
+
+    @Benchmark
+    public String ipv4FormatLegacy() throws UnknownHostException {
+        return InetAddress.getByAddress(ipv4Arrays[nextIndex()]).getHostAddress();
+    }
+
+    @Benchmark
+    public String ipv4Format() {
+        return IpAddressCodec.formatIpv4(IpAddressCodec.toInt(ipv4Arrays[nextIndex()]));
+    }
+
+    @Benchmark
+    public byte[] ipv6AddressToArrayLegacy() {
+        return InetAddresses.forString(ipv6Addresses[nextIndex()].getValue()).getAddress();
+    }
+
+    @Benchmark
+    public byte[] ipv6AddressToArray() {
+        return ipv6AddressNoZoneToArray(ipv6Addresses[nextIndex()]);
+    }
+
+    @Benchmark
+    public byte[] ipv6PrefixToArrayLegacy() {
+        final String value = ipv6Prefixes[nextIndex()].getValue();
+        return InetAddresses.forString(new Ipv6AddressNoZone(new Ipv6Address(value.substring(0, value.indexOf('/'))))
+                .getValue()).getAddress();
+    }
+
+    @Benchmark
+    public byte[] ipv6PrefixToArray() {
+        return ipv6AddressPrefixToArray(ipv6Prefixes[nextIndex()]);
+    }
+
+    @Benchmark
+    public Ipv6AddressNoZone ipv6ArrayToAddressLegacy() {
+        return new Ipv6AddressNoZone(IetfInetUtil.INSTANCE.ipv6AddressFor(ipv6Arrays[nextIndex()]));
+    }
+
+    @Benchmark
+    public Ipv6AddressNoZone ipv6ArrayToAddress() {
+        return arrayToIpv6AddressNoZone(ipv6Arrays[nextIndex()]);
+    }
+
+    @Benchmark
+    public Ipv6Prefix ipv6ArrayToPrefixLegacy() {
+        return IetfInetUtil.INSTANCE.ipv6PrefixFor(ipv6Arrays[nextIndex()], 64);
+    }
+
+    @Benchmark
+    public Ipv6Prefix ipv6ArrayToPrefix() {
+        return toIpv6Prefix(ipv6Arrays[nextIndex()], 64);
+    }
+
+    @Benchmark
+    public String ipv6FormatLegacy() throws UnknownHostException {
+        return InetAddresses.toAddrString(InetAddress.getByAddress(ipv6Arrays[nextIndex()]));
+    }
+
+    @Benchmark
+    public String ipv6Format() {
+        return IpAddressCodec.formatIpv6(ipv6Arrays[nextIndex()]);
+    }
+}
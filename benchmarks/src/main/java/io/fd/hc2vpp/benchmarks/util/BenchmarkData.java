@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.benchmarks.util;
+
+/**
+ * Sizes of data sets used by benchmarks, matching large deployments.
+ */
+public final class BenchmarkData {
+
+    public static final int INTERFACES = 10_000;
+    public static final int ROUTES = 500_000;
+    public static final int ACES = 50_000;
+    public static final int NAT_MAPPINGS = 100_000;
+
+    /**
+     * Seed of all random data, so runs are comparable.
+     */
+    public static final long SEED = 42;
+
+    private BenchmarkData() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * @return name of interface with given index, in format used by VPP
+     */
+    public static String interfaceName(final int index) {
+        return "GigabitEthernet" + index / 256 + "/" + index % 256 / 16 + "/" + index % 16;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.benchmarks.util;
+
+import io.fd.honeycomb.translate.MappingContext;
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.read.ReadContext;
+import javax.annotation.Nonnull;
+
+/**
+ * {@link ReadContext} of single read transaction, with its own {@link ModificationCache}.
+ */
+public final class BenchmarkReadContext implements ReadContext {
+
+    private final ModificationCache modificationCache = new ModificationCache();
+    private final MappingContext mappingContext;
+
+    public BenchmarkReadContext(@Nonnull final MappingContext mappingContext) {
+        this.mappingContext = mappingContext;
+    }
+
+    @Nonnull
+    @Override
+    public ModificationCache getModificationCache() {
+        return modificationCache;
+    }
+
+    @Nonnull
+    @Override
+    public MappingContext getMappingContext() {
+        return mappingContext;
+    }
+
+    @Override
+    public void close() {
+        modificationCache.close();
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.benchmarks.util;
+
+import com.google.common.base.Optional;
+import io.fd.honeycomb.translate.MappingContext;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.Contexts;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.NamingContext;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.NamingContextKey;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.naming.context.Mappings;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.naming.context.MappingsBuilder;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.naming.context.mappings.Mapping;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * {@link MappingContext} keeping context data in memory, so translation code can be benchmarked without data tree.
+ *
+ * <p>Data are stored by exact identifier. Keyed lists of registered containers (e.g. naming context mappings) are
+ * stored per entry and the container is assembled on every read, the same way real mapping context produces new
+ * binding objects on every read. Merge is handled as put.
+ *
+ * <p>Each {@link #transaction()} is a separate mapping context instance sharing the same data, which allows to measure
+ * code that keeps per transaction state keyed by mapping context instance.
+ */
+@NotThreadSafe
+public final class InMemoryMappingContext implements MappingContext {
+
+    private final Map<InstanceIdentifier<?>, DataObject> data;
+    private final Map<InstanceIdentifier<?>, KeyedList<?, ?>> lists;
+
+    public InMemoryMappingContext() {
+        this(new HashMap<>(), new HashMap<>());
+    }
+
+    private InMemoryMappingContext(final Map<InstanceIdentifier<?>, DataObject> data,
+                                   final Map<InstanceIdentifier<?>, KeyedList<?, ?>> lists) {
+        this.data = data;
+        this.lists = lists;
+    }
+
+    /**
+     * Registers container holding keyed list.
+     *
+     * @param containerId identifier of the container
+     * @param entryType   type of list entries
+     * @param assembler   creates container from list entries
+     */
+    public <C extends DataObject, E extends DataObject> InMemoryMappingContext withList(
+            @Nonnull final InstanceIdentifier<C> containerId, @Nonnull final Class<E> entryType,
+            @Nonnull final Function<List<E>, C> assembler) {
+        lists.put(containerId, new KeyedList<>(containerId, entryType, assembler));
+        return this;
+    }
+
+    /**
+     * Registers mappings of naming context instance.
+     */
+    public InMemoryMappingContext withNamingContext(@Nonnull final String instanceName) {
+        return withList(InstanceIdentifier.create(Contexts.class)
+                        .child(NamingContext.class, new NamingContextKey(instanceName))
+                        .child(Mappings.class),
+                Mapping.class, mappings -> new MappingsBuilder().setMapping(mappings).build());
+    }
+
+    /**
+     * @return mapping context of new transaction, sharing data with this one
+     */
+    public InMemoryMappingContext transaction() {
+        return new InMemoryMappingContext(data, lists);
+    }
+
+    @Override
+    public <T extends DataObject> Optional<T> read(@Nonnull final InstanceIdentifier<T> currentId) {
+        final KeyedList<?, ?> list = lists.get(currentId);
+        if (list != null) {
+            return Optional.fromNullable(currentId.getTargetType().cast(list.assemble()));
+        }
+        final KeyedList<?, ?> parent = parentList(currentId);
+        if (parent != null) {
+            return Optional.fromNullable(currentId.getTargetType().cast(parent.entries.get(currentId)));
+        }
+        return Optional.fromNullable(currentId.getTargetType().cast(data.get(currentId)));
+    }
+
+    @Override
+    public void delete(final InstanceIdentifier<?> path) {
+        final KeyedList<?, ?> list = lists.get(path);
+        if (list != null) {
+            list.entries.clear();
+            return;
+        }
+        final KeyedList<?, ?> parent = parentList(path);
+        if (parent != null) {
+            parent.entries.remove(path);
+            return;
+        }
+        data.remove(path);
+    }
+
+    @Override
+    public <T extends DataObject> void merge(final InstanceIdentifier<T> path, final T data) {
+        put(path, data);
+    }
+
+    @Override
+    public <T extends DataObject> void put(final InstanceIdentifier<T> path, final T data) {
+        final KeyedList<?, ?> parent = parentList(path);
+        if (parent != null) {
+            parent.put(path, data);
+            return;
+        }
+        this.data.put(path, data);
+    }
+
+    @Override
+    public void close() {
+        // nothing to release, data are shared with other transactions
+    }
+
+    private KeyedList<?, ?> parentList(final InstanceIdentifier<?> id) {
+        for (final KeyedList<?, ?> list : lists.values()) {
+            if (list.entryType == id.getTargetType() && list.containerId.contains(id)) {
+                return list;
+            }
+        }
+        return null;
+    }
+
+    private static final class KeyedList<C extends DataObject, E extends DataObject> {
+        private final InstanceIdentifier<C> containerId;
+        private final Class<E> entryType;
+        private final Function<List<E>, C> assembler;
+        // keeps insertion order, same as data tree keeps order of list entries
+        private final Map<InstanceIdentifier<?>, E> entries = new LinkedHashMap<>();
+
+        private KeyedList(final InstanceIdentifier<C> containerId, final Class<E> entryType,
+                          final Function<List<E>, C> assembler) {
+            this.containerId = containerId;
+            this.entryType = entryType;
+            this.assembler = assembler;
+        }
+
+        private void put(final InstanceIdentifier<?> id, final DataObject entry) {
+            entries.put(id, entryType.cast(entry));
+        }
+
+        private C assemble() {
+            return entries.isEmpty()
+                    ? null
+                    : assembler.apply(new ArrayList<>(entries.values()));
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.bgp.inet;
+
+import static io.fd.hc2vpp.benchmarks.util.BenchmarkData.SEED;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import io.fd.hc2vpp.common.translate.util.JvppRequestBatch;
+import io.fd.honeycomb.translate.write.WriteFailedException;
+import io.fd.vpp.jvpp.core.dto.IpAddDelRouteReply;
+import io.fd.vpp.jvpp.core.future.FutureJVppCore;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4AddressNoZone;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Prefix;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.inet.rev150305.ipv4.routes.Ipv4Routes;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.inet.rev150305.ipv4.routes.ipv4.routes.Ipv4Route;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.inet.rev150305.ipv4.routes.ipv4.routes.Ipv4RouteBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.inet.rev150305.ipv4.routes.ipv4.routes.Ipv4RouteKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.message.rev130919.PathId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.message.rev130919.path.attributes.AttributesBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.rib.rev130925.BgpRib;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.rib.rev130925.RibId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.rib.rev130925.bgp.rib.Rib;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.rib.rev130925.bgp.rib.RibKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.rib.rev130925.bgp.rib.rib.LocRib;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.rib.rev130925.rib.Tables;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.rib.rev130925.rib.TablesKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.types.rev130919.Ipv4AddressFamily;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.types.rev130919.UnicastSubsequentAddressFamily;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.types.rev130919.next.hop.c.next.hop.Ipv4NextHopCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.types.rev130919.next.hop.c.next.hop.ipv4.next.hop._case.Ipv4NextHopBuilder;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Routes programmed by {@link Ipv4Writer} in blocking and batching mode, with VPP replaced by stub replying with fixed
+ * latency. Score is reported in routes per second.
+ *
+ * <p>Placed in the package of {@link Ipv4Writer}, which is not public.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Ipv4WriterBenchmark {
+
+    private static final int ROUTES_PER_OPERATION = 10_000;
+    // batches are flushed explicitly by the benchmark
+    private static final long LINGER_MILLIS = 60_000;
+
+    private static final InstanceIdentifier<Tables> TABLE_ID = InstanceIdentifier.create(BgpRib.class)
+        .child(Rib.class, new RibKey(new RibId("benchmark-rib"))).child(LocRib.class)
+        .child(Tables.class, new TablesKey(Ipv4AddressFamily.class, UnicastSubsequentAddressFamily.class));
+
+    /**
+     * Maximum number of requests waiting for reply, 0 stands for blocking mode.
+     */
+    @Param({"0", "256"})
+    private int window;
+
+    @Param({"100"})
+    private long latencyMicros;
+
+    private ScheduledExecutorService vpp;
+    private JvppRequestBatch<InstanceIdentifier<?>> batch;
+    private Ipv4Writer writer;
+    private InstanceIdentifier<Ipv4Route>[] ids;
+    private Ipv4Route[] routes;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        vpp = Executors.newSingleThreadScheduledExecutor();
+        final FutureJVppCore vppApi = mock(FutureJVppCore.class, withSettings().stubOnly());
+        when(vppApi.ipAddDelRoute(any())).thenAnswer(invocation -> {
+            final CompletableFuture<IpAddDelRouteReply> reply = new CompletableFuture<>();
+            vpp.schedule(() -> reply.complete(new IpAddDelRouteReply()), latencyMicros, TimeUnit.MICROSECONDS);
+            return reply;
+        });
+        if (window > 0) {
+            batch = new JvppRequestBatch<>("benchmark", window * 4, window, LINGER_MILLIS);
+        }
+        writer = new Ipv4Writer(vppApi, batch);
+
+        final Random random = new Random(SEED);
+        ids = new InstanceIdentifier[ROUTES_PER_OPERATION];
+        routes = new Ipv4Route[ROUTES_PER_OPERATION];
+        for (int i = 0; i < ROUTES_PER_OPERATION; i++) {
+            final Ipv4Prefix prefix = prefix(random.nextInt(1 << 24));
+            ids[i] = TABLE_ID.child((Class) Ipv4Routes.class)
+                .child(Ipv4Route.class, new Ipv4RouteKey(new PathId((long) i), prefix));
+            routes[i] = new Ipv4RouteBuilder()
+                .setPrefix(prefix)
+                .setPathId(new PathId((long) i))
+                .setAttributes(new AttributesBuilder().setCNextHop(new Ipv4NextHopCaseBuilder()
+                    .setIpv4NextHop(new Ipv4NextHopBuilder().setGlobal(new Ipv4AddressNoZone("10.0.0.1")).build())
+                    .build()).build())
+                .build();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (batch != null) {
+            batch.close();
+        }
+        vpp.shutdownNow();
+    }
+
+    /**
+     * Creates all routes and waits until VPP replies to all of them.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROUTES_PER_OPERATION)
+    public void createRoutes() throws WriteFailedException {
+        for (int i = 0; i < ROUTES_PER_OPERATION; i++) {
+            writer.create(ids[i], routes[i]);
+        }
+        if (batch != null) {
+            batch.flush();
+        }
+    }
+
+    private static Ipv4Prefix prefix(final int i) {
+        return new Ipv4Prefix(String.format("%d.%d.%d.0/24", 1 + (i >> 16 & 0xff) % 223, i >> 8 & 0xff, i & 0xff));
+    }
+}
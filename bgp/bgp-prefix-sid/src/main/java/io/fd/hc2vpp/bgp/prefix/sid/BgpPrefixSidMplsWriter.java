@@ -18,13 +18,20 @@ package io.fd.hc2vpp.bgp.prefix.sid;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import com.sun.istack.internal.Nullable;
+import com.google.common.collect.ImmutableList;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
+import io.fd.hc2vpp.common.translate.util.JvppRequestBatch;
 import io.fd.honeycomb.translate.bgp.RouteWriter;
 import io.fd.honeycomb.translate.write.WriteFailedException;
+import io.fd.vpp.jvpp.core.dto.IpAddDelRoute;
 import io.fd.vpp.jvpp.core.dto.MplsRouteAddDel;
 import io.fd.vpp.jvpp.core.future.FutureJVppCore;
+import io.fd.vpp.jvpp.dto.JVppReply;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.labeled.unicast.rev150525.labeled.unicast.routes.LabeledUnicastRoutes;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.labeled.unicast.rev150525.labeled.unicast.routes.list.LabeledUnicastRoute;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.rib.rev130925.BgpRib;
@@ -53,9 +60,19 @@ final class BgpPrefixSidMplsWriter
             .child(LabeledUnicastRoute.class);
 
     private final FutureJVppCore vppApi;
+    private final JvppRequestBatch<InstanceIdentifier<?>> batch;
 
     BgpPrefixSidMplsWriter(@Nonnull final FutureJVppCore vppApi) {
+        this(vppApi, null);
+    }
+
+    /**
+     * @param batch if present, routes are programmed in batches and failures are only logged
+     */
+    BgpPrefixSidMplsWriter(@Nonnull final FutureJVppCore vppApi,
+                           @Nullable final JvppRequestBatch<InstanceIdentifier<?>> batch) {
         this.vppApi = checkNotNull(vppApi, "vppApi should not be null");
+        this.batch = batch;
     }
 
     @Override
@@ -63,20 +80,15 @@ final class BgpPrefixSidMplsWriter
                        @Nullable final LabeledUnicastRoute route)
         throws WriteFailedException.CreateFailedException {
         LOG.debug("Translating id={}, route={}", id, route);
-        // Compute label based on BGP Prefix SID TLVs and add following VPP FIB entries
-        // (see: https://tools.ietf.org/html/draft-ietf-spring-segment-routing-msdc-08#section-4.2.2):
-        //
-        // 1) non-eos VPP MPLS FIB entry (for MPLS packets with derived label in the middle of label stack)
-        final MplsRouteAddDel mplsRequest = mplsRouteAddDelFor(route, true, LOG);
-        getReplyForCreate(vppApi.mplsRouteAddDel(mplsRequest).toCompletableFuture(), id, route);
-
-        // 2) eos VPP MPLS FIB entry (for MPLS packets with derived label at the end of the label stack)
-        mplsRequest.mrEos = 1;
-        getReplyForCreate(vppApi.mplsRouteAddDel(mplsRequest).toCompletableFuture(), id, route);
-
-        // 3) VPP IP FIB entry (impose received outbound label on IP packets destined to the BGP prefix)
-        getReplyForCreate(vppApi.ipAddDelRoute(ipAddDelRouteFor(route, true)).toCompletableFuture(), id, route);
-
+        final List<Supplier<CompletionStage<? extends JVppReply<?>>>> requests = requests(route, true);
+        if (batch != null) {
+            batch.create(id, id, route, requests);
+            LOG.debug("Route added to batch (id={}).", id);
+            return;
+        }
+        for (final Supplier<CompletionStage<? extends JVppReply<?>>> request : requests) {
+            getReplyForCreate(request.get().toCompletableFuture(), id, route);
+        }
         LOG.debug("VPP FIB updated successfully (added id={}).", id);
     }
 
@@ -85,17 +97,15 @@ final class BgpPrefixSidMplsWriter
                        @Nullable final LabeledUnicastRoute route)
         throws WriteFailedException.DeleteFailedException {
         LOG.debug("Removing id={}, route={}", id, route);
-        // Remove non-eos VPP MPLS FIB entry:
-        final MplsRouteAddDel mplsRequest = mplsRouteAddDelFor(route, false, LOG);
-        getReplyForDelete(vppApi.mplsRouteAddDel(mplsRequest).toCompletableFuture(), id);
-
-        // Remove eos VPP MPLS FIB entry:
-        mplsRequest.mrEos = 1;
-        getReplyForDelete(vppApi.mplsRouteAddDel(mplsRequest).toCompletableFuture(), id);
-
-        // Remove VPP IP FIB entry:
-        getReplyForDelete(vppApi.ipAddDelRoute(ipAddDelRouteFor(route, false)).toCompletableFuture(), id);
-
+        final List<Supplier<CompletionStage<? extends JVppReply<?>>>> requests = requests(route, false);
+        if (batch != null) {
+            batch.delete(id, id, requests);
+            LOG.debug("Route removal added to batch (id={}).", id);
+            return;
+        }
+        for (final Supplier<CompletionStage<? extends JVppReply<?>>> request : requests) {
+            getReplyForDelete(request.get().toCompletableFuture(), id);
+        }
         LOG.debug("VPP FIB updated successfully (removed id={}).", id);
     }
 
@@ -108,6 +118,30 @@ final class BgpPrefixSidMplsWriter
             new UnsupportedOperationException("Operation not supported"));
     }
 
+    /**
+     * Computes label based on BGP Prefix SID TLVs and prepares requests for following VPP FIB entries
+     * (see: https://tools.ietf.org/html/draft-ietf-spring-segment-routing-msdc-08#section-4.2.2):
+     *
+     * <p>1) non-eos VPP MPLS FIB entry (for MPLS packets with derived label in the middle of label stack)
+     *
+     * <p>2) eos VPP MPLS FIB entry (for MPLS packets with derived label at the end of the label stack)
+     *
+     * <p>3) VPP IP FIB entry (impose received outbound label on IP packets destined to the BGP prefix)
+     *
+     * <p>Requests can be sent later in batch mode, so each of them uses own request instance.
+     */
+    private List<Supplier<CompletionStage<? extends JVppReply<?>>>> requests(final LabeledUnicastRoute route,
+                                                                             final boolean isAdd) {
+        final MplsRouteAddDel nonEos = mplsRouteAddDelFor(route, isAdd, LOG);
+        final MplsRouteAddDel eos = mplsRouteAddDelFor(route, isAdd, LOG);
+        eos.mrEos = 1;
+        final IpAddDelRoute ipRequest = ipAddDelRouteFor(route, isAdd);
+        return ImmutableList.of(
+            () -> vppApi.mplsRouteAddDel(nonEos),
+            () -> vppApi.mplsRouteAddDel(eos),
+            () -> vppApi.ipAddDelRoute(ipRequest));
+    }
+
     // TODO(HC2VPP-268): add test which checks if ID is serializable
     @Nonnull
     @Override
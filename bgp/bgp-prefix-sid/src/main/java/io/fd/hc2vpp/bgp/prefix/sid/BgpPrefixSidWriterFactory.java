@@ -17,6 +17,8 @@
 package io.fd.hc2vpp.bgp.prefix.sid;
 
 import com.google.inject.Inject;
+import io.fd.hc2vpp.common.translate.util.JvppRequestBatchSettings;
+import io.fd.honeycomb.data.init.ShutdownHandler;
 import io.fd.honeycomb.translate.bgp.RibWriter;
 import io.fd.honeycomb.translate.bgp.RouteWriterFactory;
 import io.fd.vpp.jvpp.core.future.FutureJVppCore;
@@ -25,9 +27,15 @@ import javax.annotation.Nonnull;
 final class BgpPrefixSidWriterFactory implements RouteWriterFactory {
     @Inject
     private FutureJVppCore vppApi;
+    @Inject
+    private BgpPrefixSidConfiguration configuration;
+    @Inject
+    private ShutdownHandler shutdownHandler;
 
     @Override
     public void init(@Nonnull final RibWriter registry) {
-        registry.register(new BgpPrefixSidMplsWriter(vppApi));
+        // pending routes are flushed on shutdown
+        registry.register(new BgpPrefixSidMplsWriter(vppApi,
+            configuration.getFibBatchSettings().createBatch("bgp-prefix-sid-fib", shutdownHandler::register)));
     }
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.bgp.inet;
+
+import io.fd.hc2vpp.common.translate.util.JvppRequestBatchSettings;
+import net.jmob.guice.conf.core.BindConfig;
+import net.jmob.guice.conf.core.InjectConfig;
+import net.jmob.guice.conf.core.Syntax;
+
+@BindConfig(value = "bgp-inet", syntax = Syntax.JSON)
+public class BgpInetConfiguration {
+
+    /**
+     * Number of route operations sent to VPP in single batch. Batching is disabled if not positive.
+     */
+    @InjectConfig("fib-batch-size")
+    private int fibBatchSize;
+
+    /**
+     * Maximum number of VPP requests waiting for reply while batch is flushed.
+     */
+    @InjectConfig("fib-batch-window")
+    private int fibBatchWindow;
+
+    /**
+     * Maximum time route operation waits in incomplete batch.
+     */
+    @InjectConfig("fib-batch-linger-millis")
+    private long fibBatchLingerMillis;
+
+    public JvppRequestBatchSettings getFibBatchSettings() {
+        return new JvppRequestBatchSettings(fibBatchSize, fibBatchWindow, fibBatchLingerMillis);
+    }
+}
@@ -19,6 +19,7 @@ package io.fd.hc2vpp.bgp.inet;
 import com.google.inject.AbstractModule;
 import com.google.inject.multibindings.Multibinder;
 import io.fd.honeycomb.translate.bgp.RouteWriterFactory;
+import net.jmob.guice.conf.core.ConfigurationModule;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,6 +34,10 @@ public final class BgpInetModule extends AbstractModule {
     protected void configure() {
         LOG.info("Installing BGP inet module");
 
+        // requests injection of properties
+        install(ConfigurationModule.create());
+        requestInjection(BgpInetConfiguration.class);
+
         LOG.info("Injecting route writers");
         final Multibinder<RouteWriterFactory> writerFactoryBinder =
             Multibinder.newSetBinder(binder(), RouteWriterFactory.class);
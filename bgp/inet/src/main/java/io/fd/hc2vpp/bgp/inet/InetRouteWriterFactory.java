@@ -17,6 +17,8 @@
 package io.fd.hc2vpp.bgp.inet;
 
 import com.google.inject.Inject;
+import io.fd.hc2vpp.common.translate.util.JvppRequestBatchSettings;
+import io.fd.honeycomb.data.init.ShutdownHandler;
 import io.fd.honeycomb.translate.bgp.RibWriter;
 import io.fd.honeycomb.translate.bgp.RouteWriterFactory;
 import io.fd.vpp.jvpp.core.future.FutureJVppCore;
@@ -25,10 +27,16 @@ import javax.annotation.Nonnull;
 final class InetRouteWriterFactory implements RouteWriterFactory {
     @Inject
     private FutureJVppCore vppApi;
+    @Inject
+    private BgpInetConfiguration configuration;
+    @Inject
+    private ShutdownHandler shutdownHandler;
 
     @Override
     public void init(@Nonnull final RibWriter registry) {
-        registry.register(new Ipv4Writer(vppApi));
-        registry.register(new Ipv6Writer(vppApi));
+        final JvppRequestBatchSettings batchSettings = configuration.getFibBatchSettings();
+        // pending routes are flushed on shutdown
+        registry.register(new Ipv4Writer(vppApi, batchSettings.createBatch("bgp-ipv4-fib", shutdownHandler::register)));
+        registry.register(new Ipv6Writer(vppApi, batchSettings.createBatch("bgp-ipv6-fib", shutdownHandler::register)));
     }
 }
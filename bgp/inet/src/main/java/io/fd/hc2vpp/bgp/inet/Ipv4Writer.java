@@ -19,14 +19,16 @@ package io.fd.hc2vpp.bgp.inet;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import com.sun.istack.internal.Nullable;
 import io.fd.hc2vpp.common.translate.util.Ipv4Translator;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
+import io.fd.hc2vpp.common.translate.util.JvppRequestBatch;
 import io.fd.honeycomb.translate.bgp.RouteWriter;
 import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.fd.vpp.jvpp.core.dto.IpAddDelRoute;
 import io.fd.vpp.jvpp.core.future.FutureJVppCore;
+import java.util.Collections;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Address;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Prefix;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.inet.rev150305.ipv4.routes.Ipv4Routes;
@@ -51,9 +53,19 @@ final class Ipv4Writer implements RouteWriter<Ipv4Route>, Ipv4Translator, JvppRe
         .child(Ipv4Route.class);
 
     private final FutureJVppCore vppApi;
+    private final JvppRequestBatch<InstanceIdentifier<?>> batch;
 
     Ipv4Writer(@Nonnull final FutureJVppCore vppApi) {
+        this(vppApi, null);
+    }
+
+    /**
+     * @param batch if present, routes are programmed in batches and failures are only logged
+     */
+    Ipv4Writer(@Nonnull final FutureJVppCore vppApi,
+               @Nullable final JvppRequestBatch<InstanceIdentifier<?>> batch) {
         this.vppApi = checkNotNull(vppApi, "vppApi should not be null");
+        this.batch = batch;
     }
 
     @Override
@@ -62,6 +74,11 @@ final class Ipv4Writer implements RouteWriter<Ipv4Route>, Ipv4Translator, JvppRe
         throws WriteFailedException.CreateFailedException {
         final IpAddDelRoute request = request(route, true);
         LOG.debug("Translating id={}, route={} to {}", id, route, request);
+        if (batch != null) {
+            batch.create(id, id, route, Collections.singletonList(() -> vppApi.ipAddDelRoute(request)));
+            LOG.debug("Route added to batch (id={}).", id);
+            return;
+        }
         getReplyForCreate(vppApi.ipAddDelRoute(request).toCompletableFuture(), id, route);
         LOG.debug("VPP FIB updated successfully (added id={}).", id);
     }
@@ -71,7 +88,13 @@ final class Ipv4Writer implements RouteWriter<Ipv4Route>, Ipv4Translator, JvppRe
                        @Nullable final Ipv4Route route)
         throws WriteFailedException.DeleteFailedException {
         LOG.debug("Removing id={}, route={}", id, route);
-        getReplyForDelete(vppApi.ipAddDelRoute(request(route, false)).toCompletableFuture(), id);
+        final IpAddDelRoute request = request(route, false);
+        if (batch != null) {
+            batch.delete(id, id, Collections.singletonList(() -> vppApi.ipAddDelRoute(request)));
+            LOG.debug("Route removal added to batch (id={}).", id);
+            return;
+        }
+        getReplyForDelete(vppApi.ipAddDelRoute(request).toCompletableFuture(), id);
         LOG.debug("VPP FIB updated successfully (removed id={}).", id);
     }
 
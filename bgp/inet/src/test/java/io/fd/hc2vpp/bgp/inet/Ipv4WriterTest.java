@@ -18,6 +18,8 @@ package io.fd.hc2vpp.bgp.inet;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
@@ -25,6 +27,7 @@ import static io.fd.hc2vpp.bgp.inet.RouteRequestProducer.MPLS_LABEL_INVALID;
 
 import io.fd.hc2vpp.common.test.util.FutureProducer;
 import io.fd.hc2vpp.common.translate.util.ByteDataTranslator;
+import io.fd.hc2vpp.common.translate.util.JvppRequestBatch;
 import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.fd.vpp.jvpp.core.dto.IpAddDelRoute;
 import io.fd.vpp.jvpp.core.dto.IpAddDelRouteReply;
@@ -59,6 +62,7 @@ public class Ipv4WriterTest implements FutureProducer, ByteDataTranslator {
     private static final InstanceIdentifier<Tables> TABLE_ID = InstanceIdentifier.create(BgpRib.class)
         .child(Rib.class, new RibKey(new RibId("test-rib"))).child(LocRib.class)
         .child(Tables.class, new TablesKey(Ipv4AddressFamily.class, UnicastSubsequentAddressFamily.class));
+    private static final long LINGER_MILLIS = 60_000;
 
     @Mock
     private FutureJVppCore vppApi;
@@ -124,6 +128,50 @@ public class Ipv4WriterTest implements FutureProducer, ByteDataTranslator {
         writer.update(id(destination, pathId), mock(Ipv4Route.class), mock(Ipv4Route.class));
     }
 
+    @Test
+    public void testBatchedCreate() throws WriteFailedException {
+        final JvppRequestBatch<InstanceIdentifier<?>> batch = new JvppRequestBatch<>("test", 2, 2, LINGER_MILLIS);
+        writer = new Ipv4Writer(vppApi, batch);
+        final Ipv4Prefix destination = new Ipv4Prefix("1.2.3.4/24");
+        final Ipv4Address nextHopAddress = new Ipv4AddressNoZone("5.6.7.8");
+
+        writer.create(id(destination, new PathId(1L)), route(destination, new PathId(1L), nextHopAddress));
+        verify(vppApi, never()).ipAddDelRoute(any());
+
+        // second route fills the batch
+        writer.create(id(destination, new PathId(2L)), route(destination, new PathId(2L), nextHopAddress));
+        verify(vppApi, times(2)).ipAddDelRoute(any());
+    }
+
+    @Test
+    public void testBatchedCreateAndDeleteCancelOut() throws WriteFailedException {
+        final JvppRequestBatch<InstanceIdentifier<?>> batch = new JvppRequestBatch<>("test", 10, 2, LINGER_MILLIS);
+        writer = new Ipv4Writer(vppApi, batch);
+        final Ipv4Prefix destination = new Ipv4Prefix("1.2.3.4/24");
+        final PathId pathId = new PathId(123L);
+        final Ipv4Address nextHopAddress = new Ipv4AddressNoZone("5.6.7.8");
+
+        writer.create(id(destination, pathId), route(destination, pathId, nextHopAddress));
+        writer.delete(id(destination, pathId), route(destination, pathId, nextHopAddress));
+        batch.flush();
+
+        verify(vppApi, never()).ipAddDelRoute(any());
+    }
+
+    @Test
+    public void testBatchedDelete() throws WriteFailedException {
+        final JvppRequestBatch<InstanceIdentifier<?>> batch = new JvppRequestBatch<>("test", 10, 2, LINGER_MILLIS);
+        writer = new Ipv4Writer(vppApi, batch);
+        final Ipv4Prefix destination = new Ipv4Prefix("1.2.3.4/24");
+        final PathId pathId = new PathId(456L);
+        final Ipv4Address nextHopAddress = new Ipv4AddressNoZone("5.6.7.8");
+
+        writer.delete(id(destination, pathId), route(destination, pathId, nextHopAddress));
+        batch.flush();
+
+        verifyRequest(false);
+    }
+
     private void verifyRequest(boolean isAdd) {
         final IpAddDelRoute request = new IpAddDelRoute();
         request.isAdd = booleanToByte(isAdd);
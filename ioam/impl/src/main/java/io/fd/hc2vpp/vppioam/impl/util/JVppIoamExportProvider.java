@@ -17,12 +17,18 @@
 package io.fd.hc2vpp.vppioam.impl.util;
 
 import com.google.inject.Inject;
+import io.fd.hc2vpp.common.translate.util.JVppRequestMonitor;
+import io.fd.hc2vpp.common.translate.util.JVppRequestStats;
 import io.fd.honeycomb.binding.init.ProviderTrait;
 import io.fd.honeycomb.data.init.ShutdownHandler;
 import io.fd.vpp.jvpp.JVppRegistry;
+import io.fd.vpp.jvpp.dto.JVppReply;
+import io.fd.vpp.jvpp.dto.JVppReplyDump;
+import io.fd.vpp.jvpp.dto.JVppRequest;
 import io.fd.vpp.jvpp.ioamexport.JVppIoamexportImpl;
 import io.fd.vpp.jvpp.ioamexport.future.FutureJVppIoamexportFacade;
 import java.io.IOException;
+import java.util.concurrent.CompletionStage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,6 +42,9 @@ public class JVppIoamExportProvider extends ProviderTrait<FutureJVppIoamexportFa
     @Inject
     private ShutdownHandler shutdownHandler;
 
+    @Inject
+    private JVppRequestStats stats;
+
     @Override
     protected FutureJVppIoamexportFacade create() {
         try {
@@ -44,7 +53,20 @@ public class JVppIoamExportProvider extends ProviderTrait<FutureJVppIoamexportFa
             shutdownHandler.register("jvpp-ioamexport", jVppIoamexport);
 
             LOG.info("Successfully loaded jvpp-ioam-export plugin");
-            return new FutureJVppIoamexportFacade(registry, jVppIoamexport);
+            final JVppRequestMonitor monitor = stats.getMonitor("ioamexport");
+            return new FutureJVppIoamexportFacade(registry, jVppIoamexport) {
+                @Override
+                public <REQ extends JVppRequest, REPLY extends JVppReply<REQ>> CompletionStage<REPLY> send(
+                        final REQ req) {
+                    return monitor.send(() -> super.send(req));
+                }
+
+                @Override
+                public <REQ extends JVppRequest, REPLY extends JVppReply<REQ>, DUMP extends JVppReplyDump<REQ, REPLY>>
+                CompletionStage<DUMP> send(final REQ req, final DUMP emptyReplyDump) {
+                    return monitor.sendDump(() -> super.send(req, emptyReplyDump));
+                }
+            };
         } catch (IOException e) {
             throw new IllegalStateException("Unable to open VPP management connection", e);
         }
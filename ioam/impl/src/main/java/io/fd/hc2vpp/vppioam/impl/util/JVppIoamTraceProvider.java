@@ -17,12 +17,18 @@
 package io.fd.hc2vpp.vppioam.impl.util;
 
 import com.google.inject.Inject;
+import io.fd.hc2vpp.common.translate.util.JVppRequestMonitor;
+import io.fd.hc2vpp.common.translate.util.JVppRequestStats;
 import io.fd.honeycomb.binding.init.ProviderTrait;
 import io.fd.honeycomb.data.init.ShutdownHandler;
 import io.fd.vpp.jvpp.JVppRegistry;
+import io.fd.vpp.jvpp.dto.JVppReply;
+import io.fd.vpp.jvpp.dto.JVppReplyDump;
+import io.fd.vpp.jvpp.dto.JVppRequest;
 import io.fd.vpp.jvpp.ioamtrace.JVppIoamtraceImpl;
 import io.fd.vpp.jvpp.ioamtrace.future.FutureJVppIoamtraceFacade;
 import java.io.IOException;
+import java.util.concurrent.CompletionStage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,6 +46,9 @@ public final class JVppIoamTraceProvider extends ProviderTrait<FutureJVppIoamtra
     @Inject
     private ShutdownHandler shutdownHandler;
 
+    @Inject
+    private JVppRequestStats stats;
+
     @Override
     protected FutureJVppIoamtraceFacade create() {
         try {
@@ -48,7 +57,20 @@ public final class JVppIoamTraceProvider extends ProviderTrait<FutureJVppIoamtra
             shutdownHandler.register("jvpp-ioamtrace", jVppIoamTr);
 
             LOG.info("Successfully loaded jvpp-ioam-trace plugin");
-            return new FutureJVppIoamtraceFacade(registry, jVppIoamTr);
+            final JVppRequestMonitor monitor = stats.getMonitor("ioamtrace");
+            return new FutureJVppIoamtraceFacade(registry, jVppIoamTr) {
+                @Override
+                public <REQ extends JVppRequest, REPLY extends JVppReply<REQ>> CompletionStage<REPLY> send(
+                        final REQ req) {
+                    return monitor.send(() -> super.send(req));
+                }
+
+                @Override
+                public <REQ extends JVppRequest, REPLY extends JVppReply<REQ>, DUMP extends JVppReplyDump<REQ, REPLY>>
+                CompletionStage<DUMP> send(final REQ req, final DUMP emptyReplyDump) {
+                    return monitor.sendDump(() -> super.send(req, emptyReplyDump));
+                }
+            };
         } catch (IOException e) {
             throw new IllegalStateException("Unable to open VPP management connection", e);
         }
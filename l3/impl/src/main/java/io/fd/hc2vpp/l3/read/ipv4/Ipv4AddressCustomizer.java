@@ -75,12 +75,8 @@ public class Ipv4AddressCustomizer extends IpAddressReader
     public void readCurrentAttributes(@Nonnull InstanceIdentifier<Address> id, @Nonnull AddressBuilder builder,
                                       @Nonnull ReadContext ctx) throws ReadFailedException {
         LOG.debug("Reading attributes for interface address: {}", id);
-        final Optional<IpAddressDetailsReplyDump> dumpOptional = interfaceAddressDumpSupplier(id, ctx);
-
-        if (!dumpOptional.isPresent() || dumpOptional.get().ipAddressDetails.isEmpty()) {
-            return;
-        }
-        final Optional<IpAddressDetails> ipAddressDetails = findIpv4AddressDetailsByIp(dumpOptional, id.firstKeyOf(Address.class).getIp());
+        final Optional<IpAddressDetails> ipAddressDetails =
+                interfaceAddresses(id, ctx).find(id.firstKeyOf(Address.class).getIp());
 
         if (ipAddressDetails.isPresent()) {
             final IpAddressDetails detail = ipAddressDetails.get();
@@ -100,7 +96,7 @@ public class Ipv4AddressCustomizer extends IpAddressReader
     public List<AddressKey> getAllIds(@Nonnull InstanceIdentifier<Address> id, @Nonnull ReadContext ctx)
             throws ReadFailedException {
         LOG.debug("Reading list of keys for interface addresses: {}", id);
-        return getAllIpv4AddressIds(interfaceAddressDumpSupplier(id, ctx), AddressKey::new);
+        return getAllIpv4AddressIds(interfaceAddresses(id, ctx), AddressKey::new);
     }
 
     @Override
@@ -82,7 +82,7 @@ public class SubInterfaceIpv4AddressCustomizer extends IpAddressReader
         LOG.debug("Reading attributes for sub-interface address: {}", id);
 
         final Optional<IpAddressDetails> ipAddressDetails =
-                findIpv4AddressDetailsByIp(subInterfaceAddressDumpSupplier(id, ctx), id.firstKeyOf(Address.class).getIp());
+                subInterfaceAddresses(id, ctx).find(id.firstKeyOf(Address.class).getIp());
 
         if (ipAddressDetails.isPresent()) {
             final IpAddressDetails detail = ipAddressDetails.get();
@@ -103,7 +103,7 @@ public class SubInterfaceIpv4AddressCustomizer extends IpAddressReader
     public List<AddressKey> getAllIds(@Nonnull InstanceIdentifier<Address> id, @Nonnull ReadContext ctx)
             throws ReadFailedException {
         LOG.debug("Reading list of keys for sub-interface addresses: {}", id);
-        return getAllIpv4AddressIds(subInterfaceAddressDumpSupplier(id, ctx), AddressKey::new);
+        return getAllIpv4AddressIds(subInterfaceAddresses(id, ctx), AddressKey::new);
     }
 
     @Override
@@ -72,7 +72,7 @@ public class Ipv6AddressCustomizer extends IpAddressReader
             throws ReadFailedException {
         LOG.debug("Reading attributes for interface address: {}", id);
         final Optional<IpAddressDetails> ipAddressDetails =
-                findIpv6AddressDetailsByIp(interfaceAddressDumpSupplier(id, ctx), id.firstKeyOf(Address.class).getIp());
+                interfaceAddresses(id, ctx).find(id.firstKeyOf(Address.class).getIp());
 
         if (ipAddressDetails.isPresent()) {
             final IpAddressDetails detail = ipAddressDetails.get();
@@ -93,7 +93,7 @@ public class Ipv6AddressCustomizer extends IpAddressReader
     public List<AddressKey> getAllIds(@Nonnull InstanceIdentifier<Address> id, @Nonnull ReadContext ctx)
             throws ReadFailedException {
         LOG.debug("Reading list of keys for interface addresses: {}", id);
-        return getAllIpv6AddressIds(interfaceAddressDumpSupplier(id, ctx), AddressKey::new);
+        return getAllIpv6AddressIds(interfaceAddresses(id, ctx), AddressKey::new);
     }
 
     @Override
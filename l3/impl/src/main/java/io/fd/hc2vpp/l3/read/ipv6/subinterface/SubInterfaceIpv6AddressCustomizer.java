@@ -77,7 +77,7 @@ public class SubInterfaceIpv6AddressCustomizer extends IpAddressReader
             throws ReadFailedException {
         LOG.debug("Reading attributes for sub-interface address: {}", id);
         final Optional<IpAddressDetails> ipAddressDetails =
-                findIpv6AddressDetailsByIp(subInterfaceAddressDumpSupplier(id, ctx), id.firstKeyOf(Address.class).getIp());
+                subInterfaceAddresses(id, ctx).find(id.firstKeyOf(Address.class).getIp());
 
         if (ipAddressDetails.isPresent()) {
             final IpAddressDetails detail = ipAddressDetails.get();
@@ -98,7 +98,7 @@ public class SubInterfaceIpv6AddressCustomizer extends IpAddressReader
     public List<AddressKey> getAllIds(@Nonnull InstanceIdentifier<Address> id, @Nonnull ReadContext ctx)
             throws ReadFailedException {
         LOG.debug("Reading list of keys for sub-interface addresses: {}", id);
-        return getAllIpv6AddressIds(subInterfaceAddressDumpSupplier(id, ctx), AddressKey::new);
+        return getAllIpv6AddressIds(subInterfaceAddresses(id, ctx), AddressKey::new);
     }
 
     @Override
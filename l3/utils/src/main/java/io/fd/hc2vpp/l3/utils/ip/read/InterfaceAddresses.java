@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.l3.utils.ip.read;
+
+import com.google.common.base.Optional;
+import io.fd.hc2vpp.common.translate.util.IpAddressCodec;
+import io.fd.vpp.jvpp.core.dto.IpAddressDetails;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4AddressNoZone;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv6AddressNoZone;
+
+/**
+ * IP addresses of single interface and address family, indexed by address bytes. Lookup of an address costs single
+ * hash lookup, instead of converting each dumped address to its yang representation.
+ */
+@NotThreadSafe
+public final class InterfaceAddresses {
+
+    private static final int IPV6_LENGTH = 16;
+
+    private final boolean isIpv6;
+    private final List<IpAddressDetails> details = new ArrayList<>();
+    private final Map<AddressKey, IpAddressDetails> addresses = new HashMap<>();
+    private final Set<AddressKey> duplicates = new HashSet<>();
+
+    InterfaceAddresses(@Nonnull final List<IpAddressDetails> details, final boolean isIpv6) {
+        this.isIpv6 = isIpv6;
+        details.forEach(this::add);
+    }
+
+    private void add(@Nonnull final IpAddressDetails detail) {
+        details.add(detail);
+        final AddressKey key = isIpv6
+                ? new AddressKey(IpAddressCodec.toLong(detail.ip, 0), IpAddressCodec.toLong(detail.ip, 8))
+                : new AddressKey(0, IpAddressCodec.toInt(detail.ip));
+        if (addresses.putIfAbsent(key, detail) != null) {
+            duplicates.add(key);
+        }
+    }
+
+    /**
+     * @return all addresses of the interface, in order reported by VPP
+     */
+    @Nonnull
+    public List<IpAddressDetails> getDetails() {
+        return Collections.unmodifiableList(details);
+    }
+
+    /**
+     * @throws IllegalStateException if there are multiple details for given address
+     */
+    @Nonnull
+    public Optional<IpAddressDetails> find(@Nonnull final Ipv4AddressNoZone ip) {
+        return find(new AddressKey(0, IpAddressCodec.parseIpv4(ip.getValue())));
+    }
+
+    /**
+     * @throws IllegalStateException if there are multiple details for given address
+     */
+    @Nonnull
+    public Optional<IpAddressDetails> find(@Nonnull final Ipv6AddressNoZone ip) {
+        final String value = ip.getValue();
+        final byte[] address = new byte[IPV6_LENGTH];
+        IpAddressCodec.parseIpv6(value, 0, value.length(), address, 0);
+        return find(new AddressKey(IpAddressCodec.toLong(address, 0), IpAddressCodec.toLong(address, 8)));
+    }
+
+    private Optional<IpAddressDetails> find(final AddressKey key) {
+        if (duplicates.contains(key)) {
+            final String address = isIpv6
+                    ? IpAddressCodec.formatIpv6(key.high, key.low)
+                    : IpAddressCodec.formatIpv4((int) key.low);
+            throw new IllegalStateException("Found multiple details for address " + address + ". Single item expected");
+        }
+        return Optional.fromNullable(addresses.get(key));
+    }
+
+    /**
+     * IPv4 (stored in low bits) or IPv6 address.
+     */
+    private static final class AddressKey {
+        private final long high;
+        private final long low;
+
+        private AddressKey(final long high, final long low) {
+            this.high = high;
+            this.low = low;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final AddressKey that = (AddressKey) o;
+            return high == that.high && low == that.low;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Long.hashCode(high) + Long.hashCode(low);
+        }
+    }
+}
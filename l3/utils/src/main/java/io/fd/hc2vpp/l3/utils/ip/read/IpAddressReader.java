@@ -57,6 +57,30 @@ public abstract class IpAddressReader extends IpReader {
         this.dumpCacheManager = dumpCacheManager;
     }
 
+    /**
+     * @return addresses of interface identified by id, indexed by address
+     */
+    @Nonnull
+    protected InterfaceAddresses interfaceAddresses(@Nonnull final InstanceIdentifier<?> id,
+                                                    @Nonnull final ReadContext context) throws ReadFailedException {
+        return toInterfaceAddresses(interfaceAddressDumpSupplier(id, context));
+    }
+
+    /**
+     * @return addresses of sub-interface identified by id, indexed by address
+     */
+    @Nonnull
+    protected InterfaceAddresses subInterfaceAddresses(@Nonnull final InstanceIdentifier<?> id,
+                                                       @Nonnull final ReadContext context) throws ReadFailedException {
+        return toInterfaceAddresses(subInterfaceAddressDumpSupplier(id, context));
+    }
+
+    private InterfaceAddresses toInterfaceAddresses(final Optional<IpAddressDetailsReplyDump> dump) {
+        return new InterfaceAddresses(dump.isPresent() && dump.get().ipAddressDetails != null
+                ? dump.get().ipAddressDetails
+                : Collections.emptyList(), isIpv6());
+    }
+
     @Nonnull
     protected Optional<IpAddressDetailsReplyDump> interfaceAddressDumpSupplier(@Nonnull final InstanceIdentifier<?> id,
                                                                                @Nonnull final ReadContext context) throws ReadFailedException {
@@ -73,6 +97,24 @@ public abstract class IpAddressReader extends IpReader {
                 .getIndex(subInterfaceName, context.getMappingContext()), isIpv6()));
     }
 
+    @Nonnull
+    protected <T extends Identifier> List<T> getAllIpv4AddressIds(
+            @Nonnull final InterfaceAddresses addresses,
+            @Nonnull final Function<Ipv4AddressNoZone, T> keyConstructor) {
+        return addresses.getDetails().stream()
+                .map(detail -> keyConstructor.apply(arrayToIpv4AddressNoZone(detail.ip)))
+                .collect(Collectors.toList());
+    }
+
+    @Nonnull
+    protected <T extends Identifier> List<T> getAllIpv6AddressIds(
+            @Nonnull final InterfaceAddresses addresses,
+            @Nonnull final Function<Ipv6AddressNoZone, T> keyConstructor) {
+        return addresses.getDetails().stream()
+                .map(detail -> keyConstructor.apply(arrayToIpv6AddressNoZone(detail.ip)))
+                .collect(Collectors.toList());
+    }
+
     @Nonnull
     protected <T extends Identifier> List<T> getAllIpv4AddressIds(
             final Optional<IpAddressDetailsReplyDump> dumpOptional,
@@ -31,6 +31,7 @@ import io.fd.hc2vpp.lisp.cfgattrs.LispConfiguration;
 import io.fd.hc2vpp.lisp.context.util.AdjacenciesMappingContext;
 import io.fd.hc2vpp.lisp.context.util.ContextsReaderFactoryProvider;
 import io.fd.hc2vpp.lisp.context.util.EidMappingContext;
+import io.fd.hc2vpp.lisp.context.util.EidMappingContextProvider;
 import io.fd.hc2vpp.lisp.translate.read.factory.EidTableReaderFactory;
 import io.fd.hc2vpp.lisp.translate.read.factory.LispStateReaderFactory;
 import io.fd.hc2vpp.lisp.translate.read.factory.LocatorSetReaderFactory;
@@ -67,12 +68,14 @@ public class LispModule extends AbstractModule {
         LOG.info("Binding Eid context[{}]", LOCAL_MAPPING_CONTEXT);
         bind(EidMappingContext.class)
                 .annotatedWith(Names.named(LOCAL_MAPPING_CONTEXT))
-                .toInstance(new EidMappingContext(LOCAL_MAPPING_CONTEXT, "local-mapping-"));
+                .toProvider(new EidMappingContextProvider(LOCAL_MAPPING_CONTEXT, "local-mapping-"))
+                .in(Singleton.class);
 
         LOG.info("Binding Eid context[{}]", REMOTE_MAPPING_CONTEXT);
         bind(EidMappingContext.class)
                 .annotatedWith(Names.named(REMOTE_MAPPING_CONTEXT))
-                .toInstance(new EidMappingContext(REMOTE_MAPPING_CONTEXT, "remote-mapping-"));
+                .toProvider(new EidMappingContextProvider(REMOTE_MAPPING_CONTEXT, "remote-mapping-"))
+                .in(Singleton.class);
 
         LOG.info("Binding Adjacencies context");
         bind(AdjacenciesMappingContext.class)
@@ -19,10 +19,15 @@ package io.fd.hc2vpp.lisp.context.util;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import com.google.common.base.Optional;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import io.fd.hc2vpp.common.translate.util.TransactionalContextStore;
 import io.fd.hc2vpp.lisp.translate.util.EidTranslator;
 import io.fd.honeycomb.translate.MappingContext;
 import io.fd.honeycomb.translate.util.RWUtils;
-
+import java.util.Collections;
+import java.util.Map;
 import java.util.stream.Collector;
 import javax.annotation.Nonnull;
 
@@ -34,20 +39,40 @@ import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.eid.mapping
 import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.eid.mapping.context.rev160801.contexts.eid.mapping.context.mappings.MappingKey;
 import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.eid.mapping.context.rev160801.contexts.eid.mapping.context.mappings.mapping.Eid;
 import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.eid.mapping.context.rev160801.contexts.eid.mapping.context.mappings.mapping.EidBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.LispAddress;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.Address;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.address.Ipv4;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.address.Ipv4Prefix;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.address.Ipv6;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.address.Ipv6Prefix;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.address.Mac;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.lisp.rev171013.MappingId;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
 
 /**
  * Utility class allowing {@link MappingId} to {@link Eid} mapping
+ *
+ * <p>Indexed context keeps {@link EidMappingIndex} per {@link MappingContext} instance (i.e. per transaction), so
+ * looking up mapping id of an eid does not scan all mappings.
+ *
+ * <p>Context backed by {@link TransactionalContextStore} writes mappings to the context data tree as well as to the
+ * store and looks up mapping ids of eids in the store. Eid address is used as parent of the stored mapping, so ids of
+ * the same address in different virtual networks are read at once. Mapping is stored with virtual network id as its
+ * index.
  */
 public class EidMappingContext implements EidTranslator {
 
     private static final Collector<Mapping, ?, Mapping> SINGLE_ITEM_COLLECTOR = RWUtils.singleItemCollector();
+    // index of stored mapping for eid without virtual network id
+    private static final long NO_VNI = -1;
 
     private final KeyedInstanceIdentifier<org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.eid.mapping.context.rev160801.contexts.EidMappingContext, EidMappingContextKey>
             namingContextIid;
+    private final String instanceName;
     private final String artificialPrefix;
+    private final LoadingCache<MappingContext, EidMappingIndex> indexes;
+    private final TransactionalContextStore store;
 
     /**
      * Create new naming context
@@ -55,10 +80,128 @@ public class EidMappingContext implements EidTranslator {
      * @param instanceName name of this context instance. Will be used as list item identifier within context data tree
      */
     public EidMappingContext(@Nonnull final String instanceName, @Nonnull final String artificialPrefix) {
+        this(instanceName, artificialPrefix, false);
+    }
+
+    /**
+     * Create new naming context
+     *
+     * @param instanceName name of this context instance. Will be used as list item identifier within context data tree
+     * @param indexed      if true, eid lookups are served from index built once per {@link MappingContext}. All writes
+     *                     to this context have to go through this instance to keep the index consistent.
+     */
+    public EidMappingContext(@Nonnull final String instanceName, @Nonnull final String artificialPrefix,
+                             final boolean indexed) {
         namingContextIid = InstanceIdentifier.create(Contexts.class).child(
                 org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.eid.mapping.context.rev160801.contexts.EidMappingContext.class,
                 new EidMappingContextKey(instanceName));
+        this.instanceName = instanceName;
         this.artificialPrefix = artificialPrefix;
+        this.store = null;
+        if (indexed) {
+            // weak keys use identity comparison, so each transaction gets its own index
+            indexes = CacheBuilder.newBuilder().weakKeys()
+                    .build(new CacheLoader<MappingContext, EidMappingIndex>() {
+                        @Override
+                        public EidMappingIndex load(@Nonnull final MappingContext mappingContext) {
+                            return new EidMappingIndex(mappingContext.read(namingContextIid.child(Mappings.class)));
+                        }
+                    });
+        } else {
+            indexes = null;
+        }
+    }
+
+    /**
+     * Create new naming context backed by context store
+     *
+     * @param instanceName name of this context instance. Will be used as list item identifier within context data
+     *                     tree and as context name within the store
+     * @param store        store serving eid lookups. All writes to this context have to go through this instance to
+     *                     keep the store consistent.
+     */
+    public EidMappingContext(@Nonnull final String instanceName, @Nonnull final String artificialPrefix,
+                             @Nonnull final TransactionalContextStore store) {
+        namingContextIid = InstanceIdentifier.create(Contexts.class).child(
+                org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.eid.mapping.context.rev160801.contexts.EidMappingContext.class,
+                new EidMappingContextKey(instanceName));
+        this.instanceName = instanceName;
+        this.artificialPrefix = artificialPrefix;
+        this.store = store;
+        indexes = null;
+        store.register(instanceName, (mappingContext, mappings) -> mappingContext
+                .read(namingContextIid.child(Mappings.class))
+                .transform(Mappings::getMapping)
+                .or(Collections.emptyList())
+                .forEach(mapping -> {
+                    final String key = storeKey(mapping.getEid().getAddress());
+                    if (key != null) {
+                        mappings.accept(key, mapping.getId().getValue(), storeIndex(mapping.getEid()), null);
+                    }
+                }));
+    }
+
+    private boolean isIndexed() {
+        return indexes != null;
+    }
+
+    private boolean isStored() {
+        return store != null;
+    }
+
+    private EidMappingIndex index(final MappingContext mappingContext) {
+        return indexes.getUnchecked(mappingContext);
+    }
+
+    private MappingId findId(final LispAddress eid, final MappingContext mappingContext) {
+        return isStored()
+                ? findStoredId(eid, mappingContext)
+                : index(mappingContext).getId(eid);
+    }
+
+    private MappingId findStoredId(final LispAddress eid, final MappingContext mappingContext) {
+        final String key = storeKey(normalizeIfPrefixBased(eid.getAddress()));
+        if (key == null) {
+            return null;
+        }
+        final long vni = storeIndex(eid);
+        String noVniId = null;
+        for (final Map.Entry<String, Long> id : store.getChildren(instanceName, key, mappingContext).entrySet()) {
+            // eid without vni matches any vni, eid with vni matches the same vni or no vni
+            if (vni == NO_VNI || id.getValue() == vni) {
+                return new MappingId(id.getKey());
+            }
+            if (id.getValue() == NO_VNI) {
+                noVniId = id.getKey();
+            }
+        }
+        return noVniId == null
+                ? null
+                : new MappingId(noVniId);
+    }
+
+    /**
+     * @return key of the address in the store, or null for addresses that are never matched, same as by compareEids
+     */
+    private static String storeKey(final Address address) {
+        if (address instanceof Ipv4) {
+            return "ipv4:" + ((Ipv4) address).getIpv4().getValue();
+        } else if (address instanceof Ipv6) {
+            return "ipv6:" + ((Ipv6) address).getIpv6().getValue();
+        } else if (address instanceof Mac) {
+            return "mac:" + ((Mac) address).getMac().getValue();
+        } else if (address instanceof Ipv4Prefix) {
+            return "ipv4-prefix:" + ((Ipv4Prefix) address).getIpv4Prefix().getValue();
+        } else if (address instanceof Ipv6Prefix) {
+            return "ipv6-prefix:" + ((Ipv6Prefix) address).getIpv6Prefix().getValue();
+        }
+        return null;
+    }
+
+    private static long storeIndex(final LispAddress eid) {
+        return eid.getVirtualNetworkId() == null
+                ? NO_VNI
+                : eid.getVirtualNetworkId().getValue();
     }
 
     /**
@@ -72,6 +215,15 @@ public class EidMappingContext implements EidTranslator {
     public synchronized MappingId getId(
             @Nonnull final org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.lisp.rev171013.dp.subtable.grouping.remote.mappings.remote.mapping.Eid remoteEid,
             @Nonnull final MappingContext mappingContext) {
+        if (isIndexed() || isStored()) {
+            final MappingId id = findId(remoteEid, mappingContext);
+            if (id != null) {
+                return id;
+            }
+            final MappingId artificialMappingId = getMappingId(remoteEid.toString(), artificialPrefix);
+            addEid(artificialMappingId, remoteEid, mappingContext);
+            return artificialMappingId;
+        }
 
         final Optional<Mappings> read = mappingContext.read(namingContextIid.child(Mappings.class));
         // create artificial mapping if no mapping present or does not contain key
@@ -108,6 +260,15 @@ public class EidMappingContext implements EidTranslator {
     public synchronized MappingId getId(
             @Nonnull final org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.lisp.rev171013.dp.subtable.grouping.local.mappings.local.mapping.Eid eid,
             @Nonnull final MappingContext mappingContext) {
+        if (isIndexed() || isStored()) {
+            final MappingId id = findId(eid, mappingContext);
+            if (id != null) {
+                return id;
+            }
+            final MappingId artificialMappingId = getMappingId(eid.toString(), artificialPrefix);
+            addEid(artificialMappingId, eid, mappingContext);
+            return artificialMappingId;
+        }
 
         final Optional<Mappings> read = mappingContext.read(namingContextIid.child(Mappings.class));
         // create artificial mapping if no mapping present or does not contain key
@@ -137,6 +298,9 @@ public class EidMappingContext implements EidTranslator {
     public synchronized boolean containsId(
             @Nonnull final org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.lisp.rev171013.dp.subtable.grouping.local.mappings.local.mapping.Eid eid,
             @Nonnull final MappingContext mappingContext) {
+        if (isIndexed() || isStored()) {
+            return findId(eid, mappingContext) != null;
+        }
         final Optional<Mappings> read = mappingContext.read(namingContextIid.child(Mappings.class));
 
         return read.isPresent() &&
@@ -155,6 +319,9 @@ public class EidMappingContext implements EidTranslator {
     public synchronized boolean containsId(
             @Nonnull final org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.lisp.rev171013.dp.subtable.grouping.remote.mappings.remote.mapping.Eid eid,
             @Nonnull final MappingContext mappingContext) {
+        if (isIndexed() || isStored()) {
+            return findId(eid, mappingContext) != null;
+        }
         final Optional<Mappings> read = mappingContext.read(namingContextIid.child(Mappings.class));
 
         return read.isPresent() &&
@@ -175,9 +342,7 @@ public class EidMappingContext implements EidTranslator {
             @Nonnull final MappingId index,
             @Nonnull final org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.lisp.rev171013.dp.subtable.grouping.local.mappings.local.mapping.Eid eid,
             final MappingContext mappingContext) {
-
-        final KeyedInstanceIdentifier<Mapping, MappingKey> mappingIid = getMappingIid(index);
-        mappingContext.put(mappingIid, new MappingBuilder().setId(index).setEid(copyEid(eid)).build());
+        putMapping(index, copyEid(eid), mappingContext);
     }
 
     /**
@@ -191,9 +356,35 @@ public class EidMappingContext implements EidTranslator {
             @Nonnull final MappingId index,
             @Nonnull final org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.lisp.rev171013.dp.subtable.grouping.remote.mappings.remote.mapping.Eid eid,
             final MappingContext mappingContext) {
+        putMapping(index, copyEid(eid), mappingContext);
+    }
+
+    private void putMapping(final MappingId index, final Eid storedEid, final MappingContext mappingContext) {
+        if (isIndexed()) {
+            // load index before the change, to not apply it twice
+            index(mappingContext).add(index, storedEid);
+        }
+        if (isStored()) {
+            // eid previously mapped to the id is replaced
+            removeStoredEid(index, mappingContext);
+        }
+        mappingContext.put(getMappingIid(index), new MappingBuilder().setId(index).setEid(storedEid).build());
+        final String key = isStored()
+                ? storeKey(storedEid.getAddress())
+                : null;
+        if (key != null) {
+            store.put(instanceName, key, index.getValue(), storeIndex(storedEid), null, mappingContext);
+        }
+    }
 
-        final KeyedInstanceIdentifier<Mapping, MappingKey> mappingIid = getMappingIid(index);
-        mappingContext.put(mappingIid, new MappingBuilder().setId(index).setEid(copyEid(eid)).build());
+    private void removeStoredEid(final MappingId index, final MappingContext mappingContext) {
+        final Optional<Mapping> previous = mappingContext.read(getMappingIid(index));
+        final String key = previous.isPresent()
+                ? storeKey(previous.get().getEid().getAddress())
+                : null;
+        if (key != null) {
+            store.remove(instanceName, key, index.getValue(), mappingContext);
+        }
     }
 
     private KeyedInstanceIdentifier<Mapping, MappingKey> getMappingIid(final MappingId index) {
@@ -219,6 +410,12 @@ public class EidMappingContext implements EidTranslator {
      * @param mappingContext mapping context providing context data for current transaction
      */
     public synchronized void removeEid(@Nonnull final MappingId index, final MappingContext mappingContext) {
+        if (isIndexed()) {
+            index(mappingContext).remove(index);
+        }
+        if (isStored()) {
+            removeStoredEid(index, mappingContext);
+        }
         mappingContext.delete(getMappingIid(index));
     }
 
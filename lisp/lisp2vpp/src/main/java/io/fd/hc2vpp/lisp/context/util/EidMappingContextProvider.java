@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fd.hc2vpp.lisp.context.util;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import io.fd.hc2vpp.common.translate.util.TransactionalContextStore;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Provides eid mapping context, backed by context store if configured.
+ */
+public final class EidMappingContextProvider implements Provider<EidMappingContext> {
+
+    private final String instanceName;
+    private final String artificialPrefix;
+
+    @Inject(optional = true)
+    @Nullable
+    private TransactionalContextStore contextStore;
+
+    public EidMappingContextProvider(@Nonnull final String instanceName, @Nonnull final String artificialPrefix) {
+        this.instanceName = instanceName;
+        this.artificialPrefix = artificialPrefix;
+    }
+
+    @Override
+    public EidMappingContext get() {
+        return contextStore == null
+                ? new EidMappingContext(instanceName, artificialPrefix, true)
+                : new EidMappingContext(instanceName, artificialPrefix, contextStore);
+    }
+}
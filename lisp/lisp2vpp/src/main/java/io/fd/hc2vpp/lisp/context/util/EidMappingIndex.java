@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.lisp.context.util;
+
+import com.google.common.base.Optional;
+import io.fd.hc2vpp.lisp.translate.read.dump.executor.params.MappingsDumpParams.EidType;
+import io.fd.hc2vpp.lisp.translate.util.EidTranslator;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.eid.mapping.context.rev160801.contexts.eid.mapping.context.Mappings;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.eid.mapping.context.rev160801.contexts.eid.mapping.context.mappings.Mapping;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.LispAddress;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.Address;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.address.Ipv4;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.address.Ipv4Prefix;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.address.Ipv6;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.address.Ipv6Prefix;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.address.Mac;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.lisp.rev171013.MappingId;
+
+/**
+ * Index of eid mappings, built once per transaction. Eids are indexed by virtual network id and eid type. IPv4/IPv6
+ * addresses and prefixes are stored in {@link EidPrefixTrie}, MAC addresses in hash map, so lookup cost does not
+ * depend on number of stored mappings.
+ *
+ * <p>Eids are matched the same way as by {@link EidTranslator#compareEids}, with exception of virtual network id.
+ * Eids with the same address in different virtual networks are different entries. Eids without virtual network id
+ * match eids with the same address in any virtual network.
+ */
+@NotThreadSafe
+final class EidMappingIndex implements EidTranslator {
+
+    private static final int IPV4_WIDTH = 4;
+    private static final int IPV6_WIDTH = 16;
+
+    private final Map<Long, VniIndex> indexesByVni = new HashMap<>();
+    private final Map<MappingId, LispAddress> eidsById = new HashMap<>();
+
+    EidMappingIndex(@Nonnull final Optional<Mappings> mappings) {
+        for (final Mapping mapping : mappings.transform(Mappings::getMapping).or(Collections.emptyList())) {
+            add(mapping.getId(), mapping.getEid());
+        }
+    }
+
+    /**
+     * @return id of mapping for eid, or null if there is none
+     */
+    @Nullable
+    MappingId getId(@Nonnull final LispAddress eid) {
+        final Long vni = vni(eid);
+        final VniIndex index = indexesByVni.get(vni);
+        final MappingId id = index == null
+                ? null
+                : index.get(eid.getAddress());
+        if (id != null) {
+            return id;
+        }
+        if (vni != null) {
+            final VniIndex noVniIndex = indexesByVni.get(null);
+            return noVniIndex == null
+                    ? null
+                    : noVniIndex.get(eid.getAddress());
+        }
+        // eid without vni matches any vni, number of vnis is small
+        for (final VniIndex vniIndex : indexesByVni.values()) {
+            final MappingId vniId = vniIndex.get(eid.getAddress());
+            if (vniId != null) {
+                return vniId;
+            }
+        }
+        return null;
+    }
+
+    void add(@Nonnull final MappingId id, @Nonnull final LispAddress eid) {
+        remove(id);
+        eidsById.put(id, eid);
+        indexesByVni.computeIfAbsent(vni(eid), vni -> new VniIndex()).put(eid.getAddress(), id);
+    }
+
+    void remove(@Nonnull final MappingId id) {
+        final LispAddress eid = eidsById.remove(id);
+        if (eid != null) {
+            final VniIndex index = indexesByVni.get(vni(eid));
+            if (index != null) {
+                index.remove(eid.getAddress(), id);
+            }
+        }
+    }
+
+    private static Long vni(final LispAddress eid) {
+        return eid.getVirtualNetworkId() == null
+                ? null
+                : eid.getVirtualNetworkId().getValue();
+    }
+
+    private static int prefixLength(final String prefix) {
+        return Integer.parseInt(prefix.substring(prefix.indexOf('/') + 1));
+    }
+
+    private final class VniIndex {
+        private final EidPrefixTrie<MappingId> ipv4 = new EidPrefixTrie<>(IPV4_WIDTH);
+        private final EidPrefixTrie<MappingId> ipv4Prefixes = new EidPrefixTrie<>(IPV4_WIDTH);
+        private final EidPrefixTrie<MappingId> ipv6 = new EidPrefixTrie<>(IPV6_WIDTH);
+        private final EidPrefixTrie<MappingId> ipv6Prefixes = new EidPrefixTrie<>(IPV6_WIDTH);
+        private final Map<Long, MappingId> macs = new HashMap<>();
+
+        private MappingId get(final Address address) {
+            if (address instanceof Ipv4) {
+                return ipv4.get(resolveByteArray(EidType.IPV4, address), IPV4_WIDTH * 8);
+            } else if (address instanceof Ipv4Prefix) {
+                return ipv4Prefixes.get(resolveByteArray(EidType.IPV4_PREFIX, address),
+                        prefixLength(((Ipv4Prefix) address).getIpv4Prefix().getValue()));
+            } else if (address instanceof Ipv6) {
+                return ipv6.get(resolveByteArray(EidType.IPV6, address), IPV6_WIDTH * 8);
+            } else if (address instanceof Ipv6Prefix) {
+                return ipv6Prefixes.get(resolveByteArray(EidType.IPV6_PREFIX, address),
+                        prefixLength(((Ipv6Prefix) address).getIpv6Prefix().getValue()));
+            } else if (address instanceof Mac) {
+                return macs.get(macKey((Mac) address));
+            }
+            // other types are never matched, same as by compareEids
+            return null;
+        }
+
+        private void put(final Address address, final MappingId id) {
+            if (address instanceof Ipv4) {
+                ipv4.put(resolveByteArray(EidType.IPV4, address), IPV4_WIDTH * 8, id);
+            } else if (address instanceof Ipv4Prefix) {
+                ipv4Prefixes.put(resolveByteArray(EidType.IPV4_PREFIX, address),
+                        prefixLength(((Ipv4Prefix) address).getIpv4Prefix().getValue()), id);
+            } else if (address instanceof Ipv6) {
+                ipv6.put(resolveByteArray(EidType.IPV6, address), IPV6_WIDTH * 8, id);
+            } else if (address instanceof Ipv6Prefix) {
+                ipv6Prefixes.put(resolveByteArray(EidType.IPV6_PREFIX, address),
+                        prefixLength(((Ipv6Prefix) address).getIpv6Prefix().getValue()), id);
+            } else if (address instanceof Mac) {
+                macs.put(macKey((Mac) address), id);
+            }
+        }
+
+        private void remove(final Address address, final MappingId id) {
+            // removes only if stored under the same id, eid could have been remapped meanwhile
+            if (!id.equals(get(address))) {
+                return;
+            }
+            if (address instanceof Ipv4) {
+                ipv4.remove(resolveByteArray(EidType.IPV4, address), IPV4_WIDTH * 8);
+            } else if (address instanceof Ipv4Prefix) {
+                ipv4Prefixes.remove(resolveByteArray(EidType.IPV4_PREFIX, address),
+                        prefixLength(((Ipv4Prefix) address).getIpv4Prefix().getValue()));
+            } else if (address instanceof Ipv6) {
+                ipv6.remove(resolveByteArray(EidType.IPV6, address), IPV6_WIDTH * 8);
+            } else if (address instanceof Ipv6Prefix) {
+                ipv6Prefixes.remove(resolveByteArray(EidType.IPV6_PREFIX, address),
+                        prefixLength(((Ipv6Prefix) address).getIpv6Prefix().getValue()));
+            } else if (address instanceof Mac) {
+                macs.remove(macKey((Mac) address));
+            }
+        }
+
+        private long macKey(final Mac address) {
+            long key = 0;
+            for (final byte part : parseMac(address.getMac().getValue())) {
+                key = key << 8 | part & 0xff;
+            }
+            return key;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.lisp.context.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Arrays;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Path compressed binary radix trie, mapping address prefixes of fixed width to values. Lookup of a prefix costs
+ * O(prefix length) regardless of number of stored prefixes.
+ *
+ * <p>Prefixes are normalized, so address bits past prefix length are ignored (e.g. 10.0.0.1/8 and 10.0.0.0/8 are the
+ * same key).
+ *
+ * @param <V> type of stored values
+ */
+@NotThreadSafe
+final class EidPrefixTrie<V> {
+
+    private final int width;
+    private Node<V> root;
+    private int size;
+
+    /**
+     * @param width size of addresses in bytes (4 for IPv4, 16 for IPv6)
+     */
+    EidPrefixTrie(final int width) {
+        this.width = width;
+    }
+
+    /**
+     * @return value stored for prefix, or null if there is none
+     */
+    @Nullable
+    V get(@Nonnull final byte[] address, final int length) {
+        checkKey(address, length);
+        Node<V> node = root;
+        while (node != null) {
+            if (node.length > length || commonPrefixLength(node.key, address, node.length) < node.length) {
+                return null;
+            }
+            if (node.length == length) {
+                return node.value;
+            }
+            node = node.child(bit(address, node.length));
+        }
+        return null;
+    }
+
+    /**
+     * Stores value for prefix.
+     *
+     * @return value previously stored for prefix, or null if there was none
+     */
+    @Nullable
+    V put(@Nonnull final byte[] address, final int length, @Nonnull final V value) {
+        checkKey(address, length);
+        final byte[] key = mask(address, length);
+        Node<V> parent = null;
+        Node<V> node = root;
+        while (node != null) {
+            final int common = commonPrefixLength(node.key, key, Math.min(node.length, length));
+            if (common == node.length) {
+                if (node.length == length) {
+                    final V previous = node.value;
+                    node.value = value;
+                    if (previous == null) {
+                        size++;
+                    }
+                    return previous;
+                }
+                parent = node;
+                node = node.child(bit(key, node.length));
+                continue;
+            }
+
+            // new prefix diverges from node, or is shorter than node
+            final Node<V> replacement;
+            if (common == length) {
+                replacement = new Node<>(key, length, value);
+            } else {
+                replacement = new Node<>(mask(key, common), common, null);
+                replacement.setChild(bit(key, common), new Node<>(key, length, value));
+            }
+            replacement.setChild(bit(node.key, common), node);
+            replace(parent, replacement);
+            size++;
+            return null;
+        }
+
+        replace(parent, new Node<>(key, length, value));
+        size++;
+        return null;
+    }
+
+    /**
+     * Removes value stored for prefix.
+     *
+     * @return removed value, or null if there was none
+     */
+    @Nullable
+    V remove(@Nonnull final byte[] address, final int length) {
+        checkKey(address, length);
+        Node<V> grandParent = null;
+        Node<V> parent = null;
+        Node<V> node = root;
+        while (node != null) {
+            if (node.length > length || commonPrefixLength(node.key, address, node.length) < node.length) {
+                return null;
+            }
+            if (node.length == length) {
+                break;
+            }
+            grandParent = parent;
+            parent = node;
+            node = node.child(bit(address, node.length));
+        }
+        if (node == null || node.value == null) {
+            return null;
+        }
+
+        final V removed = node.value;
+        node.value = null;
+        size--;
+
+        if (node.zero != null && node.one != null) {
+            // still needed to join both subtrees
+            return removed;
+        }
+        final Node<V> onlyChild = node.zero != null
+                ? node.zero
+                : node.one;
+        if (onlyChild != null) {
+            replace(parent, onlyChild);
+        } else {
+            if (parent == null) {
+                root = null;
+                return removed;
+            }
+            parent.setChild(bit(node.key, parent.length), null);
+            // parent without value and with single child is no longer needed
+            if (parent.value == null) {
+                replace(grandParent, parent.zero != null
+                        ? parent.zero
+                        : parent.one);
+            }
+        }
+        return removed;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void replace(@Nullable final Node<V> parent, @Nonnull final Node<V> node) {
+        if (parent == null) {
+            root = node;
+        } else {
+            parent.setChild(bit(node.key, parent.length), node);
+        }
+    }
+
+    private void checkKey(final byte[] address, final int length) {
+        checkArgument(address.length == width, "Address %s has to have %s bytes", Arrays.toString(address), width);
+        checkArgument(length >= 0 && length <= width * 8, "Invalid prefix length %s", length);
+    }
+
+    private static int bit(final byte[] address, final int index) {
+        return (address[index >>> 3] >>> (7 - (index & 7))) & 1;
+    }
+
+    private static int commonPrefixLength(final byte[] first, final byte[] second, final int maxLength) {
+        for (int i = 0; i * 8 < maxLength; i++) {
+            final int diff = (first[i] ^ second[i]) & 0xff;
+            if (diff != 0) {
+                return Math.min(maxLength, i * 8 + Integer.numberOfLeadingZeros(diff) - 24);
+            }
+        }
+        return maxLength;
+    }
+
+    private static byte[] mask(final byte[] address, final int length) {
+        final byte[] masked = new byte[address.length];
+        final int fullBytes = length >>> 3;
+        System.arraycopy(address, 0, masked, 0, fullBytes);
+        final int remainingBits = length & 7;
+        if (remainingBits != 0) {
+            masked[fullBytes] = (byte) (address[fullBytes] & (0xff << (8 - remainingBits)));
+        }
+        return masked;
+    }
+
+    private static final class Node<V> {
+        private final byte[] key;
+        private final int length;
+        private V value;
+        private Node<V> zero;
+        private Node<V> one;
+
+        private Node(final byte[] key, final int length, final V value) {
+            this.key = key;
+            this.length = length;
+            this.value = value;
+        }
+
+        private Node<V> child(final int bit) {
+            return bit == 0
+                    ? zero
+                    : one;
+        }
+
+        private void setChild(final int bit, final Node<V> child) {
+            if (bit == 0) {
+                zero = child;
+            } else {
+                one = child;
+            }
+        }
+    }
+}
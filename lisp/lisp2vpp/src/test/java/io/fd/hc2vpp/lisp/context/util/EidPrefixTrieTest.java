@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.lisp.context.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class EidPrefixTrieTest {
+
+    private EidPrefixTrie<String> trie;
+
+    @Before
+    public void setUp() {
+        trie = new EidPrefixTrie<>(4);
+    }
+
+    @Test
+    public void testPutGet() {
+        assertNull(trie.put(address(10, 0, 0, 0), 8, "10/8"));
+        assertNull(trie.put(address(10, 1, 0, 0), 16, "10.1/16"));
+        assertNull(trie.put(address(10, 2, 0, 0), 16, "10.2/16"));
+        assertNull(trie.put(address(0, 0, 0, 0), 0, "default"));
+        assertNull(trie.put(address(192, 168, 2, 1), 32, "host"));
+
+        assertEquals("10/8", trie.get(address(10, 0, 0, 0), 8));
+        assertEquals("10.1/16", trie.get(address(10, 1, 0, 0), 16));
+        assertEquals("10.2/16", trie.get(address(10, 2, 0, 0), 16));
+        assertEquals("default", trie.get(address(0, 0, 0, 0), 0));
+        assertEquals("host", trie.get(address(192, 168, 2, 1), 32));
+        assertEquals(5, trie.size());
+
+        // exact match only, no longest prefix match
+        assertNull(trie.get(address(10, 3, 0, 0), 16));
+        assertNull(trie.get(address(10, 1, 0, 0), 24));
+        assertNull(trie.get(address(192, 168, 2, 2), 32));
+    }
+
+    @Test
+    public void testNormalized() {
+        trie.put(address(192, 168, 2, 2), 24, "prefix");
+        assertEquals("prefix", trie.get(address(192, 168, 2, 0), 24));
+        assertEquals("prefix", trie.get(address(192, 168, 2, 255), 24));
+        assertEquals("prefix", trie.put(address(192, 168, 2, 0), 24, "replaced"));
+        assertEquals(1, trie.size());
+    }
+
+    @Test
+    public void testRemove() {
+        trie.put(address(10, 0, 0, 0), 8, "10/8");
+        trie.put(address(10, 1, 0, 0), 16, "10.1/16");
+        trie.put(address(10, 2, 0, 0), 16, "10.2/16");
+        trie.put(address(10, 2, 128, 0), 17, "10.2.128/17");
+
+        assertNull(trie.remove(address(10, 3, 0, 0), 16));
+        assertEquals("10/8", trie.remove(address(10, 0, 0, 0), 8));
+        assertNull(trie.get(address(10, 0, 0, 0), 8));
+        assertEquals("10.2/16", trie.remove(address(10, 2, 0, 0), 16));
+        assertEquals("10.1/16", trie.get(address(10, 1, 0, 0), 16));
+        assertEquals("10.2.128/17", trie.get(address(10, 2, 128, 0), 17));
+        assertEquals("10.1/16", trie.remove(address(10, 1, 0, 0), 16));
+        assertEquals("10.2.128/17", trie.remove(address(10, 2, 128, 0), 17));
+        assertEquals(0, trie.size());
+
+        // reusable after removing all prefixes
+        trie.put(address(10, 1, 0, 0), 16, "10.1/16");
+        assertEquals("10.1/16", trie.get(address(10, 1, 0, 0), 16));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidAddressWidth() {
+        trie.get(new byte[16], 32);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPrefixLength() {
+        trie.get(address(10, 0, 0, 0), 33);
+    }
+
+    private static byte[] address(final int... parts) {
+        final byte[] address = new byte[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            address[i] = (byte) parts[i];
+        }
+        return address;
+    }
+}
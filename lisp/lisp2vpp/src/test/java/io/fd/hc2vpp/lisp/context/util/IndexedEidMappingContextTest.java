@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.lisp.context.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.fd.hc2vpp.lisp.util.EidMappingContextHelper;
+import io.fd.honeycomb.translate.MappingContext;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.eid.mapping.context.rev160801.contexts.eid.mapping.context.Mappings;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Address;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv6Address;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv6Prefix;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.InstanceIdType;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.Address;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.address.Ipv4Builder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.address.Ipv4PrefixBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.address.Ipv6Builder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.address.Ipv6PrefixBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.address.MacBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.MacAddress;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.lisp.rev171013.MappingId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.lisp.rev171013.dp.subtable.grouping.local.mappings.local.mapping.Eid;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.lisp.rev171013.dp.subtable.grouping.local.mappings.local.mapping.EidBuilder;
+
+public class IndexedEidMappingContextTest implements EidMappingContextHelper {
+
+    private static final String EID_MAPPING_CONTEXT_NAME = "eidMappingContext";
+    private static final MappingId IPV4_ID = new MappingId("ipv4");
+    private static final MappingId IPV4_PREFIX_ID = new MappingId("ipv4-prefix");
+    private static final MappingId IPV6_ID = new MappingId("ipv6");
+    private static final MappingId IPV6_PREFIX_ID = new MappingId("ipv6-prefix");
+    private static final MappingId MAC_ID = new MappingId("mac");
+    private static final MappingId VNI_ID = new MappingId("vni");
+
+    @Mock
+    private MappingContext mappingContext;
+
+    private EidMappingContext eidMappingContext;
+
+    @Before
+    public void init() {
+        MockitoAnnotations.initMocks(this);
+        eidMappingContext = new EidMappingContext(EID_MAPPING_CONTEXT_NAME, "eid-ctx-", true);
+
+        defineEidMapping(mappingContext, mappingEid(eid(ipv4("192.168.2.1"), null)), IPV4_ID,
+                EID_MAPPING_CONTEXT_NAME);
+        defineEidMapping(mappingContext, mappingEid(eid(ipv4Prefix("192.168.2.0/24"), null)), IPV4_PREFIX_ID,
+                EID_MAPPING_CONTEXT_NAME);
+        defineEidMapping(mappingContext, mappingEid(eid(ipv6("2001:db8::1"), null)), IPV6_ID,
+                EID_MAPPING_CONTEXT_NAME);
+        defineEidMapping(mappingContext, mappingEid(eid(ipv6Prefix("2001:db8::/128"), null)), IPV6_PREFIX_ID,
+                EID_MAPPING_CONTEXT_NAME);
+        defineEidMapping(mappingContext, mappingEid(eid(mac("aa:bb:cc:dd:ee:ff"), null)), MAC_ID,
+                EID_MAPPING_CONTEXT_NAME);
+        defineEidMapping(mappingContext, mappingEid(eid(ipv4("10.0.0.1"), 7L)), VNI_ID, EID_MAPPING_CONTEXT_NAME);
+        // ignore reads done while defining mappings
+        clearInvocations(mappingContext);
+    }
+
+    @Test
+    public void testGetId() {
+        assertEquals(IPV4_ID, eidMappingContext.getId(eid(ipv4("192.168.2.1"), null), mappingContext));
+        // detects both normalized and non-normalized form
+        assertEquals(IPV4_PREFIX_ID, eidMappingContext.getId(eid(ipv4Prefix("192.168.2.2/24"), null), mappingContext));
+        assertEquals(IPV4_PREFIX_ID, eidMappingContext.getId(eid(ipv4Prefix("192.168.2.0/24"), null), mappingContext));
+        assertEquals(IPV6_ID, eidMappingContext.getId(eid(ipv6("2001:db8::1"), null), mappingContext));
+        assertEquals(IPV6_PREFIX_ID, eidMappingContext.getId(eid(ipv6Prefix("2001:db8::/128"), null), mappingContext));
+        assertEquals(MAC_ID, eidMappingContext.getId(eid(mac("aa:bb:cc:dd:ee:ff"), null), mappingContext));
+        // mappings are read once per transaction
+        verify(mappingContext, times(1))
+                .read(mappingIid(IPV4_ID, EID_MAPPING_CONTEXT_NAME).firstIdentifierOf(Mappings.class));
+    }
+
+    @Test
+    public void testGetIdVirtualNetwork() {
+        assertEquals(VNI_ID, eidMappingContext.getId(eid(ipv4("10.0.0.1"), 7L), mappingContext));
+        // eid without vni matches any vni
+        assertEquals(VNI_ID, eidMappingContext.getId(eid(ipv4("10.0.0.1"), null), mappingContext));
+        assertEquals(IPV4_ID, eidMappingContext.getId(eid(ipv4("192.168.2.1"), 7L), mappingContext));
+        assertFalse(eidMappingContext.containsId(eid(ipv4("10.0.0.1"), 8L), mappingContext));
+    }
+
+    @Test
+    public void testContainsId() {
+        assertTrue(eidMappingContext.containsId(eid(ipv4("192.168.2.1"), null), mappingContext));
+        assertFalse(eidMappingContext.containsId(eid(ipv4("192.168.2.2"), null), mappingContext));
+        assertFalse(eidMappingContext.containsId(eid(ipv4Prefix("192.168.2.0/25"), null), mappingContext));
+        assertFalse(eidMappingContext.containsId(eid(mac("aa:bb:cc:dd:ee:00"), null), mappingContext));
+    }
+
+    @Test
+    public void testArtificialId() {
+        final Eid eid = eid(ipv4("192.168.3.1"), null);
+        final MappingId artificialId = eidMappingContext.getId(eid, mappingContext);
+
+        assertEquals(new MappingId("eid-ctx-" + eid.toString()), artificialId);
+        verify(mappingContext).put(mappingIid(artificialId, EID_MAPPING_CONTEXT_NAME),
+                mapping(mappingEid(eid), artificialId).get());
+        // artificial mapping is visible within the same transaction
+        assertTrue(eidMappingContext.containsId(eid, mappingContext));
+        assertEquals(artificialId, eidMappingContext.getId(eid, mappingContext));
+    }
+
+    @Test
+    public void testIndexUpdatedOnWrite() {
+        final Eid eid = eid(ipv4("192.168.2.1"), null);
+        assertTrue(eidMappingContext.containsId(eid, mappingContext));
+
+        eidMappingContext.removeEid(IPV4_ID, mappingContext);
+        assertFalse(eidMappingContext.containsId(eid, mappingContext));
+
+        final MappingId newId = new MappingId("new");
+        eidMappingContext.addEid(newId, eid, mappingContext);
+        assertEquals(newId, eidMappingContext.getId(eid, mappingContext));
+    }
+
+    @Test
+    public void testIndexPerTransaction() {
+        final MappingContext otherMappingContext = mock(MappingContext.class);
+        noEidMappingDefined(otherMappingContext, "unknown", EID_MAPPING_CONTEXT_NAME);
+
+        assertTrue(eidMappingContext.containsId(eid(ipv4("192.168.2.1"), null), mappingContext));
+        assertFalse(eidMappingContext.containsId(eid(ipv4("192.168.2.1"), null), otherMappingContext));
+    }
+
+    private static Eid eid(final Address address, final Long vni) {
+        return new EidBuilder()
+                .setAddress(address)
+                .setVirtualNetworkId(vni == null
+                        ? null
+                        : new InstanceIdType(vni))
+                .build();
+    }
+
+    private static org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.eid.mapping.context.rev160801.contexts.eid.mapping.context.mappings.mapping.Eid mappingEid(
+            final Eid eid) {
+        return new org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.eid.mapping.context.rev160801.contexts.eid.mapping.context.mappings.mapping.EidBuilder()
+                .setAddress(eid.getAddress())
+                .setAddressType(eid.getAddressType())
+                .setVirtualNetworkId(eid.getVirtualNetworkId())
+                .build();
+    }
+
+    private static Address ipv4(final String address) {
+        return new Ipv4Builder().setIpv4(new Ipv4Address(address)).build();
+    }
+
+    private static Address ipv4Prefix(final String prefix) {
+        return new Ipv4PrefixBuilder()
+                .setIpv4Prefix(
+                        new org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Prefix(
+                                prefix))
+                .build();
+    }
+
+    private static Address ipv6(final String address) {
+        return new Ipv6Builder().setIpv6(new Ipv6Address(address)).build();
+    }
+
+    private static Address ipv6Prefix(final String prefix) {
+        return new Ipv6PrefixBuilder().setIpv6Prefix(new Ipv6Prefix(prefix)).build();
+    }
+
+    private static Address mac(final String address) {
+        return new MacBuilder().setMac(new MacAddress(address)).build();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.mpls;
+
+import io.fd.vpp.jvpp.core.dto.MplsFibDetails;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Entries of default MPLS FIB table indexed by local label and EOS bit. Built in single pass over the dump, so listing
+ * and reading all static LSPs costs single dump and single lookup per LSP.
+ */
+@NotThreadSafe
+final class MplsFibIndex {
+
+    /**
+     * MPLS table used by {@link LspWriter}s (mr_table_id is never set).
+     */
+    private static final int DEFAULT_TABLE_ID = 0;
+
+    private final Map<Integer, MplsFibDetails> entries;
+    private final List<Integer> keys;
+
+    MplsFibIndex(@Nullable final List<MplsFibDetails> details) {
+        final List<MplsFibDetails> dumped = details == null
+                ? Collections.emptyList()
+                : details;
+        entries = new HashMap<>(dumped.size() * 2);
+        keys = new ArrayList<>(dumped.size());
+        for (final MplsFibDetails entry : dumped) {
+            if (entry.tableId != DEFAULT_TABLE_ID) {
+                continue;
+            }
+            final int key = key(entry.label, entry.eosBit == 1);
+            // first entry wins, VPP does not report the same local label twice for single table
+            if (entries.putIfAbsent(key, entry) == null) {
+                keys.add(key);
+            }
+        }
+    }
+
+    /**
+     * @return entry for given key, or null if there is none
+     * @see #key(int, boolean)
+     */
+    @Nullable
+    MplsFibDetails get(final int key) {
+        return entries.get(key);
+    }
+
+    /**
+     * @return keys of all entries, in order reported by VPP
+     */
+    @Nonnull
+    List<Integer> getKeys() {
+        return Collections.unmodifiableList(keys);
+    }
+
+    /**
+     * @return key of MPLS FIB entry for local label and EOS bit, also used as index of static-lsp-context mapping
+     */
+    static int key(final int label, final boolean eos) {
+        // labels are 20 bit values, so EOS bit fits into the lowest bit
+        return label << 1 | (eos ? 1 : 0);
+    }
+}
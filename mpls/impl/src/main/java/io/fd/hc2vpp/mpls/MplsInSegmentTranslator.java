@@ -29,10 +29,17 @@ import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.mpls._stati
  */
 interface MplsInSegmentTranslator {
     default void translate(@Nonnull final InSegment inSegment, @Nonnull final MplsRouteAddDel request) {
+        request.mrLabel = getIncomingLabel(inSegment);
+    }
+
+    /**
+     * @return incoming label of {@link InSegment} of {@link MplsLabel} type
+     */
+    default int getIncomingLabel(@Nonnull final InSegment inSegment) {
         checkArgument(inSegment != null, "Missing in-segment");
         final Type type = inSegment.getType();
         checkArgument(type instanceof MplsLabel, "Expecting in-segment of type mpls-label, but %s given.", type);
         final Long label = ((MplsLabel) type).getIncomingLabel().getValue();
-        request.mrLabel = label.intValue();
+        return label.intValue();
     }
 }
@@ -18,6 +18,9 @@ package io.fd.hc2vpp.mpls;
 
 import com.google.inject.AbstractModule;
 import com.google.inject.multibindings.Multibinder;
+import com.google.inject.name.Names;
+import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.honeycomb.translate.read.ReaderFactory;
 import io.fd.honeycomb.translate.write.WriterFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,11 +33,21 @@ public final class MplsModule extends AbstractModule {
     protected void configure() {
         LOG.info("Installing MPLS module");
 
+        // Maps static LSP names to local label and EOS bit of MPLS FIB entries (see MplsFibIndex)
+        bind(NamingContext.class)
+            .annotatedWith(Names.named("static-lsp-context"))
+            .toInstance(new NamingContext("static-lsp-", "static-lsp-context", true));
+
         LOG.info("Injecting MPLS writers");
         final Multibinder<WriterFactory> writerFactoryBinder =
             Multibinder.newSetBinder(binder(), WriterFactory.class);
         writerFactoryBinder.addBinding().to(MplsWriterFactory.class);
 
+        LOG.info("Injecting MPLS readers");
+        final Multibinder<ReaderFactory> readerFactoryBinder =
+            Multibinder.newSetBinder(binder(), ReaderFactory.class);
+        readerFactoryBinder.addBinding().to(MplsReaderFactory.class);
+
         LOG.info("MPLS module successfully configured");
     }
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.mpls;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.honeycomb.translate.impl.read.GenericListReader;
+import io.fd.honeycomb.translate.read.ReaderFactory;
+import io.fd.honeycomb.translate.read.registry.ModifiableReaderRegistryBuilder;
+import io.fd.vpp.jvpp.core.future.FutureJVppCore;
+import javax.annotation.Nonnull;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.mpls._static.rev170310.Mpls1;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.mpls._static.rev170310.Mpls1Builder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.mpls._static.rev170310._static.lsp.State;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.mpls._static.rev170310._static.lsp_config.InSegment;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.mpls._static.rev170310.routing.mpls.StaticLsps;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.mpls._static.rev170310.routing.mpls.StaticLspsBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.mpls._static.rev170310.routing.mpls._static.lsps.StaticLsp;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.mpls.rev170702.Routing1;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.mpls.rev170702.Routing1Builder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.mpls.rev170702.routing.Mpls;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.mpls.rev170702.routing.MplsBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.routing.rev140524.Routing;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.routing.rev140524.RoutingBuilder;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+final class MplsReaderFactory implements ReaderFactory {
+    private static final InstanceIdentifier<Routing> ROUTING_ID = InstanceIdentifier.create(Routing.class);
+    private static final InstanceIdentifier<Routing1> ROUTING_AUG_ID = ROUTING_ID.augmentation(Routing1.class);
+    private static final InstanceIdentifier<Mpls> MPLS_ID = ROUTING_AUG_ID.child(Mpls.class);
+    private static final InstanceIdentifier<Mpls1> MPLS_AUG_ID = MPLS_ID.augmentation(Mpls1.class);
+    private static final InstanceIdentifier<StaticLsps> STATIC_LSPS_ID = MPLS_AUG_ID.child(StaticLsps.class);
+    private static final InstanceIdentifier<StaticLsp> STATIC_LSP_ID = STATIC_LSPS_ID.child(StaticLsp.class);
+    private static final InstanceIdentifier<State> STATE_ID = InstanceIdentifier.create(StaticLsp.class)
+        .child(State.class);
+
+    @Inject
+    @Named("interface-context")
+    private NamingContext ifcContext;
+    @Inject
+    @Named("static-lsp-context")
+    private NamingContext lspContext;
+    @Inject
+    private FutureJVppCore vppApi;
+
+    @Override
+    public void init(@Nonnull final ModifiableReaderRegistryBuilder registry) {
+        registry.addStructuralReader(ROUTING_ID, RoutingBuilder.class);
+        registry.addStructuralReader(ROUTING_AUG_ID, Routing1Builder.class);
+        registry.addStructuralReader(MPLS_ID, MplsBuilder.class);
+        registry.addStructuralReader(MPLS_AUG_ID, Mpls1Builder.class);
+        registry.addStructuralReader(STATIC_LSPS_ID, StaticLspsBuilder.class);
+
+        // /ietf-routing:routing/ietf-mpls:mpls/ietf-mpls-static:static-lsps/static-lsp
+        registry.subtreeAdd(ImmutableSet.of(STATE_ID, STATE_ID.child(InSegment.class)),
+            new GenericListReader<>(STATIC_LSP_ID, new StaticLspReaderCustomizer(vppApi, ifcContext, lspContext)));
+    }
+}
@@ -60,6 +60,9 @@ final class MplsWriterFactory implements WriterFactory {
     @Named("interface-context")
     private NamingContext ifcContext;
     @Inject
+    @Named("static-lsp-context")
+    private NamingContext lspContext;
+    @Inject
     private FutureJVppCore vppApi;
 
     @Override
@@ -84,7 +87,7 @@ final class MplsWriterFactory implements WriterFactory {
                     InstanceIdentifier.create(StaticLsp.class).child(Config.class).child(Paths.class),
                     InstanceIdentifier.create(StaticLsp.class).child(Config.class)
                         .augmentation(StaticLspVppLookupAugmentation.class).child(LabelLookup.class)),
-            new GenericWriter<>(STATIC_LSP_ID, new StaticLspCustomizer(vppApi, ifcContext)),
+            new GenericWriter<>(STATIC_LSP_ID, new StaticLspCustomizer(vppApi, ifcContext, lspContext)),
             INTERFACE_ID);
     }
 }
@@ -43,16 +43,20 @@ import org.slf4j.LoggerFactory;
 /**
  * Selects specific {@link LspWriter} based on {@link StaticLspConfig.Operation} and {@link LookupType}.
  */
-final class StaticLspCustomizer implements ListWriterCustomizer<StaticLsp, StaticLspKey>, LspWriter {
+final class StaticLspCustomizer implements ListWriterCustomizer<StaticLsp, StaticLspKey>, LspWriter,
+    MplsInSegmentTranslator {
     private static final Logger LOG = LoggerFactory.getLogger(StaticLspCustomizer.class);
     private final ImposeAndForwardWriter imposeAndForward;
     private final MplsLookupWriter mplsLookup;
     private final Ipv4LookupWriter ipv4Lookup;
     private final MplsSwapWriter mplsSwap;
+    private final NamingContext lspContext;
 
-    StaticLspCustomizer(@Nonnull final FutureJVppCore vppApi, @Nonnull NamingContext interfaceContext) {
+    StaticLspCustomizer(@Nonnull final FutureJVppCore vppApi, @Nonnull NamingContext interfaceContext,
+                        @Nonnull final NamingContext lspContext) {
         checkNotNull(vppApi, "vppApi should not be null");
         checkNotNull(interfaceContext, "interfaceContext should not be null");
+        this.lspContext = checkNotNull(lspContext, "lspContext should not be null");
         this.imposeAndForward = new ImposeAndForwardWriter(vppApi, interfaceContext);
         this.mplsLookup = new MplsLookupWriter(vppApi);
         this.ipv4Lookup = new Ipv4LookupWriter(vppApi);
@@ -92,15 +96,31 @@ final class StaticLspCustomizer implements ListWriterCustomizer<StaticLsp, Stati
             final LookupType type = vppAttributes.getLabelLookup().getType();
             if (LookupType.Ipv4.equals(type)) {
                 ipv4Lookup.write(id, data, ctx, isAdd);
+                updateLspContext(data, true, ctx, isAdd);
             } else if (LookupType.Mpls.equals(type)) {
                 mplsLookup.write(id, data, ctx, isAdd);
+                updateLspContext(data, false, ctx, isAdd);
             } else {
                 throw new IllegalArgumentException("Unsupported lookup type: " + type);
             }
         } else if (SwapAndForward.equals(operation)) {
             mplsSwap.write(id, data, ctx, isAdd);
+            updateLspContext(data, true, ctx, isAdd);
         } else {
             throw new IllegalArgumentException("Unsupported operation: " + operation);
         }
     }
+
+    /**
+     * Maps LSP name to MPLS FIB entry (local label and EOS bit used by the writer), so its state can be read.
+     */
+    private void updateLspContext(@Nonnull final StaticLsp data, final boolean eos, @Nonnull final MappingContext ctx,
+                                  final boolean isAdd) {
+        if (isAdd) {
+            final int label = getIncomingLabel(data.getConfig().getInSegment());
+            lspContext.addName(MplsFibIndex.key(label, eos), data.getName(), ctx);
+        } else {
+            lspContext.removeName(data.getName(), ctx);
+        }
+    }
 }
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.mpls;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.primitives.UnsignedInts;
+import io.fd.hc2vpp.common.translate.util.AddressTranslator;
+import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
+import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.honeycomb.translate.MappingContext;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.fd.honeycomb.translate.spi.read.ListReaderCustomizer;
+import io.fd.honeycomb.translate.util.read.cache.DumpCacheManager;
+import io.fd.honeycomb.translate.util.read.cache.StaticCacheKeyFactory;
+import io.fd.vpp.jvpp.core.dto.MplsFibDetails;
+import io.fd.vpp.jvpp.core.dto.MplsFibDetailsReplyDump;
+import io.fd.vpp.jvpp.core.dto.MplsFibDump;
+import io.fd.vpp.jvpp.core.future.FutureJVppCore;
+import io.fd.vpp.jvpp.core.types.FibPath;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.mpls._static.rev170310.StaticLspConfig;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.mpls._static.rev170310._static.lsp.State;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.mpls._static.rev170310._static.lsp.StateBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.mpls._static.rev170310._static.lsp_config.InSegmentBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.mpls._static.rev170310._static.lsp_config.in.segment.type.MplsLabelBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.mpls._static.rev170310._static.lsp_config.out.segment.SimplePathBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.mpls._static.rev170310.routing.mpls.StaticLspsBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.mpls._static.rev170310.routing.mpls._static.lsps.StaticLsp;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.mpls._static.rev170310.routing.mpls._static.lsps.StaticLspBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.mpls._static.rev170310.routing.mpls._static.lsps.StaticLspKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.routing.types.rev170227.MplsLabel;
+import org.opendaylight.yangtools.concepts.Builder;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads state of static LSPs configured by {@link StaticLspCustomizer} from MPLS FIB.
+ *
+ * <p>MPLS FIB is dumped once per transaction and indexed by local label and EOS bit (see {@link MplsFibIndex}).
+ * Static LSP names are resolved by static-lsp-context, so FIB entries not configured by {@link StaticLspCustomizer}
+ * (e.g. special purpose labels added by VPP) are not listed.
+ *
+ * <p>Impose-and-forward LSPs are programmed to IP FIB and are not listed.
+ */
+final class StaticLspReaderCustomizer
+        implements ListReaderCustomizer<StaticLsp, StaticLspKey, StaticLspBuilder>, JvppReplyConsumer,
+        AddressTranslator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StaticLspReaderCustomizer.class);
+
+    /**
+     * FIB path protocol (DPO protocol) used for IPv6 next hops.
+     */
+    private static final byte IPV6_PROTOCOL = 1;
+
+    private final NamingContext interfaceContext;
+    private final NamingContext lspContext;
+    private final DumpCacheManager<MplsFibIndex, Void> dumpManager;
+
+    StaticLspReaderCustomizer(@Nonnull final FutureJVppCore vppApi, @Nonnull final NamingContext interfaceContext,
+                              @Nonnull final NamingContext lspContext) {
+        checkNotNull(vppApi, "vppApi should not be null");
+        this.interfaceContext = checkNotNull(interfaceContext, "interfaceContext should not be null");
+        this.lspContext = checkNotNull(lspContext, "lspContext should not be null");
+        this.dumpManager = new DumpCacheManager.DumpCacheManagerBuilder<MplsFibIndex, Void>()
+                .withExecutor((identifier, params) -> {
+                    final MplsFibDetailsReplyDump dump =
+                            getReplyForRead(vppApi.mplsFibDump(new MplsFibDump()).toCompletableFuture(), identifier);
+                    // index is stored instead of the dump, so it is built just once per transaction
+                    return new MplsFibIndex(dump == null
+                            ? null
+                            : dump.mplsFibDetails);
+                })
+                .withCacheKeyFactory(
+                        new StaticCacheKeyFactory(StaticLspReaderCustomizer.class.getName() + "_dump",
+                                MplsFibIndex.class))
+                .build();
+    }
+
+    @Nonnull
+    @Override
+    public List<StaticLspKey> getAllIds(@Nonnull final InstanceIdentifier<StaticLsp> id,
+                                        @Nonnull final ReadContext context) throws ReadFailedException {
+        LOG.trace("Reading list of static LSPs: {}", id);
+        final MplsFibIndex index = dumpManager.getDump(id, context.getModificationCache()).get();
+        final List<Integer> keys = index.getKeys();
+        final Map<Integer, String> names = lspContext.getNamesIfPresent(keys, context.getMappingContext());
+
+        final List<StaticLspKey> ids = new ArrayList<>(names.size());
+        for (final Integer key : keys) {
+            final String name = names.get(key);
+            if (name != null) {
+                ids.add(new StaticLspKey(name));
+            }
+        }
+        LOG.trace("Static LSPs read: {}", ids.size());
+        return ids;
+    }
+
+    @Override
+    public void merge(@Nonnull final Builder<? extends DataObject> builder, @Nonnull final List<StaticLsp> readData) {
+        ((StaticLspsBuilder) builder).setStaticLsp(readData);
+    }
+
+    @Nonnull
+    @Override
+    public StaticLspBuilder getBuilder(@Nonnull final InstanceIdentifier<StaticLsp> id) {
+        return new StaticLspBuilder();
+    }
+
+    @Override
+    public void readCurrentAttributes(@Nonnull final InstanceIdentifier<StaticLsp> id,
+                                      @Nonnull final StaticLspBuilder builder,
+                                      @Nonnull final ReadContext ctx) throws ReadFailedException {
+        final String name = id.firstKeyOf(StaticLsp.class).getName();
+        final MappingContext mappingContext = ctx.getMappingContext();
+        if (!lspContext.containsIndex(name, mappingContext)) {
+            LOG.debug("Could not find static LSP {} in the naming context", name);
+            return;
+        }
+
+        final MplsFibIndex index = dumpManager.getDump(id, ctx.getModificationCache()).get();
+        final MplsFibDetails details = index.get(lspContext.getIndex(name, mappingContext));
+        if (details == null) {
+            LOG.debug("Static LSP {} not found in MPLS FIB", name);
+            return;
+        }
+
+        builder.setName(name);
+        builder.setKey(new StaticLspKey(name));
+        builder.setState(translate(details, mappingContext));
+        LOG.trace("Static LSP {} read: {}", name, builder);
+    }
+
+    private State translate(@Nonnull final MplsFibDetails details, @Nonnull final MappingContext mappingContext) {
+        final StateBuilder state = new StateBuilder();
+        state.setInSegment(new InSegmentBuilder()
+                .setType(new MplsLabelBuilder().setIncomingLabel(new MplsLabel(UnsignedInts.toLong(details.label)))
+                        .build())
+                .build());
+
+        if (details.path == null || details.path.length == 0) {
+            return state.build();
+        }
+        // LspWriters configure single path per local label
+        final FibPath path = details.path[0];
+        if (path.swIfIndex == -1) {
+            // no outgoing interface, label is popped and packet is looked up in a table
+            state.setOperation(StaticLspConfig.Operation.PopAndLookup);
+            return state.build();
+        }
+
+        final SimplePathBuilder outSegment = new SimplePathBuilder()
+                .setNextHop(arrayToIpAddress(path.afi == IPV6_PROTOCOL, path.nextHop))
+                .setOutgoingInterface(interfaceContext.getName(path.swIfIndex, mappingContext));
+        if (path.nLabels > 0) {
+            state.setOperation(StaticLspConfig.Operation.SwapAndForward);
+            outSegment.setOutgoingLabel(new MplsLabel(UnsignedInts.toLong(path.labelStack[0])));
+        } else {
+            state.setOperation(StaticLspConfig.Operation.PopAndForward);
+        }
+        return state.setOutSegment(outSegment.build()).build();
+    }
+}
@@ -55,6 +55,7 @@ public class ImposeAndForwardTest extends WriterCustomizerTest implements ByteDa
 
     private static final String IF_NAME = "local0";
     private static final int IF_INDEX = 123;
+    private static final String LSP_CTX_NAME = "test-lsp-context";
     private static final String LSP_NAME = "static-lsp0";
     private static final InstanceIdentifier<StaticLsp> IID = InstanceIdentifier.create(Routing.class).augmentation
         (Routing1.class).child(Mpls.class).augmentation(Mpls1.class).child(StaticLsps.class)
@@ -109,7 +110,8 @@ public class ImposeAndForwardTest extends WriterCustomizerTest implements ByteDa
     @Override
     public void setUpTest() {
         final String ctxInstanceName = "test-ifc-context";
-        customizer = new StaticLspCustomizer(jvpp, new NamingContext("test-prefix", ctxInstanceName));
+        customizer = new StaticLspCustomizer(jvpp, new NamingContext("test-prefix", ctxInstanceName),
+            new NamingContext("static-lsp-", LSP_CTX_NAME));
         when(jvpp.ipAddDelRoute(any())).thenReturn(future(new IpAddDelRouteReply()));
         defineMapping(mappingContext, IF_NAME, IF_INDEX, ctxInstanceName);
     }
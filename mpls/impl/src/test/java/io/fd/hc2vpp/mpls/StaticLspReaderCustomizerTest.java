@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.mpls;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.fd.hc2vpp.common.test.read.ListReaderCustomizerTest;
+import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.fd.honeycomb.translate.spi.read.ReaderCustomizer;
+import io.fd.vpp.jvpp.core.dto.MplsFibDetails;
+import io.fd.vpp.jvpp.core.dto.MplsFibDetailsReplyDump;
+import io.fd.vpp.jvpp.core.dto.MplsFibDump;
+import io.fd.vpp.jvpp.core.types.FibPath;
+import java.util.Arrays;
+import org.junit.Test;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.mpls._static.rev170310.Mpls1;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.mpls._static.rev170310.StaticLspConfig;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.mpls._static.rev170310._static.lsp.State;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.mpls._static.rev170310._static.lsp_config.in.segment.type.MplsLabel;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.mpls._static.rev170310._static.lsp_config.out.segment.SimplePath;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.mpls._static.rev170310.routing.mpls.StaticLsps;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.mpls._static.rev170310.routing.mpls.StaticLspsBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.mpls._static.rev170310.routing.mpls._static.lsps.StaticLsp;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.mpls._static.rev170310.routing.mpls._static.lsps.StaticLspBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.mpls._static.rev170310.routing.mpls._static.lsps.StaticLspKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.mpls.rev170702.Routing1;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.mpls.rev170702.routing.Mpls;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.routing.rev140524.Routing;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class StaticLspReaderCustomizerTest extends ListReaderCustomizerTest<StaticLsp, StaticLspKey, StaticLspBuilder> {
+
+    private static final String IFC_CTX_NAME = "test-ifc-context";
+    private static final String LSP_CTX_NAME = "test-lsp-context";
+    private static final String IF_NAME = "local0";
+    private static final int IF_INDEX = 123;
+    private static final String SWAP_LSP = "swap-lsp";
+    private static final int SWAP_LABEL = 104;
+    private static final int OUT_LABEL = 105;
+    private static final String LOOKUP_LSP = "lookup-lsp";
+    private static final int LOOKUP_LABEL = 102;
+    private static final String MISSING_LSP = "missing-lsp";
+    private static final int MISSING_LABEL = 106;
+    private static final InstanceIdentifier<StaticLsps> LSPS_ID = InstanceIdentifier.create(Routing.class)
+        .augmentation(Routing1.class).child(Mpls.class).augmentation(Mpls1.class).child(StaticLsps.class);
+
+    public StaticLspReaderCustomizerTest() {
+        super(StaticLsp.class, StaticLspsBuilder.class);
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        defineMapping(mappingContext, IF_NAME, IF_INDEX, IFC_CTX_NAME);
+        defineMapping(mappingContext, SWAP_LSP, MplsFibIndex.key(SWAP_LABEL, true), LSP_CTX_NAME);
+        defineMapping(mappingContext, LOOKUP_LSP, MplsFibIndex.key(LOOKUP_LABEL, false), LSP_CTX_NAME);
+        defineMapping(mappingContext, MISSING_LSP, MplsFibIndex.key(MISSING_LABEL, true), LSP_CTX_NAME);
+
+        final MplsFibDetailsReplyDump reply = new MplsFibDetailsReplyDump();
+        reply.mplsFibDetails = Arrays.asList(
+            // mpls local-label add eos 104 via 10.10.24.4 local0 out-labels 105
+            fibEntry(0, SWAP_LABEL, 1, path(IF_INDEX, new byte[] {10, 10, 24, 4}, OUT_LABEL)),
+            // mpls local-label add non-eos 102 mpls-lookup-in-table 0
+            fibEntry(0, LOOKUP_LABEL, 0, path(-1, new byte[0])),
+            // IPv4 explicit null added by VPP, not configured by Honeycomb
+            fibEntry(0, 0, 1, path(-1, new byte[0])),
+            // the same label in other table
+            fibEntry(1, SWAP_LABEL, 1, path(-1, new byte[0])));
+        when(api.mplsFibDump(any(MplsFibDump.class))).thenReturn(future(reply));
+    }
+
+    @Override
+    protected ReaderCustomizer<StaticLsp, StaticLspBuilder> initCustomizer() {
+        return new StaticLspReaderCustomizer(api, new NamingContext("test-prefix", IFC_CTX_NAME),
+            new NamingContext("static-lsp-", LSP_CTX_NAME));
+    }
+
+    @Test
+    public void testGetAllIds() throws ReadFailedException {
+        assertEquals(Arrays.asList(new StaticLspKey(SWAP_LSP), new StaticLspKey(LOOKUP_LSP)),
+            getCustomizer().getAllIds(LSPS_ID.child(StaticLsp.class), ctx));
+    }
+
+    @Test
+    public void testReadSwapAndForward() throws ReadFailedException {
+        final StaticLspBuilder builder = new StaticLspBuilder();
+        getCustomizer().readCurrentAttributes(lspId(SWAP_LSP), builder, ctx);
+
+        assertEquals(SWAP_LSP, builder.getName());
+        final State state = builder.getState();
+        assertEquals(SWAP_LABEL, ((MplsLabel) state.getInSegment().getType()).getIncomingLabel().getValue().intValue());
+        assertEquals(StaticLspConfig.Operation.SwapAndForward, state.getOperation());
+        final SimplePath path = (SimplePath) state.getOutSegment();
+        assertEquals("10.10.24.4", path.getNextHop().getIpv4Address().getValue());
+        assertEquals(OUT_LABEL, path.getOutgoingLabel().getValue().intValue());
+        assertEquals(IF_NAME, path.getOutgoingInterface());
+    }
+
+    @Test
+    public void testReadPopAndLookup() throws ReadFailedException {
+        final StaticLspBuilder builder = new StaticLspBuilder();
+        getCustomizer().readCurrentAttributes(lspId(LOOKUP_LSP), builder, ctx);
+
+        assertEquals(LOOKUP_LSP, builder.getName());
+        final State state = builder.getState();
+        assertEquals(LOOKUP_LABEL,
+            ((MplsLabel) state.getInSegment().getType()).getIncomingLabel().getValue().intValue());
+        assertEquals(StaticLspConfig.Operation.PopAndLookup, state.getOperation());
+        assertNull(state.getOutSegment());
+    }
+
+    @Test
+    public void testReadMissingInFib() throws ReadFailedException {
+        final StaticLspBuilder builder = new StaticLspBuilder();
+        getCustomizer().readCurrentAttributes(lspId(MISSING_LSP), builder, ctx);
+        assertNull(builder.getState());
+    }
+
+    @Test
+    public void testReadAllDumpsOnce() throws ReadFailedException {
+        for (final StaticLspKey key : getCustomizer().getAllIds(LSPS_ID.child(StaticLsp.class), ctx)) {
+            getCustomizer().readCurrentAttributes(lspId(key.getName()), new StaticLspBuilder(), ctx);
+        }
+        verify(api).mplsFibDump(any(MplsFibDump.class));
+    }
+
+    private static InstanceIdentifier<StaticLsp> lspId(final String name) {
+        return LSPS_ID.child(StaticLsp.class, new StaticLspKey(name));
+    }
+
+    private static MplsFibDetails fibEntry(final int tableId, final int label, final int eos, final FibPath path) {
+        final MplsFibDetails details = new MplsFibDetails();
+        details.tableId = tableId;
+        details.label = label;
+        details.eosBit = (byte) eos;
+        details.count = 1;
+        details.path = new FibPath[] {path};
+        return details;
+    }
+
+    private static FibPath path(final int swIfIndex, final byte[] nextHop, final int... labels) {
+        final FibPath path = new FibPath();
+        path.swIfIndex = swIfIndex;
+        path.nextHop = nextHop;
+        path.nLabels = (byte) labels.length;
+        path.labelStack = labels;
+        return path;
+    }
+}
@@ -50,6 +50,7 @@ public class SwapAndForwardTest extends WriterCustomizerTest implements ByteData
 
     private static final String IF_NAME = "local0";
     private static final int IF_INDEX = 123;
+    private static final String LSP_CTX_NAME = "test-lsp-context";
     private static final String LSP_NAME = "static-lsp0";
     private static final InstanceIdentifier<StaticLsp> IID = InstanceIdentifier.create(Routing.class).augmentation
         (Routing1.class).child(Mpls.class).augmentation(Mpls1.class).child(StaticLsps.class)
@@ -89,7 +90,8 @@ public class SwapAndForwardTest extends WriterCustomizerTest implements ByteData
     @Override
     public void setUpTest() {
         final String ctxInstanceName = "test-ifc-context";
-        customizer = new StaticLspCustomizer(jvpp, new NamingContext("test-prefix", ctxInstanceName));
+        customizer = new StaticLspCustomizer(jvpp, new NamingContext("test-prefix", ctxInstanceName),
+            new NamingContext("static-lsp-", LSP_CTX_NAME));
         when(jvpp.mplsRouteAddDel(any())).thenReturn(future(new MplsRouteAddDelReply()));
         defineMapping(mappingContext, IF_NAME, IF_INDEX, ctxInstanceName);
     }
@@ -98,12 +100,15 @@ public class SwapAndForwardTest extends WriterCustomizerTest implements ByteData
     public void testWrite() throws WriteFailedException {
         customizer.writeCurrentAttributes(IID, SWAP_AND_FORWARD, writeContext);
         verify(jvpp).mplsRouteAddDel(getRequest(true));
+        verify(mappingContext).put(mappingIid(LSP_NAME, LSP_CTX_NAME),
+            mapping(LSP_NAME, MplsFibIndex.key(LOCAL_LABEL, true)).get());
     }
 
     @Test
     public void testDelete() throws WriteFailedException {
         customizer.deleteCurrentAttributes(IID, SWAP_AND_FORWARD, writeContext);
         verify(jvpp).mplsRouteAddDel(getRequest(false));
+        verify(mappingContext).delete(mappingIid(LSP_NAME, LSP_CTX_NAME));
     }
 
     private MplsRouteAddDel getRequest(final boolean add) {
@@ -26,6 +26,7 @@ import io.fd.hc2vpp.nat.read.NatReaderFactory;
 import io.fd.hc2vpp.nat.read.ifc.IfcNatReaderFactory;
 import io.fd.hc2vpp.nat.read.ifc.SubIfcNatReaderFactory;
 import io.fd.hc2vpp.nat.util.MappingEntryContext;
+import io.fd.hc2vpp.nat.util.MappingEntryContextProvider;
 import io.fd.hc2vpp.nat.write.NatWriterFactory;
 import io.fd.hc2vpp.nat.write.ifc.IfcNatWriterFactory;
 import io.fd.hc2vpp.nat.write.ifc.SubIfcNatWriterFactory;
@@ -55,7 +56,7 @@ public class NatModule extends AbstractModule {
     @Override
     protected void configure() {
         // Mapping entry context util
-        bind(MappingEntryContext.class).toInstance(new MappingEntryContext());
+        bind(MappingEntryContext.class).toProvider(MappingEntryContextProvider.class).in(Singleton.class);
 
         LOG.debug("Installing NAT module");
 
@@ -20,15 +20,24 @@ import static com.google.common.base.Preconditions.checkArgument;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Optional;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import io.fd.hc2vpp.common.translate.util.Ipv4Translator;
 import io.fd.hc2vpp.common.translate.util.Ipv6Translator;
+import io.fd.hc2vpp.common.translate.util.TransactionalContextStore;
+import io.fd.hc2vpp.nat.util.MappingEntryIndex.AddressPair;
 import io.fd.honeycomb.translate.MappingContext;
 import io.fd.vpp.jvpp.nat.dto.Nat44StaticMappingDetails;
 import io.fd.vpp.jvpp.nat.dto.Nat64BibDetails;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.Contexts;
 import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.nat.context.rev161214.NatMappingEntryCtxAugmentation;
@@ -48,12 +57,120 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Context tracker for Nat Mapping entries.
+ *
+ * <p>Indexed context keeps {@link MappingEntryIndex} per {@link MappingContext} instance (i.e. per transaction) and
+ * nat instance, so mapping table is read once per transaction and entries are matched with VPP details by hash lookup
+ * instead of scanning the mapping table and the dump.
+ *
+ * <p>Context backed by {@link TransactionalContextStore} writes entries to the context data tree as well as to the
+ * store and serves lookups from the store. Entries are stored with nat instance id as their parent and address pair as
+ * their name, index of the entry is the index of stored mapping.
  */
 @ThreadSafe
 public class MappingEntryContext implements Ipv4Translator, Ipv6Translator {
 
     private static final Logger LOG = LoggerFactory.getLogger(MappingEntryContext.class);
 
+    private static final String STORE_CONTEXT = "nat-mapping-entry-context";
+
+    private final LoadingCache<MappingContext, Map<Long, MappingEntryIndex>> indexes;
+    private final TransactionalContextStore store;
+
+    public MappingEntryContext() {
+        this(false);
+    }
+
+    /**
+     * @param indexed if true, lookups are served from index built once per {@link MappingContext}. All writes to
+     *                mapping entry context have to go through this instance to keep the index consistent.
+     */
+    public MappingEntryContext(final boolean indexed) {
+        indexes = indexed
+                ? newIndexes()
+                : null;
+        store = null;
+    }
+
+    /**
+     * @param store store serving lookups of mapping entries. All writes to mapping entry context have to go through
+     *              this instance to keep the store consistent.
+     */
+    public MappingEntryContext(@Nonnull final TransactionalContextStore store) {
+        // entries are looked up in the store, index is used just to match entries with VPP details
+        indexes = newIndexes();
+        this.store = store;
+        store.register(STORE_CONTEXT, (mappingContext, mappings) -> {
+            final MappingEntryIndex keys = new MappingEntryIndex(Optional.absent());
+            mappingContext.read(getContextId())
+                    .transform(NatMappingEntryContext::getNatInstance)
+                    .or(Collections.emptyList())
+                    .forEach(instance -> Optional.fromNullable(instance.getMappingTable())
+                            .transform(MappingTable::getMappingEntry)
+                            .or(Collections.emptyList())
+                            .forEach(entry -> mappings.accept(storeParent(instance.getId()),
+                                    keys.toAddressPair(entry.getKey()).toKey(), entry.getIndex(), null)));
+        });
+    }
+
+    private static LoadingCache<MappingContext, Map<Long, MappingEntryIndex>> newIndexes() {
+        // weak keys use identity comparison, so each transaction gets its own index
+        return CacheBuilder.newBuilder().weakKeys()
+                .build(new CacheLoader<MappingContext, Map<Long, MappingEntryIndex>>() {
+                    @Override
+                    public Map<Long, MappingEntryIndex> load(@Nonnull final MappingContext mappingContext) {
+                        return new HashMap<>();
+                    }
+                });
+    }
+
+    private boolean isIndexed() {
+        return indexes != null && !isStored();
+    }
+
+    private boolean isStored() {
+        return store != null;
+    }
+
+    private MappingEntryIndex index(final long natInstanceId, final MappingContext mappingContext) {
+        return indexes.getUnchecked(mappingContext).computeIfAbsent(natInstanceId,
+                id -> new MappingEntryIndex(isStored()
+                        ? Optional.absent()
+                        : mappingContext.read(getTableId(id))));
+    }
+
+    private static String storeParent(final long natInstanceId) {
+        return Long.toString(natInstanceId);
+    }
+
+    private Long getStoredIndex(final long natInstanceId, final AddressPair addresses,
+                                final MappingContext mappingContext) {
+        return store.getIndex(STORE_CONTEXT, storeParent(natInstanceId), addresses.toKey(), mappingContext);
+    }
+
+    private AddressPair getStoredAddresses(final long natInstanceId, final long idx,
+                                           final MappingContext mappingContext) {
+        final String key = store.getName(STORE_CONTEXT, storeParent(natInstanceId), idx, mappingContext);
+        if (key == null) {
+            throw new IllegalStateException("Unable to find context mapping for nat-instance: "
+                    + natInstanceId + " and ID: " + idx);
+        }
+        return AddressPair.fromKey(key);
+    }
+
+    /**
+     * @return index for nat instance, if it was already built in provided mapping context
+     */
+    @Nullable
+    private MappingEntryIndex indexIfPresent(final long natInstanceId, final MappingContext mappingContext) {
+        if (!isIndexed()) {
+            return null;
+        }
+        final Map<Long, MappingEntryIndex> contextIndexes = indexes.getIfPresent(mappingContext);
+        return contextIndexes == null
+                ? null
+                : contextIndexes.get(natInstanceId);
+    }
+
     /**
      * Add mapping entry to index mapping to context.
      */
@@ -61,9 +178,19 @@ public class MappingEntryContext implements Ipv4Translator, Ipv6Translator {
                                       final long entryId,
                                       @Nonnull final org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.nat.config.nat.instances.nat.instance.mapping.table.MappingEntry entry,
                                       @Nonnull final MappingContext mappingContext) {
-        final InstanceIdentifier<MappingEntry> id = getId(natInstanceId, entryToKey(entry));
+        final MappingEntryKey key = entryToKey(entry);
+        final InstanceIdentifier<MappingEntry> id = getId(natInstanceId, key);
         checkArgument(!containsEntry(natInstanceId, entry, mappingContext), "Mapping for %s already present", id);
         mappingContext.put(id, toCtxMapEntry(entry, entryId));
+        if (isStored()) {
+            store.put(STORE_CONTEXT, storeParent(natInstanceId),
+                    index(natInstanceId, mappingContext).toAddressPair(key).toKey(), entryId, null, mappingContext);
+            return;
+        }
+        final MappingEntryIndex index = indexIfPresent(natInstanceId, mappingContext);
+        if (index != null) {
+            index.add(index.toAddressPair(key), entryId);
+        }
     }
 
     /**
@@ -72,6 +199,10 @@ public class MappingEntryContext implements Ipv4Translator, Ipv6Translator {
     public synchronized boolean containsEntry(final long natInstanceId,
                                               @Nonnull final org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.nat.config.nat.instances.nat.instance.mapping.table.MappingEntry entry,
                                               @Nonnull final MappingContext mappingContext) {
+        if (isStored()) {
+            return getStoredIndex(natInstanceId, index(natInstanceId, mappingContext).toAddressPair(entryToKey(entry)),
+                    mappingContext) != null;
+        }
         final InstanceIdentifier<MappingEntry> id = getId(natInstanceId, entryToKey(entry));
         return mappingContext.read(id).isPresent();
     }
@@ -83,13 +214,17 @@ public class MappingEntryContext implements Ipv4Translator, Ipv6Translator {
 
     @VisibleForTesting
     static InstanceIdentifier<MappingTable> getTableId(final long natInstanceId) {
-        return InstanceIdentifier.create(Contexts.class)
-                .augmentation(NatMappingEntryCtxAugmentation.class)
-                .child(NatMappingEntryContext.class)
+        return getContextId()
                 .child(NatInstance.class, new NatInstanceKey(natInstanceId))
                 .child(MappingTable.class);
     }
 
+    private static InstanceIdentifier<NatMappingEntryContext> getContextId() {
+        return InstanceIdentifier.create(Contexts.class)
+                .augmentation(NatMappingEntryCtxAugmentation.class)
+                .child(NatMappingEntryContext.class);
+    }
+
     @VisibleForTesting
     static MappingEntryKey entryToKey(
             final org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.nat.config.nat.instances.nat.instance.mapping.table.MappingEntry entry) {
@@ -172,7 +307,17 @@ public class MappingEntryContext implements Ipv4Translator, Ipv6Translator {
     public synchronized void removeEntry(final long natInstanceId,
                                          @Nonnull final org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.nat.config.nat.instances.nat.instance.mapping.table.MappingEntry entry,
                                          @Nonnull final MappingContext mappingContext) {
-        mappingContext.delete(getId(natInstanceId, entryToKey(entry)));
+        final MappingEntryKey key = entryToKey(entry);
+        mappingContext.delete(getId(natInstanceId, key));
+        if (isStored()) {
+            store.remove(STORE_CONTEXT, storeParent(natInstanceId),
+                    index(natInstanceId, mappingContext).toAddressPair(key).toKey(), mappingContext);
+            return;
+        }
+        final MappingEntryIndex index = indexIfPresent(natInstanceId, mappingContext);
+        if (index != null) {
+            index.remove(index.toAddressPair(key));
+        }
     }
 
     /**
@@ -181,6 +326,16 @@ public class MappingEntryContext implements Ipv4Translator, Ipv6Translator {
     public synchronized java.util.Optional<Nat44StaticMappingDetails> findDetailsNat44(@Nonnull final List<Nat44StaticMappingDetails> details,
                                                                                        final long natInstanceId, final long idx,
                                                                                        @Nonnull final MappingContext mappingContext) {
+        if (isStored()) {
+            return java.util.Optional.ofNullable(index(natInstanceId, mappingContext)
+                    .findNat44(details, getStoredAddresses(natInstanceId, idx, mappingContext)));
+        }
+        if (isIndexed()) {
+            final MappingEntryIndex index = index(natInstanceId, mappingContext);
+            checkMappingPresent(index, natInstanceId, idx);
+            return java.util.Optional.ofNullable(index.findNat44(details, idx));
+        }
+
         // Find mapping entry for Index
         final MappingEntry ctxMappingEntry = mappingContext.read(getTableId(natInstanceId))
                 .transform(MappingTable::getMappingEntry)
@@ -203,6 +358,16 @@ public class MappingEntryContext implements Ipv4Translator, Ipv6Translator {
     public synchronized java.util.Optional<Nat64BibDetails> findDetailsNat64(@Nonnull final List<Nat64BibDetails> details,
                                                                              final long natInstanceId, final long idx,
                                                                              @Nonnull final MappingContext mappingContext) {
+        if (isStored()) {
+            return java.util.Optional.ofNullable(index(natInstanceId, mappingContext)
+                    .findNat64(details, getStoredAddresses(natInstanceId, idx, mappingContext)));
+        }
+        if (isIndexed()) {
+            final MappingEntryIndex index = index(natInstanceId, mappingContext);
+            checkMappingPresent(index, natInstanceId, idx);
+            return java.util.Optional.ofNullable(index.findNat64(details, idx));
+        }
+
         // Find mapping entry for Index
         final MappingEntry ctxMappingEntry = mappingContext.read(getTableId(natInstanceId))
                 .transform(MappingTable::getMappingEntry)
@@ -219,12 +384,31 @@ public class MappingEntryContext implements Ipv4Translator, Ipv6Translator {
                 .findFirst();
     }
 
+    private static void checkMappingPresent(final MappingEntryIndex index, final long natInstanceId, final long idx) {
+        if (!index.containsIndex(idx)) {
+            throw new IllegalStateException("Unable to find context mapping for nat-instance: "
+                    + natInstanceId + " and ID: " + idx);
+        }
+    }
+
     /**
      * Get index for a mapping entry details or create an artificial one.
      */
     public synchronized long getStoredOrArtificialIndex(final Long natInstanceId,
                                                         @Nonnull final Nat44StaticMappingDetails details,
                                                         @Nonnull final MappingContext mappingContext) {
+        if (isStored()) {
+            final Long storedIndex =
+                    getStoredIndex(natInstanceId, MappingEntryIndex.toAddressPair(details), mappingContext);
+            return storedIndex != null
+                    ? storedIndex
+                    : getArtificialId(details, natInstanceId, mappingContext);
+        }
+        if (isIndexed()) {
+            return getIndexedOrArtificialIndex(index(natInstanceId, mappingContext),
+                    MappingEntryIndex.toAddressPair(details),
+                    () -> getArtificialId(details, natInstanceId, mappingContext));
+        }
         return mappingContext.read(getId(natInstanceId, entryToKey(details)))
                 .transform(MappingEntry::getIndex)
                 .or(() -> getArtificialId(details, natInstanceId, mappingContext));
@@ -236,17 +420,45 @@ public class MappingEntryContext implements Ipv4Translator, Ipv6Translator {
     public synchronized long getStoredOrArtificialIndex(final Long natInstanceId,
                                                         @Nonnull final Nat64BibDetails details,
                                                         @Nonnull final MappingContext mappingContext) {
+        if (isStored()) {
+            final Long storedIndex =
+                    getStoredIndex(natInstanceId, MappingEntryIndex.toAddressPair(details), mappingContext);
+            return storedIndex != null
+                    ? storedIndex
+                    : getArtificialId(details, natInstanceId, mappingContext);
+        }
+        if (isIndexed()) {
+            return getIndexedOrArtificialIndex(index(natInstanceId, mappingContext),
+                    MappingEntryIndex.toAddressPair(details),
+                    () -> getArtificialId(details, natInstanceId, mappingContext));
+        }
         return mappingContext.read(getId(natInstanceId, entryToKey(details)))
                 .transform(MappingEntry::getIndex)
                 .or(() -> getArtificialId(details, natInstanceId, mappingContext));
     }
 
+    private static long getIndexedOrArtificialIndex(final MappingEntryIndex index, final AddressPair addresses,
+                                                    final LongSupplier artificialIndexSupplier) {
+        final Long storedIndex = index.getIndex(addresses);
+        if (storedIndex != null) {
+            return storedIndex;
+        }
+        final long artificialIdx = artificialIndexSupplier.getAsLong();
+        index.add(addresses, artificialIdx);
+        return artificialIdx;
+    }
+
     /**
      * Get index for a stored mapping entry.
      */
     public synchronized Optional<Long> getStoredIndex(final long natInstanceId,
                                                       @Nonnull final org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.nat.config.nat.instances.nat.instance.mapping.table.MappingEntry entry,
                                                       @Nonnull final MappingContext mappingContext) {
+        if (isStored()) {
+            final MappingEntryKey key = entryToKey(entry);
+            return Optional.fromNullable(getStoredIndex(natInstanceId,
+                    index(natInstanceId, mappingContext).toAddressPair(key), mappingContext));
+        }
         return mappingContext.read(getId(natInstanceId, entryToKey(entry)))
                 .transform(MappingEntry::getIndex);
     }
@@ -257,6 +469,10 @@ public class MappingEntryContext implements Ipv4Translator, Ipv6Translator {
         final long artificialIdx = findFreeIndex(natInstanceId, mappingContext);
         LOG.debug("Artificial ID for {} assigned as: {}", details, artificialIdx);
         mappingContext.put(getId(natInstanceId, entryToKey(details)), toCtxMapEntry(details, artificialIdx));
+        if (isStored()) {
+            store.put(STORE_CONTEXT, storeParent(natInstanceId), MappingEntryIndex.toAddressPair(details).toKey(),
+                    artificialIdx, null, mappingContext);
+        }
         return artificialIdx;
     }
 
@@ -266,10 +482,20 @@ public class MappingEntryContext implements Ipv4Translator, Ipv6Translator {
         final long artificialIdx = findFreeIndex(natInstanceId, mappingContext);
         LOG.debug("Artificial ID for {} assigned as: {}", details, artificialIdx);
         mappingContext.put(getId(natInstanceId, entryToKey(details)), toCtxMapEntry(details, artificialIdx));
+        if (isStored()) {
+            store.put(STORE_CONTEXT, storeParent(natInstanceId), MappingEntryIndex.toAddressPair(details).toKey(),
+                    artificialIdx, null, mappingContext);
+        }
         return artificialIdx;
     }
 
     private long findFreeIndex(final long natInstanceId, final MappingContext mappingContext) {
+        if (isStored()) {
+            return store.nextIndex(STORE_CONTEXT, storeParent(natInstanceId), 0, mappingContext);
+        }
+        if (isIndexed()) {
+            return index(natInstanceId, mappingContext).getFreeIndex();
+        }
         return mappingContext.read(getTableId(natInstanceId))
                 .transform(MappingTable::getMappingEntry)
                 .or(Collections.emptyList())
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.nat.util;
+
+import com.google.common.base.Optional;
+import io.fd.hc2vpp.common.translate.util.Ipv4Translator;
+import io.fd.hc2vpp.common.translate.util.Ipv6Translator;
+import io.fd.vpp.jvpp.nat.dto.Nat44StaticMappingDetails;
+import io.fd.vpp.jvpp.nat.dto.Nat64BibDetails;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.nat.context.rev161214.mapping.entry.context.attributes.nat.mapping.entry.context.nat.instance.MappingTable;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.nat.context.rev161214.mapping.entry.context.attributes.nat.mapping.entry.context.nat.instance.mapping.table.MappingEntry;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.nat.context.rev161214.mapping.entry.context.attributes.nat.mapping.entry.context.nat.instance.mapping.table.MappingEntryKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
+
+/**
+ * Index of mapping entries stored in context for single nat instance, built once per transaction.
+ *
+ * <p>Entries are indexed both by their index and by (external, internal) address pair. Addresses are packed into
+ * primitives (IPv4 as int, IPv6 as two longs), so lookups of VPP details do not need to create {@link IpAddress}
+ * instances. Details are indexed by the same address pairs, lazily and only once per dump.
+ */
+@NotThreadSafe
+final class MappingEntryIndex implements Ipv4Translator, Ipv6Translator {
+
+    private final Map<AddressPair, Long> indexesByAddresses;
+    // sorted, so free index is derived from the highest index without scanning all entries
+    private final TreeMap<Long, AddressPair> addressesByIndex;
+
+    private List<Nat44StaticMappingDetails> nat44Source;
+    private Map<AddressPair, Nat44StaticMappingDetails> nat44ByAddresses;
+    private List<Nat64BibDetails> nat64Source;
+    private Map<AddressPair, Nat64BibDetails> nat64ByAddresses;
+
+    MappingEntryIndex(@Nonnull final Optional<MappingTable> table) {
+        final List<MappingEntry> entries = table.transform(MappingTable::getMappingEntry).or(Collections.emptyList());
+        indexesByAddresses = new HashMap<>(entries.size() * 2);
+        addressesByIndex = new TreeMap<>();
+        for (final MappingEntry entry : entries) {
+            add(toAddressPair(entry.getKey()), entry.getIndex());
+        }
+    }
+
+    /**
+     * @return index stored for address pair, or null if not present
+     */
+    @Nullable
+    Long getIndex(@Nonnull final AddressPair addresses) {
+        return indexesByAddresses.get(addresses);
+    }
+
+    boolean containsIndex(final long index) {
+        return addressesByIndex.containsKey(index);
+    }
+
+    /**
+     * @return lowest index greater than all indexes stored in context
+     */
+    long getFreeIndex() {
+        return addressesByIndex.isEmpty()
+                ? 0
+                : addressesByIndex.lastKey() + 1;
+    }
+
+    void add(@Nonnull final AddressPair addresses, final long index) {
+        // first mapping wins, same as when scanning context
+        indexesByAddresses.putIfAbsent(addresses, index);
+        addressesByIndex.putIfAbsent(index, addresses);
+    }
+
+    void remove(@Nonnull final AddressPair addresses) {
+        final Long index = indexesByAddresses.remove(addresses);
+        if (index != null) {
+            addressesByIndex.remove(index);
+        }
+    }
+
+    /**
+     * @return details matching context entry stored under index, or null if there are none
+     */
+    @Nullable
+    Nat44StaticMappingDetails findNat44(@Nonnull final List<Nat44StaticMappingDetails> details, final long index) {
+        return findNat44(details, addressesByIndex.get(index));
+    }
+
+    /**
+     * @return details matching address pair, or null if there are none
+     */
+    @Nullable
+    Nat44StaticMappingDetails findNat44(@Nonnull final List<Nat44StaticMappingDetails> details,
+                                        @Nullable final AddressPair addresses) {
+        if (nat44Source != details) {
+            nat44ByAddresses = new HashMap<>(details.size() * 2);
+            for (final Nat44StaticMappingDetails detail : details) {
+                nat44ByAddresses.putIfAbsent(toAddressPair(detail), detail);
+            }
+            nat44Source = details;
+        }
+        return nat44ByAddresses.get(addresses);
+    }
+
+    /**
+     * @return details matching context entry stored under index, or null if there are none
+     */
+    @Nullable
+    Nat64BibDetails findNat64(@Nonnull final List<Nat64BibDetails> details, final long index) {
+        return findNat64(details, addressesByIndex.get(index));
+    }
+
+    /**
+     * @return details matching address pair, or null if there are none
+     */
+    @Nullable
+    Nat64BibDetails findNat64(@Nonnull final List<Nat64BibDetails> details, @Nullable final AddressPair addresses) {
+        if (nat64Source != details) {
+            nat64ByAddresses = new HashMap<>(details.size() * 2);
+            for (final Nat64BibDetails detail : details) {
+                nat64ByAddresses.putIfAbsent(toAddressPair(detail), detail);
+            }
+            nat64Source = details;
+        }
+        return nat64ByAddresses.get(addresses);
+    }
+
+    static AddressPair toAddressPair(@Nonnull final Nat44StaticMappingDetails details) {
+        return AddressPair.ipv4(toInt(details.externalIpAddress), toInt(details.localIpAddress));
+    }
+
+    static AddressPair toAddressPair(@Nonnull final Nat64BibDetails details) {
+        return AddressPair.ipv6(toInt(details.oAddr), toLong(details.iAddr, 0), toLong(details.iAddr, 8));
+    }
+
+    AddressPair toAddressPair(@Nonnull final MappingEntryKey key) {
+        // external address is always IPv4
+        final int external = toInt(ipv4AddressNoZoneToArray(key.getExternal().getIpv4Address().getValue()));
+        final IpAddress internal = key.getInternal();
+        if (internal.getIpv4Address() != null) {
+            return AddressPair.ipv4(external, toInt(ipv4AddressNoZoneToArray(internal.getIpv4Address().getValue())));
+        }
+        final byte[] internalIpv6 = ipv6AddressNoZoneToArray(internal.getIpv6Address());
+        return AddressPair.ipv6(external, toLong(internalIpv6, 0), toLong(internalIpv6, 8));
+    }
+
+    private static int toInt(final byte[] address) {
+        return (address[0] & 0xff) << 24 | (address[1] & 0xff) << 16 | (address[2] & 0xff) << 8 | address[3] & 0xff;
+    }
+
+    private static long toLong(final byte[] address, final int offset) {
+        long value = 0;
+        for (int i = offset; i < offset + 8; i++) {
+            value = value << 8 | address[i] & 0xff;
+        }
+        return value;
+    }
+
+    /**
+     * External IPv4 and internal IPv4 or IPv6 address packed into primitives.
+     */
+    static final class AddressPair {
+        private final int external;
+        private final boolean internalIpv6;
+        private final long internalHigh;
+        private final long internalLow;
+
+        private AddressPair(final int external, final boolean internalIpv6, final long internalHigh,
+                            final long internalLow) {
+            this.external = external;
+            this.internalIpv6 = internalIpv6;
+            this.internalHigh = internalHigh;
+            this.internalLow = internalLow;
+        }
+
+        static AddressPair ipv4(final int external, final int internal) {
+            return new AddressPair(external, false, 0, internal & 0xffffffffL);
+        }
+
+        static AddressPair ipv6(final int external, final long internalHigh, final long internalLow) {
+            return new AddressPair(external, true, internalHigh, internalLow);
+        }
+
+        /**
+         * @return address pair encoded by {@link #toKey()}
+         */
+        static AddressPair fromKey(@Nonnull final String key) {
+            final String[] parts = key.split(":");
+            final int external = Integer.parseUnsignedInt(parts[0], 16);
+            return parts.length == 2
+                    ? new AddressPair(external, false, 0, Long.parseUnsignedLong(parts[1], 16))
+                    : new AddressPair(external, true, Long.parseUnsignedLong(parts[1], 16),
+                    Long.parseUnsignedLong(parts[2], 16));
+        }
+
+        /**
+         * @return addresses encoded as string, e.g. to be used as name of mapping in context store
+         */
+        String toKey() {
+            final String key = Integer.toHexString(external) + ":";
+            return internalIpv6
+                    ? key + Long.toHexString(internalHigh) + ":" + Long.toHexString(internalLow)
+                    : key + Long.toHexString(internalLow);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final AddressPair that = (AddressPair) o;
+            return external == that.external && internalIpv6 == that.internalIpv6
+                    && internalHigh == that.internalHigh && internalLow == that.internalLow;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = external;
+            result = 31 * result + (internalIpv6 ? 1 : 0);
+            result = 31 * result + Long.hashCode(internalHigh);
+            result = 31 * result + Long.hashCode(internalLow);
+            return result;
+        }
+    }
+}
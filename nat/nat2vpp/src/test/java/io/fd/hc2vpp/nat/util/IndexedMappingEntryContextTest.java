@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.nat.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.Lists;
+import io.fd.hc2vpp.common.translate.util.Ipv4Translator;
+import io.fd.hc2vpp.common.translate.util.Ipv6Translator;
+import io.fd.honeycomb.translate.MappingContext;
+import io.fd.vpp.jvpp.nat.dto.Nat44StaticMappingDetails;
+import io.fd.vpp.jvpp.nat.dto.Nat64BibDetails;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.nat.context.rev161214.mapping.entry.context.attributes.nat.mapping.entry.context.nat.instance.MappingTableBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Address;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv6Address;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.nat.config.nat.instances.nat.instance.mapping.table.MappingEntry;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.nat.config.nat.instances.nat.instance.mapping.table.MappingEntryBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.nat.config.nat.instances.nat.instance.mapping.table.MappingEntryKey;
+
+public class IndexedMappingEntryContextTest implements Ipv4Translator, Ipv6Translator {
+
+    private static final long NAT_ID = 0;
+
+    private final MappingEntryContext ctx = new MappingEntryContext(true);
+    @Mock
+    private MappingContext mappingCtx;
+
+    private final MappingEntry entry = getEntry(0, new IpAddress(new Ipv4Address("192.168.1.5")), "17.14.4.6");
+    private final MappingEntry entry2 = getEntry(7, new IpAddress(new Ipv4Address("192.168.1.8")), "17.14.4.10");
+    private final MappingEntry entry64 = getEntry(3, new IpAddress(new Ipv6Address("2001:db8::1")), "17.14.4.11");
+
+    @Before
+    public void setUp() {
+        initMocks(this);
+        when(mappingCtx.read(MappingEntryContext.getTableId(NAT_ID)))
+                .thenReturn(Optional.of(new MappingTableBuilder()
+                        .setMappingEntry(Lists.newArrayList(
+                                MappingEntryContext.toCtxMapEntry(entry, 0),
+                                MappingEntryContext.toCtxMapEntry(entry2, 7),
+                                MappingEntryContext.toCtxMapEntry(entry64, 3)))
+                        .build()));
+    }
+
+    @Test
+    public void testFindDetailsNat44() {
+        final Nat44StaticMappingDetails details = getDetails("192.168.1.5", "17.14.4.6");
+        final Nat44StaticMappingDetails details2 = getDetails("192.168.1.8", "17.14.4.10");
+        final List<Nat44StaticMappingDetails> someDetails = Lists.newArrayList(details, details2);
+
+        assertSame(details, ctx.findDetailsNat44(someDetails, NAT_ID, 0, mappingCtx).get());
+        assertSame(details2, ctx.findDetailsNat44(someDetails, NAT_ID, 7, mappingCtx).get());
+        assertFalse(ctx.findDetailsNat44(someDetails, NAT_ID, 3, mappingCtx).isPresent());
+        // mapping table read once per transaction
+        verify(mappingCtx).read(MappingEntryContext.getTableId(NAT_ID));
+    }
+
+    @Test
+    public void testFindDetailsNat64() {
+        final Nat64BibDetails details = new Nat64BibDetails();
+        details.oAddr = ipv4AddressNoZoneToArray("17.14.4.11");
+        details.iAddr = ipv6AddressNoZoneToArray(new Ipv6Address("2001:db8::1"));
+
+        assertSame(details, ctx.findDetailsNat64(Lists.newArrayList(details), NAT_ID, 3, mappingCtx).get());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testFindDetailsNoMappingStored() {
+        ctx.findDetailsNat44(Lists.newArrayList(getDetails("192.168.1.5", "17.14.4.6")), NAT_ID, 12, mappingCtx);
+    }
+
+    @Test
+    public void testGetStoredOrArtificialIndex() {
+        assertEquals(7, ctx.getStoredOrArtificialIndex(NAT_ID, getDetails("192.168.1.8", "17.14.4.10"), mappingCtx));
+
+        final Nat44StaticMappingDetails newDetails = getDetails("192.168.1.99", "17.14.4.99");
+        assertEquals(8, ctx.getStoredOrArtificialIndex(NAT_ID, newDetails, mappingCtx));
+        // artificial index is stored in context and reused
+        assertEquals(8, ctx.getStoredOrArtificialIndex(NAT_ID, newDetails, mappingCtx));
+        assertEquals(9, ctx.getStoredOrArtificialIndex(NAT_ID, getDetails("192.168.1.100", "17.14.4.100"),
+                mappingCtx));
+        verify(mappingCtx).put(MappingEntryContext.getId(NAT_ID,
+                MappingEntryContext.entryToKey(getEntry(8, new IpAddress(new Ipv4Address("192.168.1.99")),
+                        "17.14.4.99"))),
+                MappingEntryContext.toCtxMapEntry(getEntry(8, new IpAddress(new Ipv4Address("192.168.1.99")),
+                        "17.14.4.99"), 8));
+    }
+
+    @Test
+    public void testIndexUpdatedOnWrite() {
+        final Nat44StaticMappingDetails details = getDetails("192.168.1.5", "17.14.4.6");
+        ctx.findDetailsNat44(Lists.newArrayList(details), NAT_ID, 0, mappingCtx);
+
+        ctx.removeEntry(NAT_ID, entry, mappingCtx);
+        final MappingEntry newEntry = getEntry(20, new IpAddress(new Ipv4Address("192.168.1.5")), "17.14.4.6");
+        when(mappingCtx.read(MappingEntryContext.getId(NAT_ID, MappingEntryContext.entryToKey(newEntry))))
+                .thenReturn(Optional.absent());
+        ctx.addEntry(NAT_ID, 20, newEntry, mappingCtx);
+
+        assertSame(details, ctx.findDetailsNat44(Lists.newArrayList(details), NAT_ID, 20, mappingCtx).get());
+        assertEquals(20, ctx.getStoredOrArtificialIndex(NAT_ID, details, mappingCtx));
+    }
+
+    @Test
+    public void testFreeIndexAfterRemove() {
+        assertEquals(7, ctx.getStoredOrArtificialIndex(NAT_ID, getDetails("192.168.1.8", "17.14.4.10"), mappingCtx));
+        ctx.removeEntry(NAT_ID, entry2, mappingCtx);
+
+        // highest index was removed, so it is free again
+        assertEquals(4, ctx.getStoredOrArtificialIndex(NAT_ID, getDetails("192.168.1.99", "17.14.4.99"),
+                mappingCtx));
+    }
+
+    @Test
+    public void testIndexPerTransaction() {
+        final MappingContext otherMappingCtx = mock(MappingContext.class);
+        when(otherMappingCtx.read(MappingEntryContext.getTableId(NAT_ID))).thenReturn(Optional.absent());
+        final Nat44StaticMappingDetails details = getDetails("192.168.1.5", "17.14.4.6");
+
+        assertEquals(0, ctx.getStoredOrArtificialIndex(NAT_ID, details, mappingCtx));
+        assertEquals(0, ctx.getStoredOrArtificialIndex(NAT_ID, getDetails("192.168.1.8", "17.14.4.10"),
+                otherMappingCtx));
+        verify(mappingCtx, times(1)).read(MappingEntryContext.getTableId(NAT_ID));
+        verify(otherMappingCtx, times(1)).read(MappingEntryContext.getTableId(NAT_ID));
+    }
+
+    private Nat44StaticMappingDetails getDetails(final String localIp, final String externIp) {
+        final Nat44StaticMappingDetails details = new Nat44StaticMappingDetails();
+        details.addrOnly = 1;
+        details.localIpAddress = ipv4AddressNoZoneToArray(localIp);
+        details.externalIpAddress = ipv4AddressNoZoneToArray(externIp);
+        return details;
+    }
+
+    private static MappingEntry getEntry(final long id, final IpAddress internal, final String externalIpv4) {
+        return new MappingEntryBuilder()
+                .setKey(new MappingEntryKey(id))
+                .setType(org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev150908.MappingEntry.Type.Static)
+                .setInternalSrcAddress(internal)
+                .setExternalSrcAddress(new Ipv4Address(externalIpv4))
+                .build();
+    }
+}
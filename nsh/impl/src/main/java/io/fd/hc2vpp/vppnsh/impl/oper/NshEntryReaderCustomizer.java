@@ -23,6 +23,8 @@ import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.read.Initialized;
 import io.fd.honeycomb.translate.spi.read.InitializingListReaderCustomizer;
+import io.fd.honeycomb.translate.util.read.cache.DumpCacheManager;
+import io.fd.honeycomb.translate.util.read.cache.StaticCacheKeyFactory;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
 import io.fd.hc2vpp.vppnsh.impl.util.FutureJVppNshCustomizer;
@@ -33,9 +35,11 @@ import io.fd.vpp.jvpp.nsh.future.FutureJVppNsh;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.CompletionStage;
+import java.util.Map;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.nsh.rev170315.Ethernet;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.nsh.rev170315.Ipv4;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.nsh.rev170315.Ipv6;
@@ -66,11 +70,23 @@ public class NshEntryReaderCustomizer extends FutureJVppNshCustomizer
 
     private static final Logger LOG = LoggerFactory.getLogger(NshEntryReaderCustomizer.class);
     private final NamingContext nshEntryContext;
+    private final DumpCacheManager<Map<Integer, NshEntryDetails>, Void> dumpManager;
 
     public NshEntryReaderCustomizer(@Nonnull final FutureJVppNsh futureJVppNsh,
                                     @Nonnull final NamingContext nshEntryContext) {
         super(futureJVppNsh);
         this.nshEntryContext = checkNotNull(nshEntryContext, "nshEntryContext should not be null");
+        this.dumpManager = new DumpCacheManager.DumpCacheManagerBuilder<Map<Integer, NshEntryDetails>, Void>()
+                .withCacheKeyFactory(
+                        new StaticCacheKeyFactory(NshEntryReaderCustomizer.class.getName() + "_dump", Map.class))
+                .withExecutor((identifier, params) -> {
+                    final NshEntryDump request = new NshEntryDump();
+                    request.entryIndex = -1; // dump call
+                    // index is stored instead of the dump, so it is built just once per transaction
+                    return index(getReplyForRead(getFutureJVppNsh().nshEntryDump(request).toCompletableFuture(),
+                            identifier));
+                })
+                .build();
     }
 
     @Override
@@ -134,27 +150,19 @@ public class NshEntryReaderCustomizer extends FutureJVppNshCustomizer
         LOG.debug("Reading attributes for nsh entry: {}", id);
         final NshEntryKey key = id.firstKeyOf(NshEntry.class);
         checkArgument(key != null, "could not find NshEntry key in {}", id);
-        final NshEntryDump request = new NshEntryDump();
-
         final String entryName = key.getName();
         if (!nshEntryContext.containsIndex(entryName, ctx.getMappingContext())) {
             LOG.debug("Could not find nsh entry {} in the naming context", entryName);
             return;
         }
-        request.entryIndex = nshEntryContext.getIndex(entryName, ctx.getMappingContext());
-
-        final CompletionStage<NshEntryDetailsReplyDump> nshEntryDetailsReplyDumpCompletionStage =
-                getFutureJVppNsh().nshEntryDump(request);
-        final NshEntryDetailsReplyDump reply =
-                getReplyForRead(nshEntryDetailsReplyDumpCompletionStage.toCompletableFuture(), id);
-        if (reply == null || reply.nshEntryDetails == null || reply.nshEntryDetails.isEmpty()) {
+        final int index = nshEntryContext.getIndex(entryName, ctx.getMappingContext());
+        final NshEntryDetails nshEntryDetails = getEntryDetails(id, ctx, index);
+        if (nshEntryDetails == null) {
             LOG.debug("Has no Nsh Entry {} in VPP. ", key.getName());
             return;
         }
 
-        LOG.trace("Nsh Entry : {} attributes returned from VPP: {}", key.getName(), reply);
-
-        final NshEntryDetails nshEntryDetails = reply.nshEntryDetails.get(0);
+        LOG.trace("Nsh Entry : {} attributes returned from VPP: {}", key.getName(), nshEntryDetails);
         builder.setName(entryName);
         builder.setKey(key);
         builder.setVersion((short) nshEntryDetails.verOC);
@@ -205,29 +213,17 @@ public class NshEntryReaderCustomizer extends FutureJVppNshCustomizer
                                        @Nonnull final ReadContext context) throws ReadFailedException {
         LOG.debug("Reading list of keys for nsh entry: {}", id);
 
-        final NshEntryDump request = new NshEntryDump();
-        request.entryIndex = -1; // dump call
-
-        NshEntryDetailsReplyDump reply;
-        try {
-            reply = getFutureJVppNsh().nshEntryDump(request).toCompletableFuture().get();
-        } catch (Exception e) {
-            throw new IllegalStateException("Nsh Entry dump failed", e);
-        }
-
-        if (reply == null || reply.nshEntryDetails == null) {
-            return Collections.emptyList();
-        }
+        final Map<Integer, NshEntryDetails> entries = dumpManager.getDump(id, context.getModificationCache()).get();
 
-        final int nIdsLength = reply.nshEntryDetails.size();
+        final int nIdsLength = entries.size();
         LOG.debug("vppstate.NshEntryCustomizer.getAllIds: nIds.length={}", nIdsLength);
         if (nIdsLength == 0) {
             return Collections.emptyList();
         }
 
         final List<NshEntryKey> allIds = new ArrayList<>(nIdsLength);
-        for (NshEntryDetails detail : reply.nshEntryDetails) {
-            final String nshName = nshEntryContext.getName(detail.entryIndex, context.getMappingContext());
+        for (final Integer index : entries.keySet()) {
+            final String nshName = nshEntryContext.getName(index, context.getMappingContext());
             LOG.debug("vppstate.NshEntryCustomizer.getAllIds: nName={}", nshName);
             allIds.add(new NshEntryKey(nshName));
         }
@@ -235,6 +231,26 @@ public class NshEntryReaderCustomizer extends FutureJVppNshCustomizer
         return allIds;
     }
 
+    @Nullable
+    private NshEntryDetails getEntryDetails(@Nonnull final InstanceIdentifier<NshEntry> id,
+                                            @Nonnull final ReadContext ctx,
+                                            final int index) throws ReadFailedException {
+        return dumpManager.getDump(id, ctx.getModificationCache()).get().get(index);
+    }
+
+    /**
+     * Nsh entries are dumped once per transaction (shared with {@link #getAllIds}) and indexed by entry index.
+     */
+    private static Map<Integer, NshEntryDetails> index(@Nullable final NshEntryDetailsReplyDump reply) {
+        final Map<Integer, NshEntryDetails> entries = new LinkedHashMap<>();
+        if (reply != null && reply.nshEntryDetails != null) {
+            for (final NshEntryDetails details : reply.nshEntryDetails) {
+                entries.putIfAbsent(details.entryIndex, details);
+            }
+        }
+        return entries;
+    }
+
     @Override
     public Initialized<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.nsh.rev170315.vpp.nsh.nsh.entries.NshEntry> init(
             @Nonnull final InstanceIdentifier<NshEntry> id, @Nonnull final NshEntry readValue,
@@ -24,6 +24,8 @@ import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.read.Initialized;
 import io.fd.honeycomb.translate.spi.read.InitializingListReaderCustomizer;
+import io.fd.honeycomb.translate.util.read.cache.DumpCacheManager;
+import io.fd.honeycomb.translate.util.read.cache.StaticCacheKeyFactory;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
 import io.fd.hc2vpp.vppnsh.impl.util.FutureJVppNshCustomizer;
@@ -33,9 +35,11 @@ import io.fd.vpp.jvpp.nsh.dto.NshMapDump;
 import io.fd.vpp.jvpp.nsh.future.FutureJVppNsh;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.CompletionStage;
+import java.util.Map;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.nsh.rev170315.Pop;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.nsh.rev170315.Push;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.nsh.rev170315.Swap;
@@ -63,6 +67,7 @@ implements InitializingListReaderCustomizer<NshMap, NshMapKey, NshMapBuilder>, J
     private static final Logger LOG = LoggerFactory.getLogger(NshMapReaderCustomizer.class);
     private final NamingContext nshMapContext;
     private final NamingContext interfaceContext;
+    private final DumpCacheManager<Map<Integer, NshMapDetails>, Void> dumpManager;
 
     public NshMapReaderCustomizer(@Nonnull final FutureJVppNsh futureJVppNsh,
             @Nonnull final NamingContext nshMapContext,
@@ -70,6 +75,17 @@ implements InitializingListReaderCustomizer<NshMap, NshMapKey, NshMapBuilder>, J
         super(futureJVppNsh);
         this.nshMapContext = checkNotNull(nshMapContext, "nshMapContext should not be null");
         this.interfaceContext = checkNotNull(interfaceContext, "interfaceContext should not be null");
+        this.dumpManager = new DumpCacheManager.DumpCacheManagerBuilder<Map<Integer, NshMapDetails>, Void>()
+                .withCacheKeyFactory(
+                        new StaticCacheKeyFactory(NshMapReaderCustomizer.class.getName() + "_dump", Map.class))
+                .withExecutor((identifier, params) -> {
+                    final NshMapDump request = new NshMapDump();
+                    request.mapIndex = -1; // dump call
+                    // index is stored instead of the dump, so it is built just once per transaction
+                    return index(getReplyForRead(getFutureJVppNsh().nshMapDump(request).toCompletableFuture(),
+                            identifier));
+                })
+                .build();
     }
 
 
@@ -92,28 +108,19 @@ implements InitializingListReaderCustomizer<NshMap, NshMapKey, NshMapBuilder>, J
         LOG.debug("Reading attributes for nsh map: {}", id);
         final NshMapKey key = id.firstKeyOf(NshMap.class);
         checkArgument(key != null, "could not find NshMap key in {}", id);
-        final NshMapDump request = new NshMapDump();
-
         final String mapName = key.getName();
         if (!nshMapContext.containsIndex(mapName, ctx.getMappingContext())) {
             LOG.debug("Could not find nsh map {} in the naming context", mapName);
             return;
         }
-        request.mapIndex = nshMapContext.getIndex(mapName, ctx.getMappingContext());
-
-        final CompletionStage<NshMapDetailsReplyDump> nshMapDetailsReplyDumpCompletionStage =
-                getFutureJVppNsh().nshMapDump(request);
-        final NshMapDetailsReplyDump reply =
-                getReplyForRead(nshMapDetailsReplyDumpCompletionStage.toCompletableFuture(), id);
-
-        if (reply == null || reply.nshMapDetails == null || reply.nshMapDetails.isEmpty()) {
+        final int index = nshMapContext.getIndex(mapName, ctx.getMappingContext());
+        final NshMapDetails nshMapDetails = getMapDetails(id, ctx, index);
+        if (nshMapDetails == null) {
             LOG.debug("Has no Nsh Map {} in VPP. ", key.getName());
             return;
         }
 
-        LOG.trace("Nsh Map : {} attributes returned from VPP: {}", key.getName(), reply);
-
-        final NshMapDetails nshMapDetails = reply.nshMapDetails.get(0);
+        LOG.trace("Nsh Map : {} attributes returned from VPP: {}", key.getName(), nshMapDetails);
         builder.setName(mapName);
         builder.setKey(key);
 
@@ -174,29 +181,17 @@ implements InitializingListReaderCustomizer<NshMap, NshMapKey, NshMapBuilder>, J
             @Nonnull final ReadContext context) throws ReadFailedException {
         LOG.debug("Reading list of keys for nsh map: {}", id);
 
-        final NshMapDump request = new NshMapDump();
-        request.mapIndex = -1; // dump call
-
-        NshMapDetailsReplyDump reply;
-        try {
-            reply = getFutureJVppNsh().nshMapDump(request).toCompletableFuture().get();
-        } catch (Exception e) {
-            throw new IllegalStateException("Nsh Map dump failed", e);
-        }
-
-        if (reply == null || reply.nshMapDetails == null) {
-            return Collections.emptyList();
-        }
+        final Map<Integer, NshMapDetails> maps = dumpManager.getDump(id, context.getModificationCache()).get();
 
-        final int nIdsLength = reply.nshMapDetails.size();
+        final int nIdsLength = maps.size();
         LOG.debug("vppstate.NshMapCustomizer.getAllIds: nIds.length={}", nIdsLength);
         if (nIdsLength == 0) {
             return Collections.emptyList();
         }
 
         final List<NshMapKey> allIds = new ArrayList<>(nIdsLength);
-        for (NshMapDetails detail : reply.nshMapDetails) {
-            final String nshName = nshMapContext.getName(detail.mapIndex, context.getMappingContext());
+        for (final Integer index : maps.keySet()) {
+            final String nshName = nshMapContext.getName(index, context.getMappingContext());
             LOG.debug("vppstate.NshMapCustomizer.getAllIds: nName={}", nshName);
             allIds.add(new NshMapKey(nshName));
         }
@@ -204,6 +199,26 @@ implements InitializingListReaderCustomizer<NshMap, NshMapKey, NshMapBuilder>, J
         return allIds;
     }
 
+    @Nullable
+    private NshMapDetails getMapDetails(@Nonnull final InstanceIdentifier<NshMap> id,
+                                        @Nonnull final ReadContext ctx,
+                                        final int index) throws ReadFailedException {
+        return dumpManager.getDump(id, ctx.getModificationCache()).get().get(index);
+    }
+
+    /**
+     * Nsh maps are dumped once per transaction (shared with {@link #getAllIds}) and indexed by map index.
+     */
+    private static Map<Integer, NshMapDetails> index(@Nullable final NshMapDetailsReplyDump reply) {
+        final Map<Integer, NshMapDetails> maps = new LinkedHashMap<>();
+        if (reply != null && reply.nshMapDetails != null) {
+            for (final NshMapDetails details : reply.nshMapDetails) {
+                maps.putIfAbsent(details.mapIndex, details);
+            }
+        }
+        return maps;
+    }
+
     @Override
     public Initialized<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.nsh.rev170315.vpp.nsh.nsh.maps.NshMap> init(
             @Nonnull final InstanceIdentifier<NshMap> id,
@@ -17,12 +17,18 @@
 package io.fd.hc2vpp.vppnsh.impl.util;
 
 import com.google.inject.Inject;
+import io.fd.hc2vpp.common.translate.util.JVppRequestMonitor;
+import io.fd.hc2vpp.common.translate.util.JVppRequestStats;
 import io.fd.honeycomb.binding.init.ProviderTrait;
 import io.fd.honeycomb.data.init.ShutdownHandler;
 import io.fd.vpp.jvpp.JVppRegistry;
+import io.fd.vpp.jvpp.dto.JVppReply;
+import io.fd.vpp.jvpp.dto.JVppReplyDump;
+import io.fd.vpp.jvpp.dto.JVppRequest;
 import io.fd.vpp.jvpp.nsh.JVppNshImpl;
 import io.fd.vpp.jvpp.nsh.future.FutureJVppNshFacade;
 import java.io.IOException;
+import java.util.concurrent.CompletionStage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,6 +46,9 @@ public final class JVppNshProvider extends ProviderTrait<FutureJVppNshFacade> {
     @Inject
     private ShutdownHandler shutdownHandler;
 
+    @Inject
+    private JVppRequestStats stats;
+
     @Override
     protected FutureJVppNshFacade create() {
         try {
@@ -48,7 +57,20 @@ public final class JVppNshProvider extends ProviderTrait<FutureJVppNshFacade> {
             shutdownHandler.register("jvpp-nsh", jVppNsh);
 
             LOG.info("Successfully loaded jvpp-nsh plugin");
-            return new FutureJVppNshFacade(registry, jVppNsh);
+            final JVppRequestMonitor monitor = stats.getMonitor("nsh");
+            return new FutureJVppNshFacade(registry, jVppNsh) {
+                @Override
+                public <REQ extends JVppRequest, REPLY extends JVppReply<REQ>> CompletionStage<REPLY> send(
+                        final REQ req) {
+                    return monitor.send(() -> super.send(req));
+                }
+
+                @Override
+                public <REQ extends JVppRequest, REPLY extends JVppReply<REQ>, DUMP extends JVppReplyDump<REQ, REPLY>>
+                CompletionStage<DUMP> send(final REQ req, final DUMP emptyReplyDump) {
+                    return monitor.sendDump(() -> super.send(req, emptyReplyDump));
+                }
+            };
         } catch (IOException e) {
             throw new IllegalStateException("Unable to open VPP management connection", e);
         }
@@ -81,6 +81,7 @@ public class NshEntryReaderCustomizerTest extends
 
         final NshEntryDetailsReplyDump reply = new NshEntryDetailsReplyDump();
         final NshEntryDetails nshEntryDetails = new NshEntryDetails();
+        nshEntryDetails.entryIndex = ENTRY_INDEX_1;
         nshEntryDetails.verOC = 0;
         nshEntryDetails.length = 6;
         nshEntryDetails.mdType = 1;
@@ -114,6 +115,22 @@ public class NshEntryReaderCustomizerTest extends
         verify(jvppNsh).nshEntryDump(any(NshEntryDump.class));
     }
 
+    @Test
+    public void testReadAllEntriesDumpsOnce() throws ReadFailedException {
+        final InstanceIdentifier<NshEntry> id = getNshEntryId(ENTRY_NAME_1);
+        final List<NshEntryKey> allIds = getCustomizer().getAllIds(id, ctx);
+        assertEquals(1, allIds.size());
+
+        final NshEntryBuilder builder = new NshEntryBuilder();
+        getCustomizer().readCurrentAttributes(id, builder, ctx);
+        assertEquals(123, builder.getNsp().intValue());
+
+        // entry 2 is not present in the dump
+        getCustomizer().readCurrentAttributes(getNshEntryId(ENTRY_NAME_2), new NshEntryBuilder(), ctx);
+
+        verify(jvppNsh).nshEntryDump(any(NshEntryDump.class));
+    }
+
     @Test
     public void testGetAllIds() throws ReadFailedException {
         final NshEntryDetailsReplyDump reply = new NshEntryDetailsReplyDump();
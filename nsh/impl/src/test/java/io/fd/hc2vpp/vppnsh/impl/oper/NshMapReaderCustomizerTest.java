@@ -90,6 +90,7 @@ public class NshMapReaderCustomizerTest extends
 
         final NshMapDetailsReplyDump reply = new NshMapDetailsReplyDump();
         final NshMapDetails nshMapDetails = new NshMapDetails();
+        nshMapDetails.mapIndex = MAP_INDEX_1;
         nshMapDetails.nspNsi = (184<<8 | 255);
         nshMapDetails.mappedNspNsi = (183<<8 | 254);
         nshMapDetails.nshAction = 0;
@@ -116,6 +117,22 @@ public class NshMapReaderCustomizerTest extends
         verify(jvppNsh).nshMapDump(any(NshMapDump.class));
     }
 
+    @Test
+    public void testReadAllMapsDumpsOnce() throws ReadFailedException {
+        final InstanceIdentifier<NshMap> id = getNshMapId(MAP_NAME_1);
+        final List<NshMapKey> allIds = getCustomizer().getAllIds(id, ctx);
+        assertEquals(1, allIds.size());
+
+        final NshMapBuilder builder = new NshMapBuilder();
+        getCustomizer().readCurrentAttributes(id, builder, ctx);
+        assertEquals(184, builder.getNsp().intValue());
+
+        // map 2 is not present in the dump
+        getCustomizer().readCurrentAttributes(getNshMapId(MAP_NAME_2), new NshMapBuilder(), ctx);
+
+        verify(jvppNsh).nshMapDump(any(NshMapDump.class));
+    }
+
     @Test
     public void testGetAllIds() throws ReadFailedException {
         final NshMapDetailsReplyDump reply = new NshMapDetailsReplyDump();
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fd.hc2vpp.routing;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import io.fd.hc2vpp.common.translate.util.MultiNamingContext;
+import io.fd.hc2vpp.common.translate.util.TransactionalContextStore;
+import javax.annotation.Nullable;
+
+/**
+ * Provides route hop context, backed by context store if configured.
+ */
+final class RouteHopContextProvider implements Provider<MultiNamingContext> {
+
+    @Inject(optional = true)
+    @Nullable
+    private TransactionalContextStore contextStore;
+
+    @Override
+    public MultiNamingContext get() {
+        return contextStore == null
+                ? new MultiNamingContext(RoutingConfiguration.ROUTE_HOP_CONTEXT,
+                        RoutingConfiguration.MULTI_MAPPING_START_INDEX, true)
+                : new MultiNamingContext(RoutingConfiguration.ROUTE_HOP_CONTEXT,
+                        RoutingConfiguration.MULTI_MAPPING_START_INDEX, contextStore);
+    }
+}
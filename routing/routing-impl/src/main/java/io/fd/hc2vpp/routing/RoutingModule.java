@@ -17,6 +17,7 @@
 package io.fd.hc2vpp.routing;
 
 import com.google.inject.AbstractModule;
+import com.google.inject.Singleton;
 import com.google.inject.multibindings.Multibinder;
 import com.google.inject.name.Names;
 import io.fd.hc2vpp.common.translate.util.MultiNamingContext;
@@ -49,12 +50,13 @@ public final class RoutingModule extends AbstractModule {
 
         bind(NamingContext.class)
                 .annotatedWith(Names.named(RoutingConfiguration.ROUTE_CONTEXT))
-                .toInstance(new NamingContext("route-", RoutingConfiguration.ROUTE_CONTEXT));
+                .toProvider(RouteContextProvider.class)
+                .in(Singleton.class);
 
         bind(MultiNamingContext.class)
                 .annotatedWith(Names.named(RoutingConfiguration.ROUTE_HOP_CONTEXT))
-                .toInstance(new MultiNamingContext(RoutingConfiguration.ROUTE_HOP_CONTEXT,
-                        RoutingConfiguration.MULTI_MAPPING_START_INDEX));
+                .toProvider(RouteHopContextProvider.class)
+                .in(Singleton.class);
 
         LOG.info("Injecting reader factories");
         // creates reader factory binding
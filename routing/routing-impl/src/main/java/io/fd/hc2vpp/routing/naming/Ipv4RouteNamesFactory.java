@@ -17,15 +17,15 @@
 package io.fd.hc2vpp.routing.naming;
 
 
+import static io.fd.hc2vpp.common.translate.util.IpAddressCodec.formatIpv4;
+import static io.fd.hc2vpp.common.translate.util.IpAddressCodec.toInt;
+
 import io.fd.hc2vpp.common.translate.util.NamingContext;
 import io.fd.hc2vpp.routing.trait.RouteMapper;
 import io.fd.hc2vpp.routing.write.trait.RouteRequestProducer;
 import io.fd.honeycomb.translate.MappingContext;
 import io.fd.vpp.jvpp.core.dto.IpFibDetails;
 import io.fd.vpp.jvpp.core.types.FibPath;
-import java.net.InetAddress;
-import java.net.UnknownHostException;
-import java.util.Arrays;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Address;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Prefix;
@@ -79,18 +79,9 @@ public final class Ipv4RouteNamesFactory implements RouteMapper, RouteRequestPro
     }
 
     private String dotlessAddress(final byte[] address) {
-        // trimming in case of ipv4 address beeing sent as 16 byte array
-        byte[] trimmed = address;
-        if (trimmed.length > 4) {
-            trimmed = Arrays.copyOfRange(trimmed, 0, 4);
-        }
-
+        // only first 4 bytes are used, in case of ipv4 address beeing sent as 16 byte array
         //no reverting, just takes address as it is and converts it
-        try {
-            return dotless(InetAddress.getByAddress(trimmed).getHostAddress());
-        } catch (UnknownHostException e) {
-            throw new IllegalArgumentException(e);
-        }
+        return dotless(formatIpv4(toInt(address)));
     }
 
     private String dotlessAddress(@Nonnull final Ipv4Prefix address) {
@@ -16,14 +16,17 @@
 
 package io.fd.hc2vpp.routing.naming;
 
-import com.google.common.net.InetAddresses;
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.fd.hc2vpp.common.translate.util.IpAddressCodec.formatIpv4;
+import static io.fd.hc2vpp.common.translate.util.IpAddressCodec.formatIpv6;
+import static io.fd.hc2vpp.common.translate.util.IpAddressCodec.parseIpv6;
+import static io.fd.hc2vpp.common.translate.util.IpAddressCodec.toLong;
+
 import io.fd.hc2vpp.common.translate.util.NamingContext;
 import io.fd.hc2vpp.routing.trait.RouteMapper;
 import io.fd.honeycomb.translate.MappingContext;
 import io.fd.vpp.jvpp.core.dto.Ip6FibDetails;
 import io.fd.vpp.jvpp.core.types.FibPath;
-import java.net.InetAddress;
-import java.net.UnknownHostException;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv6Address;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv6Prefix;
@@ -31,6 +34,7 @@ import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.
 
 public final class Ipv6RouteNamesFactory implements RouteMapper {
 
+    private static final int IPV6_LENGTH = 16;
     private static final String DOUBLE_DOT = ":";
     private static final String EMPTY = "";
 
@@ -76,26 +80,9 @@ public final class Ipv6RouteNamesFactory implements RouteMapper {
                 String.valueOf(path.weight));
     }
 
-    /**
-     * Uses combination of standard java.net.InetAddress and com.google.common.net.InetAddresses for following reasons
-     * <ul>
-     * <li>
-     * InetAddresses.toAddrString uses maximal ipv6 compression - eliminate possibility of mismatch between same
-     * addresses with different compression
-     * </li>
-     * <li>
-     * InetAddress.getByAddress just converts byte array to address, that's
-     * why InetAddresses.fromLittleEndianByteArray is not used, because it internaly reverts order of address
-     * bytes,which is something that is not needed here
-     * </li>
-     * </ul>
-     */
     private String doubleDotlessAddress(final byte[] address) {
-        try {
-            return doubleDotless(InetAddresses.toAddrString(InetAddress.getByAddress(address)));
-        } catch (UnknownHostException e) {
-            throw new IllegalArgumentException(e);
-        }
+        checkArgument(address.length == IPV6_LENGTH, "Invalid IPv6 address length: %s", address.length);
+        return doubleDotless(compressedIpv6(toLong(address, 0), toLong(address, 8)));
     }
 
     private String doubleDotlessAddress(@Nonnull final Ipv6Prefix address) {
@@ -105,7 +92,6 @@ public final class Ipv6RouteNamesFactory implements RouteMapper {
 
     private String doubleDotlessAddress(@Nonnull final Ipv6Address address) {
         // converted to use maximal compression
-        // for details - https://google.github.io/guava/releases/snapshot/api/docs/com/google/common/net/InetAddresses.html#toAddrString-java.net.InetAddress
         return doubleDotless(compressedIpv6(address.getValue()));
     }
 
@@ -113,7 +99,21 @@ public final class Ipv6RouteNamesFactory implements RouteMapper {
      * Use maximal compresion of ipv6 address string
      */
     private String compressedIpv6(@Nonnull final String input) {
-        return InetAddresses.toAddrString(InetAddresses.forString(input));
+        final byte[] address = new byte[IPV6_LENGTH];
+        parseIpv6(input, 0, input.length(), address, 0);
+        return compressedIpv6(toLong(address, 0), toLong(address, 8));
+    }
+
+    /**
+     * Formats address the same way as InetAddresses.toAddrString, which eliminates possibility of mismatch between
+     * same addresses with different compression. IPv4 mapped addresses are formatted as IPv4 addresses, to keep names
+     * of already existing routes.
+     */
+    private String compressedIpv6(final long high, final long low) {
+        if (high == 0 && low >>> 32 == 0xffffL) {
+            return formatIpv4((int) low);
+        }
+        return formatIpv6(high, low);
     }
 
     private String doubleDotless(@Nonnull final String input) {
@@ -48,6 +48,7 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 public class Ipv4RouteCustomizer
         implements ListReaderCustomizer<Route, RouteKey, RouteBuilder>, RouteMapper, Ipv4RoutePathParser {
 
+    private static final String ROUTES_INDEX_KEY = Ipv4RouteCustomizer.class.getName() + "_routesIndex";
 
     private final DumpCacheManager<IpFibDetailsReplyDump, Void> ipv4RoutesDumpManager;
     private final RoutingConfiguration configuration;
@@ -77,27 +78,37 @@ public class Ipv4RouteCustomizer
     @Override
     public List<RouteKey> getAllIds(@Nonnull final InstanceIdentifier<Route> instanceIdentifier,
                                     @Nonnull final ReadContext readContext) throws ReadFailedException {
-
-        final Optional<IpFibDetailsReplyDump> ipv4RoutesDump =
-                ipv4RoutesDumpManager.getDump(instanceIdentifier, readContext.getModificationCache());
-
         final String protocolName = instanceIdentifier.firstKeyOf(RoutingProtocol.class).getName();
         final int protocolTableId = routingProtocolContext.getIndex(protocolName, readContext.getMappingContext());
 
-        return ipv4RoutesDump.isPresent()
-                ? ipv4RoutesDump.get().ipFibDetails.stream()
-                .filter(details -> protocolTableId == details.tableId)
-                .map(ipFibDetails -> toKey(ipFibDetails, readContext.getMappingContext()))
-                .collect(Collectors.toList())
-                : Collections.emptyList();
+        return routesIndex(instanceIdentifier, readContext).routeNames(protocolTableId).stream()
+                .map(routeName -> toKey(routeName, readContext.getMappingContext()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Index of dumped routes shared by all reads within current transaction.
+     */
+    private RouteDetailsIndex<IpFibDetails> routesIndex(
+            @Nonnull final InstanceIdentifier<Route> instanceIdentifier,
+            @Nonnull final ReadContext readContext) throws ReadFailedException {
+        return RouteDetailsIndex.getOrCreate(readContext.getModificationCache(), ROUTES_INDEX_KEY,
+                () -> {
+                    final Optional<IpFibDetailsReplyDump> dump =
+                            ipv4RoutesDumpManager.getDump(instanceIdentifier, readContext.getModificationCache());
+                    return dump.isPresent()
+                            ? dump.get().ipFibDetails
+                            : Collections.emptyList();
+                },
+                details -> details.tableId,
+                details -> namesFactory.uniqueRouteName(details, readContext.getMappingContext()));
     }
 
     /**
      * route id is represented as number, but there's no index in dumped data,
      * so index is assigned to name formatted as tableId_address_addressLength(should be unique combination)
      */
-    private RouteKey toKey(final IpFibDetails details, final MappingContext mappingContext) {
-        String routeName = namesFactory.uniqueRouteName(details, mappingContext);
+    private RouteKey toKey(final String routeName, final MappingContext mappingContext) {
         // first condition excludes data written manually, second one data that has been already learned
         if (!routesContext.containsIndex(routeName, mappingContext)) {
             String learnedRouteName = nameWithPrefix(configuration.getLearnedRouteNamePrefix(), routeName);
@@ -133,28 +144,19 @@ public class Ipv4RouteCustomizer
         final String mappedName = routesContext.getName(key.getId().intValue(), readContext.getMappingContext());
         final String protocolName = instanceIdentifier.firstKeyOf(RoutingProtocol.class).getName();
         final int protocolTableId = routingProtocolContext.getIndex(protocolName, readContext.getMappingContext());
-        final Optional<IpFibDetailsReplyDump> ipv4RoutesDump =
-                ipv4RoutesDumpManager.getDump(instanceIdentifier, readContext.getModificationCache());
-
-        if (ipv4RoutesDump.isPresent() && !ipv4RoutesDump.get().ipFibDetails.isEmpty()) {
-
-            final java.util.Optional<IpFibDetails> opDetail = ipv4RoutesDump.get().ipFibDetails.stream()
-                    .filter(details -> protocolTableId == details.tableId)
-                    .filter(details -> equalsWithConfigOrLearned(configuration.getLearnedRouteNamePrefix(), mappedName,
-                            namesFactory.uniqueRouteName(details, readContext.getMappingContext())))
-                    .findAny();
-
-            if (opDetail.isPresent()) {
-                final IpFibDetails detail = opDetail.get();
-
-                routeBuilder.setNextHopOptions(
-                        resolveHopType(mappedName, Arrays.asList(detail.path), interfaceContext, routeHopContext,
-                                readContext.getMappingContext(), namesFactory))
-                        .setKey(key)
-                        .setId(key.getId())
-                        .setDestinationPrefix(toIpv4Prefix(detail.address, toJavaByte(detail.addressLength)))
-                        .setVppIpv4RouteState(new VppIpv4RouteStateBuilder().build());
-            }
+        final java.util.Optional<IpFibDetails> opDetail = routesIndex(instanceIdentifier, readContext)
+                .find(protocolTableId, configuration.getLearnedRouteNamePrefix(), mappedName);
+
+        if (opDetail.isPresent()) {
+            final IpFibDetails detail = opDetail.get();
+
+            routeBuilder.setNextHopOptions(
+                    resolveHopType(mappedName, Arrays.asList(detail.path), interfaceContext, routeHopContext,
+                            readContext.getMappingContext(), namesFactory))
+                    .setKey(key)
+                    .setId(key.getId())
+                    .setDestinationPrefix(toIpv4Prefix(detail.address, toJavaByte(detail.addressLength)))
+                    .setVppIpv4RouteState(new VppIpv4RouteStateBuilder().build());
         }
     }
 }
@@ -48,6 +48,8 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 public class Ipv6RouteCustomizer
         implements ListReaderCustomizer<Route, RouteKey, RouteBuilder>, RouteMapper, Ipv6RoutePathParser {
 
+    private static final String ROUTES_INDEX_KEY = Ipv6RouteCustomizer.class.getName() + "_routesIndex";
+
     private final DumpCacheManager<Ip6FibDetailsReplyDump, Void> ipv6RoutesDumpManager;
     private final RoutingConfiguration configuration;
     private final MultiNamingContext routeHopContext;
@@ -75,27 +77,37 @@ public class Ipv6RouteCustomizer
     @Override
     public List<RouteKey> getAllIds(@Nonnull final InstanceIdentifier<Route> instanceIdentifier,
                                     @Nonnull final ReadContext readContext) throws ReadFailedException {
-
-        final Optional<Ip6FibDetailsReplyDump> ipv6RoutesDump =
-                ipv6RoutesDumpManager.getDump(instanceIdentifier, readContext.getModificationCache());
-
         final String protocolName = instanceIdentifier.firstKeyOf(RoutingProtocol.class).getName();
         final int protocolTableId = routingProtocolContext.getIndex(protocolName, readContext.getMappingContext());
 
-        return ipv6RoutesDump.isPresent()
-                ? ipv6RoutesDump.get().ip6FibDetails.stream()
-                .filter(details -> protocolTableId == details.tableId)
-                .map(ip6FibDetails -> toKey(ip6FibDetails, readContext.getMappingContext()))
-                .collect(Collectors.toList())
-                : Collections.emptyList();
+        return routesIndex(instanceIdentifier, readContext).routeNames(protocolTableId).stream()
+                .map(routeName -> toKey(routeName, readContext.getMappingContext()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Index of dumped routes shared by all reads within current transaction.
+     */
+    private RouteDetailsIndex<Ip6FibDetails> routesIndex(
+            @Nonnull final InstanceIdentifier<Route> instanceIdentifier,
+            @Nonnull final ReadContext readContext) throws ReadFailedException {
+        return RouteDetailsIndex.getOrCreate(readContext.getModificationCache(), ROUTES_INDEX_KEY,
+                () -> {
+                    final Optional<Ip6FibDetailsReplyDump> dump =
+                            ipv6RoutesDumpManager.getDump(instanceIdentifier, readContext.getModificationCache());
+                    return dump.isPresent()
+                            ? dump.get().ip6FibDetails
+                            : Collections.emptyList();
+                },
+                details -> details.tableId,
+                details -> namesFactory.uniqueRouteName(details, readContext.getMappingContext()));
     }
 
     /**
      * route id is represented as number, but there's no index in dumped data,
      * so index is assigned to name formatted as tableId_address_addressLength(should be unique combination)
      */
-    private RouteKey toKey(final Ip6FibDetails details, final MappingContext mappingContext) {
-        String routeName = namesFactory.uniqueRouteName(details, mappingContext);
+    private RouteKey toKey(final String routeName, final MappingContext mappingContext) {
         // first condition excludes data written manually, second one data that has been already learned
         if (!routesContext.containsIndex(routeName, mappingContext)) {
             String learnedRouteName = nameWithPrefix(configuration.getLearnedRouteNamePrefix(), routeName);
@@ -130,28 +142,19 @@ public class Ipv6RouteCustomizer
         final String mappedName = routesContext.getName(key.getId().intValue(), readContext.getMappingContext());
         final String protocolName = instanceIdentifier.firstKeyOf(RoutingProtocol.class).getName();
         final int protocolTableId = routingProtocolContext.getIndex(protocolName, readContext.getMappingContext());
-        final Optional<Ip6FibDetailsReplyDump> ipv6RoutesDump =
-                ipv6RoutesDumpManager.getDump(instanceIdentifier, readContext.getModificationCache());
-
-        if (ipv6RoutesDump.isPresent() && !ipv6RoutesDump.get().ip6FibDetails.isEmpty()) {
-
-            final java.util.Optional<Ip6FibDetails> opDetail = ipv6RoutesDump.get().ip6FibDetails.stream()
-                    .filter(details -> protocolTableId == details.tableId)
-                    .filter(details -> equalsWithConfigOrLearned(configuration.getLearnedRouteNamePrefix(), mappedName,
-                            namesFactory.uniqueRouteName(details, readContext.getMappingContext())))
-                    .findAny();
-
-            if (opDetail.isPresent()) {
-                final Ip6FibDetails detail = opDetail.get();
-
-                routeBuilder.setNextHopOptions(
-                        resolveHopType(mappedName, Arrays.asList(detail.path), interfaceContext, routeHopContext,
-                                readContext.getMappingContext(), namesFactory))
-                        .setKey(key)
-                        .setId(key.getId())
-                        .setDestinationPrefix(toIpv6Prefix(detail.address, toJavaByte(detail.addressLength)))
-                        .setVppIpv6RouteState(new VppIpv6RouteStateBuilder().build());
-            }
+        final java.util.Optional<Ip6FibDetails> opDetail = routesIndex(instanceIdentifier, readContext)
+                .find(protocolTableId, configuration.getLearnedRouteNamePrefix(), mappedName);
+
+        if (opDetail.isPresent()) {
+            final Ip6FibDetails detail = opDetail.get();
+
+            routeBuilder.setNextHopOptions(
+                    resolveHopType(mappedName, Arrays.asList(detail.path), interfaceContext, routeHopContext,
+                            readContext.getMappingContext(), namesFactory))
+                    .setKey(key)
+                    .setId(key.getId())
+                    .setDestinationPrefix(toIpv6Prefix(detail.address, toJavaByte(detail.addressLength)))
+                    .setVppIpv6RouteState(new VppIpv6RouteStateBuilder().build());
         }
     }
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.routing.read;
+
+import io.fd.hc2vpp.routing.trait.RouteMapper;
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import javax.annotation.Nonnull;
+
+/**
+ * Index of fib dump details by table id and unique route name. Built once per read transaction and stored in
+ * {@link ModificationCache}, so that reading all routes is linear in size of the fib instead of scanning the whole
+ * dump for each route.
+ *
+ * <p>Route names are generated lazily per table, so names of routing protocols are not created for tables
+ * that are not read.
+ *
+ * @param <D> type of fib details
+ */
+final class RouteDetailsIndex<D> implements RouteMapper {
+
+    private final Map<Integer, List<D>> detailsByTable;
+    private final Map<Integer, Map<String, D>> namedDetailsByTable;
+    private final Function<D, String> routeNameFactory;
+
+    private RouteDetailsIndex(@Nonnull final List<D> details,
+                              @Nonnull final ToIntFunction<D> tableIdExtractor,
+                              @Nonnull final Function<D, String> routeNameFactory) {
+        this.routeNameFactory = routeNameFactory;
+        this.namedDetailsByTable = new HashMap<>();
+        this.detailsByTable = new HashMap<>();
+        for (final D detail : details) {
+            detailsByTable.computeIfAbsent(tableIdExtractor.applyAsInt(detail), tableId -> new ArrayList<>())
+                    .add(detail);
+        }
+    }
+
+    /**
+     * Returns index stored in provided cache under provided key, or builds new one from supplied details.
+     */
+    @SuppressWarnings("unchecked")
+    static <D> RouteDetailsIndex<D> getOrCreate(@Nonnull final ModificationCache cache,
+                                                @Nonnull final Object cacheKey,
+                                                @Nonnull final DetailsSupplier<D> detailsSupplier,
+                                                @Nonnull final ToIntFunction<D> tableIdExtractor,
+                                                @Nonnull final Function<D, String> routeNameFactory)
+            throws ReadFailedException {
+        RouteDetailsIndex<D> index = (RouteDetailsIndex<D>) cache.get(cacheKey);
+        if (index == null) {
+            index = new RouteDetailsIndex<>(detailsSupplier.get(), tableIdExtractor, routeNameFactory);
+            cache.put(cacheKey, index);
+        }
+        return index;
+    }
+
+    /**
+     * @return unique names of all routes in table, in order they were dumped
+     */
+    Set<String> routeNames(final int tableId) {
+        return table(tableId).keySet();
+    }
+
+    /**
+     * Finds details for route stored under provided name, considering both configured and learned name format.
+     *
+     * @see RouteMapper#equalsWithConfigOrLearned
+     */
+    Optional<D> find(final int tableId, @Nonnull final String learnedPrefix, @Nonnull final String mappedName) {
+        final Map<String, D> table = table(tableId);
+        final D detail = table.get(mappedName);
+        if (detail != null) {
+            return Optional.of(detail);
+        }
+        final String learnedNamePrefix = nameWithPrefix(learnedPrefix, "");
+        if (mappedName.startsWith(learnedNamePrefix)) {
+            return Optional.ofNullable(table.get(mappedName.substring(learnedNamePrefix.length())));
+        }
+        return Optional.empty();
+    }
+
+    private synchronized Map<String, D> table(final int tableId) {
+        return namedDetailsByTable.computeIfAbsent(tableId, this::nameDetails);
+    }
+
+    private Map<String, D> nameDetails(final int tableId) {
+        final List<D> details = detailsByTable.getOrDefault(tableId, Collections.emptyList());
+        final Map<String, D> named = new LinkedHashMap<>(details.size() * 2);
+        for (final D detail : details) {
+            // first match wins, same as for search in dump
+            named.putIfAbsent(routeNameFactory.apply(detail), detail);
+        }
+        return named;
+    }
+
+    @FunctionalInterface
+    interface DetailsSupplier<D> {
+        List<D> get() throws ReadFailedException;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.routing.read;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.vpp.jvpp.core.dto.IpFibDetails;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RouteDetailsIndexTest {
+
+    private static final String LEARNED_PREFIX = "learned";
+    private static final String KEY = "key";
+
+    private ModificationCache cache;
+    private AtomicInteger dumps;
+    private AtomicInteger namesCreated;
+    private IpFibDetails first;
+    private IpFibDetails second;
+    private IpFibDetails other;
+
+    @Before
+    public void setUp() {
+        cache = new ModificationCache();
+        dumps = new AtomicInteger();
+        namesCreated = new AtomicInteger();
+        first = details(1, 24);
+        second = details(1, 16);
+        other = details(2, 8);
+    }
+
+    @Test
+    public void testRouteNames() throws Exception {
+        final RouteDetailsIndex<IpFibDetails> index = index();
+
+        assertThat(index.routeNames(1), contains("1_24", "1_16"));
+        assertThat(index.routeNames(2), contains("2_8"));
+        assertFalse(index.routeNames(3).iterator().hasNext());
+    }
+
+    @Test
+    public void testFind() throws Exception {
+        final RouteDetailsIndex<IpFibDetails> index = index();
+
+        assertSame(first, index.find(1, LEARNED_PREFIX, "1_24").get());
+        assertSame(second, index.find(1, LEARNED_PREFIX, "learned_1_16").get());
+        assertFalse(index.find(2, LEARNED_PREFIX, "1_24").isPresent());
+        assertFalse(index.find(1, LEARNED_PREFIX, "other_1_16").isPresent());
+    }
+
+    @Test
+    public void testBuiltOncePerTransaction() throws Exception {
+        final RouteDetailsIndex<IpFibDetails> index = index();
+        index.find(1, LEARNED_PREFIX, "1_24");
+        index.find(1, LEARNED_PREFIX, "1_16");
+        index.routeNames(1);
+
+        assertSame(index, index());
+        assertEquals(1, dumps.get());
+        // names are created only for requested table
+        assertEquals(2, namesCreated.get());
+    }
+
+    private RouteDetailsIndex<IpFibDetails> index() throws Exception {
+        return RouteDetailsIndex.getOrCreate(cache, KEY, this::dump, details -> details.tableId, details -> {
+            namesCreated.incrementAndGet();
+            return details.tableId + "_" + details.addressLength;
+        });
+    }
+
+    private List<IpFibDetails> dump() {
+        dumps.incrementAndGet();
+        return Arrays.asList(first, second, other);
+    }
+
+    private static IpFibDetails details(final int tableId, final int addressLength) {
+        final IpFibDetails details = new IpFibDetails();
+        details.tableId = tableId;
+        details.addressLength = (byte) addressLength;
+        return details;
+    }
+}
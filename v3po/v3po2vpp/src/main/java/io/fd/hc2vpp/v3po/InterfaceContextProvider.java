@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.common.translate.util.TransactionalContextStore;
+import javax.annotation.Nullable;
+
+/**
+ * Provides interface naming context, backed by context store if configured.
+ */
+public class InterfaceContextProvider implements Provider<NamingContext> {
+
+    private static final String PREFIX = "interface-";
+    private static final String INSTANCE_NAME = "interface-context";
+
+    @Inject(optional = true)
+    @Nullable
+    private TransactionalContextStore contextStore;
+
+    @Override
+    public NamingContext get() {
+        return contextStore == null
+                ? new NamingContext(PREFIX, INSTANCE_NAME, true)
+                : new NamingContext(PREFIX, INSTANCE_NAME, contextStore);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po;
+
+import net.jmob.guice.conf.core.BindConfig;
+import net.jmob.guice.conf.core.InjectConfig;
+import net.jmob.guice.conf.core.Syntax;
+
+@BindConfig(value = "v3po", syntax = Syntax.JSON)
+public class V3poConfiguration {
+
+    /**
+     * Time to live of interface details cached across read transactions. Cache is disabled if not positive.
+     */
+    @InjectConfig("interface-cache-ttl-millis")
+    private long interfaceCacheTtlMillis;
+
+    /**
+     * Path to VPP stats segment, readable by honeycomb. Interface statistics are not read if empty.
+     */
+    @InjectConfig("stats-segment-path")
+    private String statsSegmentPath;
+
+    /**
+     * Number of interfaces with events waiting for dispatch as notifications, that triggers dispatch before
+     * interface-events-window-millis elapses. Events are never dropped.
+     */
+    @InjectConfig("interface-events-dispatch-threshold")
+    private int interfaceEventsDispatchThreshold;
+
+    /**
+     * Time window, in which repeated events of the same interface are merged into single notification.
+     */
+    @InjectConfig("interface-events-window-millis")
+    private long interfaceEventsWindowMillis;
+
+    public long getInterfaceCacheTtlMillis() {
+        return interfaceCacheTtlMillis;
+    }
+
+    public boolean isStatsSegmentEnabled() {
+        return statsSegmentPath != null && !statsSegmentPath.isEmpty();
+    }
+
+    public String getStatsSegmentPath() {
+        return statsSegmentPath;
+    }
+
+    public int getInterfaceEventsDispatchThreshold() {
+        return interfaceEventsDispatchThreshold;
+    }
+
+    public long getInterfaceEventsWindowMillis() {
+        return interfaceEventsWindowMillis;
+    }
+}
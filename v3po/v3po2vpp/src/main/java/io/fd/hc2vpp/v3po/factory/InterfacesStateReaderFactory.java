@@ -21,10 +21,12 @@ import com.google.inject.Inject;
 import com.google.inject.name.Named;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
 import io.fd.hc2vpp.v3po.DisabledInterfacesManager;
+import io.fd.hc2vpp.v3po.V3poConfiguration;
 import io.fd.hc2vpp.v3po.interfacesstate.EthernetCustomizer;
 import io.fd.hc2vpp.v3po.interfacesstate.GreCustomizer;
 import io.fd.hc2vpp.v3po.interfacesstate.InterfaceCustomizer;
 import io.fd.hc2vpp.v3po.interfacesstate.InterfaceRoutingCustomizer;
+import io.fd.hc2vpp.v3po.interfacesstate.InterfaceStatisticsCustomizer;
 import io.fd.hc2vpp.v3po.interfacesstate.L2Customizer;
 import io.fd.hc2vpp.v3po.interfacesstate.TapCustomizer;
 import io.fd.hc2vpp.v3po.interfacesstate.VhostUserCustomizer;
@@ -33,15 +35,19 @@ import io.fd.hc2vpp.v3po.interfacesstate.VxlanGpeCustomizer;
 import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceCacheDumpManager;
 import io.fd.hc2vpp.v3po.interfacesstate.pbb.PbbRewriteStateCustomizer;
 import io.fd.hc2vpp.v3po.interfacesstate.span.InterfaceMirroredInterfacesCustomizer;
+import io.fd.hc2vpp.v3po.interfacesstate.stats.StatsSegment;
 import io.fd.honeycomb.translate.impl.read.GenericInitListReader;
 import io.fd.honeycomb.translate.impl.read.GenericInitReader;
 import io.fd.honeycomb.translate.impl.read.GenericReader;
 import io.fd.honeycomb.translate.read.ReaderFactory;
 import io.fd.honeycomb.translate.read.registry.ModifiableReaderRegistryBuilder;
 import io.fd.vpp.jvpp.core.future.FutureJVppCore;
+import java.io.IOException;
+import java.nio.file.Paths;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.InterfacesState;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.InterfacesStateBuilder;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state.Interface;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state._interface.Statistics;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.VppInterfaceStateAugmentation;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.VppInterfaceStateAugmentationBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.interfaces.state._interface.Ethernet;
@@ -60,14 +66,19 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.pbb.
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.pbb.rev161214.PbbRewriteStateInterfaceAugmentationBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.pbb.rev161214.interfaces.state._interface.PbbRewriteState;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public final class InterfacesStateReaderFactory implements ReaderFactory {
 
+    private static final Logger LOG = LoggerFactory.getLogger(InterfacesStateReaderFactory.class);
+
     private final NamingContext ifcNamingCtx;
     private final NamingContext bdNamingCtx;
     private final DisabledInterfacesManager ifcDisableContext;
     private final InterfaceCacheDumpManager ifaceDumpManager;
     private final FutureJVppCore jvpp;
+    private final V3poConfiguration configuration;
 
     static final InstanceIdentifier<InterfacesState> IFC_STATE_ID =
             InstanceIdentifier.create(InterfacesState.class);
@@ -78,8 +89,10 @@ public final class InterfacesStateReaderFactory implements ReaderFactory {
                                         @Named("interface-context") final NamingContext ifcNamingCtx,
                                         @Named("bridge-domain-context") final NamingContext bdNamingCtx,
                                         final DisabledInterfacesManager ifcDisableContext,
-                                        final InterfaceCacheDumpManager ifaceDumpManager) {
+                                        final InterfaceCacheDumpManager ifaceDumpManager,
+                                        final V3poConfiguration configuration) {
         this.jvpp = jvpp;
+        this.configuration = configuration;
         this.ifcNamingCtx = ifcNamingCtx;
         this.bdNamingCtx = bdNamingCtx;
         this.ifcDisableContext = ifcDisableContext;
@@ -99,6 +112,27 @@ public final class InterfacesStateReaderFactory implements ReaderFactory {
 
         //vpp-pbb.yang
         initPbbRewriteAugmentation(registry, IFC_ID);
+
+        //   Statistics
+        initStatisticsReader(registry, IFC_ID);
+    }
+
+    private void initStatisticsReader(final ModifiableReaderRegistryBuilder registry,
+                                      final InstanceIdentifier<Interface> ifcId) {
+        if (!configuration.isStatsSegmentEnabled()) {
+            LOG.debug("Stats segment not configured, interface statistics will not be read");
+            return;
+        }
+        final StatsSegment statsSegment;
+        try {
+            statsSegment = StatsSegment.map(Paths.get(configuration.getStatsSegmentPath()));
+        } catch (IOException e) {
+            LOG.warn("Unable to map stats segment {}, interface statistics will not be read",
+                    configuration.getStatsSegmentPath(), e);
+            return;
+        }
+        registry.add(new GenericReader<>(ifcId.child(Statistics.class),
+                new InterfaceStatisticsCustomizer(ifcNamingCtx, statsSegment)));
     }
 
     private void initVppIfcAugmentationReaders(final ModifiableReaderRegistryBuilder registry,
@@ -121,13 +155,13 @@ public final class InterfacesStateReaderFactory implements ReaderFactory {
                 new VhostUserCustomizer(jvpp, ifcNamingCtx, ifaceDumpManager)));
         //    Vxlan
         registry.add(new GenericInitReader<>(vppIfcAugId.child(Vxlan.class),
-                new VxlanCustomizer(jvpp, ifcNamingCtx, ifaceDumpManager)));
+                new VxlanCustomizer(jvpp, ifcNamingCtx, ifaceDumpManager, true)));
         //    VxlanGpe
         registry.add(new GenericInitReader<>(vppIfcAugId.child(VxlanGpe.class),
-                new VxlanGpeCustomizer(jvpp, ifcNamingCtx, ifaceDumpManager)));
+                new VxlanGpeCustomizer(jvpp, ifcNamingCtx, ifaceDumpManager, true)));
         //    Gre
         registry.add(new GenericInitReader<>(vppIfcAugId.child(Gre.class),
-                new GreCustomizer(jvpp, ifcNamingCtx, ifaceDumpManager)));
+                new GreCustomizer(jvpp, ifcNamingCtx, ifaceDumpManager, true)));
         //    L2
         registry.add(new GenericInitReader<>(vppIfcAugId.child(L2.class),
                 new L2Customizer(jvpp, ifcNamingCtx, bdNamingCtx, ifaceDumpManager)));
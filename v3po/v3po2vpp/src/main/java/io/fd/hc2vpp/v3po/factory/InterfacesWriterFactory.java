@@ -33,6 +33,7 @@ import io.fd.hc2vpp.v3po.interfaces.VhostUserCustomizer;
 import io.fd.hc2vpp.v3po.interfaces.VxlanCustomizer;
 import io.fd.hc2vpp.v3po.interfaces.VxlanGpeCustomizer;
 import io.fd.hc2vpp.v3po.interfaces.pbb.PbbRewriteCustomizer;
+import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDetailsCache;
 import io.fd.hc2vpp.v3po.interfaces.span.MirroredInterfaceCustomizer;
 import io.fd.honeycomb.translate.impl.write.GenericListWriter;
 import io.fd.honeycomb.translate.impl.write.GenericWriter;
@@ -73,23 +74,26 @@ public final class InterfacesWriterFactory implements WriterFactory {
     private final NamingContext bdNamingContext;
     private final NamingContext ifcNamingContext;
     private final DisabledInterfacesManager ifcDisableContext;
+    private final InterfaceDetailsCache ifcDetailsCache;
 
     @Inject
     public InterfacesWriterFactory(final FutureJVppCore vppJvppIfcDependency,
                                    @Named("bridge-domain-context") final NamingContext bridgeDomainContextDependency,
                                    @Named("interface-context") final NamingContext interfaceContextDependency,
-                                   final DisabledInterfacesManager ifcDisableContext) {
+                                   final DisabledInterfacesManager ifcDisableContext,
+                                   final InterfaceDetailsCache ifcDetailsCache) {
         this.jvpp = vppJvppIfcDependency;
         this.bdNamingContext = bridgeDomainContextDependency;
         this.ifcNamingContext = interfaceContextDependency;
         this.ifcDisableContext = ifcDisableContext;
+        this.ifcDetailsCache = ifcDetailsCache;
     }
 
     @Override
     public void init(final ModifiableWriterRegistryBuilder registry) {
         // Interfaces
         //  Interface =
-        registry.add(new GenericListWriter<>(IFC_ID, new InterfaceCustomizer(jvpp, ifcNamingContext)));
+        registry.add(new GenericListWriter<>(IFC_ID, new InterfaceCustomizer(jvpp, ifcNamingContext, ifcDetailsCache)));
         //   VppInterfaceAugmentation
         addVppInterfaceAgmentationWriters(IFC_ID, registry);
 
@@ -129,7 +133,7 @@ public final class InterfacesWriterFactory implements WriterFactory {
 
         // Ethernet =
         registry.add(new GenericWriter<>(VPP_IFC_AUG_ID.child(Ethernet.class),
-            new EthernetCustomizer(jvpp, ifcNamingContext)));
+            new EthernetCustomizer(jvpp, ifcNamingContext, ifcDetailsCache)));
         // Routing(Execute only after specific interface customizers) =
         registry.addAfter(
                 new GenericWriter<>(VPP_IFC_AUG_ID.child(Routing.class), new InterfaceRoutingCustomizer(jvpp, ifcNamingContext)),
@@ -159,6 +163,7 @@ public final class InterfacesWriterFactory implements WriterFactory {
         final InstanceIdentifier<PbbRewrite> pbbRewriteId =
                 ifcId.augmentation(PbbRewriteInterfaceAugmentation.class).child(PbbRewrite.class);
 
-        registry.add(new GenericWriter<>(pbbRewriteId, new PbbRewriteCustomizer(jvpp, ifcNamingContext)));
+        registry.add(new GenericWriter<>(pbbRewriteId,
+                new PbbRewriteCustomizer(jvpp, ifcNamingContext, ifcDetailsCache)));
     }
 }
@@ -21,6 +21,7 @@ import com.google.inject.Inject;
 import com.google.inject.name.Named;
 import io.fd.hc2vpp.v3po.l2.ArpTerminationTableEntryCustomizer;
 import io.fd.hc2vpp.v3po.l2.BridgeDomainCustomizer;
+import io.fd.hc2vpp.v3po.l2.BridgeDomainIdAllocator;
 import io.fd.hc2vpp.v3po.l2.L2FibEntryCustomizer;
 import io.fd.honeycomb.translate.impl.write.GenericListWriter;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
@@ -40,14 +41,17 @@ public final class L2HoneycombWriterFactory implements WriterFactory {
     private final FutureJVppCore jvpp;
     private final NamingContext bdContext;
     private final NamingContext ifcContext;
+    private final BridgeDomainIdAllocator bdIdAllocator;
 
     @Inject
     public L2HoneycombWriterFactory(final FutureJVppCore vppJvppWriterDependency,
                                     @Named("bridge-domain-context") final NamingContext bridgeDomainContextVppDependency,
-                                    @Named("interface-context") final NamingContext interfaceContextVppDependency) {
+                                    @Named("interface-context") final NamingContext interfaceContextVppDependency,
+                                    final BridgeDomainIdAllocator bdIdAllocator) {
         this.jvpp = vppJvppWriterDependency;
         this.bdContext = bridgeDomainContextVppDependency;
         this.ifcContext = interfaceContextVppDependency;
+        this.bdIdAllocator = bdIdAllocator;
     }
 
     @Override
@@ -57,7 +61,7 @@ public final class L2HoneycombWriterFactory implements WriterFactory {
         //   BridgeDomain(handled before L2 of ifc and subifc) =
         final InstanceIdentifier<BridgeDomain> bdId =
             InstanceIdentifier.create(BridgeDomains.class).child(BridgeDomain.class);
-        registry.addBefore(new GenericListWriter<>(bdId, new BridgeDomainCustomizer(jvpp, bdContext)),
+        registry.addBefore(new GenericListWriter<>(bdId, new BridgeDomainCustomizer(jvpp, bdContext, bdIdAllocator)),
             Sets.newHashSet(
                 InterfacesWriterFactory.L2_ID,
                 SubinterfaceAugmentationWriterFactory.L2_ID));
@@ -26,6 +26,7 @@ import io.fd.hc2vpp.v3po.interfaces.SubInterfaceL2Customizer;
 import io.fd.hc2vpp.v3po.interfaces.SubInterfaceRoutingCustomizer;
 import io.fd.hc2vpp.v3po.interfaces.SubInterfaceUnnumberedCustomizer;
 import io.fd.hc2vpp.v3po.interfaces.span.MirroredInterfaceCustomizer;
+import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDetailsCache;
 import io.fd.hc2vpp.v3po.util.SubInterfaceUtils;
 import io.fd.honeycomb.translate.impl.write.GenericListWriter;
 import io.fd.honeycomb.translate.impl.write.GenericWriter;
@@ -57,6 +58,7 @@ public final class SubinterfaceAugmentationWriterFactory implements WriterFactor
     private final FutureJVppCore jvpp;
     private final NamingContext ifcContext;
     private final NamingContext bdContext;
+    private final InterfaceDetailsCache ifcDetailsCache;
 
     public static final InstanceIdentifier<SubinterfaceAugmentation> SUB_IFC_AUG_ID =
         InterfacesWriterFactory.IFC_ID.augmentation(SubinterfaceAugmentation.class);
@@ -68,10 +70,12 @@ public final class SubinterfaceAugmentationWriterFactory implements WriterFactor
     @Inject
     public SubinterfaceAugmentationWriterFactory(final FutureJVppCore jvpp,
                                                  @Named("interface-context") final NamingContext ifcContext,
-                                                 @Named("bridge-domain-context") final NamingContext bdContext) {
+                                                 @Named("bridge-domain-context") final NamingContext bdContext,
+                                                 final InterfaceDetailsCache ifcDetailsCache) {
         this.jvpp = jvpp;
         this.ifcContext = ifcContext;
         this.bdContext = bdContext;
+        this.ifcDetailsCache = ifcDetailsCache;
     }
 
     @Override
@@ -87,7 +91,7 @@ public final class SubinterfaceAugmentationWriterFactory implements WriterFactor
                     Dot1qTag.class),
                 InstanceIdentifier.create(SubInterface.class).child(Match.class),
                 InstanceIdentifier.create(SubInterface.class).child(Match.class).child(VlanTagged.class)),
-            new GenericListWriter<>(SUB_IFC_ID, new SubInterfaceCustomizer(jvpp, ifcContext)),
+            new GenericListWriter<>(SUB_IFC_ID, new SubInterfaceCustomizer(jvpp, ifcContext, ifcDetailsCache)),
             InterfacesWriterFactory.IFC_ID);
         //   L2 =
         registry.addAfter(new GenericWriter<>(L2_ID, new SubInterfaceL2Customizer(jvpp, ifcContext, bdContext)),
@@ -100,7 +104,7 @@ public final class SubinterfaceAugmentationWriterFactory implements WriterFactor
                 InstanceIdentifier.create(Rewrite.class).child(PushTags.class)
                     .child(
                         org.opendaylight.yang.gen.v1.urn.ieee.params.xml.ns.yang.dot1q.types.rev150626.dot1q.tag.Dot1qTag.class)),
-            new GenericWriter<>(rewriteId, new RewriteCustomizer(jvpp, ifcContext)),
+            new GenericWriter<>(rewriteId, new RewriteCustomizer(jvpp, ifcContext, ifcDetailsCache)),
             L2_ID);
         final InstanceIdentifier<Routing> routingId = SUB_IFC_ID.child(Routing.class);
         registry.add(new GenericWriter<>(routingId, new SubInterfaceRoutingCustomizer(jvpp, ifcContext)));
@@ -19,6 +19,7 @@ package io.fd.hc2vpp.v3po.interfaces;
 import io.fd.hc2vpp.common.translate.util.AbstractInterfaceTypeCustomizer;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDetailsCache;
 import io.fd.honeycomb.translate.write.WriteContext;
 import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.fd.vpp.jvpp.core.dto.SwInterfaceSetMtu;
@@ -36,10 +37,17 @@ public class EthernetCustomizer extends AbstractInterfaceTypeCustomizer<Ethernet
 
     private static final Logger LOG = LoggerFactory.getLogger(EthernetCustomizer.class);
     private final NamingContext interfaceContext;
+    private final InterfaceDetailsCache detailsCache;
 
     public EthernetCustomizer(final FutureJVppCore vppApi, final NamingContext interfaceContext) {
+        this(vppApi, interfaceContext, new InterfaceDetailsCache(0));
+    }
+
+    public EthernetCustomizer(final FutureJVppCore vppApi, final NamingContext interfaceContext,
+                              final InterfaceDetailsCache detailsCache) {
         super(vppApi);
         this.interfaceContext = interfaceContext;
+        this.detailsCache = detailsCache;
     }
 
     @Override
@@ -79,6 +87,8 @@ public class EthernetCustomizer extends AbstractInterfaceTypeCustomizer<Ethernet
         request.swIfIndex = index;
         request.mtu = dataAfter.getMtu().shortValue();
         getReplyForWrite(getFutureJVpp().swInterfaceSetMtu(request).toCompletableFuture(), id);
+        // link MTU of cached interface details is stale
+        detailsCache.invalidate();
         LOG.debug("Ethernet attributes set successfully for: {}, {}. Ethernet: {}", name, index, dataAfter);
     }
 }
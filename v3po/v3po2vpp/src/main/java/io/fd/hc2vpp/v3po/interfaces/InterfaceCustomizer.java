@@ -20,6 +20,7 @@ import io.fd.honeycomb.translate.spi.write.ListWriterCustomizer;
 import io.fd.hc2vpp.common.translate.util.FutureJVppCustomizer;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDetailsCache;
 import io.fd.honeycomb.translate.write.WriteContext;
 import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.fd.vpp.jvpp.core.dto.SwInterfaceSetFlags;
@@ -41,10 +42,17 @@ public class InterfaceCustomizer extends FutureJVppCustomizer
 
     private static final Logger LOG = LoggerFactory.getLogger(InterfaceCustomizer.class);
     private final NamingContext interfaceContext;
+    private final InterfaceDetailsCache detailsCache;
 
     public InterfaceCustomizer(final FutureJVppCore vppApi, final NamingContext interfaceContext) {
+        this(vppApi, interfaceContext, new InterfaceDetailsCache(0));
+    }
+
+    public InterfaceCustomizer(final FutureJVppCore vppApi, final NamingContext interfaceContext,
+                               final InterfaceDetailsCache detailsCache) {
         super(vppApi);
         this.interfaceContext = interfaceContext;
+        this.detailsCache = detailsCache;
     }
 
     @Override
@@ -53,6 +61,8 @@ public class InterfaceCustomizer extends FutureJVppCustomizer
                                        @Nonnull final WriteContext writeContext)
             throws WriteFailedException {
 
+        // interface was just created by customizer of its type
+        detailsCache.invalidate();
         setInterface(id, dataAfter, writeContext);
     }
 
@@ -70,6 +80,7 @@ public class InterfaceCustomizer extends FutureJVppCustomizer
                                         @Nonnull final Interface dataBefore,
                                         @Nonnull final WriteContext writeContext) {
         // Nothing to be done here, customizers for specific interface types e.g. vxlan handle the delete
+        detailsCache.invalidate();
     }
 
     private void setInterface(final InstanceIdentifier<Interface> id, final Interface swIf,
@@ -104,6 +115,7 @@ public class InterfaceCustomizer extends FutureJVppCustomizer
         LOG.debug("Updating interface flags for: {}, index: {}, enabled: {}", swIfName, swIfIndex, enabled);
 
         getReplyForWrite(swInterfaceSetFlagsReplyFuture.toCompletableFuture(), id);
+        detailsCache.onAdminStateSet(swIfIndex, enabled);
         LOG.debug("Interface flags updated successfully for: {}, index: {}, enabled: {}",
                 swIfName, swIfIndex, enabled);
     }
@@ -22,6 +22,7 @@ import io.fd.hc2vpp.common.translate.util.FutureJVppCustomizer;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
 import io.fd.hc2vpp.common.translate.util.TagRewriteOperation;
+import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDetailsCache;
 import io.fd.hc2vpp.v3po.util.SubInterfaceUtils;
 import io.fd.honeycomb.translate.spi.write.WriterCustomizer;
 import io.fd.honeycomb.translate.write.WriteContext;
@@ -51,11 +52,19 @@ public class RewriteCustomizer extends FutureJVppCustomizer
 
     private static final Logger LOG = LoggerFactory.getLogger(RewriteCustomizer.class);
     private final NamingContext interfaceContext;
+    private final InterfaceDetailsCache detailsCache;
 
     public RewriteCustomizer(@Nonnull final FutureJVppCore futureJVppCore,
                              @Nonnull final NamingContext interfaceContext) {
+        this(futureJVppCore, interfaceContext, new InterfaceDetailsCache(0));
+    }
+
+    public RewriteCustomizer(@Nonnull final FutureJVppCore futureJVppCore,
+                             @Nonnull final NamingContext interfaceContext,
+                             @Nonnull final InterfaceDetailsCache detailsCache) {
         super(futureJVppCore);
         this.interfaceContext = Preconditions.checkNotNull(interfaceContext, "interfaceContext should not be null");
+        this.detailsCache = Preconditions.checkNotNull(detailsCache, "detailsCache should not be null");
     }
 
     @Override
@@ -80,6 +89,8 @@ public class RewriteCustomizer extends FutureJVppCustomizer
                 getFutureJVpp().l2InterfaceVlanTagRewrite(getTagRewriteRequest(swIfIndex, rewrite));
 
         getReplyForWrite(replyCompletionStage.toCompletableFuture(), id);
+        // tag rewrite of cached interface details is stale
+        detailsCache.invalidate();
         LOG.debug("Tag rewrite for interface {}(id=) set successfully: {}", ifname, swIfIndex, rewrite);
     }
 
@@ -25,6 +25,7 @@ import io.fd.hc2vpp.common.translate.util.ByteDataTranslator;
 import io.fd.hc2vpp.common.translate.util.FutureJVppCustomizer;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDetailsCache;
 import io.fd.honeycomb.translate.spi.write.ListWriterCustomizer;
 import io.fd.honeycomb.translate.write.WriteContext;
 import io.fd.honeycomb.translate.write.WriteFailedException;
@@ -61,11 +62,19 @@ public class SubInterfaceCustomizer extends FutureJVppCustomizer
 
     private static final Logger LOG = LoggerFactory.getLogger(SubInterfaceCustomizer.class);
     private final NamingContext interfaceContext;
+    private final InterfaceDetailsCache detailsCache;
 
     public SubInterfaceCustomizer(@Nonnull final FutureJVppCore futureJVppCore,
                                   @Nonnull final NamingContext interfaceContext) {
+        this(futureJVppCore, interfaceContext, new InterfaceDetailsCache(0));
+    }
+
+    public SubInterfaceCustomizer(@Nonnull final FutureJVppCore futureJVppCore,
+                                  @Nonnull final NamingContext interfaceContext,
+                                  @Nonnull final InterfaceDetailsCache detailsCache) {
         super(futureJVppCore);
         this.interfaceContext = Preconditions.checkNotNull(interfaceContext, "interfaceContext should not be null");
+        this.detailsCache = Preconditions.checkNotNull(detailsCache, "detailsCache should not be null");
     }
 
     @Override
@@ -85,6 +94,7 @@ public class SubInterfaceCustomizer extends FutureJVppCustomizer
 
         final CreateSubifReply reply =
                 getReplyForCreate(createSubifReplyCompletionStage.toCompletableFuture(), id, subInterface);
+        detailsCache.invalidate();
 
         setInterfaceState(id, reply.swIfIndex, booleanToByte(subInterface.isEnabled()));
         interfaceContext.addName(reply.swIfIndex,
@@ -180,6 +190,7 @@ public class SubInterfaceCustomizer extends FutureJVppCustomizer
 
         SwInterfaceSetFlagsReply reply =
                 getReplyForWrite(swInterfaceSetFlagsReplyFuture.toCompletableFuture(), id);
+        detailsCache.onAdminStateSet(swIfIndex, enabled);
         LOG.debug("Interface state updated successfully for interface index: {}, enabled: {}, ctxId: {}",
                 swIfIndex, enabled, reply.context);
     }
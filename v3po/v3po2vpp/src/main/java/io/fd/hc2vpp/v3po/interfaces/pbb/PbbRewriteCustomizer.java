@@ -23,6 +23,7 @@ import io.fd.hc2vpp.common.translate.util.FutureJVppCustomizer;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
 import io.fd.hc2vpp.common.translate.util.MacTranslator;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDetailsCache;
 import io.fd.honeycomb.translate.write.WriteContext;
 import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.fd.vpp.jvpp.VppBaseCallException;
@@ -40,11 +41,19 @@ public class PbbRewriteCustomizer extends FutureJVppCustomizer
     private static final int OPERATION_DISABLE = 0;
 
     private final NamingContext interfaceNamingContext;
+    private final InterfaceDetailsCache detailsCache;
 
     public PbbRewriteCustomizer(@Nonnull final FutureJVppCore futureJVppCore,
                                 @Nonnull final NamingContext interfaceNamingContext) {
+        this(futureJVppCore, interfaceNamingContext, new InterfaceDetailsCache(0));
+    }
+
+    public PbbRewriteCustomizer(@Nonnull final FutureJVppCore futureJVppCore,
+                                @Nonnull final NamingContext interfaceNamingContext,
+                                @Nonnull final InterfaceDetailsCache detailsCache) {
         super(futureJVppCore);
         this.interfaceNamingContext = checkNotNull(interfaceNamingContext, "Interface naming context cannot be null");
+        this.detailsCache = checkNotNull(detailsCache, "Interface details cache cannot be null");
     }
 
     @Override
@@ -102,6 +111,8 @@ public class PbbRewriteCustomizer extends FutureJVppCustomizer
         }
 
         getReply(getFutureJVpp().l2InterfacePbbTagRewrite(request).toCompletableFuture());
+        // pbb rewrite of cached interface details is stale
+        detailsCache.invalidate();
     }
 
     private String verifiedDestinationAddress(final PbbRewrite data) {
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.interfacesstate;
+
+import io.fd.vpp.jvpp.core.dto.BridgeDomainDetails;
+import io.fd.vpp.jvpp.core.types.BridgeDomainSwIf;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Bridge domain membership of interfaces, indexed by sw_if_index. Built in single pass over bridge domain dump, so
+ * interconnection of each interface is found by single lookup instead of scanning members of all bridge domains.
+ */
+@NotThreadSafe
+final class BridgeDomainMembershipIndex {
+
+    private final Map<Integer, Membership> memberships;
+
+    BridgeDomainMembershipIndex(@Nonnull final List<BridgeDomainDetails> bridgeDomains) {
+        memberships = new HashMap<>();
+        for (final BridgeDomainDetails bd : bridgeDomains) {
+            if (bd.swIfDetails == null) {
+                continue;
+            }
+            for (final BridgeDomainSwIf swIf : bd.swIfDetails) {
+                // interface can be added to only one BD, first one wins the same way as when scanning the dump
+                memberships.putIfAbsent(swIf.swIfIndex,
+                        new Membership(bd.bdId, swIf.shg, bd.bviSwIfIndex == swIf.swIfIndex));
+            }
+        }
+    }
+
+    /**
+     * @return membership of interface, or null if it is not assigned to any bridge domain
+     */
+    @Nullable
+    Membership get(final int swIfIndex) {
+        return memberships.get(swIfIndex);
+    }
+
+    static final class Membership {
+        private final int bdId;
+        private final byte shg;
+        private final boolean bvi;
+
+        private Membership(final int bdId, final byte shg, final boolean bvi) {
+            this.bdId = bdId;
+            this.shg = shg;
+            this.bvi = bvi;
+        }
+
+        int getBdId() {
+            return bdId;
+        }
+
+        /**
+         * @return split horizon group, 0 if none
+         */
+        byte getShg() {
+            return shg;
+        }
+
+        /**
+         * @return true if interface is BVI of the bridge domain
+         */
+        boolean isBvi() {
+            return bvi;
+        }
+    }
+}
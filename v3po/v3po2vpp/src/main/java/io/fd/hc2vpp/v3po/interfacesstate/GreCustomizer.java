@@ -28,12 +28,15 @@ import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.read.Initialized;
 import io.fd.honeycomb.translate.spi.read.InitializingReaderCustomizer;
 import io.fd.honeycomb.translate.util.RWUtils;
+import io.fd.honeycomb.translate.util.read.cache.DumpCacheManager;
+import io.fd.honeycomb.translate.util.read.cache.StaticCacheKeyFactory;
 import io.fd.vpp.jvpp.core.dto.GreTunnelDetails;
 import io.fd.vpp.jvpp.core.dto.GreTunnelDetailsReplyDump;
 import io.fd.vpp.jvpp.core.dto.GreTunnelDump;
 import io.fd.vpp.jvpp.core.future.FutureJVppCore;
 import java.util.concurrent.CompletionStage;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state.Interface;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state.InterfaceKey;
@@ -55,13 +58,33 @@ public class GreCustomizer extends FutureJVppCustomizer
     private static final Logger LOG = LoggerFactory.getLogger(GreCustomizer.class);
     private final NamingContext interfaceContext;
     private final InterfaceCacheDumpManager dumpManager;
+    private final boolean bulkDump;
+    private final DumpCacheManager<TunnelDetailsIndex<GreTunnelDetails>, Void> tunnelDumpManager;
 
     public GreCustomizer(@Nonnull final FutureJVppCore jvpp,
                          @Nonnull final NamingContext interfaceContext,
                          @Nonnull final InterfaceCacheDumpManager dumpManager) {
+        this(jvpp, interfaceContext, dumpManager, false);
+    }
+
+    /**
+     * @param bulkDump if true, gre tunnels of all interfaces are dumped once per transaction and shared by reads of
+     *                 individual tunnels, instead of dumping each tunnel separately
+     */
+    public GreCustomizer(@Nonnull final FutureJVppCore jvpp,
+                         @Nonnull final NamingContext interfaceContext,
+                         @Nonnull final InterfaceCacheDumpManager dumpManager,
+                         final boolean bulkDump) {
         super(jvpp);
         this.interfaceContext = interfaceContext;
         this.dumpManager = dumpManager;
+        this.bulkDump = bulkDump;
+        this.tunnelDumpManager =
+                new DumpCacheManager.DumpCacheManagerBuilder<TunnelDetailsIndex<GreTunnelDetails>, Void>()
+                        .withCacheKeyFactory(new StaticCacheKeyFactory(GreCustomizer.class.getName() + "_allTunnels",
+                                TunnelDetailsIndex.class))
+                        .withExecutor((identifier, params) -> dumpAllTunnels(identifier))
+                        .build();
     }
 
     @Override
@@ -87,31 +110,19 @@ public class GreCustomizer extends FutureJVppCustomizer
         }
 
         LOG.debug("Reading attributes for gre tunnel: {}", key.getName());
-        // Dump just a single
-        final GreTunnelDump request = new GreTunnelDump();
-        request.swIfIndex = index;
-
-        final CompletionStage<GreTunnelDetailsReplyDump> swInterfaceGreDetailsReplyDumpCompletionStage =
-                getFutureJVpp().greTunnelDump(request);
-        final GreTunnelDetailsReplyDump reply =
-                getReplyForRead(swInterfaceGreDetailsReplyDumpCompletionStage.toCompletableFuture(), id);
+        final GreTunnelDetails swInterfaceGreDetails = bulkDump
+                ? tunnelDumpManager.getDump(id, ctx.getModificationCache()).get().get(index)
+                : dumpTunnel(id, key, index);
 
         // VPP keeps gre tunnel interfaces even after they were deleted (optimization)
         // However there ar no longer any gre tunnel specific fields assigned to it and this call
         // returns nothing
-        if (reply == null || reply.greTunnelDetails == null || reply.greTunnelDetails.isEmpty()) {
+        if (swInterfaceGreDetails == null) {
             LOG.debug(
                     "Gre tunnel {}, id {} has no attributes assigned in VPP. Probably is a leftover interface placeholder" +
                             "after delete", key.getName(), index);
             return;
         }
-
-        checkState(reply.greTunnelDetails.size() == 1,
-                "Unexpected number of returned gre tunnels: {} for tunnel: {}", reply.greTunnelDetails,
-                key.getName());
-        LOG.trace("Gre tunnel: {} attributes returned from VPP: {}", key.getName(), reply);
-
-        final GreTunnelDetails swInterfaceGreDetails = reply.greTunnelDetails.get(0);
         if (swInterfaceGreDetails.isIpv6 == 1) {
             builder.setDst(new IpAddress(arrayToIpv6AddressNoZone(swInterfaceGreDetails.dstAddress)));
             builder.setSrc(new IpAddress(arrayToIpv6AddressNoZone(swInterfaceGreDetails.srcAddress)));
@@ -123,6 +134,44 @@ public class GreCustomizer extends FutureJVppCustomizer
         LOG.debug("Gre tunnel: {}, id: {} attributes read as: {}", key.getName(), index, builder);
     }
 
+    @Nullable
+    private GreTunnelDetails dumpTunnel(@Nonnull final InstanceIdentifier<Gre> id,
+                                        @Nonnull final InterfaceKey key,
+                                        final int index) throws ReadFailedException {
+        // Dump just a single
+        final GreTunnelDump request = new GreTunnelDump();
+        request.swIfIndex = index;
+
+        final CompletionStage<GreTunnelDetailsReplyDump> swInterfaceGreDetailsReplyDumpCompletionStage =
+                getFutureJVpp().greTunnelDump(request);
+        final GreTunnelDetailsReplyDump reply =
+                getReplyForRead(swInterfaceGreDetailsReplyDumpCompletionStage.toCompletableFuture(), id);
+
+        if (reply == null || reply.greTunnelDetails == null || reply.greTunnelDetails.isEmpty()) {
+            return null;
+        }
+
+        checkState(reply.greTunnelDetails.size() == 1,
+                "Unexpected number of returned gre tunnels: {} for tunnel: {}", reply.greTunnelDetails,
+                key.getName());
+        LOG.trace("Gre tunnel: {} attributes returned from VPP: {}", key.getName(), reply);
+
+        return reply.greTunnelDetails.get(0);
+    }
+
+    private TunnelDetailsIndex<GreTunnelDetails> dumpAllTunnels(@Nonnull final InstanceIdentifier<?> id)
+            throws ReadFailedException {
+        LOG.debug("Dumping all gre tunnels");
+        final GreTunnelDump request = new GreTunnelDump();
+        request.swIfIndex = TunnelDetailsIndex.ALL_TUNNELS;
+        final GreTunnelDetailsReplyDump reply =
+                getReplyForRead(getFutureJVpp().greTunnelDump(request).toCompletableFuture(), id);
+        // index is stored instead of the dump, so it is built just once per transaction
+        return new TunnelDetailsIndex<>(reply == null
+                ? null
+                : reply.greTunnelDetails, details -> details.swIfIndex);
+    }
+
     @Override
     public Initialized<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.interfaces._interface.Gre> init(
             @Nonnull final InstanceIdentifier<Gre> id, @Nonnull final Gre readValue, @Nonnull final ReadContext ctx) {
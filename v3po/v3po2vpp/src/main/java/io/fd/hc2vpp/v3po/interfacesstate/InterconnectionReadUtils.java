@@ -16,7 +16,6 @@
 
 package io.fd.hc2vpp.v3po.interfacesstate;
 
-import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
 import io.fd.hc2vpp.common.translate.util.NamingContext;
@@ -24,14 +23,12 @@ import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceCacheDumpManager;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.util.read.cache.DumpCacheManager;
-import io.fd.vpp.jvpp.core.dto.BridgeDomainDetails;
+import io.fd.honeycomb.translate.util.read.cache.StaticCacheKeyFactory;
 import io.fd.vpp.jvpp.core.dto.BridgeDomainDetailsReplyDump;
 import io.fd.vpp.jvpp.core.dto.BridgeDomainDump;
 import io.fd.vpp.jvpp.core.dto.SwInterfaceDetails;
 import io.fd.vpp.jvpp.core.future.FutureJVppCore;
-import io.fd.vpp.jvpp.core.types.BridgeDomainSwIf;
-import java.util.Arrays;
-import java.util.Optional;
+import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -47,11 +44,13 @@ import org.slf4j.LoggerFactory;
 final class InterconnectionReadUtils implements InterfaceDataTranslator {
 
     private static final Logger LOG = LoggerFactory.getLogger(InterconnectionReadUtils.class);
+    // shared by interface and sub-interface readers, so bridge domains are dumped and indexed once per transaction
+    private static final String MEMBERSHIP_INDEX_KEY = InterconnectionReadUtils.class.getName() + "_bdMembership";
 
     private final NamingContext interfaceContext;
     private final NamingContext bridgeDomainContext;
     private final InterfaceCacheDumpManager dumpManager;
-    private final DumpCacheManager<BridgeDomainDetailsReplyDump,Void> bdDumpManager;
+    private final DumpCacheManager<BridgeDomainMembershipIndex, Void> bdDumpManager;
 
     InterconnectionReadUtils(@Nonnull final FutureJVppCore futureJVppCore,
                              @Nonnull final NamingContext interfaceContext,
@@ -61,15 +60,21 @@ final class InterconnectionReadUtils implements InterfaceDataTranslator {
         this.interfaceContext = requireNonNull(interfaceContext, "interfaceContext should not be null");
         this.bridgeDomainContext = requireNonNull(bridgeDomainContext, "bridgeDomainContext should not be null");
         this.dumpManager = requireNonNull(dumpManager, "dumpManager should not be null");
-        this.bdDumpManager = new DumpCacheManager.DumpCacheManagerBuilder<BridgeDomainDetailsReplyDump, Void>()
-                .acceptOnly(BridgeDomainDetailsReplyDump.class)
+        this.bdDumpManager = new DumpCacheManager.DumpCacheManagerBuilder<BridgeDomainMembershipIndex, Void>()
+                .acceptOnly(BridgeDomainMembershipIndex.class)
+                .withCacheKeyFactory(
+                        new StaticCacheKeyFactory(MEMBERSHIP_INDEX_KEY, BridgeDomainMembershipIndex.class))
                 .withExecutor((id, params) -> {
                     final BridgeDomainDump request = new BridgeDomainDump();
                     request.bdId = -1;
 
                     final CompletableFuture<BridgeDomainDetailsReplyDump> bdCompletableFuture =
                             futureJVppCore.bridgeDomainDump(request).toCompletableFuture();
-                    return getReplyForRead(bdCompletableFuture, id);
+                    final BridgeDomainDetailsReplyDump dumpReply = getReplyForRead(bdCompletableFuture, id);
+                    // index is stored instead of the dump, so it is built just once per transaction
+                    return new BridgeDomainMembershipIndex(dumpReply == null
+                            ? Collections.emptyList()
+                            : dumpReply.bridgeDomainDetails);
                 })
                 .build();
     }
@@ -83,47 +88,19 @@ final class InterconnectionReadUtils implements InterfaceDataTranslator {
         final SwInterfaceDetails iface = dumpManager.getInterfaceDetail(id, ctx, ifaceName);
         LOG.debug("Interface details for interface: {}, details: {}", ifaceName, iface);
 
-        final BridgeDomainDetailsReplyDump dumpReply = bdDumpManager.getDump(id, ctx.getModificationCache())
-                .or(new BridgeDomainDetailsReplyDump());
-        for (final BridgeDomainDetails bd : dumpReply.bridgeDomainDetails) {
-            final Optional<BridgeDomainSwIf> bdIfAssignment = getBridgeDomainSwIf(ifaceId, bd);
-            if (bdIfAssignment.isPresent()) {
-                final BridgeDomainSwIf bridgeDomainSwIf = bdIfAssignment.get();
-                final BridgeBasedBuilder bbBuilder = new BridgeBasedBuilder();
-                bbBuilder.setBridgeDomain(bridgeDomainContext.getName(bd.bdId, ctx.getMappingContext()));
-
-                // Set BVI if the bridgeDomainDetails.bviSwIfIndex == current sw if index
-                final Optional<BridgeDomainDetails> bridgeDomainForInterface =
-                        getBridgeDomainForInterface(dumpReply, bd.bdId);
-                // Since we already found an interface assigned to a bridge domain, the details for BD must be present
-                checkState(bridgeDomainForInterface.isPresent());
-                if (bridgeDomainForInterface.get().bviSwIfIndex == ifaceId) {
-                    bbBuilder.setBridgedVirtualInterface(true);
-                } else {
-                    bbBuilder.setBridgedVirtualInterface(false);
-                }
-
-                if (bridgeDomainSwIf.shg != 0) {
-                    bbBuilder.setSplitHorizonGroup((short) bridgeDomainSwIf.shg);
-                }
-                return bbBuilder.build();
+        final BridgeDomainMembershipIndex.Membership membership =
+                bdDumpManager.getDump(id, ctx.getModificationCache()).get().get(ifaceId);
+        if (membership != null) {
+            final BridgeBasedBuilder bbBuilder = new BridgeBasedBuilder();
+            bbBuilder.setBridgeDomain(bridgeDomainContext.getName(membership.getBdId(), ctx.getMappingContext()));
+            bbBuilder.setBridgedVirtualInterface(membership.isBvi());
+            if (membership.getShg() != 0) {
+                bbBuilder.setSplitHorizonGroup((short) membership.getShg());
             }
+            return bbBuilder.build();
         }
         // TODO HONEYCOMB-190 is there a way to check if interconnection is XconnectBased?
 
         return null;
     }
-
-    private Optional<BridgeDomainSwIf> getBridgeDomainSwIf(final int ifaceId, @Nonnull final BridgeDomainDetails bd) {
-        if (null == bd.swIfDetails) {
-            return Optional.empty();
-        }
-        // interface can be added to only one BD only
-        return Arrays.stream(bd.swIfDetails).filter(el -> el.swIfIndex == ifaceId).findFirst();
-    }
-
-    private Optional<BridgeDomainDetails> getBridgeDomainForInterface(final BridgeDomainDetailsReplyDump reply,
-                                                                      int bdId) {
-        return reply.bridgeDomainDetails.stream().filter(a -> a.bdId == bdId).findFirst();
-    }
 }
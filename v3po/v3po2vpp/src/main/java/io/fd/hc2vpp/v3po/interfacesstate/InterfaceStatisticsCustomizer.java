@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.interfacesstate;
+
+import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.v3po.interfacesstate.stats.StatsSegment;
+import io.fd.hc2vpp.v3po.interfacesstate.stats.StatsSegment.InterfaceCounters;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.fd.honeycomb.translate.spi.read.ReaderCustomizer;
+import java.math.BigInteger;
+import javax.annotation.Nonnull;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state.Interface;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state.InterfaceBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state._interface.Statistics;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state._interface.StatisticsBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Counter32;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Counter64;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.DateAndTime;
+import org.opendaylight.yangtools.concepts.Builder;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Customizer for reading ietf-interfaces statistics from VPP stats segment. Does not use VPP binary API.
+ *
+ * <p>VPP does not count received/sent packets by cast type in all cases, so total packet counts are reported as
+ * unicast packets. Interface drops are reported as in-discards. Discontinuity time is the time stats segment was
+ * mapped.
+ */
+public class InterfaceStatisticsCustomizer implements ReaderCustomizer<Statistics, StatisticsBuilder> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(InterfaceStatisticsCustomizer.class);
+    private static final long COUNTER32_MASK = 0xffffffffL;
+
+    private final NamingContext interfaceContext;
+    private final StatsSegment statsSegment;
+    private final DateAndTime discontinuityTime;
+
+    public InterfaceStatisticsCustomizer(@Nonnull final NamingContext interfaceContext,
+                                         @Nonnull final StatsSegment statsSegment) {
+        this.interfaceContext = interfaceContext;
+        this.statsSegment = statsSegment;
+        this.discontinuityTime = new DateAndTime(statsSegment.getMappedAt().toString());
+    }
+
+    @Nonnull
+    @Override
+    public StatisticsBuilder getBuilder(@Nonnull final InstanceIdentifier<Statistics> id) {
+        return new StatisticsBuilder();
+    }
+
+    @Override
+    public void readCurrentAttributes(@Nonnull final InstanceIdentifier<Statistics> id,
+                                      @Nonnull final StatisticsBuilder builder,
+                                      @Nonnull final ReadContext ctx) throws ReadFailedException {
+        final String ifaceName = id.firstKeyOf(Interface.class).getName();
+        final int index = interfaceContext.getIndex(ifaceName, ctx.getMappingContext());
+        LOG.debug("Reading statistics for interface {}(id={})", ifaceName, index);
+
+        final InterfaceCounters counters;
+        try {
+            counters = statsSegment.readInterfaceCounters(index);
+        } catch (IllegalStateException e) {
+            throw new ReadFailedException(id, e);
+        }
+
+        builder.setDiscontinuityTime(discontinuityTime);
+        if (counters.getRxBytes() != null) {
+            builder.setInOctets(counter64(counters.getRxBytes()));
+        }
+        if (counters.getRxPackets() != null) {
+            builder.setInUnicastPkts(counter64(counters.getRxPackets()));
+        }
+        if (counters.getDrops() != null) {
+            builder.setInDiscards(counter32(counters.getDrops()));
+        }
+        if (counters.getRxErrors() != null) {
+            builder.setInErrors(counter32(counters.getRxErrors()));
+        }
+        if (counters.getTxBytes() != null) {
+            builder.setOutOctets(counter64(counters.getTxBytes()));
+        }
+        if (counters.getTxPackets() != null) {
+            builder.setOutUnicastPkts(counter64(counters.getTxPackets()));
+        }
+        if (counters.getTxErrors() != null) {
+            builder.setOutErrors(counter32(counters.getTxErrors()));
+        }
+    }
+
+    @Override
+    public void merge(@Nonnull final Builder<? extends DataObject> parentBuilder,
+                      @Nonnull final Statistics readValue) {
+        ((InterfaceBuilder) parentBuilder).setStatistics(readValue);
+    }
+
+    private static Counter64 counter64(final long value) {
+        // VPP counters are unsigned 64 bit
+        return new Counter64(new BigInteger(Long.toUnsignedString(value)));
+    }
+
+    private static Counter32 counter32(final long value) {
+        // counter32 wraps
+        return new Counter32(value & COUNTER32_MASK);
+    }
+}
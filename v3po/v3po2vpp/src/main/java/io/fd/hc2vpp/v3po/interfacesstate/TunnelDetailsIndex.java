@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.interfacesstate;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Details of all tunnels of single type, indexed by sw_if_index. Tunnels are dumped at once (sw_if_index = ~0) on the
+ * first read of a tunnel interface in a transaction, so reading n tunnels costs single dump instead of n. Index is not
+ * built in transactions that read no tunnel interface of given type.
+ */
+@NotThreadSafe
+final class TunnelDetailsIndex<T> {
+
+    /**
+     * sw_if_index used to dump tunnels of all interfaces.
+     */
+    static final int ALL_TUNNELS = ~0;
+
+    private final Map<Integer, T> details;
+
+    /**
+     * @param dumped    details of all tunnels of a type
+     * @param swIfIndex extracts sw_if_index from tunnel details
+     */
+    TunnelDetailsIndex(@Nullable final List<T> dumped, @Nonnull final ToIntFunction<T> swIfIndex) {
+        final List<T> tunnels = dumped == null
+                ? Collections.emptyList()
+                : dumped;
+        details = new HashMap<>(tunnels.size() * 2);
+        for (final T tunnel : tunnels) {
+            details.put(swIfIndex.applyAsInt(tunnel), tunnel);
+        }
+    }
+
+    /**
+     * @param index sw_if_index of the tunnel
+     * @return details of the tunnel, or null if VPP reported no tunnel attributes for the interface
+     */
+    @Nullable
+    T get(final int index) {
+        return details.get(index);
+    }
+}
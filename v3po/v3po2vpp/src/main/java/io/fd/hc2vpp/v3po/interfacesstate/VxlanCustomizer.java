@@ -29,12 +29,15 @@ import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.read.Initialized;
 import io.fd.honeycomb.translate.spi.read.InitializingReaderCustomizer;
 import io.fd.honeycomb.translate.util.RWUtils;
+import io.fd.honeycomb.translate.util.read.cache.DumpCacheManager;
+import io.fd.honeycomb.translate.util.read.cache.StaticCacheKeyFactory;
 import io.fd.vpp.jvpp.core.dto.VxlanTunnelDetails;
 import io.fd.vpp.jvpp.core.dto.VxlanTunnelDetailsReplyDump;
 import io.fd.vpp.jvpp.core.dto.VxlanTunnelDump;
 import io.fd.vpp.jvpp.core.future.FutureJVppCore;
 import java.util.concurrent.CompletionStage;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state.Interface;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state.InterfaceKey;
@@ -59,12 +62,33 @@ public class VxlanCustomizer extends FutureJVppCustomizer
     private static final Logger LOG = LoggerFactory.getLogger(VxlanCustomizer.class);
     private final NamingContext interfaceContext;
     private final InterfaceCacheDumpManager dumpManager;
+    private final boolean bulkDump;
+    private final DumpCacheManager<TunnelDetailsIndex<VxlanTunnelDetails>, Void> tunnelDumpManager;
 
-    public VxlanCustomizer(@Nonnull final FutureJVppCore jvpp, @Nonnull final NamingContext interfaceContext,
+    public VxlanCustomizer(@Nonnull final FutureJVppCore jvpp,
+                           @Nonnull final NamingContext interfaceContext,
                            @Nonnull final InterfaceCacheDumpManager dumpManager) {
+        this(jvpp, interfaceContext, dumpManager, false);
+    }
+
+    /**
+     * @param bulkDump if true, vxlan tunnels of all interfaces are dumped once per transaction and shared by reads of
+     *                 individual tunnels, instead of dumping each tunnel separately
+     */
+    public VxlanCustomizer(@Nonnull final FutureJVppCore jvpp,
+                           @Nonnull final NamingContext interfaceContext,
+                           @Nonnull final InterfaceCacheDumpManager dumpManager,
+                           final boolean bulkDump) {
         super(jvpp);
         this.interfaceContext = interfaceContext;
         this.dumpManager = dumpManager;
+        this.bulkDump = bulkDump;
+        this.tunnelDumpManager =
+                new DumpCacheManager.DumpCacheManagerBuilder<TunnelDetailsIndex<VxlanTunnelDetails>, Void>()
+                        .withCacheKeyFactory(new StaticCacheKeyFactory(VxlanCustomizer.class.getName() + "_allTunnels",
+                                TunnelDetailsIndex.class))
+                        .withExecutor((identifier, params) -> dumpAllTunnels(identifier))
+                        .build();
     }
 
     @Override
@@ -91,31 +115,19 @@ public class VxlanCustomizer extends FutureJVppCustomizer
         }
 
         LOG.debug("Reading attributes for vxlan tunnel: {}", key.getName());
-        // Dump just a single
-        final VxlanTunnelDump request = new VxlanTunnelDump();
-        request.swIfIndex = index;
-
-        final CompletionStage<VxlanTunnelDetailsReplyDump> swInterfaceVxlanDetailsReplyDumpCompletionStage =
-                getFutureJVpp().vxlanTunnelDump(request);
-        final VxlanTunnelDetailsReplyDump reply =
-                getReplyForRead(swInterfaceVxlanDetailsReplyDumpCompletionStage.toCompletableFuture(), id);
+        final VxlanTunnelDetails swInterfaceVxlanDetails = bulkDump
+                ? tunnelDumpManager.getDump(id, ctx.getModificationCache()).get().get(index)
+                : dumpTunnel(id, key, index);
 
         // VPP keeps vxlan tunnel interfaces even after they were deleted (optimization)
         // However there ar no longer any vxlan tunnel specific fields assigned to it and this call
         // returns nothing
-        if (reply == null || reply.vxlanTunnelDetails == null || reply.vxlanTunnelDetails.isEmpty()) {
+        if (swInterfaceVxlanDetails == null) {
             LOG.debug(
                     "Vxlan tunnel {}, id {} has no attributes assigned in VPP. Probably is a leftover interface placeholder" +
                             "after delete", key.getName(), index);
             return;
         }
-
-        checkState(reply.vxlanTunnelDetails.size() == 1,
-                "Unexpected number of returned vxlan tunnels: {} for tunnel: {}", reply.vxlanTunnelDetails,
-                key.getName());
-        LOG.trace("Vxlan tunnel: {} attributes returned from VPP: {}", key.getName(), reply);
-
-        final VxlanTunnelDetails swInterfaceVxlanDetails = reply.vxlanTunnelDetails.get(0);
         if (swInterfaceVxlanDetails.isIpv6 == 1) {
             builder.setDst(new IpAddress(arrayToIpv6AddressNoZone(swInterfaceVxlanDetails.dstAddress)));
             builder.setSrc(new IpAddress(arrayToIpv6AddressNoZone(swInterfaceVxlanDetails.srcAddress)));
@@ -139,6 +151,44 @@ public class VxlanCustomizer extends FutureJVppCustomizer
         LOG.debug("Vxlan tunnel: {}, id: {} attributes read as: {}", key.getName(), index, builder);
     }
 
+    @Nullable
+    private VxlanTunnelDetails dumpTunnel(@Nonnull final InstanceIdentifier<Vxlan> id,
+                                          @Nonnull final InterfaceKey key,
+                                          final int index) throws ReadFailedException {
+        // Dump just a single
+        final VxlanTunnelDump request = new VxlanTunnelDump();
+        request.swIfIndex = index;
+
+        final CompletionStage<VxlanTunnelDetailsReplyDump> swInterfaceVxlanDetailsReplyDumpCompletionStage =
+                getFutureJVpp().vxlanTunnelDump(request);
+        final VxlanTunnelDetailsReplyDump reply =
+                getReplyForRead(swInterfaceVxlanDetailsReplyDumpCompletionStage.toCompletableFuture(), id);
+
+        if (reply == null || reply.vxlanTunnelDetails == null || reply.vxlanTunnelDetails.isEmpty()) {
+            return null;
+        }
+
+        checkState(reply.vxlanTunnelDetails.size() == 1,
+                "Unexpected number of returned vxlan tunnels: {} for tunnel: {}", reply.vxlanTunnelDetails,
+                key.getName());
+        LOG.trace("Vxlan tunnel: {} attributes returned from VPP: {}", key.getName(), reply);
+
+        return reply.vxlanTunnelDetails.get(0);
+    }
+
+    private TunnelDetailsIndex<VxlanTunnelDetails> dumpAllTunnels(@Nonnull final InstanceIdentifier<?> id)
+            throws ReadFailedException {
+        LOG.debug("Dumping all vxlan tunnels");
+        final VxlanTunnelDump request = new VxlanTunnelDump();
+        request.swIfIndex = TunnelDetailsIndex.ALL_TUNNELS;
+        final VxlanTunnelDetailsReplyDump reply =
+                getReplyForRead(getFutureJVpp().vxlanTunnelDump(request).toCompletableFuture(), id);
+        // index is stored instead of the dump, so it is built just once per transaction
+        return new TunnelDetailsIndex<>(reply == null
+                ? null
+                : reply.vxlanTunnelDetails, details -> details.swIfIndex);
+    }
+
     @Override
     public Initialized<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.interfaces._interface.Vxlan> init(
             @Nonnull final InstanceIdentifier<Vxlan> id, @Nonnull final Vxlan readValue,
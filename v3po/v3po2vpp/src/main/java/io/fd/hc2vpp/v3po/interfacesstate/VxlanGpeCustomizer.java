@@ -29,12 +29,15 @@ import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.read.Initialized;
 import io.fd.honeycomb.translate.spi.read.InitializingReaderCustomizer;
 import io.fd.honeycomb.translate.util.RWUtils;
+import io.fd.honeycomb.translate.util.read.cache.DumpCacheManager;
+import io.fd.honeycomb.translate.util.read.cache.StaticCacheKeyFactory;
 import io.fd.vpp.jvpp.core.dto.VxlanGpeTunnelDetails;
 import io.fd.vpp.jvpp.core.dto.VxlanGpeTunnelDetailsReplyDump;
 import io.fd.vpp.jvpp.core.dto.VxlanGpeTunnelDump;
 import io.fd.vpp.jvpp.core.future.FutureJVppCore;
 import java.util.concurrent.CompletionStage;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state.Interface;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state.InterfaceKey;
@@ -58,13 +61,34 @@ public class VxlanGpeCustomizer extends FutureJVppCustomizer
     private static final Logger LOG = LoggerFactory.getLogger(VxlanGpeCustomizer.class);
     private final NamingContext interfaceContext;
     private final InterfaceCacheDumpManager dumpManager;
+    private final boolean bulkDump;
+    private final DumpCacheManager<TunnelDetailsIndex<VxlanGpeTunnelDetails>, Void> tunnelDumpManager;
 
     public VxlanGpeCustomizer(@Nonnull final FutureJVppCore jvpp,
                               @Nonnull final NamingContext interfaceContext,
                               @Nonnull final InterfaceCacheDumpManager dumpManager) {
+        this(jvpp, interfaceContext, dumpManager, false);
+    }
+
+    /**
+     * @param bulkDump if true, VxlanGpe tunnels of all interfaces are dumped once per transaction and shared by reads of
+     *                 individual tunnels, instead of dumping each tunnel separately
+     */
+    public VxlanGpeCustomizer(@Nonnull final FutureJVppCore jvpp,
+                              @Nonnull final NamingContext interfaceContext,
+                              @Nonnull final InterfaceCacheDumpManager dumpManager,
+                              final boolean bulkDump) {
         super(jvpp);
         this.interfaceContext = interfaceContext;
         this.dumpManager = dumpManager;
+        this.bulkDump = bulkDump;
+        this.tunnelDumpManager =
+                new DumpCacheManager.DumpCacheManagerBuilder<TunnelDetailsIndex<VxlanGpeTunnelDetails>, Void>()
+                        .withCacheKeyFactory(
+                                new StaticCacheKeyFactory(VxlanGpeCustomizer.class.getName() + "_allTunnels",
+                                        TunnelDetailsIndex.class))
+                        .withExecutor((identifier, params) -> dumpAllTunnels(identifier))
+                        .build();
     }
 
     @Override
@@ -91,32 +115,19 @@ public class VxlanGpeCustomizer extends FutureJVppCustomizer
         }
 
         LOG.debug("Reading attributes for VxlanGpe tunnel: {}", key.getName());
-        // Dump just a single
-        final VxlanGpeTunnelDump request = new VxlanGpeTunnelDump();
-        request.swIfIndex = index;
-
-        final CompletionStage<VxlanGpeTunnelDetailsReplyDump> swInterfaceVxlanGpeDetailsReplyDumpCompletionStage =
-                getFutureJVpp().vxlanGpeTunnelDump(request);
-        final VxlanGpeTunnelDetailsReplyDump reply =
-                getReplyForRead(swInterfaceVxlanGpeDetailsReplyDumpCompletionStage.toCompletableFuture(),
-                        id);
+        final VxlanGpeTunnelDetails swInterfaceVxlanGpeDetails = bulkDump
+                ? tunnelDumpManager.getDump(id, ctx.getModificationCache()).get().get(index)
+                : dumpTunnel(id, key, index);
 
         // VPP keeps VxlanGpe tunnel interfaces even after they were deleted (optimization)
         // However there are no longer any VxlanGpe tunnel specific fields assigned to it and this call
         // returns nothing
-        if (reply == null || reply.vxlanGpeTunnelDetails == null || reply.vxlanGpeTunnelDetails.isEmpty()) {
+        if (swInterfaceVxlanGpeDetails == null) {
             LOG.debug(
                     "VxlanGpe tunnel {}, id {} has no attributes assigned in VPP. Probably is a leftover interface placeholder" +
                             "after delete", key.getName(), index);
             return;
         }
-
-        checkState(reply.vxlanGpeTunnelDetails.size() == 1,
-                "Unexpected number of returned VxlanGpe tunnels: {} for tunnel: {}", reply.vxlanGpeTunnelDetails,
-                key.getName());
-        LOG.trace("VxlanGpe tunnel: {} attributes returned from VPP: {}", key.getName(), reply);
-
-        final VxlanGpeTunnelDetails swInterfaceVxlanGpeDetails = reply.vxlanGpeTunnelDetails.get(0);
         if (swInterfaceVxlanGpeDetails.isIpv6 == 1) {
             builder.setRemote(new IpAddress(arrayToIpv6AddressNoZone(swInterfaceVxlanGpeDetails.remote)));
             builder.setLocal(new IpAddress(arrayToIpv6AddressNoZone(swInterfaceVxlanGpeDetails.local)));
@@ -131,6 +142,45 @@ public class VxlanGpeCustomizer extends FutureJVppCustomizer
         LOG.debug("VxlanGpe tunnel: {}, id: {} attributes read as: {}", key.getName(), index, builder);
     }
 
+    @Nullable
+    private VxlanGpeTunnelDetails dumpTunnel(@Nonnull final InstanceIdentifier<VxlanGpe> id,
+                                             @Nonnull final InterfaceKey key,
+                                             final int index) throws ReadFailedException {
+        // Dump just a single
+        final VxlanGpeTunnelDump request = new VxlanGpeTunnelDump();
+        request.swIfIndex = index;
+
+        final CompletionStage<VxlanGpeTunnelDetailsReplyDump> swInterfaceVxlanGpeDetailsReplyDumpCompletionStage =
+                getFutureJVpp().vxlanGpeTunnelDump(request);
+        final VxlanGpeTunnelDetailsReplyDump reply =
+                getReplyForRead(swInterfaceVxlanGpeDetailsReplyDumpCompletionStage.toCompletableFuture(),
+                        id);
+
+        if (reply == null || reply.vxlanGpeTunnelDetails == null || reply.vxlanGpeTunnelDetails.isEmpty()) {
+            return null;
+        }
+
+        checkState(reply.vxlanGpeTunnelDetails.size() == 1,
+                "Unexpected number of returned VxlanGpe tunnels: {} for tunnel: {}", reply.vxlanGpeTunnelDetails,
+                key.getName());
+        LOG.trace("VxlanGpe tunnel: {} attributes returned from VPP: {}", key.getName(), reply);
+
+        return reply.vxlanGpeTunnelDetails.get(0);
+    }
+
+    private TunnelDetailsIndex<VxlanGpeTunnelDetails> dumpAllTunnels(@Nonnull final InstanceIdentifier<?> id)
+            throws ReadFailedException {
+        LOG.debug("Dumping all VxlanGpe tunnels");
+        final VxlanGpeTunnelDump request = new VxlanGpeTunnelDump();
+        request.swIfIndex = TunnelDetailsIndex.ALL_TUNNELS;
+        final VxlanGpeTunnelDetailsReplyDump reply =
+                getReplyForRead(getFutureJVpp().vxlanGpeTunnelDump(request).toCompletableFuture(), id);
+        // index is stored instead of the dump, so it is built just once per transaction
+        return new TunnelDetailsIndex<>(reply == null
+                ? null
+                : reply.vxlanGpeTunnelDetails, details -> details.swIfIndex);
+    }
+
     @Override
     public Initialized<org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.interfaces._interface.VxlanGpe> init(
             @Nonnull final InstanceIdentifier<VxlanGpe> id, @Nonnull final VxlanGpe readValue,
@@ -19,6 +19,7 @@ package io.fd.hc2vpp.v3po.interfacesstate.cache;
 import static io.fd.hc2vpp.common.translate.util.JvppReplyConsumer.INSTANCE;
 import static java.util.stream.Collectors.toMap;
 
+import com.google.common.base.Optional;
 import io.fd.hc2vpp.common.translate.util.ByteDataTranslator;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
 import io.fd.honeycomb.translate.ModificationCache;
@@ -31,6 +32,7 @@ import io.fd.vpp.jvpp.core.dto.SwInterfaceDetails;
 import io.fd.vpp.jvpp.core.dto.SwInterfaceDetailsReplyDump;
 import io.fd.vpp.jvpp.core.dto.SwInterfaceDump;
 import io.fd.vpp.jvpp.core.future.FutureJVppCore;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
@@ -42,6 +44,9 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Manager for dump data of interfaces/sub-interfaces
+ *
+ * <p>If {@link InterfaceDetailsCache} is enabled, full dump is served from it as long as it is valid, so that reads
+ * of interfaces do not have to reach VPP in every transaction.
  */
 final class InterfaceCacheDumpManagerImpl implements InterfaceCacheDumpManager {
 
@@ -52,10 +57,18 @@ final class InterfaceCacheDumpManagerImpl implements InterfaceCacheDumpManager {
     private NamingContext namingContext;
     private final DumpCacheManager<SwInterfaceDetailsReplyDump, String> specificDumpManager;
     private final DumpCacheManager<SwInterfaceDetailsReplyDump, Void> fullDumpManager;
+    private final InterfaceDetailsCache detailsCache;
 
     InterfaceCacheDumpManagerImpl(@Nonnull final FutureJVppCore jvpp,
                                   @Nonnull final NamingContext namingContext) {
+        this(jvpp, namingContext, new InterfaceDetailsCache(0));
+    }
+
+    InterfaceCacheDumpManagerImpl(@Nonnull final FutureJVppCore jvpp,
+                                  @Nonnull final NamingContext namingContext,
+                                  @Nonnull final InterfaceDetailsCache detailsCache) {
         this.namingContext = namingContext;
+        this.detailsCache = detailsCache;
         specificDumpManager = specificInterfaceDumpManager(jvpp);
         fullDumpManager = fullInterfaceDumpManager(jvpp,
                 new StaticCacheKeyFactory(InterfaceCacheDumpManagerImpl.class.getName() + "_dump", SwInterfaceDetailsReplyDump.class));
@@ -82,6 +95,12 @@ final class InterfaceCacheDumpManagerImpl implements InterfaceCacheDumpManager {
         if (interfaceIndex != null) {
             // tries to find interface in map
             return interfaceIndex.get(interfaceName);
+        } else if (detailsCache.isEnabled()) {
+            // full dump is most likely cached, fall back to specific dump only if interface is not known
+            final SwInterfaceDetails details = initMapAndGet(identifier, ctx).get(interfaceName);
+            return details != null
+                    ? details
+                    : dumpSpecificDetail(identifier, ctx, interfaceName);
         } else {
             // if map is not present, use specific dump(it will be cached standard way, under key constructed from IID)
             return dumpSpecificDetail(identifier, ctx, interfaceName);
@@ -110,14 +129,11 @@ final class InterfaceCacheDumpManagerImpl implements InterfaceCacheDumpManager {
 
         final ModificationCache cache = ctx.getModificationCache();
         if (!cache.containsKey(BY_NAME_INDEX_KEY)) {
-            LOG.debug("Performing dump[{}]", identifier);
-            final SwInterfaceDetailsReplyDump dump =
-                    fullDumpManager.getDump(identifier, cache)
-                            .or(new SwInterfaceDetailsReplyDump());
+            final List<SwInterfaceDetails> details = getAllDetails(identifier, cache);
 
             // naming context initialization must be done here, as it is uses getName in next step, therefore it would
             // create artificial mapping for every interface, because this happens before interface dump is processed
-            dump.swInterfaceDetails.forEach((elt) -> {
+            details.forEach((elt) -> {
                 // Store interface name from VPP in context if not yet present
                 if (!namingContext.containsName(elt.swIfIndex, ctx.getMappingContext())) {
                     namingContext.addName(elt.swIfIndex, ByteDataTranslator.INSTANCE.toString(elt.interfaceName),
@@ -129,7 +145,7 @@ final class InterfaceCacheDumpManagerImpl implements InterfaceCacheDumpManager {
                         elt.swIfIndex);
             });
 
-            final Map<String, SwInterfaceDetails> freshIndex = dump.swInterfaceDetails.stream()
+            final Map<String, SwInterfaceDetails> freshIndex = details.stream()
                     .collect(toMap(detail -> getInterfaceName(ctx, detail),
                             detail -> detail));
             putMap(freshIndex, ctx);
@@ -138,6 +154,22 @@ final class InterfaceCacheDumpManagerImpl implements InterfaceCacheDumpManager {
         return getMap(ctx);
     }
 
+    private List<SwInterfaceDetails> getAllDetails(final InstanceIdentifier<?> identifier,
+                                                   final ModificationCache cache) throws ReadFailedException {
+        final Optional<List<SwInterfaceDetails>> cachedDetails = detailsCache.getInterfaces();
+        if (cachedDetails.isPresent()) {
+            LOG.debug("Using cached interface details[{}]", identifier);
+            return cachedDetails.get();
+        }
+
+        LOG.debug("Performing dump[{}]", identifier);
+        final SwInterfaceDetailsReplyDump dump =
+                fullDumpManager.getDump(identifier, cache)
+                        .or(new SwInterfaceDetailsReplyDump());
+        detailsCache.update(dump.swInterfaceDetails);
+        return dump.swInterfaceDetails;
+    }
+
     private String getInterfaceName(final ReadContext ctx, final SwInterfaceDetails elt) {
         return namingContext.getName(elt.swIfIndex, ctx.getMappingContext());
     }
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.interfacesstate.cache;
+
+import com.google.common.base.Optional;
+import io.fd.vpp.jvpp.core.dto.SwInterfaceDetails;
+import io.fd.vpp.jvpp.core.dto.SwInterfaceEvent;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Interface details cache shared across read transactions, so that operational reads do not need to dump all
+ * interfaces from VPP every time.
+ *
+ * <p>Cached details are revalidated (dumped again) after configured time to live. In the meantime they are updated
+ * from interface events and from writes done by hc2vpp:
+ * <ul>
+ * <li>admin/link state is updated in a copy of cached details, details returned before never change</li>
+ * <li>deleted interfaces are removed</li>
+ * <li>any other change (e.g. unknown interface created, MTU or tag rewrite set) invalidates whole cache</li>
+ * </ul>
+ * Attributes changed by other means than listed above are visible after the cache expires.
+ *
+ * <p>Cache is disabled if time to live is not positive. Disabled cache never holds any data.
+ */
+@ThreadSafe
+public final class InterfaceDetailsCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(InterfaceDetailsCache.class);
+
+    private final long ttlNanos;
+    private final LongSupplier clock;
+
+    // null if not valid
+    private Map<Integer, SwInterfaceDetails> detailsByIndex;
+    private long dumpTime;
+
+    /**
+     * @param ttlMillis time to live of dumped details, cache is disabled if not positive
+     */
+    public InterfaceDetailsCache(final long ttlMillis) {
+        this(ttlMillis, System::nanoTime);
+    }
+
+    InterfaceDetailsCache(final long ttlMillis, @Nonnull final LongSupplier clock) {
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.clock = clock;
+    }
+
+    public boolean isEnabled() {
+        return ttlNanos > 0;
+    }
+
+    /**
+     * @return details of all interfaces, or absent if cache is disabled, invalidated or expired
+     */
+    synchronized Optional<List<SwInterfaceDetails>> getInterfaces() {
+        if (detailsByIndex == null) {
+            return Optional.absent();
+        }
+        if (clock.getAsLong() - dumpTime >= ttlNanos) {
+            LOG.debug("Interface details expired");
+            detailsByIndex = null;
+            return Optional.absent();
+        }
+        return Optional.of(new ArrayList<>(detailsByIndex.values()));
+    }
+
+    /**
+     * Replaces cached details with result of full interface dump.
+     */
+    synchronized void update(@Nonnull final List<SwInterfaceDetails> details) {
+        if (!isEnabled()) {
+            return;
+        }
+        final Map<Integer, SwInterfaceDetails> freshIndex = new LinkedHashMap<>(details.size() * 2);
+        details.forEach(detail -> freshIndex.put(detail.swIfIndex, detail));
+        detailsByIndex = freshIndex;
+        dumpTime = clock.getAsLong();
+    }
+
+    /**
+     * Applies interface event received from VPP.
+     */
+    public synchronized void onInterfaceEvent(@Nonnull final SwInterfaceEvent event) {
+        if (detailsByIndex == null) {
+            return;
+        }
+        if (event.deleted == 1) {
+            detailsByIndex.remove(event.swIfIndex);
+            return;
+        }
+        final SwInterfaceDetails details = detailsByIndex.get(event.swIfIndex);
+        if (details == null) {
+            LOG.debug("Event for unknown interface {}, invalidating interface details", event.swIfIndex);
+            detailsByIndex = null;
+            return;
+        }
+        final SwInterfaceDetails updated = copy(details);
+        updated.adminUpDown = event.adminUpDown;
+        updated.linkUpDown = event.linkUpDown;
+        detailsByIndex.put(event.swIfIndex, updated);
+    }
+
+    /**
+     * Applies admin state set by hc2vpp.
+     */
+    public synchronized void onAdminStateSet(final int swIfIndex, final byte adminUpDown) {
+        if (detailsByIndex == null) {
+            return;
+        }
+        final SwInterfaceDetails details = detailsByIndex.get(swIfIndex);
+        if (details == null) {
+            detailsByIndex = null;
+            return;
+        }
+        final SwInterfaceDetails updated = copy(details);
+        updated.adminUpDown = adminUpDown;
+        detailsByIndex.put(swIfIndex, updated);
+    }
+
+    /**
+     * Drops all cached details, next read dumps them from VPP. Used when interface is created or removed by hc2vpp.
+     */
+    public synchronized void invalidate() {
+        detailsByIndex = null;
+    }
+
+    /**
+     * Cached details are shared with readers and with dump caches, so they are copied before update. Arrays are
+     * shared, since they are never updated.
+     */
+    private static SwInterfaceDetails copy(@Nonnull final SwInterfaceDetails details) {
+        final SwInterfaceDetails copy = new SwInterfaceDetails();
+        copy.context = details.context;
+        copy.swIfIndex = details.swIfIndex;
+        copy.supSwIfIndex = details.supSwIfIndex;
+        copy.l2AddressLength = details.l2AddressLength;
+        copy.l2Address = details.l2Address;
+        copy.interfaceName = details.interfaceName;
+        copy.adminUpDown = details.adminUpDown;
+        copy.linkUpDown = details.linkUpDown;
+        copy.linkDuplex = details.linkDuplex;
+        copy.linkSpeed = details.linkSpeed;
+        copy.linkMtu = details.linkMtu;
+        copy.subId = details.subId;
+        copy.subDot1Ad = details.subDot1Ad;
+        copy.subDot1Ah = details.subDot1Ah;
+        copy.subNumberOfTags = details.subNumberOfTags;
+        copy.subOuterVlanId = details.subOuterVlanId;
+        copy.subInnerVlanId = details.subInnerVlanId;
+        copy.subExactMatch = details.subExactMatch;
+        copy.subDefault = details.subDefault;
+        copy.subOuterVlanIdAny = details.subOuterVlanIdAny;
+        copy.subInnerVlanIdAny = details.subInnerVlanIdAny;
+        copy.vtrOp = details.vtrOp;
+        copy.vtrPushDot1Q = details.vtrPushDot1Q;
+        copy.vtrTag1 = details.vtrTag1;
+        copy.vtrTag2 = details.vtrTag2;
+        copy.tag = details.tag;
+        copy.outerTag = details.outerTag;
+        copy.bDmac = details.bDmac;
+        copy.bSmac = details.bSmac;
+        copy.bVlanid = details.bVlanid;
+        copy.iSid = details.iSid;
+        return copy;
+    }
+}
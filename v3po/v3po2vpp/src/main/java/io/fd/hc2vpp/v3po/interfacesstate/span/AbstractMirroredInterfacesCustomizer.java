@@ -23,10 +23,15 @@ import io.fd.honeycomb.translate.MappingContext;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.read.InitializingReaderCustomizer;
+import io.fd.honeycomb.translate.util.read.cache.DumpCacheManager;
+import io.fd.honeycomb.translate.util.read.cache.StaticCacheKeyFactory;
+import io.fd.vpp.jvpp.core.dto.SwInterfaceSpanDetails;
 import io.fd.vpp.jvpp.core.dto.SwInterfaceSpanDetailsReplyDump;
 import io.fd.vpp.jvpp.core.dto.SwInterfaceSpanDump;
 import io.fd.vpp.jvpp.core.future.FutureJVppCore;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
@@ -45,9 +50,12 @@ abstract class AbstractMirroredInterfacesCustomizer
         implements InitializingReaderCustomizer<MirroredInterfaces, MirroredInterfacesBuilder>, JvppReplyConsumer {
 
     private static final Logger LOG = LoggerFactory.getLogger(AbstractMirroredInterfacesCustomizer.class);
+    // shared by interface and sub-interface readers, so span is dumped and indexed once per transaction
+    private static final String SPAN_INDEX_KEY = AbstractMirroredInterfacesCustomizer.class.getName() + "_spanIndex";
 
     private final NamingContext ifcContext;
     private final Function<InstanceIdentifier<MirroredInterfaces>, String> destinationInterfaceNameExtractor;
+    private final DumpCacheManager<SpanDestinationIndex, Void> spanDumpManager;
 
     protected AbstractMirroredInterfacesCustomizer(@Nonnull final FutureJVppCore futureJVppCore,
                                                    @Nonnull final NamingContext ifcContext,
@@ -55,6 +63,11 @@ abstract class AbstractMirroredInterfacesCustomizer
         super(futureJVppCore);
         this.ifcContext = ifcContext;
         this.destinationInterfaceNameExtractor = destinationInterfaceNameExtractor;
+        this.spanDumpManager = new DumpCacheManager.DumpCacheManagerBuilder<SpanDestinationIndex, Void>()
+                .withCacheKeyFactory(new StaticCacheKeyFactory(SPAN_INDEX_KEY, SpanDestinationIndex.class))
+                .withExecutor((identifier, params) -> dumpSpan(identifier))
+                .acceptOnly(SpanDestinationIndex.class)
+                .build();
     }
 
     @Nonnull
@@ -68,32 +81,27 @@ abstract class AbstractMirroredInterfacesCustomizer
                                       @Nonnull final MirroredInterfacesBuilder builder, @Nonnull final ReadContext ctx)
             throws ReadFailedException {
         LOG.trace("Reading mirrored interfaces under: {}", id);
-        final int dstId = destinationInterfaceIndex(id, ctx.getMappingContext());
+        final MappingContext mappingContext = ctx.getMappingContext();
+        final int dstId = destinationInterfaceIndex(id, mappingContext);
 
-        final SwInterfaceSpanDetailsReplyDump replyForRead;
-        if (ctx.getModificationCache().containsKey(getCacheKey())) {
-            replyForRead = (SwInterfaceSpanDetailsReplyDump) ctx.getModificationCache().get(getCacheKey());
-        } else {
-            replyForRead = getReplyForRead(getFutureJVpp().swInterfaceSpanDump(
-                    new SwInterfaceSpanDump()).toCompletableFuture(), id);
-            ctx.getModificationCache().put(getCacheKey(), replyForRead);
-        }
+        final List<SwInterfaceSpanDetails> sources = spanDumpManager.getDump(id, ctx.getModificationCache()).get()
+                .getSources(dstId);
+        final Map<Integer, String> sourceNames = ifcContext.getNamesIfPresent(
+                sources.stream().map(detail -> detail.swIfIndexFrom).collect(Collectors.toSet()), mappingContext);
 
-        final List<MirroredInterface> mirroredInterfaces =
-                replyForRead.swInterfaceSpanDetails.stream()
-                        .filter(detail -> detail.swIfIndexTo == dstId)
-                        .filter(detail -> detail.state != 0) // filters disabled(we use disabled as delete)
-                        .map(detail -> {
-                                    final String interfaceName =
-                                            ifcContext.getName(detail.swIfIndexFrom, ctx.getMappingContext());
-                                    return new MirroredInterfaceBuilder()
-                                            .setIfaceRef(interfaceName)
-                                            .setKey(new MirroredInterfaceKey(interfaceName))
-                                            .setState(SpanState.forValue(detail.state))
-                                            .build();
-                                }
-                        )
-                        .collect(Collectors.toList());
+        final List<MirroredInterface> mirroredInterfaces = new ArrayList<>(sources.size());
+        for (final SwInterfaceSpanDetails detail : sources) {
+            final String mappedName = sourceNames.get(detail.swIfIndexFrom);
+            // creates artificial name, if source is not mapped yet
+            final String interfaceName = mappedName != null
+                    ? mappedName
+                    : ifcContext.getName(detail.swIfIndexFrom, mappingContext);
+            mirroredInterfaces.add(new MirroredInterfaceBuilder()
+                    .setIfaceRef(interfaceName)
+                    .setKey(new MirroredInterfaceKey(interfaceName))
+                    .setState(SpanState.forValue(detail.state))
+                    .build());
+        }
 
         LOG.debug("Mirrored interfaces for: {} read as: {}", id, mirroredInterfaces);
 
@@ -102,8 +110,11 @@ abstract class AbstractMirroredInterfacesCustomizer
         }
     }
 
-    private String getCacheKey() {
-        return getClass().getName();
+    private SpanDestinationIndex dumpSpan(@Nonnull final InstanceIdentifier<?> id) throws ReadFailedException {
+        final SwInterfaceSpanDetailsReplyDump replyForRead = getReplyForRead(getFutureJVpp().swInterfaceSpanDump(
+                new SwInterfaceSpanDump()).toCompletableFuture(), id);
+        // index is stored instead of the dump, so it is built just once per transaction
+        return new SpanDestinationIndex(replyForRead.swInterfaceSpanDetails);
     }
 
     private int destinationInterfaceIndex(@Nonnull final InstanceIdentifier<MirroredInterfaces> id,
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.interfacesstate.span;
+
+import io.fd.vpp.jvpp.core.dto.SwInterfaceSpanDetails;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Enabled span entries indexed by destination interface. Built in single pass over span dump, so mirrored interfaces
+ * of each destination are found by single lookup instead of filtering the whole dump.
+ */
+@NotThreadSafe
+final class SpanDestinationIndex {
+
+    private final Map<Integer, List<SwInterfaceSpanDetails>> byDestination = new HashMap<>();
+
+    SpanDestinationIndex(@Nonnull final List<SwInterfaceSpanDetails> details) {
+        for (final SwInterfaceSpanDetails detail : details) {
+            // disabled state is used as delete
+            if (detail.state != 0) {
+                byDestination.computeIfAbsent(detail.swIfIndexTo, index -> new ArrayList<>()).add(detail);
+            }
+        }
+    }
+
+    /**
+     * @return enabled span entries mirrored to destination interface, in order reported by VPP
+     */
+    @Nonnull
+    List<SwInterfaceSpanDetails> getSources(final int destinationIndex) {
+        final List<SwInterfaceSpanDetails> sources = byDestination.get(destinationIndex);
+        return sources == null
+                ? Collections.emptyList()
+                : sources;
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.interfacesstate.stats;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Read-only view of VPP statistics shared memory segment. Counters are decoded directly from mapped memory, only
+ * values requested are read, without copying counter vectors.
+ *
+ * <p>Supported layout (VPP stat_segment.h, segment version 1):
+ * <pre>
+ * shared header:   u64 version, u64 epoch, u64 in_progress, u64 directory_offset, ...
+ * directory entry: u32 type (padded to 8B), u64 offset, u64 offset_vector, char name[128]
+ * </pre>
+ * Offsets are relative to segment start. Vectors are VPP vectors, with u32 length stored 8 bytes before vector data.
+ * Counter entries point to vector of per-thread counter vectors (offset), whose offsets are stored in offset_vector.
+ * Values of all threads are summed.
+ *
+ * <p>Reads are consistent in the same way as in VPP stat client: data are read again if epoch changed or VPP was
+ * updating the segment meanwhile.
+ */
+@ThreadSafe
+public final class StatsSegment {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StatsSegment.class);
+
+    static final long SUPPORTED_VERSION = 1;
+
+    static final int VERSION_POSITION = 0;
+    static final int EPOCH_POSITION = 8;
+    static final int IN_PROGRESS_POSITION = 16;
+    static final int DIRECTORY_POSITION = 24;
+
+    static final int VECTOR_HEADER_SIZE = 8;
+
+    static final int ENTRY_SIZE = 152;
+    static final int ENTRY_OFFSET_POSITION = 8;
+    static final int ENTRY_OFFSET_VECTOR_POSITION = 16;
+    static final int ENTRY_NAME_POSITION = 24;
+    static final int ENTRY_NAME_SIZE = 128;
+
+    static final int TYPE_COUNTER_VECTOR_SIMPLE = 2;
+    static final int TYPE_COUNTER_VECTOR_COMBINED = 3;
+
+    static final int SIMPLE_COUNTER_SIZE = 8;
+    static final int COMBINED_COUNTER_SIZE = 16;
+
+    static final String IF_RX = "/if/rx";
+    static final String IF_TX = "/if/tx";
+    static final String IF_DROPS = "/if/drops";
+    static final String IF_RX_ERROR = "/if/rx-error";
+    static final String IF_TX_ERROR = "/if/tx-error";
+
+    private static final int MAX_READ_ATTEMPTS = 100;
+
+    private final ByteBuffer segment;
+    private final Instant mappedAt;
+
+    // positions of counter directory entries by name, valid for directoryEpoch
+    private Map<String, Integer> directory;
+    private long directoryEpoch;
+
+    StatsSegment(@Nonnull final ByteBuffer segment) {
+        // absolute reads do not change buffer state, so single buffer can be shared by all readers
+        this.segment = segment.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        this.mappedAt = Instant.now();
+        final long version = this.segment.getLong(VERSION_POSITION);
+        if (version != SUPPORTED_VERSION) {
+            LOG.warn("Unsupported stats segment version {}, counters might be decoded incorrectly", version);
+        }
+    }
+
+    /**
+     * Maps stats segment from file read-only. Mapping stays valid after the file is closed.
+     */
+    @Nonnull
+    public static StatsSegment map(@Nonnull final Path path) throws IOException {
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            LOG.debug("Mapping stats segment {} of size {}", path, channel.size());
+            return new StatsSegment(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * @return time when segment was mapped, counters are considered continuous since then
+     */
+    @Nonnull
+    public Instant getMappedAt() {
+        return mappedAt;
+    }
+
+    /**
+     * Reads counters of single interface.
+     *
+     * @throws IllegalStateException if consistent data could not be read
+     */
+    @Nonnull
+    public InterfaceCounters readInterfaceCounters(final int swIfIndex) {
+        for (int attempt = 0; attempt < MAX_READ_ATTEMPTS; attempt++) {
+            final long epoch = segment.getLong(EPOCH_POSITION);
+            if (segment.getLong(IN_PROGRESS_POSITION) != 0) {
+                Thread.yield();
+                continue;
+            }
+            final InterfaceCounters counters;
+            try {
+                counters = readInterfaceCounters(directory(epoch), swIfIndex);
+            } catch (IndexOutOfBoundsException | ArithmeticException e) {
+                // segment was most likely reallocated while reading, check epoch
+                LOG.trace("Unable to decode stats segment in epoch {}", epoch, e);
+                if (segment.getLong(EPOCH_POSITION) == epoch && segment.getLong(IN_PROGRESS_POSITION) == 0) {
+                    throw new IllegalStateException("Invalid stats segment content", e);
+                }
+                continue;
+            }
+            if (segment.getLong(EPOCH_POSITION) == epoch && segment.getLong(IN_PROGRESS_POSITION) == 0) {
+                return counters;
+            }
+        }
+        throw new IllegalStateException(
+                "Unable to read consistent stats segment data in " + MAX_READ_ATTEMPTS + " attempts");
+    }
+
+    private InterfaceCounters readInterfaceCounters(final Map<String, Integer> entries, final int swIfIndex) {
+        return new InterfaceCounters(
+                combinedCounter(entries.get(IF_RX), swIfIndex, 0),
+                combinedCounter(entries.get(IF_RX), swIfIndex, 8),
+                combinedCounter(entries.get(IF_TX), swIfIndex, 0),
+                combinedCounter(entries.get(IF_TX), swIfIndex, 8),
+                simpleCounter(entries.get(IF_DROPS), swIfIndex),
+                simpleCounter(entries.get(IF_RX_ERROR), swIfIndex),
+                simpleCounter(entries.get(IF_TX_ERROR), swIfIndex));
+    }
+
+    private synchronized Map<String, Integer> directory(final long epoch) {
+        // directory changes only together with epoch
+        if (directory == null || directoryEpoch != epoch) {
+            final int directoryVector = position(segment.getLong(DIRECTORY_POSITION));
+            final int entries = vectorLength(directoryVector);
+            final Map<String, Integer> freshDirectory = new HashMap<>();
+            for (int i = 0; i < entries; i++) {
+                final int entry = directoryVector + i * ENTRY_SIZE;
+                final int type = segment.getInt(entry);
+                if (type == TYPE_COUNTER_VECTOR_SIMPLE || type == TYPE_COUNTER_VECTOR_COMBINED) {
+                    freshDirectory.put(entryName(entry), entry);
+                }
+            }
+            directory = freshDirectory;
+            directoryEpoch = epoch;
+        }
+        return directory;
+    }
+
+    private String entryName(final int entry) {
+        final byte[] name = new byte[ENTRY_NAME_SIZE];
+        int length = 0;
+        while (length < ENTRY_NAME_SIZE) {
+            final byte character = segment.get(entry + ENTRY_NAME_POSITION + length);
+            if (character == 0) {
+                break;
+            }
+            name[length++] = character;
+        }
+        return new String(name, 0, length, StandardCharsets.US_ASCII);
+    }
+
+    @Nullable
+    private Long simpleCounter(@Nullable final Integer entry, final int index) {
+        return sumCounter(entry, index, SIMPLE_COUNTER_SIZE, 0);
+    }
+
+    @Nullable
+    private Long combinedCounter(@Nullable final Integer entry, final int index, final int fieldPosition) {
+        return sumCounter(entry, index, COMBINED_COUNTER_SIZE, fieldPosition);
+    }
+
+    @Nullable
+    private Long sumCounter(@Nullable final Integer entry, final int index, final int counterSize,
+                            final int fieldPosition) {
+        if (entry == null) {
+            return null;
+        }
+        final long threadsVectorOffset = segment.getLong(entry + ENTRY_OFFSET_POSITION);
+        if (threadsVectorOffset == 0) {
+            return null;
+        }
+        final int threads = vectorLength(position(threadsVectorOffset));
+        final int offsetVector = position(segment.getLong(entry + ENTRY_OFFSET_VECTOR_POSITION));
+        long sum = 0;
+        for (int thread = 0; thread < threads; thread++) {
+            final int counters = position(segment.getLong(offsetVector + thread * 8));
+            if (index < vectorLength(counters)) {
+                sum += segment.getLong(counters + index * counterSize + fieldPosition);
+            }
+        }
+        return sum;
+    }
+
+    private int vectorLength(final int vector) {
+        return segment.getInt(vector - VECTOR_HEADER_SIZE);
+    }
+
+    private static int position(final long offset) {
+        return Math.toIntExact(offset);
+    }
+
+    /**
+     * Interface counters summed over all VPP threads. Counters not present in stats segment are null.
+     */
+    public static final class InterfaceCounters {
+        private final Long rxPackets;
+        private final Long rxBytes;
+        private final Long txPackets;
+        private final Long txBytes;
+        private final Long drops;
+        private final Long rxErrors;
+        private final Long txErrors;
+
+        InterfaceCounters(@Nullable final Long rxPackets, @Nullable final Long rxBytes,
+                          @Nullable final Long txPackets, @Nullable final Long txBytes,
+                          @Nullable final Long drops, @Nullable final Long rxErrors,
+                          @Nullable final Long txErrors) {
+            this.rxPackets = rxPackets;
+            this.rxBytes = rxBytes;
+            this.txPackets = txPackets;
+            this.txBytes = txBytes;
+            this.drops = drops;
+            this.rxErrors = rxErrors;
+            this.txErrors = txErrors;
+        }
+
+        @Nullable
+        public Long getRxPackets() {
+            return rxPackets;
+        }
+
+        @Nullable
+        public Long getRxBytes() {
+            return rxBytes;
+        }
+
+        @Nullable
+        public Long getTxPackets() {
+            return txPackets;
+        }
+
+        @Nullable
+        public Long getTxBytes() {
+            return txBytes;
+        }
+
+        @Nullable
+        public Long getDrops() {
+            return drops;
+        }
+
+        @Nullable
+        public Long getRxErrors() {
+            return rxErrors;
+        }
+
+        @Nullable
+        public Long getTxErrors() {
+            return txErrors;
+        }
+    }
+}
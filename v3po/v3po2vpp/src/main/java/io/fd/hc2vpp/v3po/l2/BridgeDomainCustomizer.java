@@ -35,7 +35,6 @@ import io.fd.vpp.jvpp.core.future.FutureJVppCore;
 import java.util.Collections;
 import java.util.Optional;
 import javax.annotation.Nonnull;
-import javax.annotation.concurrent.GuardedBy;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.Interfaces;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.L2ConfigAttributes;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.VppInterfaceAugmentation;
@@ -55,13 +54,19 @@ public class BridgeDomainCustomizer extends FutureJVppCustomizer
 
     private static final byte ADD_OR_UPDATE_BD = (byte) 1;
     private final NamingContext bdContext;
-    @GuardedBy("this")
-    private int bridgeDomainIndexCounter = 1;
+    private final BridgeDomainIdAllocator bdIdAllocator;
 
     public BridgeDomainCustomizer(@Nonnull final FutureJVppCore futureJVppCore,
                                   @Nonnull final NamingContext bdContext) {
+        this(futureJVppCore, bdContext, new BridgeDomainIdAllocator(bdContext));
+    }
+
+    public BridgeDomainCustomizer(@Nonnull final FutureJVppCore futureJVppCore,
+                                  @Nonnull final NamingContext bdContext,
+                                  @Nonnull final BridgeDomainIdAllocator bdIdAllocator) {
         super(futureJVppCore);
         this.bdContext = Preconditions.checkNotNull(bdContext, "bdContext should not be null");
+        this.bdIdAllocator = Preconditions.checkNotNull(bdIdAllocator, "bdIdAllocator should not be null");
     }
 
     private BridgeDomainAddDelReply addOrUpdateBridgeDomain(@Nonnull final InstanceIdentifier<BridgeDomain> id,
@@ -90,24 +95,25 @@ public class BridgeDomainCustomizer extends FutureJVppCustomizer
         LOG.debug("writeCurrentAttributes: id={}, current={}, ctx={}", id, dataBefore, ctx);
         final String bdName = dataBefore.getName();
 
-        // Invoke 1. check index, 2. increase index 3. create ND 4. store mapping in a synchronized block to prevent
-        // race conditions in case of concurrent invocation
+        // Check and allocate index in a synchronized block to prevent race conditions in case of concurrent
+        // invocation. Allocated index stays reserved by the allocator, so VPP is invoked outside of the lock.
+        final boolean present;
+        final int index;
         synchronized (this) {
-            int index;
-            if (bdContext.containsIndex(bdName, ctx.getMappingContext())) {
-                index = bdContext.getIndex(bdName, ctx.getMappingContext());
-            } else {
-                // Critical section due to bridgeDomainIndexCounter read and write access
-                // TODO HONEYCOMB-199 move this "get next available index" into naming context or an adapter
-                // or a dedicated object
-
-                // Use counter to assign bridge domain index, but still check naming context if it's not taken there
-                while (bdContext.containsName(bridgeDomainIndexCounter, ctx.getMappingContext())) {
-                    bridgeDomainIndexCounter++;
-                }
-                index = bridgeDomainIndexCounter;
-            }
+            present = bdContext.containsIndex(bdName, ctx.getMappingContext());
+            index = present
+                    ? bdContext.getIndex(bdName, ctx.getMappingContext())
+                    : bdIdAllocator.allocate(ctx.getMappingContext());
+        }
+        try {
             addOrUpdateBridgeDomain(id, index, dataBefore);
+        } catch (WriteFailedException | RuntimeException e) {
+            if (!present) {
+                bdIdAllocator.release(index);
+            }
+            throw e;
+        }
+        synchronized (this) {
             bdContext.addName(index, bdName, ctx.getMappingContext());
         }
     }
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.l2;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.honeycomb.translate.MappingContext;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Allocates VPP bridge domain ids. Ids of bridge domains, which failed to be created, are reused. Otherwise ids are
+ * allocated from a counter, skipping ids already present in bridge domain context. The counter never moves back, so
+ * each id is checked at most once and allocation takes constant time on average (with indexed context).
+ *
+ * <p>Allocated id is reserved until it is released, even if it is not yet stored in the context.
+ */
+@ThreadSafe
+public final class BridgeDomainIdAllocator {
+
+    // id 0 is used by VPP for default bridge domain
+    private static final int FIRST_ID = 1;
+
+    private final NamingContext bdContext;
+    private final Deque<Integer> released = new ArrayDeque<>();
+    private int nextId = FIRST_ID;
+
+    public BridgeDomainIdAllocator(@Nonnull final NamingContext bdContext) {
+        this.bdContext = checkNotNull(bdContext, "bdContext should not be null");
+    }
+
+    /**
+     * @return id, which is not used by any bridge domain in the context, nor allocated by other caller
+     */
+    public synchronized int allocate(@Nonnull final MappingContext mappingContext) {
+        while (!released.isEmpty()) {
+            final int id = released.pop();
+            if (!bdContext.containsName(id, mappingContext)) {
+                return id;
+            }
+        }
+        while (bdContext.containsName(nextId, mappingContext)) {
+            nextId++;
+        }
+        return nextId++;
+    }
+
+    /**
+     * Returns id, which was allocated but not used (e.g. VPP failed to create the bridge domain).
+     */
+    public synchronized void release(final int id) {
+        released.push(id);
+    }
+}
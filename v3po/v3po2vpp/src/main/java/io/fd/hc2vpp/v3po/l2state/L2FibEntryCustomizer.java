@@ -17,6 +17,7 @@
 package io.fd.hc2vpp.v3po.l2state;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
 import io.fd.hc2vpp.common.translate.util.ByteDataTranslator;
 import io.fd.hc2vpp.common.translate.util.FutureJVppCustomizer;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
@@ -26,17 +27,15 @@ import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.read.Initialized;
 import io.fd.honeycomb.translate.spi.read.InitializingListReaderCustomizer;
 import io.fd.honeycomb.translate.util.RWUtils;
+import io.fd.honeycomb.translate.util.read.cache.DumpCacheManager;
+import io.fd.honeycomb.translate.util.read.cache.TypeAwareIdentifierCacheKeyFactory;
 import io.fd.vpp.jvpp.core.dto.L2FibTableDetails;
 import io.fd.vpp.jvpp.core.dto.L2FibTableDetailsReplyDump;
 import io.fd.vpp.jvpp.core.dto.L2FibTableDump;
 import io.fd.vpp.jvpp.core.future.FutureJVppCore;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collector;
-import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.PhysAddress;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.L2FibFilter;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.L2FibForward;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.bridge.domains.state.BridgeDomain;
@@ -58,17 +57,30 @@ public final class L2FibEntryCustomizer extends FutureJVppCustomizer
 
     private static final Logger LOG = LoggerFactory.getLogger(L2FibEntryCustomizer.class);
 
-    private static final Collector<L2FibTableDetails, ?, L2FibTableDetails> SINGLE_ITEM_COLLECTOR =
-            RWUtils.singleItemCollector();
-
     private final NamingContext bdContext;
     private final NamingContext interfaceContext;
+    private final DumpCacheManager<L2FibTableIndex, Integer> dumpManager;
 
     public L2FibEntryCustomizer(@Nonnull final FutureJVppCore futureJVppCore, @Nonnull final NamingContext bdContext,
                                 @Nonnull final NamingContext interfaceContext) {
         super(futureJVppCore);
         this.bdContext = Preconditions.checkNotNull(bdContext, "bdContext should not be null");
         this.interfaceContext = Preconditions.checkNotNull(interfaceContext, "interfaceContext should not be null");
+        this.dumpManager = new DumpCacheManager.DumpCacheManagerBuilder<L2FibTableIndex, Integer>()
+                // table is dumped and indexed just once per bridge domain and read transaction
+                .withCacheKeyFactory(new TypeAwareIdentifierCacheKeyFactory(L2FibTableIndex.class,
+                        ImmutableSet.of(BridgeDomain.class)))
+                .withExecutor((identifier, bdId) -> {
+                    final L2FibTableDump l2FibRequest = new L2FibTableDump();
+                    l2FibRequest.bdId = bdId;
+                    final L2FibTableDetailsReplyDump dump = getReplyForRead(
+                            getFutureJVpp().l2FibTableDump(l2FibRequest).toCompletableFuture(), identifier);
+                    return new L2FibTableIndex(dump == null || dump.l2FibTableDetails == null
+                            ? Collections.emptyList()
+                            : dump.l2FibTableDetails);
+                })
+                .acceptOnly(L2FibTableIndex.class)
+                .build();
     }
 
     @Override
@@ -81,12 +93,14 @@ public final class L2FibEntryCustomizer extends FutureJVppCustomizer
         final int bdId = bdContext.getIndex(bridgeDomainKey.getName(), ctx.getMappingContext());
         LOG.debug("Reading L2 FIB entry: key={}. bridgeDomainKey={}, bdId={}", key, bridgeDomainKey, bdId);
 
-        try {
-            // TODO HONEYCOMB-186 use cached l2FibTable
-            final L2FibTableDetails entry = dumpL2Fibs(id, bdId).stream().filter(e -> key.getPhysAddress()
-                    .equals(new PhysAddress(vppPhysAddrToYang((e.mac)))))
-                    .collect(SINGLE_ITEM_COLLECTOR);
+        final L2FibTableDetails entry = dumpManager.getDump(id, ctx.getModificationCache(), bdId).get()
+                .get(key.getPhysAddress());
+        if (entry == null) {
+            throw new ReadFailedException(id,
+                    new IllegalStateException("No L2 FIB entry " + key + " in bridge domain " + bdId));
+        }
 
+        try {
             builder.setAction(byteToBoolean(entry.filterMac)
                     ? L2FibFilter.class
                     : L2FibForward.class);
@@ -103,24 +117,6 @@ public final class L2FibEntryCustomizer extends FutureJVppCustomizer
         }
     }
 
-    @Nonnull
-    private List<L2FibTableDetails> dumpL2Fibs(final InstanceIdentifier<L2FibEntry> id, final int bdId)
-            throws ReadFailedException {
-        final L2FibTableDump l2FibRequest = new L2FibTableDump();
-        l2FibRequest.bdId = bdId;
-
-        final CompletableFuture<L2FibTableDetailsReplyDump> l2FibTableDumpCompletableFuture =
-                getFutureJVpp().l2FibTableDump(l2FibRequest).toCompletableFuture();
-
-        final L2FibTableDetailsReplyDump dump = getReplyForRead(l2FibTableDumpCompletableFuture, id);
-
-        if (null == dump || null == dump.l2FibTableDetails) {
-            return Collections.emptyList();
-        } else {
-            return dump.l2FibTableDetails;
-        }
-    }
-
     @Nonnull
     @Override
     public List<L2FibEntryKey> getAllIds(@Nonnull final InstanceIdentifier<L2FibEntry> id,
@@ -129,9 +125,7 @@ public final class L2FibEntryCustomizer extends FutureJVppCustomizer
         final int bdId = bdContext.getIndex(bridgeDomainKey.getName(), ctx.getMappingContext());
 
         LOG.debug("Reading L2 FIB for bridge domain {} (bdId={})", bridgeDomainKey, bdId);
-        return dumpL2Fibs(id, bdId).stream()
-                .map(entry -> new L2FibEntryKey(new PhysAddress(vppPhysAddrToYang(entry.mac))))
-                .collect(Collectors.toList());
+        return dumpManager.getDump(id, ctx.getModificationCache(), bdId).get().getKeys();
     }
 
     @Override
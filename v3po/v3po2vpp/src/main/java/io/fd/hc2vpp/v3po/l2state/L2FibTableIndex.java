@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.l2state;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import io.fd.hc2vpp.v3po.interfacesstate.InterfaceDataTranslator;
+import io.fd.vpp.jvpp.core.dto.L2FibTableDetails;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.PhysAddress;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.l2.fib.attributes.l2.fib.table.L2FibEntryKey;
+
+/**
+ * L2 FIB table of single bridge domain, indexed by MAC address packed into long. Keys and index are built in one pass
+ * over the dump, so reading all entries of the table costs single dump and single lookup per entry.
+ */
+@NotThreadSafe
+final class L2FibTableIndex implements InterfaceDataTranslator {
+
+    private static final int MAC_LENGTH = 6;
+
+    private final Map<Long, L2FibTableDetails> entries;
+    private final List<L2FibEntryKey> keys;
+
+    L2FibTableIndex(@Nonnull final List<L2FibTableDetails> details) {
+        entries = new HashMap<>(details.size() * 2);
+        keys = new ArrayList<>(details.size());
+        for (final L2FibTableDetails entry : details) {
+            // first entry wins, VPP does not report the same MAC twice for single bridge domain
+            if (entries.putIfAbsent(macToLong(entry.mac), entry) == null) {
+                keys.add(new L2FibEntryKey(new PhysAddress(vppPhysAddrToYang(entry.mac))));
+            }
+        }
+    }
+
+    /**
+     * @return entry for MAC address, or null if there is none
+     */
+    @Nullable
+    L2FibTableDetails get(@Nonnull final PhysAddress address) {
+        return entries.get(macToLong(address.getValue()));
+    }
+
+    /**
+     * @return keys of all entries, in order reported by VPP
+     */
+    @Nonnull
+    List<L2FibEntryKey> getKeys() {
+        return Collections.unmodifiableList(keys);
+    }
+
+    static long macToLong(@Nonnull final byte[] mac) {
+        checkArgument(mac.length >= MAC_LENGTH, "Invalid physical address size (%s), expected >= %s", mac.length,
+                MAC_LENGTH);
+        long value = 0;
+        // only first 48 bits are used, same as by vppPhysAddrToYang
+        for (int i = 0; i < MAC_LENGTH; i++) {
+            value = value << 8 | mac[i] & 0xff;
+        }
+        return value;
+    }
+
+    static long macToLong(@Nonnull final String mac) {
+        checkArgument(mac.length() == MAC_LENGTH * 3 - 1, "Invalid physical address %s", mac);
+        long value = 0;
+        for (int i = 0; i < MAC_LENGTH; i++) {
+            final int high = Character.digit(mac.charAt(i * 3), 16);
+            final int low = Character.digit(mac.charAt(i * 3 + 1), 16);
+            checkArgument(high >= 0 && low >= 0, "Invalid physical address %s", mac);
+            value = value << 8 | high << 4 | low;
+        }
+        return value;
+    }
+}
@@ -16,11 +16,11 @@
 
 package io.fd.hc2vpp.v3po.notification;
 
-import com.google.common.base.Optional;
 import com.google.common.collect.Lists;
 import com.google.inject.Inject;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDetailsCache;
 import io.fd.honeycomb.notification.ManagedNotificationProducer;
 import io.fd.honeycomb.notification.NotificationCollector;
 import io.fd.honeycomb.translate.MappingContext;
@@ -33,8 +33,12 @@ import io.fd.vpp.jvpp.core.dto.WantInterfaceEventsReply;
 import io.fd.vpp.jvpp.core.future.FutureJVppCore;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
@@ -50,31 +54,69 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Notification producer for interface events. It starts interface notification stream and for every received
- * notification, it transforms it into its BA equivalent and pushes into HC's notification collector.
+ * notification, it transforms it into its BA equivalent and pushes into HC's notification collector. Received events
+ * are also applied to {@link InterfaceDetailsCache}.
+ *
+ * <p>Events are handed off the JVpp rx thread to {@link InterfaceEventQueue}, which merges repeated changes of the
+ * same interface. Interface names are resolved once per dispatched batch. Statistics of the queue are exposed over
+ * JMX, see {@link InterfaceEventStats}.
  */
 @NotThreadSafe
 final class InterfaceChangeNotificationProducer implements ManagedNotificationProducer, JvppReplyConsumer {
 
     private static final Logger LOG = LoggerFactory.getLogger(InterfaceChangeNotificationProducer.class);
+    static final int DEFAULT_DISPATCH_THRESHOLD = 1024;
+    static final long DEFAULT_WINDOW_MILLIS = 100;
 
     private final FutureJVppCore jvpp;
     private final NamingContext interfaceContext;
     private final MappingContext mappingContext;
+    private final InterfaceDetailsCache detailsCache;
+    private final InterfaceEventQueue eventQueue;
+    @Nullable
+    private volatile NotificationCollector collector;
     @Nullable
     private AutoCloseable notificationListenerReg;
 
-    @Inject
     InterfaceChangeNotificationProducer(@Nonnull final FutureJVppCore jvpp,
                                         @Nonnull final NamingContext interfaceContext,
                                         @Nonnull final MappingContext mappingContext) {
+        this(jvpp, interfaceContext, mappingContext, new InterfaceDetailsCache(0));
+    }
+
+    @Inject
+    InterfaceChangeNotificationProducer(@Nonnull final FutureJVppCore jvpp,
+                                        @Nonnull final NamingContext interfaceContext,
+                                        @Nonnull final MappingContext mappingContext,
+                                        @Nonnull final InterfaceDetailsCache detailsCache) {
+        this(jvpp, interfaceContext, mappingContext, detailsCache, DEFAULT_DISPATCH_THRESHOLD, DEFAULT_WINDOW_MILLIS);
+    }
+
+    /**
+     * @param dispatchThreshold number of interfaces with pending events, that triggers dispatch before the window
+     *                          elapses
+     * @param windowMillis      time window, in which repeated events of the same interface are merged
+     */
+    InterfaceChangeNotificationProducer(@Nonnull final FutureJVppCore jvpp,
+                                        @Nonnull final NamingContext interfaceContext,
+                                        @Nonnull final MappingContext mappingContext,
+                                        @Nonnull final InterfaceDetailsCache detailsCache,
+                                        @Nonnegative final int dispatchThreshold,
+                                        @Nonnegative final long windowMillis) {
         this.jvpp = jvpp;
-        this.interfaceContext = interfaceContext;
+        // mapping context is not bound to a transaction, so mappings created later would be missing in the index
+        this.interfaceContext = interfaceContext.unindexed();
         this.mappingContext = mappingContext;
+        this.detailsCache = detailsCache;
+        this.eventQueue = new InterfaceEventQueue(dispatchThreshold, windowMillis, this::onEvents);
     }
 
     @Override
     public void start(@Nonnull final NotificationCollector collector) {
         LOG.trace("Starting interface notifications");
+        this.collector = collector;
+        eventQueue.getStats().register();
+        eventQueue.start();
         enableDisableIfcNotifications(1);
         LOG.debug("Interface notifications started successfully");
         notificationListenerReg = jvpp.getEventRegistry().registerSwInterfaceEventCallback(
@@ -82,14 +124,9 @@ final class InterfaceChangeNotificationProducer implements ManagedNotificationPr
                     @Override
                     public void onSwInterfaceEvent(SwInterfaceEvent swInterfaceEvent) {
                         LOG.trace("Interface notification received: {}", swInterfaceEvent);
-                        // TODO HONEYCOMB-166 this should be lazy
-                        try {
-                            collector.onNotification(transformNotification(swInterfaceEvent));
-                        } catch (Exception e) {
-                            // There is no need to propagate exception to jvpp rx thread in case of unexpected failures.
-                            // We can't do much about it, so lets log the exception.
-                            LOG.warn("Failed to process interface notification {}", swInterfaceEvent, e);
-                        }
+                        detailsCache.onInterfaceEvent(swInterfaceEvent);
+                        // notifications are produced from dispatcher thread, rx thread is not blocked
+                        eventQueue.offer(swInterfaceEvent);
                     }
 
                     //TODO this should be removed within VPP-1000
@@ -101,12 +138,31 @@ final class InterfaceChangeNotificationProducer implements ManagedNotificationPr
         );
     }
 
-    private Notification transformNotification(final SwInterfaceEvent swInterfaceEvent) {
+    private void onEvents(final List<SwInterfaceEvent> events) {
+        final NotificationCollector currentCollector = collector;
+        if (currentCollector == null) {
+            return;
+        }
+        final Map<Integer, String> names = interfaceContext.getNamesIfPresent(
+                events.stream().map(event -> event.swIfIndex).collect(Collectors.toSet()), mappingContext);
+        for (final SwInterfaceEvent event : events) {
+            try {
+                currentCollector.onNotification(transformNotification(event, names));
+            } catch (Exception e) {
+                // Failure of single notification should not prevent delivery of the rest of the batch.
+                // We can't do much about it, so lets log the exception.
+                LOG.warn("Failed to process interface notification {}", event, e);
+            }
+        }
+    }
+
+    private Notification transformNotification(final SwInterfaceEvent swInterfaceEvent,
+                                               final Map<Integer, String> names) {
         if (swInterfaceEvent.deleted == 1) {
-            return new InterfaceDeletedBuilder().setName(getIfcName(swInterfaceEvent)).build();
+            return new InterfaceDeletedBuilder().setName(getIfcName(swInterfaceEvent, names)).build();
         } else {
             return new InterfaceStateChangeBuilder()
-                    .setName(getIfcName(swInterfaceEvent))
+                    .setName(getIfcName(swInterfaceEvent, names))
                     .setAdminStatus(swInterfaceEvent.adminUpDown == 1
                             ? InterfaceStatus.Up
                             : InterfaceStatus.Down)
@@ -124,14 +180,19 @@ final class InterfaceChangeNotificationProducer implements ManagedNotificationPr
      * <p/>
      * In case mapping is not available, index is used as name.
      */
-    private InterfaceNameOrIndex getIfcName(final SwInterfaceEvent swInterfaceEventNotification) {
-        final Optional<String> optionalName =
-                interfaceContext.getNameIfPresent(swInterfaceEventNotification.swIfIndex, mappingContext);
-        return optionalName.isPresent()
-                ? new InterfaceNameOrIndex(optionalName.get())
+    private static InterfaceNameOrIndex getIfcName(final SwInterfaceEvent swInterfaceEventNotification,
+                                                   final Map<Integer, String> names) {
+        final String name = names.get(swInterfaceEventNotification.swIfIndex);
+        return name != null
+                ? new InterfaceNameOrIndex(name)
                 : new InterfaceNameOrIndex((long) swInterfaceEventNotification.swIfIndex);
     }
 
+    @Nonnull
+    InterfaceEventStats getStats() {
+        return eventQueue.getStats();
+    }
+
     @Override
     public void stop() {
         LOG.trace("Stopping interface notifications");
@@ -144,6 +205,8 @@ final class InterfaceChangeNotificationProducer implements ManagedNotificationPr
         } catch (Exception e) {
             LOG.warn("Unable to properly close notification registration: {}", notificationListenerReg, e);
         }
+        eventQueue.close();
+        LOG.debug("Interface events processed: {}", getStats());
     }
 
     private void enableDisableIfcNotifications(int enableDisable) {
@@ -20,6 +20,8 @@ import com.google.inject.Inject;
 import com.google.inject.Provider;
 import com.google.inject.name.Named;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.v3po.V3poConfiguration;
+import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDetailsCache;
 import io.fd.honeycomb.data.init.ShutdownHandler;
 import io.fd.honeycomb.translate.MappingContext;
 import io.fd.vpp.jvpp.core.future.FutureJVppCore;
@@ -45,10 +47,20 @@ public class InterfaceChangeNotificationProducerProvider implements Provider<Int
     @Nonnull
     private ShutdownHandler shutdownHandler;
 
+    @Inject
+    @Nonnull
+    private InterfaceDetailsCache detailsCache;
+
+    @Inject
+    @Nonnull
+    private V3poConfiguration configuration;
+
     @Override
     public InterfaceChangeNotificationProducer get() {
         final InterfaceChangeNotificationProducer notificationProducer =
-                new InterfaceChangeNotificationProducer(jvpp, interfaceContext, mappingContext);
+                new InterfaceChangeNotificationProducer(jvpp, interfaceContext, mappingContext, detailsCache,
+                        configuration.getInterfaceEventsDispatchThreshold(),
+                        configuration.getInterfaceEventsWindowMillis());
         shutdownHandler.register("interface-change-notification-producer-" + notificationProducer.hashCode(),
                 notificationProducer);
         return notificationProducer;
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.notification;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.fd.vpp.jvpp.core.dto.SwInterfaceEvent;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Queue handing interface events off the JVpp rx thread.
+ *
+ * <p>Events are coalesced per interface when offered: only the latest state of each interface is kept, so the queue
+ * never grows over the number of interfaces and the latest state is never dropped. Deletes are never merged with
+ * state changes that follow them (interface index was reused meanwhile). Pending events are dispatched as single
+ * batch from dedicated thread after configured window, or earlier, once events of given number of interfaces are
+ * pending.
+ */
+@ThreadSafe
+final class InterfaceEventQueue implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(InterfaceEventQueue.class);
+
+    private final int dispatchThreshold;
+    private final long windowMillis;
+    private final Consumer<List<SwInterfaceEvent>> batchConsumer;
+    // pending events and dirty interfaces are guarded by pending
+    private final Map<Integer, PendingEvents> pending = new HashMap<>();
+    /**
+     * Interfaces with pending events, in order of their first event.
+     */
+    private final Queue<Integer> dirty = new ArrayDeque<>();
+    private final AtomicBoolean earlyDispatchScheduled = new AtomicBoolean();
+    private final InterfaceEventStats stats = new InterfaceEventStats();
+    private volatile ScheduledExecutorService dispatcher;
+
+    /**
+     * @param dispatchThreshold number of interfaces with pending events, that triggers dispatch before the window
+     *                          elapses
+     * @param windowMillis      time window, in which events are collected and merged
+     * @param batchConsumer     consumer of merged events, invoked from dispatcher thread
+     */
+    InterfaceEventQueue(@Nonnegative final int dispatchThreshold, @Nonnegative final long windowMillis,
+                        @Nonnull final Consumer<List<SwInterfaceEvent>> batchConsumer) {
+        checkArgument(dispatchThreshold > 0, "Dispatch threshold has to be positive, but was %s", dispatchThreshold);
+        checkArgument(windowMillis > 0, "Window has to be positive, but was %s", windowMillis);
+        this.dispatchThreshold = dispatchThreshold;
+        this.windowMillis = windowMillis;
+        this.batchConsumer = batchConsumer;
+    }
+
+    /**
+     * Starts periodic dispatch of queued events.
+     */
+    synchronized void start() {
+        if (dispatcher == null) {
+            dispatcher = Executors.newSingleThreadScheduledExecutor(
+                    new ThreadFactoryBuilder().setNameFormat("interface-events-%d").setDaemon(true).build());
+            dispatcher.scheduleWithFixedDelay(this::dispatch, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Merges event with pending events of the same interface. Never blocks on dispatch.
+     */
+    void offer(@Nonnull final SwInterfaceEvent event) {
+        final int dirtyInterfaces;
+        synchronized (pending) {
+            PendingEvents events = pending.get(event.swIfIndex);
+            if (events == null) {
+                events = new PendingEvents();
+                pending.put(event.swIfIndex, events);
+                dirty.add(event.swIfIndex);
+            }
+            stats.eventReceived(events.add(event));
+            dirtyInterfaces = dirty.size();
+        }
+        if (dirtyInterfaces >= dispatchThreshold) {
+            scheduleEarlyDispatch();
+        }
+    }
+
+    private void scheduleEarlyDispatch() {
+        final ScheduledExecutorService currentDispatcher = dispatcher;
+        if (currentDispatcher == null || !earlyDispatchScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            currentDispatcher.execute(this::dispatch);
+        } catch (RejectedExecutionException e) {
+            // queue is being closed, pending events are dispatched by close
+            LOG.trace("Interface event dispatcher is closed, early dispatch skipped", e);
+        }
+    }
+
+    /**
+     * Passes pending events to batch consumer.
+     *
+     * @return number of dispatched events
+     */
+    synchronized int dispatch() {
+        earlyDispatchScheduled.set(false);
+        final List<SwInterfaceEvent> batch;
+        synchronized (pending) {
+            if (dirty.isEmpty()) {
+                return 0;
+            }
+            batch = new ArrayList<>(dirty.size());
+            for (final Integer swIfIndex : dirty) {
+                pending.get(swIfIndex).drainTo(batch);
+            }
+            dirty.clear();
+            pending.clear();
+        }
+
+        LOG.trace("Dispatching {} interface events", batch.size());
+        stats.batchDispatched(batch.size());
+        try {
+            batchConsumer.accept(batch);
+        } catch (RuntimeException e) {
+            // dispatcher thread has to survive unexpected failures
+            LOG.warn("Failed to process interface events {}", batch, e);
+        }
+        return batch.size();
+    }
+
+    @Nonnull
+    InterfaceEventStats getStats() {
+        return stats;
+    }
+
+    /**
+     * Stops dispatcher thread. Pending events are dispatched from the calling thread.
+     */
+    @Override
+    public synchronized void close() {
+        if (dispatcher != null) {
+            dispatcher.shutdownNow();
+            dispatcher = null;
+        }
+        dispatch();
+    }
+
+    /**
+     * Events of single interface waiting for dispatch: delete (if any) and the latest state following it.
+     */
+    private static final class PendingEvents {
+        private SwInterfaceEvent deleted;
+        private SwInterfaceEvent state;
+
+        /**
+         * @return number of events merged with the added one
+         */
+        private int add(final SwInterfaceEvent event) {
+            if (event.deleted == 1) {
+                // first delete is kept, state changes preceding a delete are not relevant anymore
+                final int merged = (deleted != null ? 1 : 0) + (state != null ? 1 : 0);
+                if (deleted == null) {
+                    deleted = event;
+                }
+                state = null;
+                return merged;
+            }
+            // latest state replaces pending state change, delete stays (index was reused after it)
+            final int merged = state != null ? 1 : 0;
+            state = event;
+            return merged;
+        }
+
+        private void drainTo(final List<SwInterfaceEvent> batch) {
+            if (deleted != null) {
+                batch.add(deleted);
+            }
+            if (state != null) {
+                batch.add(state);
+            }
+        }
+    }
+}
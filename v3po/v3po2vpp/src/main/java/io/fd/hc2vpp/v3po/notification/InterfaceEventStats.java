@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.notification;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Statistics of interface events received from VPP, exposed over JMX as {@code io.fd.hc2vpp:type=InterfaceEventStats}.
+ *
+ * <p>Events are coalesced per interface, so the queue never drops events and there is no dropped event count.
+ */
+@ThreadSafe
+public final class InterfaceEventStats implements InterfaceEventStatsMXBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(InterfaceEventStats.class);
+    private static final String OBJECT_NAME = "io.fd.hc2vpp:type=InterfaceEventStats";
+
+    private final LongAdder receivedEvents = new LongAdder();
+    private final LongAdder mergedEvents = new LongAdder();
+    private final LongAdder dispatchedEvents = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    InterfaceEventStats() {
+    }
+
+    void eventReceived(final int merged) {
+        receivedEvents.increment();
+        if (merged > 0) {
+            mergedEvents.add(merged);
+        }
+    }
+
+    void batchDispatched(final int size) {
+        batches.increment();
+        dispatchedEvents.add(size);
+    }
+
+    /**
+     * Exposes statistics over JMX, statistics of previous producer (e.g. before restart of injector) are replaced.
+     */
+    void register() {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            final ObjectName name = new ObjectName(OBJECT_NAME);
+            try {
+                server.registerMBean(this, name);
+            } catch (InstanceAlreadyExistsException e) {
+                server.unregisterMBean(name);
+                server.registerMBean(this, name);
+            }
+        } catch (JMException e) {
+            LOG.warn("Unable to expose interface event statistics over JMX", e);
+        }
+    }
+
+    @Override
+    public long getReceivedEventCount() {
+        return receivedEvents.sum();
+    }
+
+    /**
+     * @return number of events merged with later events of the same interface
+     */
+    @Override
+    public long getMergedEventCount() {
+        return mergedEvents.sum();
+    }
+
+    @Override
+    public long getDispatchedEventCount() {
+        return dispatchedEvents.sum();
+    }
+
+    @Override
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "InterfaceEventStats{received=" + receivedEvents + ", merged=" + mergedEvents + ", dispatched="
+                + dispatchedEvents + ", batches=" + batches + '}';
+    }
+}
@@ -16,6 +16,10 @@
 
 package io.fd.hc2vpp.v3po.interfaces;
 
+import static io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDetailsCacheTestUtils.cacheOf;
+import static io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDetailsCacheTestUtils.isValid;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -23,6 +27,7 @@ import static org.mockito.Mockito.when;
 
 import io.fd.hc2vpp.common.test.write.WriterCustomizerTest;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDetailsCache;
 import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.fd.vpp.jvpp.core.dto.SwInterfaceSetMtu;
 import io.fd.vpp.jvpp.core.dto.SwInterfaceSetMtuReply;
@@ -45,11 +50,13 @@ public class EthernetCustomizerTest extends WriterCustomizerTest {
         InstanceIdentifier.create(Interfaces.class).child(Interface.class, new InterfaceKey(IF_NAME)).augmentation(
             VppInterfaceAugmentation.class).child(Ethernet.class);
     private EthernetCustomizer customizer;
+    private InterfaceDetailsCache detailsCache;
 
     @Override
     public void setUpTest() throws Exception {
         InterfaceTypeTestUtils.setupWriteContext(writeContext, EthernetCsmacd.class);
-        customizer = new EthernetCustomizer(api, new NamingContext("ifcintest", IFC_TEST_INSTANCE));
+        detailsCache = cacheOf(IF_INDEX);
+        customizer = new EthernetCustomizer(api, new NamingContext("ifcintest", IFC_TEST_INSTANCE), detailsCache);
         defineMapping(mappingContext, IF_NAME, IF_INDEX, IFC_TEST_INSTANCE);
     }
 
@@ -69,6 +76,15 @@ public class EthernetCustomizerTest extends WriterCustomizerTest {
         verify(api).swInterfaceSetMtu(mtuSetRequest(mtu));
     }
 
+    @Test
+    public void testWriteInvalidatesDetailsCache() throws WriteFailedException {
+        when(api.swInterfaceSetMtu(any())).thenReturn(future(new SwInterfaceSetMtuReply()));
+        assertTrue(isValid(detailsCache));
+        customizer.writeCurrentAttributes(IF_IID, ethernet(1500), writeContext);
+        // link MTU has to be dumped again
+        assertFalse(isValid(detailsCache));
+    }
+
     private SwInterfaceSetMtu mtuSetRequest(final int mtu) {
         final SwInterfaceSetMtu request = new SwInterfaceSetMtu();
         request.swIfIndex = IF_INDEX;
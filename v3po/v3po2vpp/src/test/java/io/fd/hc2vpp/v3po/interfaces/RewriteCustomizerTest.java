@@ -16,7 +16,10 @@
 
 package io.fd.hc2vpp.v3po.interfaces;
 
+import static io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDetailsCacheTestUtils.cacheOf;
+import static io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDetailsCacheTestUtils.isValid;
 import static junit.framework.TestCase.assertTrue;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doReturn;
@@ -25,6 +28,7 @@ import static org.mockito.Mockito.verify;
 import io.fd.hc2vpp.common.test.write.WriterCustomizerTest;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
 import io.fd.hc2vpp.common.translate.util.TagRewriteOperation;
+import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDetailsCache;
 import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.fd.vpp.jvpp.VppBaseCallException;
 import io.fd.vpp.jvpp.VppInvocationException;
@@ -54,6 +58,7 @@ public class RewriteCustomizerTest extends WriterCustomizerTest {
     private static final int VLAN_IF_INDEX = 11;
     private NamingContext namingContext;
     private RewriteCustomizer customizer;
+    private InterfaceDetailsCache detailsCache;
     private InstanceIdentifier<Rewrite> VLAN_IID;
 
     private static InstanceIdentifier<Rewrite> getVlanTagRewriteId(final String name, final long index) {
@@ -69,7 +74,8 @@ public class RewriteCustomizerTest extends WriterCustomizerTest {
     @Override
     public void setUpTest() throws Exception {
         namingContext = new NamingContext("generatedSubInterfaceName", IFC_TEST_INSTANCE);
-        customizer = new RewriteCustomizer(api, namingContext);
+        detailsCache = cacheOf(VLAN_IF_INDEX);
+        customizer = new RewriteCustomizer(api, namingContext, detailsCache);
         VLAN_IID = getVlanTagRewriteId(IF_NAME, VLAN_IF_ID);
         defineMapping(mappingContext, VLAN_IF_NAME, VLAN_IF_INDEX, IFC_TEST_INSTANCE);
     }
@@ -123,6 +129,15 @@ public class RewriteCustomizerTest extends WriterCustomizerTest {
         verify(api).l2InterfaceVlanTagRewrite(generateL2InterfaceVlanTagRewrite(VLAN_IF_INDEX, op));
     }
 
+    @Test
+    public void testCreateInvalidatesDetailsCache() throws Exception {
+        whenL2InterfaceVlanTagRewriteThenSuccess();
+        assertTrue(isValid(detailsCache));
+        customizer.writeCurrentAttributes(VLAN_IID, generateRewrite(TagRewriteOperation.pop_1), writeContext);
+        // tag rewrite has to be dumped again
+        assertFalse(isValid(detailsCache));
+    }
+
     @Test
     public void testCreateFailed() throws Exception {
         final TagRewriteOperation op = TagRewriteOperation.pop_2;
@@ -16,8 +16,11 @@
 
 package io.fd.hc2vpp.v3po.interfaces.pbb;
 
+import static io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDetailsCacheTestUtils.cacheOf;
+import static io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDetailsCacheTestUtils.isValid;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -28,6 +31,7 @@ import static org.mockito.Mockito.when;
 
 import io.fd.hc2vpp.common.test.write.WriterCustomizerTest;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDetailsCache;
 import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.fd.vpp.jvpp.VppCallbackException;
 import io.fd.vpp.jvpp.core.dto.L2InterfacePbbTagRewrite;
@@ -52,13 +56,15 @@ public class PbbRewriteCustomizerTest extends WriterCustomizerTest {
 
     private NamingContext interfaceContext;
     private PbbRewriteCustomizer customizer;
+    private InterfaceDetailsCache detailsCache;
     private InstanceIdentifier<PbbRewrite> validId;
     private InstanceIdentifier<PbbRewrite> invalidId;
 
     @Override
     protected void setUpTest() throws Exception {
         interfaceContext = new NamingContext("interface", "interface-context");
-        customizer = new PbbRewriteCustomizer(api, interfaceContext);
+        detailsCache = cacheOf(1);
+        customizer = new PbbRewriteCustomizer(api, interfaceContext, detailsCache);
 
         defineMapping(mappingContext, "pbb-interface", 1, "interface-context");
         validId = InstanceIdentifier.create(Interfaces.class)
@@ -76,6 +82,15 @@ public class PbbRewriteCustomizerTest extends WriterCustomizerTest {
         verifyRewriteRequest(desiredSetResult());
     }
 
+    @Test
+    public void testWriteInvalidatesDetailsCache() throws WriteFailedException {
+        whenRewriteThenSuccess();
+        assertTrue(isValid(detailsCache));
+        customizer.writeCurrentAttributes(validId, validData(), writeContext);
+        // pbb rewrite has to be dumped again
+        assertFalse(isValid(detailsCache));
+    }
+
     @Test
     public void testWriteFailedCallFailed() {
         whenRewriteThenFail();
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.interfacesstate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import io.fd.hc2vpp.common.test.read.ReaderCustomizerTest;
+import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.v3po.interfacesstate.stats.StatsSegment;
+import io.fd.hc2vpp.v3po.interfacesstate.stats.SyntheticStatsSegment;
+import io.fd.honeycomb.translate.spi.read.ReaderCustomizer;
+import java.math.BigInteger;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.InterfacesState;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state.Interface;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state.InterfaceBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state.InterfaceKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state._interface.Statistics;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state._interface.StatisticsBuilder;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class InterfaceStatisticsCustomizerTest extends ReaderCustomizerTest<Statistics, StatisticsBuilder> {
+
+    private static final String IFC_CTX_NAME = "ifc-test-instance";
+    private static final String IF_NAME = "local0";
+    private static final int IF_INDEX = 1;
+    private static final InstanceIdentifier<Statistics> IID =
+            InstanceIdentifier.create(InterfacesState.class).child(Interface.class, new InterfaceKey(IF_NAME))
+                    .child(Statistics.class);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private NamingContext interfaceContext;
+    private StatsSegment statsSegment;
+
+    public InterfaceStatisticsCustomizerTest() {
+        super(Statistics.class, InterfaceBuilder.class);
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        interfaceContext = new NamingContext("generatedIfaceName", IFC_CTX_NAME);
+        defineMapping(mappingContext, IF_NAME, IF_INDEX, IFC_CTX_NAME);
+        statsSegment = StatsSegment.map(new SyntheticStatsSegment()
+                .combined("/if/rx", new long[] {0, 0, 10, 1000})
+                .combined("/if/tx", new long[] {0, 0, 20, 2000})
+                .simple("/if/drops", new long[] {0, 3})
+                // counter32 wraps
+                .simple("/if/rx-error", new long[] {0, 0x100000004L})
+                .write(folder.newFile().toPath()));
+    }
+
+    @Override
+    protected ReaderCustomizer<Statistics, StatisticsBuilder> initCustomizer() {
+        return new InterfaceStatisticsCustomizer(interfaceContext, statsSegment);
+    }
+
+    @Test
+    public void testRead() throws Exception {
+        final StatisticsBuilder builder = new StatisticsBuilder();
+        getCustomizer().readCurrentAttributes(IID, builder, ctx);
+
+        assertEquals(BigInteger.valueOf(10), builder.getInUnicastPkts().getValue());
+        assertEquals(BigInteger.valueOf(1000), builder.getInOctets().getValue());
+        assertEquals(BigInteger.valueOf(20), builder.getOutUnicastPkts().getValue());
+        assertEquals(BigInteger.valueOf(2000), builder.getOutOctets().getValue());
+        assertEquals(3L, builder.getInDiscards().getValue().longValue());
+        assertEquals(4L, builder.getInErrors().getValue().longValue());
+        assertNull(builder.getOutErrors());
+        assertNotNull(builder.getDiscontinuityTime());
+    }
+}
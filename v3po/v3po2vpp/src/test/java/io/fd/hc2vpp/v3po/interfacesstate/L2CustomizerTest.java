@@ -18,6 +18,7 @@ package io.fd.hc2vpp.v3po.interfacesstate;
 
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -30,6 +31,7 @@ import io.fd.vpp.jvpp.core.dto.BridgeDomainDetailsReplyDump;
 import io.fd.vpp.jvpp.core.dto.BridgeDomainDump;
 import io.fd.vpp.jvpp.core.dto.SwInterfaceDetails;
 import io.fd.vpp.jvpp.core.types.BridgeDomainSwIf;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -150,6 +152,33 @@ public class L2CustomizerTest extends ReaderCustomizerTest<L2, L2Builder> {
         verify(builder).setInterconnection(generateInterconnection(bdName, null));
     }
 
+    @Test
+    public void testReadMultipleInterfacesDumpsOnce() throws Exception {
+        defineMapping(mappingContext, "eth0", 1, IFC_CTX_NAME);
+        defineMapping(mappingContext, "eth1", 2, IFC_CTX_NAME);
+        defineMapping(mappingContext, "eth2", 3, IFC_CTX_NAME);
+        defineMapping(mappingContext, "bd001", 1, BD_CTX_NAME);
+        defineMapping(mappingContext, "bd002", 2, BD_CTX_NAME);
+
+        final BridgeDomainDetails bd2 = generateBdDetails(2, 2, 2);
+        bd2.swIfDetails = new BridgeDomainSwIf[]{generateBdSwIfDetails(3), generateBdSwIfDetails(2)};
+        whenBridgeDomainDumpThenReturn(Arrays.asList(generateBdDetails(1, 99, 1), bd2));
+
+        final L2Builder eth0 = mock(L2Builder.class);
+        getCustomizer().readCurrentAttributes(getL2Id("eth0"), eth0, ctx);
+        verify(eth0).setInterconnection(generateInterconnection("bd001", false));
+
+        final L2Builder eth1 = mock(L2Builder.class);
+        getCustomizer().readCurrentAttributes(getL2Id("eth1"), eth1, ctx);
+        verify(eth1).setInterconnection(generateInterconnection("bd002", true));
+
+        final L2Builder eth2 = mock(L2Builder.class);
+        getCustomizer().readCurrentAttributes(getL2Id("eth2"), eth2, ctx);
+        verify(eth2).setInterconnection(generateInterconnection("bd002", false));
+
+        verify(api, times(1)).bridgeDomainDump(any(BridgeDomainDump.class));
+    }
+
     private BridgeDomainDetails generateBdDetails(final int ifId, final int bviSwIfIndex, int bdId) {
         final BridgeDomainDetails bridgeDomainDetails = new BridgeDomainDetails();
         bridgeDomainDetails.bviSwIfIndex = bviSwIfIndex;
@@ -20,7 +20,9 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
@@ -110,6 +112,33 @@ public class VxlanCustomizerTest extends ReaderCustomizerTest<Vxlan, VxlanBuilde
         verify(api).vxlanTunnelDump(any(VxlanTunnelDump.class));
     }
 
+    @Test
+    public void testReadCurrentAttributesBulkDump() throws Exception {
+        final VxlanCustomizer customizer = new VxlanCustomizer(api, interfacesContext, dumpCacheManager, true);
+
+        final VxlanBuilder builder = customizer.getBuilder(IID);
+        customizer.readCurrentAttributes(IID, builder, ctx);
+        assertEquals(9, builder.getVni().getValue().intValue());
+
+        // tunnels are dumped once per transaction
+        final VxlanBuilder otherBuilder = customizer.getBuilder(IID);
+        customizer.readCurrentAttributes(IID, otherBuilder, ctx);
+        assertEquals(9, otherBuilder.getVni().getValue().intValue());
+        verify(api, times(1)).vxlanTunnelDump(argThat(request -> request.swIfIndex == ~0));
+    }
+
+    @Test
+    public void testReadCurrentAttributesBulkDumpMissingTunnel() throws Exception {
+        final VxlanCustomizer customizer = new VxlanCustomizer(api, interfacesContext, dumpCacheManager, true);
+        final VxlanTunnelDetailsReplyDump reply = new VxlanTunnelDetailsReplyDump();
+        reply.vxlanTunnelDetails = Lists.newArrayList();
+        doReturn(future(reply)).when(api).vxlanTunnelDump(any(VxlanTunnelDump.class));
+
+        final VxlanBuilder builder = customizer.getBuilder(IID);
+        customizer.readCurrentAttributes(IID, builder, ctx);
+        assertNull(builder.getVni());
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testReadCurrentAttributesVppNameNotCached() throws Exception {
         when(dumpCacheManager.getInterfaceDetail(IID, ctx, IF_NAME))
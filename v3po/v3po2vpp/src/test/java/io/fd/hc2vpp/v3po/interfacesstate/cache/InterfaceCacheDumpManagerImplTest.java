@@ -141,6 +141,25 @@ public class InterfaceCacheDumpManagerImplTest implements NamingContextHelper, F
         verify(jvpp, times(1)).swInterfaceDump(specificRequest(IFACE_3));
     }
 
+    @Test
+    public void getInterfacesFromDetailsCache() throws Exception {
+        final InterfaceCacheDumpManagerImpl cachingManager =
+                new InterfaceCacheDumpManagerImpl(jvpp, namingContext, new InterfaceDetailsCache(60000));
+        assertEquals(3, cachingManager.getInterfaces(identifier, ctx).count());
+
+        // next transaction is served from details cache
+        when(ctx.getModificationCache()).thenReturn(new ModificationCache());
+        assertEquals(3, cachingManager.getInterfaces(identifier, ctx).count());
+        assertEquals(detailOne(), cachingManager.getInterfaceDetail(identifier, ctx, IFACE_1));
+        verify(jvpp, times(1)).swInterfaceDump(fullRequest());
+
+        // interface not known to cache is dumped
+        when(ctx.getModificationCache()).thenReturn(new ModificationCache());
+        assertEquals(detailThree(), cachingManager.getInterfaceDetail(identifierThree, ctx, IFACE_3));
+        verify(jvpp, times(1)).swInterfaceDump(specificRequest(IFACE_3));
+        verify(jvpp, times(1)).swInterfaceDump(fullRequest());
+    }
+
     private SwInterfaceDetailsReplyDump fullReply() {
         final SwInterfaceDetailsReplyDump reply = new SwInterfaceDetailsReplyDump();
         reply.swInterfaceDetails = Arrays.asList(detailZero(), detailOne(), detailTwo());
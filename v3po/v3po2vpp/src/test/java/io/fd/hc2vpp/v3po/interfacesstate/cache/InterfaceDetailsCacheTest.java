@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.interfacesstate.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import io.fd.vpp.jvpp.core.dto.SwInterfaceDetails;
+import io.fd.vpp.jvpp.core.dto.SwInterfaceEvent;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+
+public class InterfaceDetailsCacheTest {
+
+    private static final long TTL_MILLIS = 1000;
+
+    private long now;
+    private InterfaceDetailsCache cache;
+
+    @Before
+    public void setUp() {
+        now = 0;
+        cache = new InterfaceDetailsCache(TTL_MILLIS, () -> now);
+        cache.update(Arrays.asList(details(0), details(1)));
+    }
+
+    @Test
+    public void testExpiration() {
+        assertEquals(2, cache.getInterfaces().get().size());
+        now = TimeUnit.MILLISECONDS.toNanos(TTL_MILLIS);
+        assertFalse(cache.getInterfaces().isPresent());
+    }
+
+    @Test
+    public void testDisabled() {
+        final InterfaceDetailsCache disabled = new InterfaceDetailsCache(0);
+        disabled.update(Arrays.asList(details(0), details(1)));
+        assertFalse(disabled.isEnabled());
+        assertFalse(disabled.getInterfaces().isPresent());
+    }
+
+    @Test
+    public void testStateEvent() {
+        cache.onInterfaceEvent(event(1, 1, 1, 0));
+        final List<SwInterfaceDetails> interfaces = cache.getInterfaces().get();
+        assertEquals(1, interfaces.get(1).adminUpDown);
+        assertEquals(1, interfaces.get(1).linkUpDown);
+    }
+
+    @Test
+    public void testStateEventDoesNotModifyReturnedDetails() {
+        final SwInterfaceDetails before = cache.getInterfaces().get().get(1);
+        cache.onInterfaceEvent(event(1, 1, 1, 0));
+        cache.onAdminStateSet(1, (byte) 0);
+        assertEquals(0, before.adminUpDown);
+        assertEquals(0, before.linkUpDown);
+
+        final SwInterfaceDetails after = cache.getInterfaces().get().get(1);
+        assertEquals(1, after.swIfIndex);
+        assertEquals(0, after.adminUpDown);
+        assertEquals(1, after.linkUpDown);
+    }
+
+    @Test
+    public void testDeleteEvent() {
+        cache.onInterfaceEvent(event(1, 0, 0, 1));
+        final List<SwInterfaceDetails> interfaces = cache.getInterfaces().get();
+        assertEquals(1, interfaces.size());
+        assertEquals(0, interfaces.get(0).swIfIndex);
+    }
+
+    @Test
+    public void testUnknownInterfaceEvent() {
+        cache.onInterfaceEvent(event(2, 1, 1, 0));
+        assertFalse(cache.getInterfaces().isPresent());
+    }
+
+    @Test
+    public void testAdminStateSet() {
+        cache.onAdminStateSet(0, (byte) 1);
+        assertEquals(1, cache.getInterfaces().get().get(0).adminUpDown);
+        cache.onAdminStateSet(5, (byte) 1);
+        assertFalse(cache.getInterfaces().isPresent());
+    }
+
+    @Test
+    public void testInvalidate() {
+        assertTrue(cache.getInterfaces().isPresent());
+        cache.invalidate();
+        assertFalse(cache.getInterfaces().isPresent());
+    }
+
+    private static SwInterfaceDetails details(final int swIfIndex) {
+        final SwInterfaceDetails details = new SwInterfaceDetails();
+        details.swIfIndex = swIfIndex;
+        return details;
+    }
+
+    private static SwInterfaceEvent event(final int swIfIndex, final int adminUpDown, final int linkUpDown,
+                                          final int deleted) {
+        final SwInterfaceEvent event = new SwInterfaceEvent();
+        event.swIfIndex = swIfIndex;
+        event.adminUpDown = (byte) adminUpDown;
+        event.linkUpDown = (byte) linkUpDown;
+        event.deleted = (byte) deleted;
+        return event;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.interfacesstate.cache;
+
+import io.fd.vpp.jvpp.core.dto.SwInterfaceDetails;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+
+/**
+ * Gives tests of writers access to content of {@link InterfaceDetailsCache}.
+ */
+public final class InterfaceDetailsCacheTestUtils {
+
+    private InterfaceDetailsCacheTestUtils() {
+    }
+
+    /**
+     * @return enabled cache holding details of provided interfaces
+     */
+    public static InterfaceDetailsCache cacheOf(final int... swIfIndexes) {
+        final InterfaceDetailsCache cache = new InterfaceDetailsCache(60000);
+        cache.update(Arrays.stream(swIfIndexes)
+                .mapToObj(swIfIndex -> {
+                    final SwInterfaceDetails details = new SwInterfaceDetails();
+                    details.swIfIndex = swIfIndex;
+                    return details;
+                })
+                .collect(Collectors.toList()));
+        return cache;
+    }
+
+    /**
+     * @return true if cache holds valid details, i.e. next read does not dump interfaces from VPP
+     */
+    public static boolean isValid(@Nonnull final InterfaceDetailsCache cache) {
+        return cache.getInterfaces().isPresent();
+    }
+}
@@ -17,9 +17,12 @@
 package io.fd.hc2vpp.v3po.interfacesstate.span;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.fd.hc2vpp.common.test.read.ReaderCustomizerTest;
@@ -32,6 +35,7 @@ import org.junit.Test;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.InterfacesState;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state.Interface;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state.InterfaceKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.subinterface.span.rev170607.VppSubinterfaceSpanStateAugmentation;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.SpanState;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.VppInterfaceStateAugmentation;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.interfaces.state._interface.Span;
@@ -41,6 +45,10 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.span.state.attributes.mirrored.interfaces.MirroredInterface;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.span.state.attributes.mirrored.interfaces.MirroredInterfaceBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.span.state.attributes.mirrored.interfaces.MirroredInterfaceKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.vlan.rev170607.SubinterfaceStateAugmentation;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.vlan.rev170607.interfaces.state._interface.SubInterfaces;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.vlan.rev170607.interfaces.state._interface.sub.interfaces.SubInterface;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.vlan.rev170607.interfaces.state._interface.sub.interfaces.SubInterfaceKey;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 
@@ -54,6 +62,8 @@ public class MirroredInterfacesCustomizerTest
     private static final String SRC_IFACE_NAME_3 = "src-three";
 
     private static final int IFACE_INDEX = 3;
+    private static final long SUB_IFACE_ID = 1;
+    private static final int SUB_IFACE_INDEX = 4;
 
     private NamingContext interfaceContext;
     private InstanceIdentifier<MirroredInterfaces> validId;
@@ -70,6 +80,7 @@ public class MirroredInterfacesCustomizerTest
         defineMapping(mappingContext, SRC_IFACE_NAME_1, 1, "iface-context");
         defineMapping(mappingContext, SRC_IFACE_NAME_2, 2, "iface-context");
         defineMapping(mappingContext, SRC_IFACE_NAME_3, 3, "iface-context");
+        defineMapping(mappingContext, IFACE_NAME + "." + SUB_IFACE_ID, SUB_IFACE_INDEX, "iface-context");
 
         validId = InstanceIdentifier.create(InterfacesState.class).child(Interface.class, new InterfaceKey(IFACE_NAME))
                 .augmentation(VppInterfaceStateAugmentation.class).child(Span.class)
@@ -94,7 +105,13 @@ public class MirroredInterfacesCustomizerTest
         detail3.swIfIndexFrom = 3;
         detail3.state = 0;
 
-        dump.swInterfaceSpanDetails = Arrays.asList(detail1, detail2, detail3);
+        SwInterfaceSpanDetails detail4 = new SwInterfaceSpanDetails();
+
+        detail4.swIfIndexTo = SUB_IFACE_INDEX;
+        detail4.swIfIndexFrom = 1;
+        detail4.state = 2;
+
+        dump.swInterfaceSpanDetails = Arrays.asList(detail1, detail2, detail3, detail4);
 
         when(api.swInterfaceSpanDump(any())).thenReturn(future(dump));
     }
@@ -114,6 +131,27 @@ public class MirroredInterfacesCustomizerTest
                 mirroredInterface(SRC_IFACE_NAME_2, SpanState.Both)));
     }
 
+    @Test
+    public void readCurrentAttributesDumpsOncePerTransaction() throws Exception {
+        getCustomizer().readCurrentAttributes(validId, new MirroredInterfacesBuilder(), ctx);
+
+        // span index is shared by interface and sub-interface readers
+        final InstanceIdentifier<MirroredInterfaces> subInterfaceId = InstanceIdentifier.create(InterfacesState.class)
+                .child(Interface.class, new InterfaceKey(IFACE_NAME))
+                .augmentation(SubinterfaceStateAugmentation.class).child(SubInterfaces.class)
+                .child(SubInterface.class, new SubInterfaceKey(SUB_IFACE_ID))
+                .augmentation(VppSubinterfaceSpanStateAugmentation.class)
+                .child(org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.subinterface.span.rev170607.interfaces.state._interface.sub.interfaces.sub._interface.SpanState.class)
+                .child(MirroredInterfaces.class);
+        final MirroredInterfacesBuilder builder = new MirroredInterfacesBuilder();
+        new SubInterfaceMirroredInterfacesCustomizer(api, interfaceContext)
+                .readCurrentAttributes(subInterfaceId, builder, ctx);
+
+        assertThat(builder.build().getMirroredInterface(),
+                contains(mirroredInterface(SRC_IFACE_NAME_1, SpanState.Transmit)));
+        verify(api, times(1)).swInterfaceSpanDump(any());
+    }
+
     private MirroredInterface mirroredInterface(final String ifaceName, final SpanState state) {
         return new MirroredInterfaceBuilder()
                 .setIfaceRef(ifaceName)
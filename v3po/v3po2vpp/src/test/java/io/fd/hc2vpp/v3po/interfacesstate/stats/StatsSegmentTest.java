@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.interfacesstate.stats;
+
+import static io.fd.hc2vpp.v3po.interfacesstate.stats.StatsSegment.IF_DROPS;
+import static io.fd.hc2vpp.v3po.interfacesstate.stats.StatsSegment.IF_RX;
+import static io.fd.hc2vpp.v3po.interfacesstate.stats.StatsSegment.IF_RX_ERROR;
+import static io.fd.hc2vpp.v3po.interfacesstate.stats.StatsSegment.IF_TX;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import io.fd.hc2vpp.v3po.interfacesstate.stats.StatsSegment.InterfaceCounters;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class StatsSegmentTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testReadInterfaceCounters() throws Exception {
+        final StatsSegment segment = StatsSegment.map(new SyntheticStatsSegment()
+                // two threads, interfaces 0 and 1
+                .combined(IF_RX, new long[] {1, 100, 2, 200}, new long[] {10, 1000, 20, 2000})
+                // second thread did not touch interface 1 yet
+                .combined(IF_TX, new long[] {3, 300, 4, 400}, new long[] {30, 3000})
+                .simple(IF_DROPS, new long[] {5, 6}, new long[] {50, 60})
+                .simple("/err/ip4-input/checksum", new long[] {99, 99})
+                .write(folder.newFile().toPath()));
+
+        final InterfaceCounters counters = segment.readInterfaceCounters(1);
+        assertEquals(22L, counters.getRxPackets().longValue());
+        assertEquals(2200L, counters.getRxBytes().longValue());
+        assertEquals(4L, counters.getTxPackets().longValue());
+        assertEquals(400L, counters.getTxBytes().longValue());
+        assertEquals(66L, counters.getDrops().longValue());
+        // not present in segment
+        assertNull(counters.getRxErrors());
+        assertNull(counters.getTxErrors());
+    }
+
+    @Test
+    public void testUnknownInterface() throws Exception {
+        final StatsSegment segment = StatsSegment.map(new SyntheticStatsSegment()
+                .simple(IF_RX_ERROR, new long[] {1, 2})
+                .write(folder.newFile().toPath()));
+
+        assertEquals(0L, segment.readInterfaceCounters(5).getRxErrors().longValue());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testUpdateInProgress() throws Exception {
+        StatsSegment.map(new SyntheticStatsSegment()
+                .simple(IF_RX_ERROR, new long[] {1, 2})
+                .inProgress()
+                .write(folder.newFile().toPath()))
+                .readInterfaceCounters(0);
+    }
+}
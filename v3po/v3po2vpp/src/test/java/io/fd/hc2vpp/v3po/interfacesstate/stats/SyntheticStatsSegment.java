@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.interfacesstate.stats;
+
+import static io.fd.hc2vpp.v3po.interfacesstate.stats.StatsSegment.COMBINED_COUNTER_SIZE;
+import static io.fd.hc2vpp.v3po.interfacesstate.stats.StatsSegment.DIRECTORY_POSITION;
+import static io.fd.hc2vpp.v3po.interfacesstate.stats.StatsSegment.ENTRY_NAME_POSITION;
+import static io.fd.hc2vpp.v3po.interfacesstate.stats.StatsSegment.ENTRY_OFFSET_POSITION;
+import static io.fd.hc2vpp.v3po.interfacesstate.stats.StatsSegment.ENTRY_OFFSET_VECTOR_POSITION;
+import static io.fd.hc2vpp.v3po.interfacesstate.stats.StatsSegment.ENTRY_SIZE;
+import static io.fd.hc2vpp.v3po.interfacesstate.stats.StatsSegment.EPOCH_POSITION;
+import static io.fd.hc2vpp.v3po.interfacesstate.stats.StatsSegment.IN_PROGRESS_POSITION;
+import static io.fd.hc2vpp.v3po.interfacesstate.stats.StatsSegment.SIMPLE_COUNTER_SIZE;
+import static io.fd.hc2vpp.v3po.interfacesstate.stats.StatsSegment.SUPPORTED_VERSION;
+import static io.fd.hc2vpp.v3po.interfacesstate.stats.StatsSegment.TYPE_COUNTER_VECTOR_COMBINED;
+import static io.fd.hc2vpp.v3po.interfacesstate.stats.StatsSegment.TYPE_COUNTER_VECTOR_SIMPLE;
+import static io.fd.hc2vpp.v3po.interfacesstate.stats.StatsSegment.VECTOR_HEADER_SIZE;
+import static io.fd.hc2vpp.v3po.interfacesstate.stats.StatsSegment.VERSION_POSITION;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds stats segment file with the same layout as VPP stats segment, for tests.
+ */
+public final class SyntheticStatsSegment {
+
+    private static final int HEADER_SIZE = 48;
+    private static final int SEGMENT_SIZE = 64 * 1024;
+
+    private final List<Entry> entries = new ArrayList<>();
+    private long epoch = 1;
+    private long inProgress = 0;
+
+    /**
+     * @param perThread simple counter values indexed by sw_if_index, for each thread
+     */
+    public SyntheticStatsSegment simple(final String name, final long[]... perThread) {
+        entries.add(new Entry(name, TYPE_COUNTER_VECTOR_SIMPLE, perThread));
+        return this;
+    }
+
+    /**
+     * @param perThread pairs of packets and bytes indexed by sw_if_index, for each thread
+     */
+    public SyntheticStatsSegment combined(final String name, final long[]... perThread) {
+        entries.add(new Entry(name, TYPE_COUNTER_VECTOR_COMBINED, perThread));
+        return this;
+    }
+
+    public SyntheticStatsSegment inProgress() {
+        inProgress = 1;
+        return this;
+    }
+
+    public Path write(final Path file) throws IOException {
+        final ByteBuffer segment = ByteBuffer.allocate(SEGMENT_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        segment.putLong(VERSION_POSITION, SUPPORTED_VERSION);
+        segment.putLong(EPOCH_POSITION, epoch);
+        segment.putLong(IN_PROGRESS_POSITION, inProgress);
+
+        int free = HEADER_SIZE;
+        final int directory = vector(segment, free, entries.size());
+        free = directory + entries.size() * ENTRY_SIZE;
+        segment.putLong(DIRECTORY_POSITION, directory);
+
+        for (int i = 0; i < entries.size(); i++) {
+            final Entry entry = entries.get(i);
+            final int position = directory + i * ENTRY_SIZE;
+            segment.putInt(position, entry.type);
+            final byte[] name = entry.name.getBytes(StandardCharsets.US_ASCII);
+            for (int c = 0; c < name.length; c++) {
+                segment.put(position + ENTRY_NAME_POSITION + c, name[c]);
+            }
+
+            final int threads = entry.perThread.length;
+            // vector of per thread pointers, only its length is used
+            final int pointers = vector(segment, free, threads);
+            free = pointers + threads * 8;
+            final int offsets = vector(segment, free, threads);
+            free = offsets + threads * 8;
+            segment.putLong(position + ENTRY_OFFSET_POSITION, pointers);
+            segment.putLong(position + ENTRY_OFFSET_VECTOR_POSITION, offsets);
+
+            final int counterSize = entry.type == TYPE_COUNTER_VECTOR_SIMPLE
+                    ? SIMPLE_COUNTER_SIZE
+                    : COMBINED_COUNTER_SIZE;
+            for (int thread = 0; thread < threads; thread++) {
+                final long[] values = entry.perThread[thread];
+                final int counters = vector(segment, free, values.length * 8 / counterSize);
+                free = counters + values.length * 8;
+                segment.putLong(offsets + thread * 8, counters);
+                for (int v = 0; v < values.length; v++) {
+                    segment.putLong(counters + v * 8, values[v]);
+                }
+            }
+        }
+        Files.write(file, segment.array());
+        return file;
+    }
+
+    private static int vector(final ByteBuffer segment, final int free, final int length) {
+        segment.putInt(free, length);
+        return free + VECTOR_HEADER_SIZE;
+    }
+
+    private static final class Entry {
+        private final String name;
+        private final int type;
+        private final long[][] perThread;
+
+        private Entry(final String name, final int type, final long[][] perThread) {
+            this.name = name;
+            this.type = type;
+            this.perThread = perThread;
+        }
+    }
+}
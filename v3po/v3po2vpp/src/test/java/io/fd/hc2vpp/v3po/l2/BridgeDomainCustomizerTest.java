@@ -16,6 +16,7 @@
 
 package io.fd.hc2vpp.v3po.l2;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doReturn;
@@ -172,6 +173,43 @@ public class BridgeDomainCustomizerTest extends WriterCustomizerTest implements
         fail("WriteFailedException.CreateFailedException  was expected");
     }
 
+    @Test
+    public void testAddBridgeDomainFailedIdReused() throws Exception {
+        final int bdId = 1;
+        final BridgeDomain bd1 = generateBridgeDomain("bd1");
+        final BridgeDomain bd2 = generateBridgeDomain("bd2");
+        noMappingDefined(mappingContext, "bd1", BD_CTX_NAME);
+        noMappingDefined(mappingContext, "bd2", BD_CTX_NAME);
+
+        whenBridgeDomainAddDelThenFailure();
+        try {
+            customizer.writeCurrentAttributes(bdIdentifierForName("bd1"), bd1, writeContext);
+            fail("WriteFailedException.CreateFailedException  was expected");
+        } catch (WriteFailedException e) {
+            verify(mappingContext, never()).put(mappingIid("bd1", BD_CTX_NAME), mapping("bd1", bdId).get());
+        }
+
+        whenBridgeDomainAddDelThenSuccess();
+        customizer.writeCurrentAttributes(bdIdentifierForName("bd2"), bd2, writeContext);
+        verify(mappingContext).put(mappingIid("bd2", BD_CTX_NAME), mapping("bd2", bdId).get());
+    }
+
+    @Test
+    public void testAddBridgeDomainOutsideOfLock() throws Exception {
+        final String bdName = "bd1";
+        final BridgeDomain bd = generateBridgeDomain(bdName);
+        noMappingDefined(mappingContext, bdName, BD_CTX_NAME);
+
+        // allocated id is reserved by the allocator, so VPP is invoked without holding the customizer lock
+        when(api.bridgeDomainAddDel(any(BridgeDomainAddDel.class))).thenAnswer(invocation -> {
+            assertFalse(Thread.holdsLock(customizer));
+            return future(new BridgeDomainAddDelReply());
+        });
+
+        customizer.writeCurrentAttributes(bdIdentifierForName(bdName), bd, writeContext);
+        verify(mappingContext).put(mappingIid(bdName, BD_CTX_NAME), mapping(bdName, 1).get());
+    }
+
     @Test
     public void testDeleteBridgeDomain() throws Exception {
         final int bdId = 1;
@@ -19,16 +19,20 @@ package io.fd.hc2vpp.v3po.l2state;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.fd.hc2vpp.common.test.read.ListReaderCustomizerTest;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.read.ReaderCustomizer;
 import io.fd.vpp.jvpp.VppInvocationException;
 import io.fd.vpp.jvpp.core.dto.L2FibTableDetails;
 import io.fd.vpp.jvpp.core.dto.L2FibTableDetailsReplyDump;
 import io.fd.vpp.jvpp.core.dto.L2FibTableDump;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
@@ -121,4 +125,36 @@ public class L2FibEntryCustomizerTest extends ListReaderCustomizerTest<L2FibEntr
         assertEquals(1, ids.size());
         assertEquals(address, ids.get(0).getPhysAddress());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testReadDumpedOncePerBridgeDomain() throws Exception {
+        final PhysAddress address1 = new PhysAddress("01:02:03:04:05:06");
+        final PhysAddress address2 = new PhysAddress("aa:bb:cc:dd:ee:ff");
+        defineMapping(mappingContext, IFACE_NAME, IFACE_ID, IFC_CTX_NAME);
+        whenL2FibTableDumpThenReturn(Arrays.asList(generateL2FibEntry(new byte[]{1, 2, 3, 4, 5, 6}),
+            generateL2FibEntry(new byte[]{(byte) 0xaa, (byte) 0xbb, (byte) 0xcc, (byte) 0xdd, (byte) 0xee,
+                (byte) 0xff})));
+
+        final List<L2FibEntryKey> ids = getCustomizer().getAllIds(getL2FibEntryId(BD_NAME, address1), ctx);
+        assertEquals(Arrays.asList(new L2FibEntryKey(address1), new L2FibEntryKey(address2)), ids);
+        getCustomizer().readCurrentAttributes(getL2FibEntryId(BD_NAME, address1), new L2FibEntryBuilder(), ctx);
+        final L2FibEntryBuilder builder = new L2FibEntryBuilder();
+        // MAC matched regardless of case
+        getCustomizer().readCurrentAttributes(getL2FibEntryId(BD_NAME, new PhysAddress("AA:BB:CC:DD:EE:FF")),
+            builder, ctx);
+        assertEquals(IFACE_NAME, builder.getOutgoingInterface());
+        verify(api).l2FibTableDump(any(L2FibTableDump.class));
+
+        // new transaction
+        when(ctx.getModificationCache()).thenReturn(new ModificationCache());
+        getCustomizer().readCurrentAttributes(getL2FibEntryId(BD_NAME, address1), new L2FibEntryBuilder(), ctx);
+        verify(api, times(2)).l2FibTableDump(any(L2FibTableDump.class));
+    }
+
+    @Test(expected = ReadFailedException.class)
+    public void testReadNotFound() throws Exception {
+        whenL2FibTableDumpThenReturn(Collections.singletonList(generateL2FibEntry(new byte[]{1, 2, 3, 4, 5, 6})));
+        getCustomizer().readCurrentAttributes(getL2FibEntryId(BD_NAME, new PhysAddress("01:02:03:04:05:07")),
+            new L2FibEntryBuilder(), ctx);
+    }
+}
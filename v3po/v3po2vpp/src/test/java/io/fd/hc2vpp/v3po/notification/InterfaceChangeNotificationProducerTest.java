@@ -18,13 +18,16 @@ package io.fd.hc2vpp.v3po.notification;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import io.fd.hc2vpp.common.test.util.FutureProducer;
 import io.fd.hc2vpp.common.test.util.NamingContextHelper;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDetailsCache;
 import io.fd.honeycomb.notification.NotificationCollector;
 import io.fd.honeycomb.translate.MappingContext;
 import io.fd.vpp.jvpp.core.callback.SwInterfaceEventCallback;
@@ -33,13 +36,17 @@ import io.fd.vpp.jvpp.core.dto.WantInterfaceEvents;
 import io.fd.vpp.jvpp.core.dto.WantInterfaceEventsReply;
 import io.fd.vpp.jvpp.core.future.FutureJVppCore;
 import io.fd.vpp.jvpp.core.notification.CoreEventRegistry;
+import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.naming.context.Mappings;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.InterfaceDeleted;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.InterfaceStateChange;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.v3po.rev170607.InterfaceStatus;
+import org.opendaylight.yangtools.yang.binding.Notification;
 
 public class InterfaceChangeNotificationProducerTest implements FutureProducer, NamingContextHelper {
 
@@ -103,10 +110,73 @@ public class InterfaceChangeNotificationProducerTest implements FutureProducer,
         callbackArgumentCaptor.getValue().onSwInterfaceEvent(swInterfaceSetFlagsNotification);
         final ArgumentCaptor<InterfaceStateChange> notificationCaptor =
             ArgumentCaptor.forClass(InterfaceStateChange.class);
-        verify(collector).onNotification(notificationCaptor.capture());
+        // notifications are dispatched asynchronously
+        verify(collector, timeout(1000)).onNotification(notificationCaptor.capture());
 
         assertEquals(IFACE_NAME, notificationCaptor.getValue().getName().getString());
         assertEquals(InterfaceStatus.Up, notificationCaptor.getValue().getAdminStatus());
         assertEquals(InterfaceStatus.Up, notificationCaptor.getValue().getOperStatus());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testNotificationsMerged() throws Exception {
+        // window long enough, that events are dispatched only on stop
+        final InterfaceChangeNotificationProducer interfaceChangeNotificationProducer =
+            new InterfaceChangeNotificationProducer(jVpp, namingContext, mappingContext,
+                new InterfaceDetailsCache(0), 16, 60_000);
+        interfaceChangeNotificationProducer.start(collector);
+        clearInvocations(mappingContext);
+
+        final SwInterfaceEventCallback callback = callbackArgumentCaptor.getValue();
+        callback.onSwInterfaceEvent(event(IFACE_ID, 1, 0));
+        callback.onSwInterfaceEvent(event(IFACE_ID, 1, 1));
+        callback.onSwInterfaceEvent(event(IFACE_ID, 0, 0));
+        final SwInterfaceEvent deleted = event(5, 0, 0);
+        deleted.deleted = 1;
+        callback.onSwInterfaceEvent(deleted);
+        interfaceChangeNotificationProducer.stop();
+
+        final ArgumentCaptor<Notification> notificationCaptor = ArgumentCaptor.forClass(Notification.class);
+        verify(collector, times(2)).onNotification(notificationCaptor.capture());
+        final List<Notification> notifications = notificationCaptor.getAllValues();
+        final InterfaceStateChange stateChange = (InterfaceStateChange) notifications.get(0);
+        assertEquals(IFACE_NAME, stateChange.getName().getString());
+        assertEquals(InterfaceStatus.Down, stateChange.getAdminStatus());
+        // index used as name if mapping is not present
+        assertEquals(5L, ((InterfaceDeleted) notifications.get(1)).getName().getUint32().longValue());
+        assertEquals(2, interfaceChangeNotificationProducer.getStats().getMergedEventCount());
+        // names resolved once for whole batch
+        verify(mappingContext).read(mappingIid(IFACE_NAME, IFC_CTX_NAME).firstIdentifierOf(Mappings.class));
+    }
+
+    @Test
+    public void testNotificationForInterfaceCreatedLater() throws Exception {
+        // interface context is indexed as in V3poModule
+        final InterfaceChangeNotificationProducer interfaceChangeNotificationProducer =
+            new InterfaceChangeNotificationProducer(jVpp, new NamingContext("test", IFC_CTX_NAME, true),
+                mappingContext);
+        interfaceChangeNotificationProducer.start(collector);
+        final SwInterfaceEventCallback callback = callbackArgumentCaptor.getValue();
+
+        final ArgumentCaptor<InterfaceStateChange> notificationCaptor =
+            ArgumentCaptor.forClass(InterfaceStateChange.class);
+        callback.onSwInterfaceEvent(event(IFACE_ID, 1, 1));
+        verify(collector, timeout(1000)).onNotification(notificationCaptor.capture());
+        assertEquals(IFACE_NAME, notificationCaptor.getValue().getName().getString());
+
+        // honeycomb-context is long-lived, mappings of new interfaces have to be visible to the producer
+        defineMapping(mappingContext, "eth1", 1, IFC_CTX_NAME);
+        callback.onSwInterfaceEvent(event(1, 1, 1));
+        verify(collector, timeout(1000).times(2)).onNotification(notificationCaptor.capture());
+        assertEquals("eth1", notificationCaptor.getValue().getName().getString());
+        interfaceChangeNotificationProducer.stop();
+    }
+
+    private static SwInterfaceEvent event(final int swIfIndex, final int adminUpDown, final int linkUpDown) {
+        final SwInterfaceEvent event = new SwInterfaceEvent();
+        event.swIfIndex = swIfIndex;
+        event.adminUpDown = (byte) adminUpDown;
+        event.linkUpDown = (byte) linkUpDown;
+        return event;
+    }
+}
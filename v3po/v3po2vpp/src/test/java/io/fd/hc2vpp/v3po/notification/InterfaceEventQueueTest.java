@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.notification;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import io.fd.vpp.jvpp.core.dto.SwInterfaceEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+
+public class InterfaceEventQueueTest {
+
+    private List<List<SwInterfaceEvent>> batches;
+    private InterfaceEventQueue queue;
+
+    @Before
+    public void setUp() {
+        batches = new ArrayList<>();
+        queue = new InterfaceEventQueue(4, 60_000, batches::add);
+    }
+
+    @Test
+    public void testMergeStateChanges() {
+        final SwInterfaceEvent last = event(1, 0);
+        queue.offer(event(1, 1));
+        queue.offer(event(2, 1));
+        queue.offer(last);
+
+        assertEquals(2, queue.dispatch());
+        assertEquals(1, batches.size());
+        assertSame(last, batches.get(0).get(0));
+        assertEquals(2, batches.get(0).get(1).swIfIndex);
+        assertEquals(1, queue.getStats().getMergedEventCount());
+        assertEquals(3, queue.getStats().getReceivedEventCount());
+        assertEquals(2, queue.getStats().getDispatchedEventCount());
+        assertEquals(1, queue.getStats().getBatchCount());
+    }
+
+    @Test
+    public void testDeleteReplacesStateChange() {
+        final SwInterfaceEvent deleted = deleted(1);
+        queue.offer(event(1, 1));
+        queue.offer(deleted);
+        queue.offer(deleted(1));
+
+        assertEquals(1, queue.dispatch());
+        assertSame(deleted, batches.get(0).get(0));
+        assertEquals(2, queue.getStats().getMergedEventCount());
+    }
+
+    @Test
+    public void testStateChangeAfterDeleteNotMerged() {
+        final SwInterfaceEvent deleted = deleted(1);
+        final SwInterfaceEvent created = event(1, 1);
+        queue.offer(deleted);
+        queue.offer(created);
+
+        assertEquals(2, queue.dispatch());
+        assertSame(deleted, batches.get(0).get(0));
+        assertSame(created, batches.get(0).get(1));
+        assertEquals(0, queue.getStats().getMergedEventCount());
+    }
+
+    @Test
+    public void testRepeatedFlapsKeepLatestState() {
+        // more flapping interfaces than the threshold, dispatcher is not started, so nothing is dispatched early
+        for (int flap = 0; flap < 1000; flap++) {
+            for (int swIfIndex = 0; swIfIndex < 8; swIfIndex++) {
+                queue.offer(event(swIfIndex, flap % 2));
+            }
+        }
+        queue.offer(event(3, 0));
+
+        assertEquals(8, queue.dispatch());
+        final List<SwInterfaceEvent> batch = batches.get(0);
+        for (int swIfIndex = 0; swIfIndex < 8; swIfIndex++) {
+            assertEquals(swIfIndex, batch.get(swIfIndex).swIfIndex);
+            assertEquals(swIfIndex == 3
+                    ? 0
+                    : 1, batch.get(swIfIndex).adminUpDown);
+        }
+        assertEquals(8 * 1000 + 1 - 8, queue.getStats().getMergedEventCount());
+    }
+
+    @Test
+    public void testDispatchBeforeWindowWhenThresholdReached() throws Exception {
+        final CountDownLatch dispatched = new CountDownLatch(1);
+        final InterfaceEventQueue earlyQueue = new InterfaceEventQueue(4, 60_000, batch -> {
+            assertEquals(4, batch.size());
+            dispatched.countDown();
+        });
+        earlyQueue.start();
+        try {
+            for (int i = 0; i < 4; i++) {
+                earlyQueue.offer(event(i, 1));
+            }
+            assertTrue(dispatched.await(5, TimeUnit.SECONDS));
+        } finally {
+            earlyQueue.close();
+        }
+    }
+
+    @Test
+    public void testDispatchEmpty() {
+        assertEquals(0, queue.dispatch());
+        assertTrue(batches.isEmpty());
+    }
+
+    @Test
+    public void testPeriodicDispatch() throws Exception {
+        final CountDownLatch dispatched = new CountDownLatch(1);
+        final InterfaceEventQueue periodicQueue = new InterfaceEventQueue(4, 10, batch -> dispatched.countDown());
+        periodicQueue.start();
+        try {
+            periodicQueue.offer(event(1, 1));
+            assertTrue(dispatched.await(5, TimeUnit.SECONDS));
+        } finally {
+            periodicQueue.close();
+        }
+    }
+
+    @Test
+    public void testCloseDispatchesPending() {
+        queue.start();
+        queue.offer(event(1, 1));
+        queue.close();
+        assertEquals(1, batches.size());
+    }
+
+    private static SwInterfaceEvent event(final int swIfIndex, final int adminUpDown) {
+        final SwInterfaceEvent event = new SwInterfaceEvent();
+        event.swIfIndex = swIfIndex;
+        event.adminUpDown = (byte) adminUpDown;
+        return event;
+    }
+
+    private static SwInterfaceEvent deleted(final int swIfIndex) {
+        final SwInterfaceEvent event = event(swIfIndex, 0);
+        event.deleted = 1;
+        return event;
+    }
+}
@@ -17,11 +17,13 @@
 package io.fd.hc2vpp.vpp.classifier;
 
 import com.google.inject.AbstractModule;
+import com.google.inject.Singleton;
 import com.google.inject.multibindings.Multibinder;
 import com.google.inject.name.Names;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
 import io.fd.hc2vpp.vpp.classifier.context.VppClassifierContextManager;
 import io.fd.hc2vpp.vpp.classifier.context.VppClassifierContextManagerImpl;
+import io.fd.hc2vpp.vpp.classifier.context.VppClassifierContextManagerProvider;
 import io.fd.hc2vpp.vpp.classifier.factory.read.VppClassifierReaderFactory;
 import io.fd.hc2vpp.vpp.classifier.factory.write.VppClassifierHoneycombWriterFactory;
 import io.fd.honeycomb.translate.read.ReaderFactory;
@@ -41,7 +43,8 @@ public class VppClassifierModule extends AbstractModule {
 
         bind(VppClassifierContextManager.class)
             .annotatedWith(Names.named("classify-table-context"))
-            .toInstance(new VppClassifierContextManagerImpl("classify-table-"));
+            .toProvider(new VppClassifierContextManagerProvider("classify-table-"))
+            .in(Singleton.class);
 
         bind(NamingContext.class)
             .annotatedWith(Names.named("policer-context"))
@@ -23,11 +23,13 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import com.google.inject.Inject;
+import io.fd.hc2vpp.common.translate.util.TransactionalContextStore;
 import io.fd.honeycomb.translate.MappingContext;
 import io.fd.honeycomb.translate.read.ReaderFactory;
 import io.fd.honeycomb.translate.read.registry.ModifiableReaderRegistryBuilder;
 import io.fd.honeycomb.translate.util.RWUtils;
 import io.fd.honeycomb.translate.util.read.BindingBrokerReader;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collector;
 import javax.annotation.Nonnull;
@@ -49,6 +51,10 @@ import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
 
 /**
  * Facade on top of {@link MappingContext} that manages {@link ClassifyTableContext}.
+ *
+ * <p>Facade backed by {@link TransactionalContextStore} writes metadata to the context data tree as well as to the
+ * store and serves lookups from the store. Classify tables are stored with their base node name as value, node names
+ * are stored in separate context with table name as their parent.
  */
 public final class VppClassifierContextManagerImpl implements VppClassifierContextManager {
     private static final Collector<ClassifyTableContext, ?, ClassifyTableContext> SINGLE_ITEM_COLLECTOR =
@@ -57,7 +63,13 @@ public final class VppClassifierContextManagerImpl implements VppClassifierConte
     @VisibleForTesting
     static final InstanceIdentifier<VppClassifierContext>
         VPP_CLASSIFIER_CONTEXT_IID = KeyedInstanceIdentifier.create(VppClassifierContext.class);
+    private static final String TABLE_STORE_CONTEXT = "vpp-classifier-context";
+    private static final String NODE_STORE_CONTEXT = "vpp-classifier-context-node";
+    // tables have no parent, all are stored under the same one
+    private static final String TABLE_STORE_PARENT = "";
+
     private final String artificialNamePrefix;
+    private final TransactionalContextStore store;
 
     /**
      * Creates new VppClassifierContextManagerImpl.
@@ -68,6 +80,38 @@ public final class VppClassifierContextManagerImpl implements VppClassifierConte
     public VppClassifierContextManagerImpl(@Nonnull final String artificialNamePrefix) {
         this.artificialNamePrefix =
             Preconditions.checkNotNull(artificialNamePrefix, "artificialNamePrefix should not be null");
+        this.store = null;
+    }
+
+    /**
+     * Creates new VppClassifierContextManagerImpl backed by context store.
+     *
+     * @param artificialNamePrefix artificial name to be used to generate names for classify tables without existing
+     *                             metadata
+     * @param store                store serving lookups of classify table metadata. All writes of the metadata have
+     *                             to go through this instance to keep the store consistent.
+     */
+    public VppClassifierContextManagerImpl(@Nonnull final String artificialNamePrefix,
+                                           @Nonnull final TransactionalContextStore store) {
+        this.artificialNamePrefix =
+            Preconditions.checkNotNull(artificialNamePrefix, "artificialNamePrefix should not be null");
+        this.store = Preconditions.checkNotNull(store, "store should not be null");
+        store.register(TABLE_STORE_CONTEXT, (mappingContext, mappings) -> readTables(mappingContext)
+            .forEach(table -> mappings.accept(TABLE_STORE_PARENT, table.getName(), table.getIndex(),
+                table.getClassifierNodeName())));
+        store.register(NODE_STORE_CONTEXT, (mappingContext, mappings) -> readTables(mappingContext)
+            .forEach(table -> Optional.fromNullable(table.getNodeContext()).or(Collections.emptyList())
+                .forEach(node -> mappings.accept(table.getName(), node.getName(), node.getIndex(), null))));
+    }
+
+    private boolean isStored() {
+        return store != null;
+    }
+
+    private static List<ClassifyTableContext> readTables(final MappingContext ctx) {
+        return ctx.read(VPP_CLASSIFIER_CONTEXT_IID)
+            .transform(VppClassifierContext::getClassifyTableContext)
+            .or(Collections.emptyList());
     }
 
     private KeyedInstanceIdentifier<ClassifyTableContext, ClassifyTableContextKey> getMappingIid(final String name) {
@@ -83,16 +127,29 @@ public final class VppClassifierContextManagerImpl implements VppClassifierConte
             tableCtx.setClassifierNodeName(classifierNode.getValue());
         }
         ctx.put(mappingIid, tableCtx.build());
+        if (isStored()) {
+            store.put(TABLE_STORE_CONTEXT, TABLE_STORE_PARENT, name, id, tableCtx.getClassifierNodeName(), ctx);
+            // node names of the table were replaced as well
+            store.removeParent(NODE_STORE_CONTEXT, name, ctx);
+        }
     }
 
     @Override
     public boolean containsTable(@Nonnull final String name, @Nonnull final MappingContext ctx) {
+        if (isStored()) {
+            return store.getIndex(TABLE_STORE_CONTEXT, TABLE_STORE_PARENT, name, ctx) != null;
+        }
         final Optional<ClassifyTableContext> read = ctx.read(getMappingIid(name));
         return read.isPresent();
     }
 
     @Override
     public int getTableIndex(@Nonnull final String name, @Nonnull final MappingContext ctx) {
+        if (isStored()) {
+            final Long index = store.getIndex(TABLE_STORE_CONTEXT, TABLE_STORE_PARENT, name, ctx);
+            checkArgument(index != null, "No mapping stored for name: %s", name);
+            return index.intValue();
+        }
         final Optional<ClassifyTableContext> read = ctx.read(getMappingIid(name));
         checkArgument(read.isPresent(), "No mapping stored for name: %s", name);
         return read.get().getIndex();
@@ -100,6 +157,15 @@ public final class VppClassifierContextManagerImpl implements VppClassifierConte
 
     @Override
     public String getTableName(final int id, @Nonnull final MappingContext ctx) {
+        if (isStored()) {
+            final String name = store.getName(TABLE_STORE_CONTEXT, TABLE_STORE_PARENT, id, ctx);
+            if (name != null) {
+                return name;
+            }
+            final String artificialName = getArtificialName(id);
+            addTable(id, artificialName, null, ctx);
+            return artificialName;
+        }
         if (!containsName(id, ctx)) {
             final String artificialName = getArtificialName(id);
             addTable(id, artificialName, null, ctx);
@@ -122,6 +188,9 @@ public final class VppClassifierContextManagerImpl implements VppClassifierConte
 
     @Override
     public Optional<String> getTableBaseNode(@Nonnull final String name, @Nonnull final MappingContext ctx) {
+        if (isStored()) {
+            return Optional.fromNullable(store.getValue(TABLE_STORE_CONTEXT, TABLE_STORE_PARENT, name, ctx));
+        }
         final Optional<ClassifyTableContext> read = ctx.read(getMappingIid(name));
         if (read.isPresent()) {
             return Optional.fromNullable(read.get().getClassifierNodeName());
@@ -132,6 +201,10 @@ public final class VppClassifierContextManagerImpl implements VppClassifierConte
     @Override
     public void removeTable(@Nonnull final String name, @Nonnull final MappingContext ctx) {
         ctx.delete(getMappingIid(name));
+        if (isStored()) {
+            store.remove(TABLE_STORE_CONTEXT, TABLE_STORE_PARENT, name, ctx);
+            store.removeParent(NODE_STORE_CONTEXT, name, ctx);
+        }
     }
 
     @Override
@@ -141,10 +214,19 @@ public final class VppClassifierContextManagerImpl implements VppClassifierConte
         final KeyedInstanceIdentifier<NodeContext, NodeContextKey> iid =
             getMappingIid(tableName).child(NodeContext.class, new NodeContextKey(nodeName));
         ctx.put(iid, new NodeContextBuilder().setName(nodeName).setIndex(nodeIndex).build());
+        if (isStored()) {
+            store.put(NODE_STORE_CONTEXT, tableName, nodeName, nodeIndex, null, ctx);
+        }
     }
 
     @Override
     public Optional<String> getNodeName(final int tableIndex, final int nodeIndex, @Nonnull final MappingContext ctx) {
+        if (isStored()) {
+            final String tableName = store.getName(TABLE_STORE_CONTEXT, TABLE_STORE_PARENT, tableIndex, ctx);
+            return tableName == null
+                ? Optional.absent()
+                : Optional.fromNullable(store.getName(NODE_STORE_CONTEXT, tableName, nodeIndex, ctx));
+        }
         if (!containsName(tableIndex, ctx)) {
             return Optional.absent();
         }
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.vpp.classifier.read;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import io.fd.vpp.jvpp.core.dto.ClassifySessionDetails;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Classify sessions of single classify table indexed by match. Built once per session dump, so each session lookup
+ * costs single hash lookup instead of scanning the whole table.
+ */
+@NotThreadSafe
+final class ClassifySessionIndex {
+
+    private final List<ClassifySessionDetails> dumped;
+    private final Map<MatchKey, ClassifySessionDetails> sessions;
+    private final Set<MatchKey> duplicates = new HashSet<>();
+
+    ClassifySessionIndex(@Nullable final List<ClassifySessionDetails> details) {
+        dumped = details == null
+                ? Collections.emptyList()
+                : details;
+        sessions = new HashMap<>(dumped.size() * 2);
+        for (final ClassifySessionDetails detail : dumped) {
+            final MatchKey key = new MatchKey(detail.match);
+            if (sessions.putIfAbsent(key, detail) != null) {
+                duplicates.add(key);
+            }
+        }
+    }
+
+    /**
+     * @return all sessions, in order they were dumped
+     */
+    @Nonnull
+    List<ClassifySessionDetails> getSessions() {
+        return dumped;
+    }
+
+    /**
+     * @return session with given match, or null if there is none
+     * @throws IllegalStateException if there are multiple sessions with given match
+     */
+    @Nullable
+    ClassifySessionDetails get(@Nonnull final byte[] match) {
+        final MatchKey key = new MatchKey(match);
+        if (duplicates.contains(key)) {
+            throw new IllegalStateException("Found multiple classify sessions witch given match. "
+                    + "Single session expected.");
+        }
+        return sessions.get(key);
+    }
+
+    /**
+     * Parses match in hex string format (with or without colons), without creating intermediate strings.
+     */
+    static byte[] parseMatch(@Nonnull final String match) {
+        final byte[] parsed = new byte[match.length() / 2];
+        int length = 0;
+        int high = -1;
+        for (int i = 0; i < match.length(); i++) {
+            final char c = match.charAt(i);
+            if (c == ':') {
+                continue;
+            }
+            final int digit = Character.digit(c, 16);
+            checkArgument(digit >= 0, "Invalid match %s", match);
+            if (high < 0) {
+                high = digit;
+            } else {
+                parsed[length++] = (byte) (high << 4 | digit);
+                high = -1;
+            }
+        }
+        checkArgument(high < 0, "Match %s has odd number of digits", match);
+        return Arrays.copyOf(parsed, length);
+    }
+
+    /**
+     * Byte array wrapper with content based equality and cached hash code.
+     */
+    static final class MatchKey {
+        private final byte[] match;
+        private final int hash;
+
+        MatchKey(@Nonnull final byte[] match) {
+            this.match = match;
+            this.hash = Arrays.hashCode(match);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final MatchKey that = (MatchKey) o;
+            return hash == that.hash && Arrays.equals(match, that.match);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -20,6 +20,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.primitives.UnsignedInts;
 import io.fd.hc2vpp.common.translate.util.FutureJVppCustomizer;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
@@ -29,17 +30,15 @@ import io.fd.honeycomb.translate.MappingContext;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.read.ListReaderCustomizer;
+import io.fd.honeycomb.translate.util.read.cache.DumpCacheManager;
+import io.fd.honeycomb.translate.util.read.cache.TypeAwareIdentifierCacheKeyFactory;
 import io.fd.vpp.jvpp.core.dto.ClassifySessionDetails;
 import io.fd.vpp.jvpp.core.dto.ClassifySessionDetailsReplyDump;
 import io.fd.vpp.jvpp.core.dto.ClassifySessionDump;
 import io.fd.vpp.jvpp.core.future.FutureJVppCore;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
-import javax.annotation.Nullable;
-import javax.xml.bind.DatatypeConverter;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.HexString;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.classifier.rev170327.OpaqueIndex;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.vpp.classifier.rev170327.VppNode;
@@ -66,14 +65,21 @@ public class ClassifySessionReader extends FutureJVppCustomizer
         InterfaceDataTranslator, VppNodeReader, JvppReplyConsumer {
 
     private static final Logger LOG = LoggerFactory.getLogger(ClassifySessionReader.class);
-    static final String CACHE_KEY = ClassifySessionReader.class.getName();
 
     private final VppClassifierContextManager classifyTableContext;
+    private final DumpCacheManager<ClassifySessionIndex, Integer> dumpManager;
 
     public ClassifySessionReader(@Nonnull final FutureJVppCore futureJVppCore,
                                  @Nonnull final VppClassifierContextManager classifyTableContext) {
         super(futureJVppCore);
         this.classifyTableContext = checkNotNull(classifyTableContext, "classifyTableContext should not be null");
+        this.dumpManager = new DumpCacheManager.DumpCacheManagerBuilder<ClassifySessionIndex, Integer>()
+                // sessions are dumped per classify table
+                .withCacheKeyFactory(new TypeAwareIdentifierCacheKeyFactory(ClassifySessionIndex.class,
+                        ImmutableSet.of(ClassifyTable.class)))
+                .withExecutor(this::dumpClassifySessions)
+                .acceptOnly(ClassifySessionIndex.class)
+                .build();
     }
 
     @Override
@@ -97,13 +103,10 @@ public class ClassifySessionReader extends FutureJVppCustomizer
         final ClassifySessionKey key = id.firstKeyOf(ClassifySession.class);
         Preconditions.checkArgument(key != null, "could not find ClassifySession key in {}", id);
 
-        final ClassifySessionDetailsReplyDump classifySessionDump = dumpClassifySessions(id, ctx);
-        final byte[] match = DatatypeConverter.parseHexBinary(key.getMatch().getValue().replace(":", ""));
-        final Optional<ClassifySessionDetails> classifySession =
-                findClassifySessionDetailsByMatch(classifySessionDump, match);
+        final byte[] match = ClassifySessionIndex.parseMatch(key.getMatch().getValue());
+        final ClassifySessionDetails detail = getSessionIndex(id, ctx).get(match);
 
-        if (classifySession.isPresent()) {
-            final ClassifySessionDetails detail = classifySession.get();
+        if (detail != null) {
             final Optional<VppNode> node =
                 readVppNode(detail.tableId, detail.hitNextIndex, classifyTableContext, ctx.getMappingContext(), LOG);
             final StandardBuilder nextNode = new StandardBuilder();
@@ -139,62 +142,37 @@ public class ClassifySessionReader extends FutureJVppCustomizer
         }
     }
 
-    @Nullable
-    private ClassifySessionDetailsReplyDump dumpClassifySessions(@Nonnull final InstanceIdentifier<?> id,
-                                                                 @Nonnull final ReadContext ctx)
-            throws ReadFailedException {
+    /**
+     * Returns sessions of classify table indexed by match. Index is built once per table and read transaction.
+     */
+    @Nonnull
+    private ClassifySessionIndex getSessionIndex(@Nonnull final InstanceIdentifier<?> id,
+                                                 @Nonnull final ReadContext ctx) throws ReadFailedException {
         final ClassifyTableKey tableKey = id.firstKeyOf(ClassifyTable.class);
         Preconditions.checkArgument(tableKey != null, "could not find ClassifyTable key in {}", id);
 
-        final String cacheKey = CACHE_KEY + tableKey;
-
-        ClassifySessionDetailsReplyDump classifySessionDump =
-                (ClassifySessionDetailsReplyDump) ctx.getModificationCache().get(cacheKey);
-        if (classifySessionDump != null) {
-            LOG.debug("Classify sessions is present in cache: {}", cacheKey);
-            return classifySessionDump;
-        }
-
         final String tableName = tableKey.getName();
         Preconditions.checkState(classifyTableContext.containsTable(tableName, ctx.getMappingContext()),
                 "Reading classify sessions for table {}, but table index could not be found in the classify table context",
                 tableName);
         final int tableId = classifyTableContext.getTableIndex(tableName, ctx.getMappingContext());
-        LOG.debug("Dumping classify sessions for classify table id={}", tableId);
+        return dumpManager.getDump(id, ctx.getModificationCache(), tableId).get();
+    }
 
+    private ClassifySessionIndex dumpClassifySessions(@Nonnull final InstanceIdentifier<?> id, final int tableId)
+            throws ReadFailedException {
+        LOG.debug("Dumping classify sessions for classify table id={}", tableId);
 
         final ClassifySessionDump dumpRequest = new ClassifySessionDump();
         dumpRequest.tableId = tableId;
         final int timeOut = 30; // there can be many session with current ietf-acl implementation (could be probably
         // removed after fixing HONEYCOMB-247)
-        classifySessionDump =
+        final ClassifySessionDetailsReplyDump classifySessionDump =
                 getReplyForRead(getFutureJVpp().classifySessionDump(dumpRequest).toCompletableFuture(), id, timeOut);
-
-        if (classifySessionDump != null) {
-            // update the cache:
-            ctx.getModificationCache().put(cacheKey, classifySessionDump);
-        }
-
-        return classifySessionDump;
-    }
-
-    private static Optional<ClassifySessionDetails> findClassifySessionDetailsByMatch(
-            @Nullable final ClassifySessionDetailsReplyDump classifySessionDump, @Nonnull final byte[] match) {
-        if (classifySessionDump != null && classifySessionDump.classifySessionDetails != null) {
-            final List<ClassifySessionDetails> details = classifySessionDump.classifySessionDetails;
-            final List<ClassifySessionDetails> filteredSessions = details.stream()
-                    .filter(singleDetail -> Arrays.equals(singleDetail.match, match)).collect(Collectors.toList());
-            if (filteredSessions.isEmpty()) {
-                return Optional.absent();
-            } else if (filteredSessions.size() == 1) {
-                return Optional.of(filteredSessions.get(0));
-            } else {
-                throw new IllegalStateException(String.format(
-                        "Found %d classify sessions witch given match. Single session expected.",
-                        filteredSessions.size()));
-            }
-        }
-        return Optional.absent();
+        // index is stored instead of the dump, so it is built just once per transaction
+        return new ClassifySessionIndex(classifySessionDump == null
+                ? null
+                : classifySessionDump.classifySessionDetails);
     }
 
     @Nonnull
@@ -203,13 +181,8 @@ public class ClassifySessionReader extends FutureJVppCustomizer
                                               @Nonnull final ReadContext ctx) throws ReadFailedException {
         LOG.debug("Reading list of keys for classify sessions: {}", id);
 
-        final ClassifySessionDetailsReplyDump classifySessionDump = dumpClassifySessions(id, ctx);
-        if (classifySessionDump != null && classifySessionDump.classifySessionDetails != null) {
-            return classifySessionDump.classifySessionDetails.stream()
-                    .map(detail -> new ClassifySessionKey(new HexString(printHexBinary(detail.match))))
-                    .collect(Collectors.toList());
-        } else {
-            return Collections.emptyList();
-        }
+        return getSessionIndex(id, ctx).getSessions().stream()
+                .map(detail -> new ClassifySessionKey(new HexString(printHexBinary(detail.match))))
+                .collect(Collectors.toList());
     }
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.integration;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.google.inject.name.Named;
+import io.fd.hc2vpp.common.translate.util.ContextStore;
+import io.fd.hc2vpp.common.translate.util.TransactionalContextStore;
+import io.fd.honeycomb.data.init.ShutdownHandler;
+import io.fd.honeycomb.translate.MappingContext;
+import java.nio.file.Paths;
+
+/**
+ * Provides store of context mappings configured by context-store-path, or null if the store is disabled.
+ * Contexts have to inject the store as optional and {@link javax.annotation.Nullable}.
+ */
+final class ContextStoreProvider implements Provider<TransactionalContextStore> {
+
+    @Inject
+    private VppConfigAttributes config;
+
+    @Inject
+    @Named("honeycomb-context")
+    private MappingContext realtimeContext;
+
+    @Inject
+    private ShutdownHandler shutdownHandler;
+
+    @Override
+    public TransactionalContextStore get() {
+        if (!config.isContextStoreEnabled()) {
+            return null;
+        }
+        final ContextStore store = new ContextStore(Paths.get(config.contextStorePath));
+        shutdownHandler.register("context-store", store);
+        return new TransactionalContextStore(store, realtimeContext);
+    }
+}
@@ -20,6 +20,7 @@ import com.google.common.base.Charsets;
 import com.google.common.io.CharStreams;
 import com.google.common.primitives.UnsignedInts;
 import com.google.inject.Inject;
+import io.fd.hc2vpp.common.translate.util.JVppRequestStats;
 import io.fd.honeycomb.binding.init.ProviderTrait;
 import io.fd.honeycomb.data.init.ShutdownHandler;
 import io.fd.vpp.jvpp.JVppRegistry;
@@ -47,6 +48,8 @@ public final class JVppRegistryProvider extends ProviderTrait<JVppRegistry> {
     private VppConfigAttributes config;
     @Inject
     private ShutdownHandler shutdownHandler;
+    @Inject
+    private JVppRequestStats stats;
 
     private long connectedVppPid;
 
@@ -61,7 +64,7 @@ public final class JVppRegistryProvider extends ProviderTrait<JVppRegistry> {
                 // to connect next time. If JVM is force closed, this will not be executed and VPP connection
                 // with name from config will stay open and prevent next startup of HC to success
 
-                LOG.info("Disconnecting from VPP");
+                LOG.info("Disconnecting from VPP, request statistics: {}", stats);
 
                 // Handles restart honeycomb service or restart vpp service
                 // this tells whether vpp that was honeycomb connected to is running(true) or some other instance of vpp is
@@ -19,6 +19,8 @@ package io.fd.hc2vpp.common.integration;
 import com.google.inject.AbstractModule;
 import com.google.inject.Singleton;
 import com.google.inject.multibindings.Multibinder;
+import io.fd.hc2vpp.common.translate.util.JVppRequestStats;
+import io.fd.hc2vpp.common.translate.util.TransactionalContextStore;
 import io.fd.hc2vpp.common.translate.util.VppStatusListener;
 import io.fd.honeycomb.translate.read.ReaderFactory;
 import io.fd.vpp.jvpp.JVppRegistry;
@@ -34,9 +36,12 @@ public final class VppCommonModule extends AbstractModule {
         requestInjection(VppConfigAttributes.class);
 
         bind(VppStatusListener.class).toInstance(new VppStatusListener());
+        bind(JVppRequestStats.class).toProvider(JVppRequestStatsProvider.class).in(Singleton.class);
         bind(JVppRegistry.class).toProvider(JVppRegistryProvider.class).in(Singleton.class);
         bind(FutureJVppCore.class).toProvider(JVppCoreProvider.class).in(Singleton.class);
         bind(JVppTimeoutProvider.JVppTimeoutInit.class).toProvider(JVppTimeoutProvider.class).asEagerSingleton();
+        // Store of context mappings shared by contexts of all plugins, provides null if not configured
+        bind(TransactionalContextStore.class).toProvider(ContextStoreProvider.class).in(Singleton.class);
 
         // Naming contexts reader exposing context storage over REST/HONEYCOMB_NETCONF
         final Multibinder<ReaderFactory> readerBinder = Multibinder.newSetBinder(binder(), ReaderFactory.class);
@@ -28,4 +28,20 @@ public class VppConfigAttributes {
 
     @InjectConfig("jvpp-request-timeout")
     public int jvppRequestTimeout;
+
+    /**
+     * Maximum number of dumps waiting for reply from VPP, 0 means unlimited.
+     */
+    @InjectConfig("jvpp-max-concurrent-dumps")
+    public int jvppMaxConcurrentDumps;
+
+    /**
+     * Path of the file keeping context mappings out of context data, empty disables the store.
+     */
+    @InjectConfig("context-store-path")
+    public String contextStorePath;
+
+    public boolean isContextStoreEnabled() {
+        return contextStorePath != null && !contextStorePath.isEmpty();
+    }
 }
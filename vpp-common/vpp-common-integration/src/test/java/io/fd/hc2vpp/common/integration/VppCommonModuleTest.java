@@ -30,6 +30,7 @@ import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
 import io.fd.honeycomb.data.init.ShutdownHandler;
+import io.fd.honeycomb.translate.MappingContext;
 import io.fd.honeycomb.translate.read.ReaderFactory;
 import java.util.HashSet;
 import java.util.Set;
@@ -44,6 +45,11 @@ public class VppCommonModuleTest {
     @Mock
     private DataBroker honeycombContext;
 
+    @Named("honeycomb-context")
+    @Bind
+    @Mock
+    private MappingContext realtimeMappingContext;
+
     @Mock
     @Bind
     private ShutdownHandler shutdownHandler;
@@ -0,0 +1,845 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persistent store of context mappings. Mappings are kept in memory and every change is appended to memory-mapped log
+ * file as a single record, instead of persisting the whole context data tree.
+ *
+ * <p>Mapping is identified by context, parent and name and maps the name to index and optional value. Flat contexts
+ * (e.g. naming context) use empty parent, list based contexts use parent for the list entry owning the mappings
+ * (e.g. ace mappings of an acl). Lookup by index expects indexes to be unique within a parent.
+ *
+ * <p>Changes are made either directly ({@link #NO_TRANSACTION}), or within a transaction started by
+ * {@link #begin(String)}. Changes of a transaction are logged right away, but are visible only to the transaction until
+ * it is committed. Transactions left open by a crash are reported by {@link #getOpenTransactions()} together with
+ * marker given when they were started, so the caller can decide whether to commit or abort them.
+ *
+ * <p>Log consists of records:
+ * <ul>
+ * <li>context: {@code 1, int id, name} - assigns id to context name, so it is not repeated in other records</li>
+ * <li>begin: {@code 2, int transaction, marker}</li>
+ * <li>put: {@code 3, int transaction, int context id, parent, name, long index, value}</li>
+ * <li>remove: {@code 4, int transaction, int context id, parent, name}</li>
+ * <li>remove parent: {@code 5, int transaction, int context id, parent}</li>
+ * <li>commit: {@code 6, int transaction}</li>
+ * <li>abort: {@code 7, int transaction}</li>
+ * </ul>
+ * Strings are stored as unsigned short length followed by UTF-8 bytes, value is preceded by a byte telling whether it
+ * is present. Body of a record and the end marker behind it are forced to disk before type of the record, so record
+ * interrupted by crash is read back as the end of the log. Each change therefore costs two synchronous writes of the
+ * changed pages.
+ *
+ * <p>Log without valid header is moved aside (unless it holds no data at all, e.g. when created just before a crash)
+ * and replaced by an empty log, so the store can still be opened.
+ *
+ * <p>Log is read when the store is accessed for the first time. Once the log holds more than twice as many records as
+ * there are committed mappings (and at least compaction threshold), it is rewritten with just the committed mappings
+ * and changes of open transactions.
+ */
+@ThreadSafe
+public final class ContextStore implements AutoCloseable {
+
+    /**
+     * Transaction id of changes applied directly.
+     */
+    public static final int NO_TRANSACTION = 0;
+
+    private static final Logger LOG = LoggerFactory.getLogger(ContextStore.class);
+
+    private static final int MAGIC = 0x48435332;
+    private static final byte END = 0;
+    private static final byte CONTEXT = 1;
+    private static final byte BEGIN = 2;
+    private static final byte PUT = 3;
+    private static final byte REMOVE = 4;
+    private static final byte REMOVE_PARENT = 5;
+    private static final byte COMMIT = 6;
+    private static final byte ABORT = 7;
+    private static final int MIN_CAPACITY = 1 << 16;
+    private static final int MAX_STRING_LENGTH = 0xffff;
+    private static final int DEFAULT_COMPACTION_THRESHOLD = 1 << 16;
+    private static final Entry REMOVED = new Entry(-1, null);
+
+    private final Path path;
+    private final int compactionThreshold;
+    private final Map<String, Integer> contextIds = new HashMap<>();
+    private final Map<Integer, Map<String, Entries>> contexts = new HashMap<>();
+    private final Map<Integer, Transaction> transactions = new HashMap<>();
+    private FileChannel channel;
+    private MappedByteBuffer log;
+    private int records;
+    private int liveRecords;
+    private int nextTransaction = NO_TRANSACTION + 1;
+    private boolean compacting;
+
+    /**
+     * @param path log file, created if it does not exist
+     */
+    public ContextStore(@Nonnull final Path path) {
+        this(path, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * @param path                log file, created if it does not exist
+     * @param compactionThreshold minimal number of records in the log, before it is compacted
+     */
+    public ContextStore(@Nonnull final Path path, @Nonnegative final int compactionThreshold) {
+        checkArgument(compactionThreshold >= 0, "Compaction threshold cannot be negative, but was %s",
+                compactionThreshold);
+        this.path = path;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * @return true if given context was added to the store, even if it holds no mappings
+     */
+    public synchronized boolean containsContext(@Nonnull final String context) {
+        load();
+        return contextIds.containsKey(context);
+    }
+
+    /**
+     * Adds context to the store, if not present.
+     */
+    public synchronized void addContext(@Nonnull final String context) {
+        contextId(context);
+    }
+
+    /**
+     * Starts new transaction.
+     *
+     * @param marker identifies transaction to the caller, if it is left open in the log
+     * @return id of the transaction
+     */
+    public synchronized int begin(@Nonnull final String marker) {
+        load();
+        final int transaction = nextTransaction++;
+        appendBegin(transaction, marker);
+        transactions.put(transaction, new Transaction(marker));
+        return transaction;
+    }
+
+    /**
+     * Makes changes of the transaction visible to everyone.
+     */
+    public synchronized void commit(final int transaction) {
+        final Transaction changes = transaction(transaction);
+        appendEnd(COMMIT, transaction);
+        applyCommit(transaction, changes);
+        compactIfNeeded();
+    }
+
+    /**
+     * Drops changes of the transaction.
+     */
+    public synchronized void abort(final int transaction) {
+        transaction(transaction);
+        appendEnd(ABORT, transaction);
+        transactions.remove(transaction);
+    }
+
+    /**
+     * @return markers of transactions, that were neither committed nor aborted, by transaction id
+     */
+    @Nonnull
+    public synchronized Map<Integer, String> getOpenTransactions() {
+        load();
+        final Map<Integer, String> open = new HashMap<>();
+        transactions.forEach((id, transaction) -> open.put(id, transaction.marker));
+        return open;
+    }
+
+    /**
+     * @return index mapped to name, or null if there is none
+     */
+    @Nullable
+    public synchronized Long getIndex(final int transaction, @Nonnull final String context,
+                                      @Nonnull final String parent, @Nonnull final String name) {
+        final Entry entry = find(transaction, context, parent, name);
+        return entry == null
+                ? null
+                : entry.index;
+    }
+
+    /**
+     * @return value of mapping with given name, or null if there is no such mapping or it has no value
+     */
+    @Nullable
+    public synchronized String getValue(final int transaction, @Nonnull final String context,
+                                        @Nonnull final String parent, @Nonnull final String name) {
+        final Entry entry = find(transaction, context, parent, name);
+        return entry == null
+                ? null
+                : entry.value;
+    }
+
+    /**
+     * @return name mapped to index, or null if there is none
+     */
+    @Nullable
+    public synchronized String getName(final int transaction, @Nonnull final String context,
+                                       @Nonnull final String parent, final long index) {
+        load();
+        final Integer id = contextIds.get(context);
+        if (id == null) {
+            return null;
+        }
+        final Entries changes = changes(transaction, id, parent, false);
+        if (changes != null) {
+            final String name = changes.byIndex.get(index);
+            if (name != null) {
+                return name;
+            }
+            if (changes.cleared) {
+                return null;
+            }
+        }
+        final Entries entries = entries(id, parent, false);
+        final String name = entries == null
+                ? null
+                : entries.byIndex.get(index);
+        // mapping removed or moved to other index by the transaction
+        return name != null && changes != null && changes.byName.containsKey(name)
+                ? null
+                : name;
+    }
+
+    /**
+     * @return indexes of all mappings of the parent, by name
+     */
+    @Nonnull
+    public synchronized Map<String, Long> getChildren(final int transaction, @Nonnull final String context,
+                                                      @Nonnull final String parent) {
+        load();
+        final Map<String, Long> children = new HashMap<>();
+        final Integer id = contextIds.get(context);
+        if (id == null) {
+            return children;
+        }
+        final Entries changes = changes(transaction, id, parent, false);
+        final Entries entries = entries(id, parent, false);
+        if (entries != null && (changes == null || !changes.cleared)) {
+            entries.byName.forEach((name, entry) -> children.put(name, entry.index));
+        }
+        if (changes != null) {
+            changes.byName.forEach((name, entry) -> {
+                if (entry == REMOVED) {
+                    children.remove(name);
+                } else {
+                    children.put(name, entry.index);
+                }
+            });
+        }
+        return children;
+    }
+
+    /**
+     * @return true if parent has mappings, or had some that were removed one by one
+     */
+    public synchronized boolean containsParent(final int transaction, @Nonnull final String context,
+                                               @Nonnull final String parent) {
+        load();
+        final Integer id = contextIds.get(context);
+        if (id == null) {
+            return false;
+        }
+        final Entries changes = changes(transaction, id, parent, false);
+        if (changes != null && (changes.cleared || !changes.byIndex.isEmpty())) {
+            return !changes.byIndex.isEmpty();
+        }
+        return entries(id, parent, false) != null;
+    }
+
+    /**
+     * @return lowest index, that is not lower than start index and is higher than all indexes of the parent. Includes
+     * indexes of the parent removed by the transaction, so they are not reused before it is committed.
+     */
+    public synchronized long nextIndex(final int transaction, @Nonnull final String context,
+                                       @Nonnull final String parent, final long startIndex) {
+        load();
+        final Integer id = contextIds.get(context);
+        if (id == null) {
+            return startIndex;
+        }
+        return Math.max(startIndex, Math.max(nextIndex(entries(id, parent, false)),
+                nextIndex(changes(transaction, id, parent, false))));
+    }
+
+    /**
+     * Stores mapping. Mappings are keyed by name, so storing existing name replaces the previous mapping.
+     */
+    public synchronized void put(final int transaction, @Nonnull final String context, @Nonnull final String parent,
+                                 @Nonnull final String name, final long index, @Nullable final String value) {
+        final int id = contextId(context);
+        if (transaction == NO_TRANSACTION) {
+            final Entries entries = entries(id, parent, false);
+            final Entry previous = entries == null
+                    ? null
+                    : entries.byName.get(name);
+            if (previous != null && previous.index == index && Objects.equals(previous.value, value)) {
+                return;
+            }
+        } else {
+            transaction(transaction);
+        }
+        appendPut(transaction, id, parent, name, index, value);
+        applyPut(transaction, id, parent, name, new Entry(index, value));
+        compactIfNeeded();
+    }
+
+    /**
+     * Removes mapping with given name, if present.
+     */
+    public synchronized void remove(final int transaction, @Nonnull final String context, @Nonnull final String parent,
+                                    @Nonnull final String name) {
+        if (find(transaction, context, parent, name) == null) {
+            return;
+        }
+        final int id = contextIds.get(context);
+        appendRemove(REMOVE, transaction, id, parent, name);
+        applyRemove(transaction, id, parent, name);
+        compactIfNeeded();
+    }
+
+    /**
+     * Removes all mappings of the parent.
+     */
+    public synchronized void removeParent(final int transaction, @Nonnull final String context,
+                                          @Nonnull final String parent) {
+        if (!containsParent(transaction, context, parent)) {
+            return;
+        }
+        final int id = contextIds.get(context);
+        appendRemove(REMOVE_PARENT, transaction, id, parent, null);
+        applyRemoveParent(transaction, id, parent);
+        compactIfNeeded();
+    }
+
+    /**
+     * Rewrites the log with committed mappings and changes of open transactions only.
+     */
+    public synchronized void compact() {
+        load();
+        final Path compacted = path.resolveSibling(path.getFileName() + ".compact");
+        final FileChannel previousChannel = channel;
+        final MappedByteBuffer previousLog = log;
+        final int previousRecords = records;
+        try {
+            Files.deleteIfExists(compacted);
+            channel = FileChannel.open(compacted, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            log = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(MIN_CAPACITY, previousLog.position()));
+            log.putInt(MAGIC);
+            records = 0;
+            // compacted log is forced just once, before it replaces the current one
+            compacting = true;
+            for (final Map.Entry<String, Integer> context : contextIds.entrySet()) {
+                appendContext(context.getValue(), context.getKey());
+                appendEntries(NO_TRANSACTION, context.getValue(), contexts.get(context.getValue()));
+            }
+            for (final Map.Entry<Integer, Transaction> transaction : transactions.entrySet()) {
+                appendBegin(transaction.getKey(), transaction.getValue().marker);
+                transaction.getValue().changes.forEach(
+                        (contextId, changes) -> appendEntries(transaction.getKey(), contextId, changes));
+            }
+            log.force();
+            // mapping stays valid after the move, so the compacted log can be appended right away
+            Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            if (channel != previousChannel) {
+                closeQuietly(channel);
+            }
+            channel = previousChannel;
+            log = previousLog;
+            records = previousRecords;
+            throw new IllegalStateException("Unable to compact context store " + path, e);
+        } finally {
+            compacting = false;
+        }
+        closeQuietly(previousChannel);
+        LOG.debug("Context store {} compacted to {} records", path, records);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            log.force();
+            channel.close();
+            channel = null;
+            log = null;
+            // state is read again from the log, if the store is used after close
+            contextIds.clear();
+            contexts.clear();
+            transactions.clear();
+            records = 0;
+            liveRecords = 0;
+        }
+    }
+
+    private Transaction transaction(final int transaction) {
+        load();
+        final Transaction changes = transactions.get(transaction);
+        checkArgument(changes != null, "Transaction %s is not open", transaction);
+        return changes;
+    }
+
+    private int contextId(final String context) {
+        load();
+        final Integer id = contextIds.get(context);
+        if (id != null) {
+            return id;
+        }
+        final int newId = contextIds.size();
+        appendContext(newId, context);
+        applyContext(newId, context);
+        return newId;
+    }
+
+    private Entry find(final int transaction, final String context, final String parent, final String name) {
+        load();
+        final Integer id = contextIds.get(context);
+        if (id == null) {
+            return null;
+        }
+        final Entries changes = changes(transaction, id, parent, false);
+        if (changes != null) {
+            final Entry change = changes.byName.get(name);
+            if (change != null) {
+                return change == REMOVED
+                        ? null
+                        : change;
+            }
+            if (changes.cleared) {
+                return null;
+            }
+        }
+        final Entries entries = entries(id, parent, false);
+        return entries == null
+                ? null
+                : entries.byName.get(name);
+    }
+
+    private Entries entries(final int contextId, final String parent, final boolean create) {
+        final Map<String, Entries> parents = contexts.get(contextId);
+        return create
+                ? parents.computeIfAbsent(parent, key -> new Entries())
+                : parents.get(parent);
+    }
+
+    private Entries changes(final int transaction, final int contextId, final String parent, final boolean create) {
+        if (transaction == NO_TRANSACTION) {
+            return null;
+        }
+        final Transaction changes = transactions.get(transaction);
+        if (changes == null) {
+            // transaction was already committed or aborted, reads see committed mappings only
+            checkState(!create, "Transaction %s is not open", transaction);
+            return null;
+        }
+        final Map<String, Entries> parents = create
+                ? changes.changes.computeIfAbsent(contextId, id -> new HashMap<>())
+                : changes.changes.get(contextId);
+        if (parents == null) {
+            return null;
+        }
+        return create
+                ? parents.computeIfAbsent(parent, key -> new Entries())
+                : parents.get(parent);
+    }
+
+    private static long nextIndex(final Entries entries) {
+        return entries == null || entries.byIndex.isEmpty()
+                ? Long.MIN_VALUE
+                : entries.byIndex.lastKey() + 1;
+    }
+
+    private void applyContext(final int id, final String context) {
+        contextIds.put(context, id);
+        contexts.put(id, new HashMap<>());
+        liveRecords++;
+    }
+
+    private void applyPut(final int transaction, final int contextId, final String parent, final String name,
+                          final Entry entry) {
+        if (transaction != NO_TRANSACTION) {
+            changes(transaction, contextId, parent, true).put(name, entry);
+        } else if (entries(contextId, parent, true).put(name, entry) == null) {
+            liveRecords++;
+        }
+    }
+
+    private void applyRemove(final int transaction, final int contextId, final String parent, final String name) {
+        if (transaction != NO_TRANSACTION) {
+            changes(transaction, contextId, parent, true).put(name, REMOVED);
+            return;
+        }
+        final Entries entries = entries(contextId, parent, false);
+        if (entries != null && entries.remove(name) != null) {
+            liveRecords--;
+        }
+    }
+
+    private void applyRemoveParent(final int transaction, final int contextId, final String parent) {
+        if (transaction != NO_TRANSACTION) {
+            final Entries changes = changes(transaction, contextId, parent, true);
+            changes.byName.clear();
+            changes.byIndex.clear();
+            changes.cleared = true;
+            return;
+        }
+        final Entries entries = contexts.get(contextId).remove(parent);
+        if (entries != null) {
+            liveRecords -= entries.byName.size();
+        }
+    }
+
+    private void applyCommit(final int transaction, final Transaction changes) {
+        transactions.remove(transaction);
+        changes.changes.forEach((contextId, parents) -> parents.forEach((parent, entries) -> {
+            if (entries.cleared) {
+                applyRemoveParent(NO_TRANSACTION, contextId, parent);
+            }
+            entries.byName.forEach((name, entry) -> {
+                if (entry == REMOVED) {
+                    applyRemove(NO_TRANSACTION, contextId, parent, name);
+                } else {
+                    applyPut(NO_TRANSACTION, contextId, parent, name, entry);
+                }
+            });
+        }));
+    }
+
+    private void load() {
+        if (channel != null) {
+            return;
+        }
+        try {
+            open();
+            if (log.getInt() != MAGIC) {
+                if (!isEmpty()) {
+                    final Path corrupted = path.resolveSibling(path.getFileName() + ".corrupted");
+                    LOG.warn("Context store {} has no valid header, moving it to {}", path, corrupted);
+                    closeQuietly(channel);
+                    Files.move(path, corrupted, StandardCopyOption.REPLACE_EXISTING);
+                    open();
+                }
+                log.putInt(0, MAGIC);
+                log.force();
+                log.position(Integer.BYTES);
+                return;
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to open context store " + path, e);
+        }
+        byte type;
+        while (log.remaining() > 0 && (type = log.get()) != END) {
+            records++;
+            if (type == CONTEXT) {
+                final int id = log.getInt();
+                applyContext(id, getString());
+                continue;
+            }
+            final int transaction = log.getInt();
+            if (transaction != NO_TRANSACTION) {
+                nextTransaction = Math.max(nextTransaction, transaction + 1);
+            }
+            if (type == BEGIN) {
+                transactions.put(transaction, new Transaction(getString()));
+                continue;
+            }
+            if (type == COMMIT || type == ABORT) {
+                final Transaction changes = transactions.get(transaction);
+                checkState(changes != null, "Context store %s is corrupted, unknown transaction %s", path,
+                        transaction);
+                if (type == COMMIT) {
+                    applyCommit(transaction, changes);
+                } else {
+                    transactions.remove(transaction);
+                }
+                continue;
+            }
+            checkState(transaction == NO_TRANSACTION || transactions.containsKey(transaction),
+                    "Context store %s is corrupted, unknown transaction %s", path, transaction);
+            final int contextId = log.getInt();
+            checkState(contexts.containsKey(contextId), "Context store %s is corrupted, unknown context %s", path,
+                    contextId);
+            final String parent = getString();
+            if (type == PUT) {
+                final String name = getString();
+                final long index = log.getLong();
+                final String value = log.get() == 0
+                        ? null
+                        : getString();
+                applyPut(transaction, contextId, parent, name, new Entry(index, value));
+            } else if (type == REMOVE) {
+                applyRemove(transaction, contextId, parent, getString());
+            } else if (type == REMOVE_PARENT) {
+                applyRemoveParent(transaction, contextId, parent);
+            } else {
+                throw new IllegalStateException("Context store " + path + " is corrupted, unknown record " + type);
+            }
+        }
+        if (log.position() > Integer.BYTES) {
+            // position at the end marker, so next record overwrites it
+            log.position(log.position() - 1);
+        }
+        LOG.info("Context store {} loaded, {} contexts, {} mappings and {} open transactions", path, contexts.size(),
+                liveRecords - contexts.size(), transactions.size());
+    }
+
+    private void open() throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        log = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(MIN_CAPACITY, channel.size()));
+    }
+
+    private boolean isEmpty() {
+        for (int i = 0; i < log.capacity(); i++) {
+            if (log.get(i) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void appendContext(final int id, final String context) {
+        final byte[] contextBytes = encode(context);
+        final ByteBuffer body = ByteBuffer.allocate(4 + size(contextBytes));
+        body.putInt(id);
+        putString(body, contextBytes);
+        append(CONTEXT, body);
+    }
+
+    private void appendBegin(final int transaction, final String marker) {
+        final byte[] markerBytes = encode(marker);
+        final ByteBuffer body = ByteBuffer.allocate(4 + size(markerBytes));
+        body.putInt(transaction);
+        putString(body, markerBytes);
+        append(BEGIN, body);
+    }
+
+    private void appendEnd(final byte type, final int transaction) {
+        final ByteBuffer body = ByteBuffer.allocate(4);
+        body.putInt(transaction);
+        append(type, body);
+    }
+
+    private void appendPut(final int transaction, final int contextId, final String parent, final String name,
+                           final long index, final String value) {
+        final byte[] parentBytes = encode(parent);
+        final byte[] nameBytes = encode(name);
+        final byte[] valueBytes = value == null
+                ? null
+                : encode(value);
+        final ByteBuffer body = ByteBuffer.allocate(4 + 4 + size(parentBytes) + size(nameBytes) + 8 + 1
+                + (valueBytes == null ? 0 : size(valueBytes)));
+        body.putInt(transaction);
+        body.putInt(contextId);
+        putString(body, parentBytes);
+        putString(body, nameBytes);
+        body.putLong(index);
+        if (valueBytes == null) {
+            body.put((byte) 0);
+        } else {
+            body.put((byte) 1);
+            putString(body, valueBytes);
+        }
+        append(PUT, body);
+    }
+
+    /**
+     * Appends removal of a mapping, or of all mappings of the parent if name is null.
+     */
+    private void appendRemove(final byte type, final int transaction, final int contextId, final String parent,
+                              final String name) {
+        final byte[] parentBytes = encode(parent);
+        final byte[] nameBytes = name == null
+                ? null
+                : encode(name);
+        final ByteBuffer body = ByteBuffer.allocate(4 + 4 + size(parentBytes)
+                + (nameBytes == null ? 0 : size(nameBytes)));
+        body.putInt(transaction);
+        body.putInt(contextId);
+        putString(body, parentBytes);
+        if (nameBytes != null) {
+            putString(body, nameBytes);
+        }
+        append(type, body);
+    }
+
+    private void appendEntries(final int transaction, final int contextId, final Map<String, Entries> parents) {
+        parents.forEach((parent, entries) -> {
+            if (entries.cleared) {
+                appendRemove(REMOVE_PARENT, transaction, contextId, parent, null);
+            }
+            entries.byName.forEach((name, entry) -> {
+                if (entry == REMOVED) {
+                    appendRemove(REMOVE, transaction, contextId, parent, name);
+                } else {
+                    appendPut(transaction, contextId, parent, name, entry.index, entry.value);
+                }
+            });
+        });
+    }
+
+    private void append(final byte type, final ByteBuffer body) {
+        body.flip();
+        final int size = 1 + body.remaining();
+        final int position = reserve(size);
+        log.position(position + 1);
+        log.put(body);
+        log.put(END);
+        if (!compacting) {
+            log.force();
+        }
+        log.put(position, type);
+        if (!compacting) {
+            log.force();
+        }
+        log.position(position + size);
+        records++;
+    }
+
+    /**
+     * Makes sure record of given size fits to the log, followed by end marker.
+     *
+     * @return position of the record
+     */
+    private int reserve(final int size) {
+        if (log.remaining() <= size) {
+            final int position = log.position();
+            final long capacity = Math.max((long) log.capacity() * 2, (long) position + size + 1);
+            checkState(capacity <= Integer.MAX_VALUE, "Context store %s is full", path);
+            try {
+                log = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            } catch (IOException e) {
+                throw new IllegalStateException("Unable to extend context store " + path, e);
+            }
+            log.position(position);
+        }
+        return log.position();
+    }
+
+    private void compactIfNeeded() {
+        if (records >= compactionThreshold && records > 2 * liveRecords) {
+            compact();
+        }
+    }
+
+    private String getString() {
+        final byte[] string = new byte[log.getShort() & 0xffff];
+        log.get(string);
+        return new String(string, StandardCharsets.UTF_8);
+    }
+
+    private static void putString(final ByteBuffer body, final byte[] string) {
+        body.putShort((short) string.length);
+        body.put(string);
+    }
+
+    private static int size(final byte[] string) {
+        return 2 + string.length;
+    }
+
+    private static void closeQuietly(final FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LOG.warn("Unable to close context store file", e);
+        }
+    }
+
+    private static byte[] encode(final String string) {
+        final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        checkArgument(bytes.length <= MAX_STRING_LENGTH, "String too long: %s", string);
+        return bytes;
+    }
+
+    private static final class Entry {
+        private final long index;
+        private final String value;
+
+        private Entry(final long index, final String value) {
+            this.index = index;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Mappings of single parent, or changes of them made by a transaction.
+     */
+    private static final class Entries {
+        private final Map<String, Entry> byName = new HashMap<>();
+        private final TreeMap<Long, String> byIndex = new TreeMap<>();
+        // committed mappings of the parent were removed by the transaction
+        private boolean cleared;
+
+        /**
+         * @return previous entry of the name, or null if there was none
+         */
+        private Entry put(final String name, final Entry entry) {
+            final Entry previous = byName.put(name, entry);
+            if (previous != null && previous != REMOVED) {
+                byIndex.remove(previous.index, name);
+            }
+            if (entry != REMOVED) {
+                byIndex.put(entry.index, name);
+            }
+            return previous;
+        }
+
+        private Entry remove(final String name) {
+            final Entry previous = byName.remove(name);
+            if (previous != null) {
+                byIndex.remove(previous.index, name);
+            }
+            return previous;
+        }
+    }
+
+    private static final class Transaction {
+        private final String marker;
+        private final Map<Integer, Map<String, Entries>> changes = new HashMap<>();
+
+        private Transaction(final String marker) {
+            this.marker = marker;
+        }
+    }
+}
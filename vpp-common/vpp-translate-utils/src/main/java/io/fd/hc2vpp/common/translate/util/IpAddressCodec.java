@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Parsers and formatters of IPv4/IPv6 addresses working directly on characters and primitive values. Unlike
+ * {@link String#split} or {@link com.google.common.net.InetAddresses} based conversions, no intermediate strings,
+ * arrays or {@link java.net.InetAddress} instances are created.
+ *
+ * <p>IPv4 addresses are represented as int, IPv6 addresses as pair of longs (high and low 64 bits), both in network
+ * byte order.
+ */
+public final class IpAddressCodec {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final int IPV4_LENGTH = 4;
+    private static final int IPV6_LENGTH = 16;
+    private static final int IPV6_GROUPS = 8;
+    private static final int IPV4_MAX_STRING_LENGTH = 15;
+    private static final int IPV6_MAX_STRING_LENGTH = 39;
+
+    private IpAddressCodec() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Parses IPv4 address in dotted decimal format.
+     *
+     * @throws IllegalArgumentException if value is not valid IPv4 address
+     */
+    public static int parseIpv4(@Nonnull final CharSequence value) {
+        return parseIpv4(value, 0, value.length());
+    }
+
+    /**
+     * Parses IPv4 address in dotted decimal format from part of the value.
+     *
+     * @param from index of first character of the address
+     * @param to   index after last character of the address
+     * @throws IllegalArgumentException if value is not valid IPv4 address
+     */
+    public static int parseIpv4(@Nonnull final CharSequence value, final int from, final int to) {
+        int address = 0;
+        int octets = 0;
+        int i = from;
+        while (i < to) {
+            final int start = i;
+            int octet = 0;
+            while (i < to && value.charAt(i) != '.') {
+                final int digit = value.charAt(i) - '0';
+                checkArgument(digit >= 0 && digit <= 9 && i - start < 3, "Invalid IPv4 address: %s", value);
+                octet = octet * 10 + digit;
+                i++;
+            }
+            checkArgument(i > start && octet <= 0xff && octets < IPV4_LENGTH, "Invalid IPv4 address: %s", value);
+            address = address << 8 | octet;
+            octets++;
+            if (i < to) {
+                // skip dot, address cannot end with it
+                i++;
+                checkArgument(i < to, "Invalid IPv4 address: %s", value);
+            }
+        }
+        checkArgument(octets == IPV4_LENGTH, "Invalid IPv4 address: %s", value);
+        return address;
+    }
+
+    /**
+     * Parses IPv6 address in any of RFC 4291 text formats (including compressed zeros and embedded IPv4 address) into
+     * 16 bytes of target array.
+     *
+     * @param from   index of first character of the address
+     * @param to     index after last character of the address
+     * @param target array, where address bytes are written
+     * @param offset index of first written byte
+     * @throws IllegalArgumentException if value is not valid IPv6 address
+     */
+    public static void parseIpv6(@Nonnull final CharSequence value, final int from, final int to,
+                                 @Nonnull final byte[] target, final int offset) {
+        checkArgument(to - from >= 2, "Invalid IPv6 address: %s", value);
+        int groups = 0;
+        int compressedAt = -1;
+        int i = from;
+        if (value.charAt(i) == ':') {
+            checkArgument(value.charAt(i + 1) == ':', "Invalid IPv6 address: %s", value);
+            compressedAt = 0;
+            i += 2;
+        }
+        while (i < to) {
+            final int start = i;
+            int group = 0;
+            while (i < to && i - start <= 4) {
+                final int digit = Character.digit(value.charAt(i), 16);
+                if (digit < 0) {
+                    break;
+                }
+                group = group << 4 | digit;
+                i++;
+            }
+            if (i < to && value.charAt(i) == '.') {
+                // embedded IPv4 address takes last two groups
+                checkArgument(groups <= IPV6_GROUPS - 2, "Invalid IPv6 address: %s", value);
+                final int ipv4 = parseIpv4(value, start, to);
+                writeGroup(target, offset, groups++, ipv4 >>> 16);
+                writeGroup(target, offset, groups++, ipv4);
+                i = to;
+                break;
+            }
+            checkArgument(i > start && i - start <= 4 && groups < IPV6_GROUPS, "Invalid IPv6 address: %s", value);
+            writeGroup(target, offset, groups++, group);
+            if (i == to) {
+                break;
+            }
+            // skip colon, address cannot end with single one
+            checkArgument(value.charAt(i) == ':' && i + 1 < to, "Invalid IPv6 address: %s", value);
+            i++;
+            if (value.charAt(i) == ':') {
+                checkArgument(compressedAt < 0, "Invalid IPv6 address: %s", value);
+                compressedAt = groups;
+                i++;
+            }
+        }
+
+        if (compressedAt < 0) {
+            checkArgument(groups == IPV6_GROUPS, "Invalid IPv6 address: %s", value);
+            return;
+        }
+        checkArgument(groups < IPV6_GROUPS, "Invalid IPv6 address: %s", value);
+        // move groups following :: to the end and fill the gap with zeros
+        final int shift = IPV6_GROUPS - groups;
+        for (int group = groups - 1; group >= compressedAt; group--) {
+            target[offset + 2 * (group + shift)] = target[offset + 2 * group];
+            target[offset + 2 * (group + shift) + 1] = target[offset + 2 * group + 1];
+        }
+        for (int group = compressedAt; group < compressedAt + shift; group++) {
+            writeGroup(target, offset, group, 0);
+        }
+    }
+
+    /**
+     * @return index of prefix length separator in IP prefix
+     * @throws IllegalArgumentException if value does not contain the separator
+     */
+    public static int prefixSeparator(@Nonnull final CharSequence prefix) {
+        for (int i = 0; i < prefix.length(); i++) {
+            if (prefix.charAt(i) == '/') {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Invalid IP prefix: " + prefix);
+    }
+
+    /**
+     * @return prefix length of IP prefix
+     * @throws IllegalArgumentException if value is not valid IP prefix
+     */
+    public static int prefixLength(@Nonnull final CharSequence prefix) {
+        final int separator = prefixSeparator(prefix);
+        checkArgument(separator + 1 < prefix.length() && prefix.length() - separator <= 4, "Invalid IP prefix: %s",
+                prefix);
+        int length = 0;
+        for (int i = separator + 1; i < prefix.length(); i++) {
+            final int digit = prefix.charAt(i) - '0';
+            checkArgument(digit >= 0 && digit <= 9, "Invalid IP prefix: %s", prefix);
+            length = length * 10 + digit;
+        }
+        return length;
+    }
+
+    /**
+     * @return IPv4 address stored in first 4 bytes of the array
+     */
+    public static int toInt(@Nonnull final byte[] address) {
+        checkArgument(address.length >= IPV4_LENGTH, "Invalid IPv4 address length: %s", address.length);
+        return (address[0] & 0xff) << 24 | (address[1] & 0xff) << 16 | (address[2] & 0xff) << 8 | address[3] & 0xff;
+    }
+
+    /**
+     * @return 64 bits of IPv6 address stored in the array, starting at offset
+     */
+    public static long toLong(@Nonnull final byte[] address, final int offset) {
+        checkArgument(address.length >= offset + 8, "Invalid IPv6 address length: %s", address.length);
+        long value = 0;
+        for (int i = offset; i < offset + 8; i++) {
+            value = value << 8 | address[i] & 0xff;
+        }
+        return value;
+    }
+
+    /**
+     * @return 4 byte array with IPv4 address
+     */
+    @Nonnull
+    public static byte[] toArray(final int address) {
+        return new byte[] {(byte) (address >>> 24), (byte) (address >>> 16), (byte) (address >>> 8), (byte) address};
+    }
+
+    /**
+     * Formats IPv4 address in dotted decimal format.
+     */
+    @Nonnull
+    public static String formatIpv4(final int address) {
+        final char[] chars = new char[IPV4_MAX_STRING_LENGTH];
+        int length = 0;
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            final int octet = address >>> shift & 0xff;
+            if (octet >= 100) {
+                chars[length++] = (char) ('0' + octet / 100);
+            }
+            if (octet >= 10) {
+                chars[length++] = (char) ('0' + octet / 10 % 10);
+            }
+            chars[length++] = (char) ('0' + octet % 10);
+            if (shift > 0) {
+                chars[length++] = '.';
+            }
+        }
+        return new String(chars, 0, length);
+    }
+
+    /**
+     * Formats IPv6 address in RFC 5952 canonical format: lower case hex digits without leading zeros, with longest run
+     * (the first one if there are more) of at least two zero groups compressed. Embedded IPv4 format is never used.
+     *
+     * @param high first 64 bits of the address
+     * @param low  last 64 bits of the address
+     */
+    @Nonnull
+    public static String formatIpv6(final long high, final long low) {
+        // find longest run of zero groups
+        int bestStart = -1;
+        int bestLength = 0;
+        int runStart = -1;
+        for (int group = 0; group < IPV6_GROUPS; group++) {
+            if (group(high, low, group) == 0) {
+                if (runStart < 0) {
+                    runStart = group;
+                }
+                if (group - runStart + 1 > bestLength) {
+                    bestStart = runStart;
+                    bestLength = group - runStart + 1;
+                }
+            } else {
+                runStart = -1;
+            }
+        }
+        if (bestLength < 2) {
+            bestStart = -1;
+        }
+
+        final char[] chars = new char[IPV6_MAX_STRING_LENGTH];
+        int length = 0;
+        for (int group = 0; group < IPV6_GROUPS; group++) {
+            if (group == bestStart) {
+                chars[length++] = ':';
+                if (group == 0) {
+                    chars[length++] = ':';
+                }
+                group += bestLength - 1;
+                continue;
+            }
+            final int value = group(high, low, group);
+            boolean leading = true;
+            for (int shift = 12; shift >= 0; shift -= 4) {
+                final int digit = value >>> shift & 0xf;
+                if (digit != 0 || !leading || shift == 0) {
+                    chars[length++] = HEX_DIGITS[digit];
+                    leading = false;
+                }
+            }
+            if (group < IPV6_GROUPS - 1) {
+                chars[length++] = ':';
+            }
+        }
+        return new String(chars, 0, length);
+    }
+
+    /**
+     * Formats IPv6 address stored in the array in RFC 5952 canonical format.
+     *
+     * @see #formatIpv6(long, long)
+     */
+    @Nonnull
+    public static String formatIpv6(@Nonnull final byte[] address) {
+        checkArgument(address.length == IPV6_LENGTH, "Invalid IPv6 address length: %s", address.length);
+        return formatIpv6(toLong(address, 0), toLong(address, 8));
+    }
+
+    private static int group(final long high, final long low, final int group) {
+        return (int) ((group < 4 ? high : low) >>> (48 - 16 * (group & 3))) & 0xffff;
+    }
+
+    private static void writeGroup(final byte[] target, final int offset, final int group, final int value) {
+        target[offset + 2 * group] = (byte) (value >>> 8);
+        target[offset + 2 * group + 1] = (byte) value;
+    }
+}
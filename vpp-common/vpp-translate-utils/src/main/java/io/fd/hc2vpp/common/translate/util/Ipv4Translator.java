@@ -17,6 +17,10 @@
 package io.fd.hc2vpp.common.translate.util;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static io.fd.hc2vpp.common.translate.util.IpAddressCodec.parseIpv4;
+import static io.fd.hc2vpp.common.translate.util.IpAddressCodec.prefixLength;
+import static io.fd.hc2vpp.common.translate.util.IpAddressCodec.prefixSeparator;
+import static io.fd.hc2vpp.common.translate.util.IpAddressCodec.toArray;
 
 import java.util.Arrays;
 import javax.annotation.Nonnull;
@@ -41,13 +45,8 @@ public interface Ipv4Translator extends ByteDataTranslator {
     default byte[] ipv4AddressPrefixToArray(@Nonnull final Ipv4Prefix ipv4Prefix) {
         checkNotNull(ipv4Prefix, "Cannot convert null prefix");
 
-        byte[] retval = new byte[4];
-        String[] address = ipv4Prefix.getValue().substring(0, ipv4Prefix.getValue().indexOf('/')).split("\\.");
-
-        for (int d = 0; d < 4; d++) {
-            retval[d] = (byte) (Short.parseShort(address[d]) & 0xff);
-        }
-        return retval;
+        final String value = ipv4Prefix.getValue();
+        return toArray(parseIpv4(value, 0, prefixSeparator(value)));
     }
 
     /**
@@ -55,7 +54,7 @@ public interface Ipv4Translator extends ByteDataTranslator {
      */
     default byte extractPrefix(Ipv4Prefix data) {
         checkNotNull(data, "Cannot extract from null");
-        return Byte.valueOf(data.getValue().substring(data.getValue().indexOf('/') + 1));
+        return (byte) prefixLength(data.getValue());
     }
 
     /**
@@ -84,13 +83,7 @@ public interface Ipv4Translator extends ByteDataTranslator {
     }
 
     default byte[] ipv4AddressNoZoneToArray(final String ipv4Addr) {
-        byte[] retval = new byte[4];
-        String[] dots = ipv4Addr.split("\\.");
-
-        for (int d = 0; d < 4; d++) {
-            retval[d] = (byte) (Short.parseShort(dots[d]) & 0xff);
-        }
-        return retval;
+        return toArray(parseIpv4(ipv4Addr));
     }
 
     default Ipv4Prefix toIpv4Prefix(final byte[] address, final int prefix) {
@@ -19,8 +19,10 @@ package io.fd.hc2vpp.common.translate.util;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
+import static io.fd.hc2vpp.common.translate.util.IpAddressCodec.parseIpv6;
+import static io.fd.hc2vpp.common.translate.util.IpAddressCodec.prefixLength;
+import static io.fd.hc2vpp.common.translate.util.IpAddressCodec.prefixSeparator;
 
-import com.google.common.net.InetAddresses;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IetfInetUtil;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
@@ -41,7 +43,10 @@ public interface Ipv6Translator extends ByteDataTranslator {
      * @return byte array with address bytes
      */
     default byte[] ipv6AddressNoZoneToArray(@Nonnull final Ipv6Address address) {
-        return InetAddresses.forString(address.getValue()).getAddress();
+        final String value = address.getValue();
+        final byte[] result = new byte[16];
+        parseIpv6(value, 0, value.length(), result, 0);
+        return result;
     }
 
     /**
@@ -50,8 +55,10 @@ public interface Ipv6Translator extends ByteDataTranslator {
     default byte[] ipv6AddressPrefixToArray(@Nonnull final Ipv6Prefix ipv6Prefix) {
         checkNotNull(ipv6Prefix, "Cannot convert null prefix");
 
-        return ipv6AddressNoZoneToArray(new Ipv6AddressNoZone(
-                new Ipv6Address(ipv6Prefix.getValue().substring(0, ipv6Prefix.getValue().indexOf('/')))));
+        final String value = ipv6Prefix.getValue();
+        final byte[] result = new byte[16];
+        parseIpv6(value, 0, prefixSeparator(value), result, 0);
+        return result;
     }
 
     /**
@@ -60,13 +67,13 @@ public interface Ipv6Translator extends ByteDataTranslator {
     default byte extractPrefix(Ipv6Prefix data) {
         checkNotNull(data, "Cannot extract from null");
 
-        return Byte.valueOf(data.getValue().substring(data.getValue().indexOf('/') + 1));
+        return (byte) prefixLength(data.getValue());
     }
 
     /**
      * Converts byte array to {@link Ipv6Prefix} with specified prefixLength
      */
-    default Ipv6Prefix toIpv6Prefix(final byte[] address, int prefix) {
+    default Ipv6Prefix toIpv6Prefix(final byte[] address, final int prefix) {
         return IetfInetUtil.INSTANCE.ipv6PrefixFor(address, prefix);
     }
 
@@ -77,7 +84,7 @@ public interface Ipv6Translator extends ByteDataTranslator {
      * change in order.
      */
     @Nonnull
-    default Ipv6AddressNoZone arrayToIpv6AddressNoZone(@Nonnull byte[] ip) {
+    default Ipv6AddressNoZone arrayToIpv6AddressNoZone(@Nonnull final byte[] ip) {
         checkArgument(ip.length == 16, "Illegal array length");
         return new Ipv6AddressNoZone(IetfInetUtil.INSTANCE.ipv6AddressFor(ip));
     }
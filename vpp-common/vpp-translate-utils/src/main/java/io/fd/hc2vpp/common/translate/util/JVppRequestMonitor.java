@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.common.translate.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records requests sent through JVpp future facade of single plugin to {@link JVppRequestStats.PluginStats}.
+ * Optionally limits number of dumps waiting for reply, so that long dumps (e.g. of large FIBs) do not fill the shared
+ * connection and delay short requests.
+ *
+ * <p>Intended to be called from {@code send} methods of the facade, which all requests of the plugin go through:
+ * <pre>
+ * new FutureJVppCoreFacade(registry, jvpp) {
+ *     public &lt;REQ extends JVppRequest, REPLY extends JVppReply&lt;REQ&gt;&gt; CompletionStage&lt;REPLY&gt; send(REQ req) {
+ *         return monitor.send(() -&gt; super.send(req));
+ *     }
+ *     ...
+ * }
+ * </pre>
+ */
+@ThreadSafe
+public final class JVppRequestMonitor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JVppRequestMonitor.class);
+
+    private final JVppRequestStats.PluginStats stats;
+    private final Semaphore dumpPermits;
+    private final long dumpPermitTimeoutMillis;
+
+    JVppRequestMonitor(@Nonnull final JVppRequestStats.PluginStats stats, final int maxConcurrentDumps,
+                       final long dumpPermitTimeoutMillis) {
+        this.stats = stats;
+        this.dumpPermits = maxConcurrentDumps == 0
+                ? null
+                : new Semaphore(maxConcurrentDumps, true);
+        this.dumpPermitTimeoutMillis = dumpPermitTimeoutMillis;
+    }
+
+    @Nonnull
+    JVppRequestStats.PluginStats getStats() {
+        return stats;
+    }
+
+    /**
+     * Sends request, which is not a dump.
+     *
+     * @param request sends the request
+     * @return reply of the request
+     */
+    @Nonnull
+    public <R> CompletionStage<R> send(@Nonnull final Supplier<CompletionStage<R>> request) {
+        return send(request, null);
+    }
+
+    /**
+     * Sends dump, once number of dumps waiting for reply drops below the limit. Dump fails, if it is not admitted within
+     * timeout.
+     *
+     * @param request sends the dump
+     * @return reply of the dump
+     */
+    @Nonnull
+    public <R> CompletionStage<R> sendDump(@Nonnull final Supplier<CompletionStage<R>> request) {
+        if (dumpPermits == null) {
+            return send(request, null);
+        }
+        final boolean admitted;
+        try {
+            admitted = dumpPermits.tryAcquire(dumpPermitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return failed(new IllegalStateException("Interrupted while waiting for dump to be admitted", e));
+        }
+        if (!admitted) {
+            stats.dumpRejected();
+            LOG.warn("Too many dumps in progress, {} not sent", stats.getPlugin());
+            return failed(new IllegalStateException("Too many dumps in progress, dump not sent"));
+        }
+        return send(request, dumpPermits);
+    }
+
+    private <R> CompletionStage<R> send(final Supplier<CompletionStage<R>> request,
+                                        @Nullable final Semaphore permits) {
+        final CompletionStage<R> reply;
+        try {
+            stats.requestSent();
+            reply = request.get();
+        } catch (RuntimeException e) {
+            requestDone(permits, true);
+            throw e;
+        }
+        reply.whenComplete((result, failure) -> requestDone(permits, failure != null));
+        return reply;
+    }
+
+    private void requestDone(@Nullable final Semaphore permits, final boolean failed) {
+        stats.replyReceived(failed);
+        if (permits != null) {
+            permits.release();
+        }
+    }
+
+    private static <R> CompletionStage<R> failed(final Exception e) {
+        final CompletableFuture<R> future = new CompletableFuture<>();
+        future.completeExceptionally(e);
+        return future;
+    }
+
+    @Override
+    public String toString() {
+        return stats.toString();
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Statistics of requests sent over JVpp connection, per JVpp plugin. Queue depth is number of requests sent to VPP
+ * that were not replied yet.
+ *
+ * <p>Statistics of each plugin are exposed over JMX as {@code io.fd.hc2vpp:type=JVppRequestStats,plugin=<plugin>}.
+ */
+@ThreadSafe
+public final class JVppRequestStats {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JVppRequestStats.class);
+    private static final String OBJECT_NAME = "io.fd.hc2vpp:type=JVppRequestStats,plugin=";
+
+    private final int maxConcurrentDumps;
+    private final long dumpPermitTimeoutMillis;
+    private final Map<String, JVppRequestMonitor> monitors = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxConcurrentDumps      maximum number of dumps of single plugin waiting for reply, 0 means unlimited
+     * @param dumpPermitTimeoutMillis how long to wait for dump to be admitted
+     */
+    public JVppRequestStats(@Nonnegative final int maxConcurrentDumps, @Nonnegative final long dumpPermitTimeoutMillis) {
+        checkArgument(maxConcurrentDumps >= 0, "Max concurrent dumps cannot be negative, but was %s",
+                maxConcurrentDumps);
+        this.maxConcurrentDumps = maxConcurrentDumps;
+        this.dumpPermitTimeoutMillis = dumpPermitTimeoutMillis;
+    }
+
+    /**
+     * @return monitor of requests sent by plugin, created if not present
+     */
+    @Nonnull
+    public JVppRequestMonitor getMonitor(@Nonnull final String plugin) {
+        return monitors.computeIfAbsent(plugin, this::createMonitor);
+    }
+
+    /**
+     * @return statistics of plugin, created if not present
+     */
+    @Nonnull
+    public PluginStats getPluginStats(@Nonnull final String plugin) {
+        return getMonitor(plugin).getStats();
+    }
+
+    private JVppRequestMonitor createMonitor(final String plugin) {
+        final PluginStats stats = new PluginStats(plugin);
+        register(stats);
+        return new JVppRequestMonitor(stats, maxConcurrentDumps, dumpPermitTimeoutMillis);
+    }
+
+    private static void register(final PluginStats stats) {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            final ObjectName name = new ObjectName(OBJECT_NAME + stats.getPlugin());
+            try {
+                server.registerMBean(stats, name);
+            } catch (InstanceAlreadyExistsException e) {
+                // statistics of previous instance (e.g. before restart of injector) are replaced
+                server.unregisterMBean(name);
+                server.registerMBean(stats, name);
+            }
+        } catch (JMException e) {
+            LOG.warn("Unable to expose request statistics of {} over JMX", stats.getPlugin(), e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "JVppRequestStats{plugins=" + monitors.values() + '}';
+    }
+
+    /**
+     * JMX view of {@link PluginStats}.
+     */
+    public interface PluginStatsMXBean {
+
+        String getPlugin();
+
+        int getQueueDepth();
+
+        int getMaxQueueDepth();
+
+        long getRequestCount();
+
+        long getFailureCount();
+
+        long getRejectedDumpCount();
+
+        long getLastReplyTimeMillis();
+    }
+
+    @ThreadSafe
+    public static final class PluginStats implements PluginStatsMXBean {
+        private final String plugin;
+        private final AtomicInteger queueDepth = new AtomicInteger();
+        private final AtomicInteger maxQueueDepth = new AtomicInteger();
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder rejectedDumps = new LongAdder();
+        private volatile long lastReplyTimeMillis;
+
+        private PluginStats(final String plugin) {
+            this.plugin = plugin;
+        }
+
+        void requestSent() {
+            requests.increment();
+            final int depth = queueDepth.incrementAndGet();
+            maxQueueDepth.accumulateAndGet(depth, Math::max);
+        }
+
+        void replyReceived(final boolean failed) {
+            queueDepth.decrementAndGet();
+            lastReplyTimeMillis = System.currentTimeMillis();
+            if (failed) {
+                failures.increment();
+            }
+        }
+
+        void dumpRejected() {
+            rejectedDumps.increment();
+        }
+
+        @Override
+        public String getPlugin() {
+            return plugin;
+        }
+
+        /**
+         * @return number of requests waiting for reply
+         */
+        @Override
+        public int getQueueDepth() {
+            return queueDepth.get();
+        }
+
+        /**
+         * @return highest number of requests that were waiting for reply at the same time
+         */
+        @Override
+        public int getMaxQueueDepth() {
+            return maxQueueDepth.get();
+        }
+
+        @Override
+        public long getRequestCount() {
+            return requests.sum();
+        }
+
+        /**
+         * @return number of requests that completed exceptionally (including timeouts)
+         */
+        @Override
+        public long getFailureCount() {
+            return failures.sum();
+        }
+
+        /**
+         * @return number of dumps not sent, because limit of concurrent dumps was reached for too long
+         */
+        @Override
+        public long getRejectedDumpCount() {
+            return rejectedDumps.sum();
+        }
+
+        /**
+         * @return {@link System#currentTimeMillis()} of last reply, 0 if nothing was replied yet
+         */
+        @Override
+        public long getLastReplyTimeMillis() {
+            return lastReplyTimeMillis;
+        }
+
+        @Override
+        public String toString() {
+            return "PluginStats{plugin=" + plugin + ", queueDepth=" + queueDepth + ", maxQueueDepth="
+                    + maxQueueDepth + ", requests=" + requests + ", failures=" + failures + ", rejectedDumps="
+                    + rejectedDumps + '}';
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.collect.ImmutableList;
+import io.fd.honeycomb.translate.write.WriteFailedException;
+import io.fd.vpp.jvpp.dto.JVppReply;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Asynchronous counterpart of {@link JvppReplyConsumer}. Keeps bounded window of jvpp requests in flight instead of
+ * waiting for each reply before sending next request.
+ *
+ * <p>Replies are consumed in submission order, using the same logic as blocking {@link JvppReplyConsumer} methods,
+ * so each failed request is reported as corresponding {@link WriteFailedException} type. Unexpected runtime failures
+ * are wrapped into the same type. Failures do not stop the pipeline, they are collected and returned by
+ * {@link #drain()}.
+ *
+ * <p>Not thread safe. Intended to be used for single batch of requests within single write operation.
+ */
+public final class JvppReplyPipeline implements JvppReplyConsumer {
+
+    private final int window;
+    private final int timeoutInSeconds;
+    private final Deque<PendingReply<?>> inFlight = new ArrayDeque<>();
+    private final List<WriteFailedException> failures = new ArrayList<>();
+
+    /**
+     * @param window maximum number of requests waiting for reply
+     */
+    public JvppReplyPipeline(@Nonnegative final int window) {
+        this(window, JvppReplyTimeoutHolder.getTimeout());
+    }
+
+    /**
+     * @param window           maximum number of requests waiting for reply
+     * @param timeoutInSeconds timeout for single reply, measured from the moment pipeline starts waiting for it
+     */
+    public JvppReplyPipeline(@Nonnegative final int window, @Nonnegative final int timeoutInSeconds) {
+        checkArgument(window > 0, "Window has to be positive, but was %s", window);
+        checkArgument(timeoutInSeconds > 0, "Timeout has to be positive, but was %s", timeoutInSeconds);
+        this.window = window;
+        this.timeoutInSeconds = timeoutInSeconds;
+    }
+
+    /**
+     * Submits request representing any write operation.
+     *
+     * @see JvppReplyConsumer#getReplyForWrite
+     */
+    public <R extends JVppReply<?>> CompletionStage<R> submitWrite(@Nonnull final Supplier<CompletionStage<R>> request,
+                                                                   @Nonnull final InstanceIdentifier<?> replyType) {
+        return submit(request, future -> getReplyForWrite(future, replyType, timeoutInSeconds),
+                e -> new WriteFailedException(replyType, e));
+    }
+
+    /**
+     * Submits request representing create operation.
+     *
+     * @see JvppReplyConsumer#getReplyForCreate
+     */
+    public <R extends JVppReply<?>> CompletionStage<R> submitCreate(@Nonnull final Supplier<CompletionStage<R>> request,
+                                                                    @Nonnull final InstanceIdentifier<?> replyType,
+                                                                    @Nonnull final DataObject data) {
+        return submit(request, future -> getReplyForCreate(future, replyType, data, timeoutInSeconds),
+                e -> new WriteFailedException.CreateFailedException(replyType, data, e));
+    }
+
+    /**
+     * Submits request representing update operation.
+     *
+     * @see JvppReplyConsumer#getReplyForUpdate
+     */
+    public <R extends JVppReply<?>> CompletionStage<R> submitUpdate(@Nonnull final Supplier<CompletionStage<R>> request,
+                                                                    @Nonnull final InstanceIdentifier<?> replyType,
+                                                                    @Nonnull final DataObject dataBefore,
+                                                                    @Nonnull final DataObject dataAfter) {
+        return submit(request,
+                future -> getReplyForUpdate(future, replyType, dataBefore, dataAfter, timeoutInSeconds),
+                e -> new WriteFailedException.UpdateFailedException(replyType, dataBefore, dataAfter, e));
+    }
+
+    /**
+     * Submits request representing delete operation.
+     *
+     * @see JvppReplyConsumer#getReplyForDelete
+     */
+    public <R extends JVppReply<?>> CompletionStage<R> submitDelete(@Nonnull final Supplier<CompletionStage<R>> request,
+                                                                    @Nonnull final InstanceIdentifier<?> replyType) {
+        return submit(request, future -> getReplyForDelete(future, replyType, timeoutInSeconds),
+                e -> new WriteFailedException.DeleteFailedException(replyType, e));
+    }
+
+    /**
+     * Waits for all requests in flight.
+     *
+     * @return failures of all requests consumed since last drain, in submission order
+     */
+    public List<WriteFailedException> drain() {
+        while (!inFlight.isEmpty()) {
+            consumeOldest();
+        }
+        final List<WriteFailedException> result = ImmutableList.copyOf(failures);
+        failures.clear();
+        return result;
+    }
+
+    /**
+     * Waits for all requests in flight.
+     *
+     * @throws WriteFailedException first failure in submission order, other failures are added as suppressed
+     */
+    public void drainOrThrow() throws WriteFailedException {
+        final List<WriteFailedException> drained = drain();
+        if (!drained.isEmpty()) {
+            final WriteFailedException first = drained.get(0);
+            drained.stream().skip(1).forEach(first::addSuppressed);
+            throw first;
+        }
+    }
+
+    /**
+     * @return number of requests waiting for reply
+     */
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    private <R extends JVppReply<?>> CompletionStage<R> submit(@Nonnull final Supplier<CompletionStage<R>> request,
+                                                               @Nonnull final ReplyMapper<R> mapper,
+                                                               @Nonnull final FailureMapper failure) {
+        while (inFlight.size() >= window) {
+            consumeOldest();
+        }
+        final CompletionStage<R> reply = request.get();
+        inFlight.addLast(new PendingReply<>(reply.toCompletableFuture(), mapper, failure));
+        return reply;
+    }
+
+    private void consumeOldest() {
+        final PendingReply<?> pending = inFlight.removeFirst();
+        try {
+            pending.consume();
+        } catch (WriteFailedException e) {
+            failures.add(e);
+        } catch (RuntimeException e) {
+            // unexpected failure of single request does not stop the pipeline either
+            failures.add(pending.failure.wrap(e));
+        }
+    }
+
+    @FunctionalInterface
+    private interface ReplyMapper<R extends JVppReply<?>> {
+        R consume(@Nonnull CompletableFuture<R> future) throws WriteFailedException;
+    }
+
+    @FunctionalInterface
+    private interface FailureMapper {
+        WriteFailedException wrap(@Nonnull RuntimeException e);
+    }
+
+    private static final class PendingReply<R extends JVppReply<?>> {
+        private final CompletableFuture<R> future;
+        private final ReplyMapper<R> mapper;
+        private final FailureMapper failure;
+
+        private PendingReply(final CompletableFuture<R> future, final ReplyMapper<R> mapper,
+                             final FailureMapper failure) {
+            this.future = future;
+            this.mapper = mapper;
+            this.failure = failure;
+        }
+
+        private void consume() throws WriteFailedException {
+            mapper.consume(future);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.fd.honeycomb.translate.write.WriteFailedException;
+import io.fd.vpp.jvpp.dto.JVppReply;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects bursts of create/delete operations and sends them to VPP through {@link JvppReplyPipeline}.
+ *
+ * <p>Batch is flushed when it reaches configured size, when linger time elapses after first operation was added
+ * to empty batch, or when the batch is closed. Create and delete of the same key within single batch cancel out
+ * and nothing is sent to VPP. Operations for the same key are sent in the order they were added.
+ *
+ * <p>Failures are reported per batch: logged and returned by {@link #flush()}. Callers of
+ * {@link #create}/{@link #delete} are not notified about failures of individual operations, so the batch is suitable
+ * only for writers, which do not propagate failures back to the data source (e.g. BGP RIB writers).
+ *
+ * <p>Flushes are serialized, but operations can be added while previous batch waits for replies. They are sent
+ * by the next flush.
+ *
+ * @param <K> type of key identifying entity modified by an operation
+ */
+public final class JvppRequestBatch<K> implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JvppRequestBatch.class);
+
+    private final String name;
+    private final int batchSize;
+    private final int window;
+    private final long lingerMillis;
+    private final Object flushLock = new Object();
+    private final ScheduledExecutorService scheduler;
+    private Map<K, Deque<Operation>> pending = new LinkedHashMap<>();
+    private ScheduledFuture<?> scheduledFlush;
+    private int pendingOperations;
+
+    /**
+     * @param name         name used when reporting batch results
+     * @param batchSize    number of operations, that triggers flush
+     * @param window       maximum number of requests waiting for reply during flush
+     * @param lingerMillis maximum time operation waits for flush
+     */
+    public JvppRequestBatch(@Nonnull final String name, @Nonnegative final int batchSize,
+                            @Nonnegative final int window, @Nonnegative final long lingerMillis) {
+        checkArgument(batchSize > 0, "Batch size has to be positive, but was %s", batchSize);
+        checkArgument(window > 0, "Window has to be positive, but was %s", window);
+        checkArgument(lingerMillis > 0, "Linger time has to be positive, but was %s", lingerMillis);
+        this.name = name;
+        this.batchSize = batchSize;
+        this.window = window;
+        this.lingerMillis = lingerMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat(name + "-batch-%d").setDaemon(true).build());
+    }
+
+    /**
+     * Adds create operation to the batch.
+     *
+     * @param key      key of created entity
+     * @param id       identifier used to report failures
+     * @param data     created data used to report failures
+     * @param requests jvpp requests to be sent for the operation, in order
+     */
+    public void create(@Nonnull final K key, @Nonnull final InstanceIdentifier<?> id,
+                       @Nonnull final DataObject data,
+                       @Nonnull final List<Supplier<CompletionStage<? extends JVppReply<?>>>> requests) {
+        if (append(key, new Operation(true, id, data, requests))) {
+            flush();
+        }
+    }
+
+    /**
+     * Adds delete operation to the batch. If create of the same key is waiting in the batch, both are dropped.
+     *
+     * @param key      key of deleted entity
+     * @param id       identifier used to report failures
+     * @param requests jvpp requests to be sent for the operation, in order
+     */
+    public void delete(@Nonnull final K key, @Nonnull final InstanceIdentifier<?> id,
+                       @Nonnull final List<Supplier<CompletionStage<? extends JVppReply<?>>>> requests) {
+        if (append(key, new Operation(false, id, null, requests))) {
+            flush();
+        }
+    }
+
+    /**
+     * Sends all pending operations to VPP and waits for replies.
+     *
+     * @return failures of flushed operations, in order they were sent
+     */
+    public List<WriteFailedException> flush() {
+        synchronized (flushLock) {
+            final Map<K, Deque<Operation>> flushedOperations;
+            final int flushed;
+            synchronized (this) {
+                if (scheduledFlush != null) {
+                    scheduledFlush.cancel(false);
+                    scheduledFlush = null;
+                }
+                flushedOperations = pending;
+                flushed = pendingOperations;
+                pending = new LinkedHashMap<>();
+                pendingOperations = 0;
+            }
+            if (flushed == 0) {
+                return Collections.emptyList();
+            }
+
+            // replies are awaited outside of the batch lock, so that writers are not blocked by the flush
+            final JvppReplyPipeline pipeline = new JvppReplyPipeline(window);
+            for (final Deque<Operation> operations : flushedOperations.values()) {
+                for (final Operation operation : operations) {
+                    operation.submit(pipeline);
+                }
+            }
+
+            final List<WriteFailedException> failures = pipeline.drain();
+            if (failures.isEmpty()) {
+                LOG.debug("{}: batch of {} operations flushed successfully", name, flushed);
+            } else {
+                LOG.warn("{}: batch of {} operations flushed, {} requests failed", name, flushed, failures.size());
+                failures.forEach(
+                        failure -> LOG.warn("{}: request for {} failed", name, failure.getFailedId(), failure));
+            }
+            return failures;
+        }
+    }
+
+    /**
+     * @return number of operations waiting for flush
+     */
+    public synchronized int size() {
+        return pendingOperations;
+    }
+
+    /**
+     * @return true if the batch is full and has to be flushed
+     */
+    private synchronized boolean append(final K key, final Operation operation) {
+        final Deque<Operation> operations = pending.get(key);
+        if (!operation.isCreate && operations != null && operations.peekLast().isCreate) {
+            LOG.trace("{}: create of {} cancelled by delete", name, key);
+            operations.removeLast();
+            pendingOperations--;
+            if (operations.isEmpty()) {
+                pending.remove(key);
+            }
+            return false;
+        }
+        pending.computeIfAbsent(key, k -> new ArrayDeque<>(2)).addLast(operation);
+        pendingOperations++;
+        if (pendingOperations >= batchSize) {
+            return true;
+        }
+        if (scheduledFlush == null) {
+            scheduledFlush = scheduler.schedule(this::flush, lingerMillis, TimeUnit.MILLISECONDS);
+        }
+        return false;
+    }
+
+    /**
+     * Flushes pending operations and stops time based flushing.
+     */
+    @Override
+    public void close() {
+        flush();
+        scheduler.shutdown();
+    }
+
+    private static final class Operation {
+        private final boolean isCreate;
+        private final InstanceIdentifier<?> id;
+        private final DataObject data;
+        private final List<Supplier<CompletionStage<? extends JVppReply<?>>>> requests;
+
+        private Operation(final boolean isCreate, @Nonnull final InstanceIdentifier<?> id,
+                          @Nullable final DataObject data,
+                          @Nonnull final List<Supplier<CompletionStage<? extends JVppReply<?>>>> requests) {
+            this.isCreate = isCreate;
+            this.id = id;
+            this.data = data;
+            this.requests = requests;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void submit(@Nonnull final JvppReplyPipeline pipeline) {
+            for (final Supplier<CompletionStage<? extends JVppReply<?>>> request : requests) {
+                final Supplier<CompletionStage<JVppReply<?>>> typedRequest = (Supplier) request;
+                if (isCreate) {
+                    pipeline.submitCreate(typedRequest, id, data);
+                } else {
+                    pipeline.submitDelete(typedRequest, id);
+                }
+            }
+        }
+    }
+}
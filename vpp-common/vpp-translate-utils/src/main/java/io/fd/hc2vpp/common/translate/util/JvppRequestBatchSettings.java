@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import java.util.function.BiConsumer;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Settings of {@link JvppRequestBatch}, batching is disabled if batch size is not positive.
+ */
+public final class JvppRequestBatchSettings {
+
+    private final int batchSize;
+    private final int window;
+    private final long lingerMillis;
+
+    /**
+     * @param batchSize    number of operations, that triggers flush, batching is disabled if not positive
+     * @param window       maximum number of requests waiting for reply during flush
+     * @param lingerMillis maximum time operation waits for flush
+     */
+    public JvppRequestBatchSettings(final int batchSize, @Nonnegative final int window,
+                                    @Nonnegative final long lingerMillis) {
+        this.batchSize = batchSize;
+        this.window = window;
+        this.lingerMillis = lingerMillis;
+    }
+
+    public boolean isEnabled() {
+        return batchSize > 0;
+    }
+
+    /**
+     * Creates batch, if batching is enabled.
+     *
+     * @param name             name of the batch
+     * @param shutdownRegistry registry of batches to be closed on shutdown, so pending operations are flushed
+     * @param <K>              type of key identifying entity modified by an operation
+     * @return new batch, or null if batching is disabled
+     */
+    @Nullable
+    public <K> JvppRequestBatch<K> createBatch(@Nonnull final String name,
+                                               @Nonnull final BiConsumer<String, AutoCloseable> shutdownRegistry) {
+        if (!isEnabled()) {
+            return null;
+        }
+        final JvppRequestBatch<K> batch = new JvppRequestBatch<>(name, batchSize, window, lingerMillis);
+        shutdownRegistry.accept(name, batch);
+        return batch;
+    }
+
+    @Override
+    public String toString() {
+        return "JvppRequestBatchSettings{batchSize=" + batchSize + ", window=" + window + ", lingerMillis="
+                + lingerMillis + '}';
+    }
+}
@@ -20,6 +20,10 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 
 import com.google.common.base.Optional;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import io.fd.hc2vpp.common.translate.util.MultiNamingContextIndex.Children;
 import io.fd.honeycomb.translate.MappingContext;
 import io.fd.honeycomb.translate.util.RWUtils;
 import java.util.Collections;
@@ -36,26 +40,98 @@ import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.multi.namin
 import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.multi.naming.context.rev160411.multi.naming.contexts.attributes.multi.naming.contexts.multi.naming.mappings.MappingKey;
 import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.multi.naming.context.rev160411.multi.naming.contexts.attributes.multi.naming.contexts.multi.naming.mappings.mapping.Value;
 import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.multi.naming.context.rev160411.multi.naming.contexts.attributes.multi.naming.contexts.multi.naming.mappings.mapping.ValueBuilder;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.multi.naming.context.rev160411.multi.naming.contexts.attributes.multi.naming.contexts.multi.naming.mappings.mapping.ValueKey;
 import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.Contexts;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
 
 /**
  * One to many context mapping
+ *
+ * <p>Indexed multi naming context keeps {@link MultiNamingContextIndex} per {@link MappingContext} instance (i.e. per
+ * transaction). Children of a parent are read once per transaction, lookups and index allocation are answered from
+ * memory and removal of a child deletes just the child instead of rewriting all children of the parent.
+ *
+ * <p>Multi naming context backed by {@link TransactionalContextStore} writes children to the context data tree as
+ * well as to the store, with the parent name as parent of the stored mappings. Lookups are served from the store.
  */
 public class MultiNamingContext {
 
     private final KeyedInstanceIdentifier<MultiNaming, MultiNamingKey>
             multiNamingContextIid;
 
+    private final String instanceName;
     private final int startIndex;
+    private final LoadingCache<MappingContext, MultiNamingContextIndex> indexes;
+    private final TransactionalContextStore store;
 
     public MultiNamingContext(@Nonnull final String instanceName, final int startIndex) {
+        this(instanceName, startIndex, false);
+    }
+
+    /**
+     * @param instanceName name of this context instance
+     * @param startIndex   lowest index of a child
+     * @param indexed      if true, lookups are served from index built once per {@link MappingContext} instead of
+     *                     scanning children of the parent on every call. All writes to this context have to go
+     *                     through this instance to keep the index consistent.
+     */
+    public MultiNamingContext(@Nonnull final String instanceName, final int startIndex, final boolean indexed) {
+        multiNamingContextIid = InstanceIdentifier.create(Contexts.class)
+                .augmentation(MultiMappingCtxAugmentation.class)
+                .child(MultiNamingContexts.class)
+                .child(MultiNaming.class, new MultiNamingKey(instanceName));
+        this.instanceName = instanceName;
+        this.startIndex = startIndex;
+        this.store = null;
+        if (indexed) {
+            // weak keys use identity comparison, so each transaction gets its own index
+            indexes = CacheBuilder.newBuilder().weakKeys()
+                    .build(new CacheLoader<MappingContext, MultiNamingContextIndex>() {
+                        @Override
+                        public MultiNamingContextIndex load(@Nonnull final MappingContext mappingContext) {
+                            return new MultiNamingContextIndex(startIndex);
+                        }
+                    });
+        } else {
+            indexes = null;
+        }
+    }
+
+    /**
+     * @param instanceName name of this context instance. Used also as context name within the store
+     * @param startIndex   lowest index of a child
+     * @param store        store serving lookups of this context. All writes to this context have to go through this
+     *                     instance to keep the store consistent.
+     */
+    public MultiNamingContext(@Nonnull final String instanceName, final int startIndex,
+                              @Nonnull final TransactionalContextStore store) {
         multiNamingContextIid = InstanceIdentifier.create(Contexts.class)
                 .augmentation(MultiMappingCtxAugmentation.class)
                 .child(MultiNamingContexts.class)
                 .child(MultiNaming.class, new MultiNamingKey(instanceName));
+        this.instanceName = instanceName;
         this.startIndex = startIndex;
+        this.store = store;
+        indexes = null;
+        store.register(instanceName, (mappingContext, mappings) -> mappingContext.read(mappingIdBase())
+                .transform(Mappings::getMapping)
+                .or(Collections.emptyList())
+                .forEach(mapping -> mapping.getValue().forEach(
+                        value -> mappings.accept(mapping.getName(), value.getName(), value.getIndex(), null))));
+    }
+
+    private boolean isIndexed() {
+        return indexes != null;
+    }
+
+    private boolean isStored() {
+        return store != null;
+    }
+
+    private Children children(final String parentName, final MappingContext mappingContext) {
+        return indexes.getUnchecked(mappingContext)
+                .children(parentName, name -> mappingContext.read(getMappingIid(name)));
     }
 
     public synchronized void addChild(@Nonnull final String parentName, final int childIndex,
@@ -63,6 +139,10 @@ public class MultiNamingContext {
                                       @Nonnull final MappingContext mappingContext) {
         checkArgument(childIndex >= startIndex, "Index cannot be lower than start index %s", startIndex);
         final KeyedInstanceIdentifier<Mapping, MappingKey> mappingIid = getMappingIid(parentName);
+        // children are loaded before the write, otherwise the written child would be loaded and added twice
+        final Children children = isIndexed()
+                ? children(parentName, mappingContext)
+                : null;
 
         //uses merge to preserve previous
         mappingContext.merge(mappingIid,
@@ -70,17 +150,44 @@ public class MultiNamingContext {
                         .setIndex(childIndex)
                         .setName(childName)
                         .build())).build());
+        if (children != null) {
+            children.add(childIndex, childName);
+        }
+        if (isStored()) {
+            store.put(instanceName, parentName, childName, childIndex, null, mappingContext);
+        }
     }
 
     public synchronized void addChild(@Nonnull final String parentName,
                                       @Nonnull final String childName,
                                       @Nonnull final MappingContext mappingContext) {
-        addChild(parentName, getNextAvailableChildIndex(parentName, mappingContext), childName, mappingContext);
+        final int childIndex;
+        if (isStored()) {
+            childIndex = (int) store.nextIndex(instanceName, parentName, startIndex, mappingContext);
+        } else if (isIndexed()) {
+            childIndex = children(parentName, mappingContext).nextIndex();
+        } else {
+            childIndex = getNextAvailableChildIndex(parentName, mappingContext);
+        }
+        addChild(parentName, childIndex, childName, mappingContext);
     }
 
     public synchronized String getChildName(@Nonnull final String parentName,
                                             @Nonnull final int childIndex,
                                             @Nonnull final MappingContext mappingContext) {
+        if (isStored()) {
+            checkState(store.containsParent(instanceName, parentName, mappingContext), "Mapping not present");
+            final String childName = store.getName(instanceName, parentName, childIndex, mappingContext);
+            checkState(childName != null, "No child with index %s for parent %s", childIndex, parentName);
+            return childName;
+        }
+        if (isIndexed()) {
+            final Children children = children(parentName, mappingContext);
+            checkState(children.isPresent(), "Mapping not present");
+            final String childName = children.getName(childIndex);
+            checkState(childName != null, "No child with index %s for parent %s", childIndex, parentName);
+            return childName;
+        }
         final Optional<Mapping> read = mappingContext.read(getMappingIid(parentName));
 
         checkState(read.isPresent(), "Mapping not present");
@@ -93,6 +200,19 @@ public class MultiNamingContext {
     public synchronized int getChildIndex(@Nonnull final String parentName,
                                           @Nonnull final String childName,
                                           @Nonnull final MappingContext mappingContext) {
+        if (isStored()) {
+            checkState(store.containsParent(instanceName, parentName, mappingContext), "Mapping not present");
+            final Long childIndex = store.getIndex(instanceName, parentName, childName, mappingContext);
+            checkState(childIndex != null, "No child with name %s for parent %s", childName, parentName);
+            return childIndex.intValue();
+        }
+        if (isIndexed()) {
+            final Children children = children(parentName, mappingContext);
+            checkState(children.isPresent(), "Mapping not present");
+            final Integer childIndex = children.getIndex(childName);
+            checkState(childIndex != null, "No child with name %s for parent %s", childName, parentName);
+            return childIndex;
+        }
         final Optional<Mapping> read = mappingContext.read(getMappingIid(parentName));
 
         checkState(read.isPresent(), "Mapping not present");
@@ -106,6 +226,21 @@ public class MultiNamingContext {
     public synchronized void removeChild(@Nonnull final String parentName,
                                          @Nonnull final String childName,
                                          @Nonnull final MappingContext mappingContext) {
+        if (isStored()) {
+            // ignore delete's for non-existing parent or child, delete just the child otherwise
+            if (store.getIndex(instanceName, parentName, childName, mappingContext) != null) {
+                mappingContext.delete(getMappingIid(parentName).child(Value.class, new ValueKey(childName)));
+                store.remove(instanceName, parentName, childName, mappingContext);
+            }
+            return;
+        }
+        if (isIndexed()) {
+            // ignore delete's for non-existing parent or child, delete just the child otherwise
+            if (children(parentName, mappingContext).remove(childName)) {
+                mappingContext.delete(getMappingIid(parentName).child(Value.class, new ValueKey(childName)));
+            }
+            return;
+        }
 
         final Optional<Mapping> read = mappingContext.read(getMappingIid(parentName));
 
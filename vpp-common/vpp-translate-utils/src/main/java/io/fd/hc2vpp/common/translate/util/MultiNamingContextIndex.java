@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import com.google.common.base.Optional;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.multi.naming.context.rev160411.multi.naming.contexts.attributes.multi.naming.contexts.multi.naming.mappings.Mapping;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.multi.naming.context.rev160411.multi.naming.contexts.attributes.multi.naming.contexts.multi.naming.mappings.mapping.Value;
+
+/**
+ * In-memory view of multi naming context bound to single {@link io.fd.honeycomb.translate.MappingContext}. Children of
+ * each parent are loaded on first access to the parent and afterwards updated by {@link MultiNamingContext} together
+ * with every write it performs. Access has to be guarded by the owning context.
+ */
+@NotThreadSafe
+final class MultiNamingContextIndex {
+
+    private final Map<String, Children> parents = new HashMap<>();
+    private final int startIndex;
+
+    MultiNamingContextIndex(final int startIndex) {
+        this.startIndex = startIndex;
+    }
+
+    /**
+     * @return children of the parent, loading them with provided function if not accessed yet
+     */
+    @Nonnull
+    Children children(@Nonnull final String parentName,
+                      @Nonnull final Function<String, Optional<Mapping>> loader) {
+        Children children = parents.get(parentName);
+        if (children == null) {
+            children = new Children(loader.apply(parentName), startIndex);
+            parents.put(parentName, children);
+        }
+        return children;
+    }
+
+    /**
+     * Children of single parent, kept in open addressing table keyed by primitive child index, with reverse lookup by
+     * name.
+     */
+    @NotThreadSafe
+    static final class Children {
+
+        private static final int FREE = Integer.MIN_VALUE;
+
+        private int[] indexes;
+        private String[] names;
+        private int size;
+        private final Map<String, Integer> nameToIndex;
+        private int nextIndex;
+        private boolean present;
+
+        Children(@Nonnull final Optional<Mapping> mapping, final int startIndex) {
+            final int expected = mapping.isPresent() && mapping.get().getValue() != null
+                    ? mapping.get().getValue().size()
+                    : 0;
+            allocate(tableSize(expected));
+            nameToIndex = new HashMap<>(expected * 2);
+            nextIndex = startIndex;
+            present = mapping.isPresent();
+            if (expected > 0) {
+                for (final Value value : mapping.get().getValue()) {
+                    add(value.getIndex(), value.getName());
+                }
+            }
+        }
+
+        /**
+         * @return true if parent mapping exists
+         */
+        boolean isPresent() {
+            return present;
+        }
+
+        @Nullable
+        String getName(final int index) {
+            final int slot = find(index);
+            return slot < 0
+                    ? null
+                    : names[slot];
+        }
+
+        @Nullable
+        Integer getIndex(@Nonnull final String name) {
+            return nameToIndex.get(name);
+        }
+
+        /**
+         * Values are keyed by name, so storing existing name with different index replaces the previous value.
+         */
+        void add(final int index, @Nonnull final String name) {
+            final Integer previousIndex = nameToIndex.put(name, index);
+            if (previousIndex != null && previousIndex != index) {
+                removeSlot(find(previousIndex));
+            }
+            if (index == FREE) {
+                // cannot be stored in the table, still reachable by name
+                return;
+            }
+            if ((size + 1) * 2 > indexes.length) {
+                resize();
+            }
+            int slot = slot(index);
+            while (indexes[slot] != FREE && indexes[slot] != index) {
+                slot = next(slot);
+            }
+            if (indexes[slot] == FREE) {
+                size++;
+            }
+            indexes[slot] = index;
+            names[slot] = name;
+            present = true;
+            if (index >= nextIndex) {
+                nextIndex = index == Integer.MAX_VALUE
+                        ? index
+                        : index + 1;
+            }
+        }
+
+        /**
+         * @return true if child was present and removed
+         */
+        boolean remove(@Nonnull final String name) {
+            final Integer index = nameToIndex.remove(name);
+            if (index == null) {
+                return false;
+            }
+            removeSlot(find(index));
+            return true;
+        }
+
+        /**
+         * @return next index higher than any index seen so far, indexes of removed children are not reused
+         */
+        int nextIndex() {
+            return nextIndex;
+        }
+
+        private int find(final int index) {
+            if (index == FREE) {
+                return -1;
+            }
+            int slot = slot(index);
+            while (indexes[slot] != FREE) {
+                if (indexes[slot] == index) {
+                    return slot;
+                }
+                slot = next(slot);
+            }
+            return -1;
+        }
+
+        private void removeSlot(final int removed) {
+            if (removed < 0) {
+                return;
+            }
+            // backward shift deletion, keeps probe sequences without tombstones
+            int gap = removed;
+            int slot = next(gap);
+            while (indexes[slot] != FREE) {
+                final int home = slot(indexes[slot]);
+                if (gap <= slot ? (home <= gap || home > slot) : (home <= gap && home > slot)) {
+                    indexes[gap] = indexes[slot];
+                    names[gap] = names[slot];
+                    gap = slot;
+                }
+                slot = next(slot);
+            }
+            indexes[gap] = FREE;
+            names[gap] = null;
+            size--;
+        }
+
+        private void resize() {
+            final int[] oldIndexes = indexes;
+            final String[] oldNames = names;
+            allocate(oldIndexes.length * 2);
+            for (int i = 0; i < oldIndexes.length; i++) {
+                if (oldIndexes[i] != FREE) {
+                    int slot = slot(oldIndexes[i]);
+                    while (indexes[slot] != FREE) {
+                        slot = next(slot);
+                    }
+                    indexes[slot] = oldIndexes[i];
+                    names[slot] = oldNames[i];
+                }
+            }
+        }
+
+        private void allocate(final int tableSize) {
+            indexes = new int[tableSize];
+            Arrays.fill(indexes, FREE);
+            names = new String[tableSize];
+        }
+
+        private int slot(final int index) {
+            // spread sequential indexes
+            return (index * 0x9E3779B9 >>> 16 ^ index) & (indexes.length - 1);
+        }
+
+        private int next(final int slot) {
+            return (slot + 1) & (indexes.length - 1);
+        }
+
+        private static int tableSize(final int expected) {
+            int tableSize = 4;
+            while (tableSize < expected * 2) {
+                tableSize <<= 1;
+            }
+            return tableSize;
+        }
+    }
+}
@@ -20,9 +20,18 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 
 import com.google.common.base.Optional;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import io.fd.honeycomb.translate.MappingContext;
 import io.fd.honeycomb.translate.util.RWUtils;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
@@ -39,14 +48,29 @@ import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
 /**
  * Utility adapter on top of {@link MappingContext} storing integer to string mappings according to naming-context yang
  * model.
+ *
+ * <p>Indexed naming context keeps {@link NamingContextIndex} per {@link MappingContext} instance (i.e. per
+ * transaction), so the backing mappings are read just once per transaction and all lookups are answered from
+ * in-memory maps without locking. Index is dropped together with its {@link MappingContext} and rebuilt for the
+ * next one, so it never outlives data it was built from.
+ *
+ * <p>Naming context backed by {@link TransactionalContextStore} writes mappings to the context data tree as well as to
+ * the store, but serves lookups from the store. Store keeps committed mappings in memory, so lookups neither read the
+ * context data tree nor build index per transaction. Changes are visible to other transactions once the
+ * transaction making them is committed.
  */
 public final class NamingContext implements AutoCloseable {
 
     private static final Collector<Mapping, ?, Mapping> SINGLE_ITEM_COLLECTOR = RWUtils.singleItemCollector();
     private static final int START_INDEX = 0;
+    // naming context has no parent, all mappings are stored under the same one
+    private static final String STORE_PARENT = "";
     private final String artificialNamePrefix;
     private final KeyedInstanceIdentifier<org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.NamingContext, NamingContextKey>
             namingContextIid;
+    private final LoadingCache<MappingContext, NamingContextIndex> indexes;
+    private final String instanceName;
+    private final TransactionalContextStore store;
 
     /**
      * Create new naming context
@@ -56,10 +80,94 @@ public final class NamingContext implements AutoCloseable {
      *                             data tree
      */
     public NamingContext(@Nonnull final String artificialNamePrefix, @Nonnull final String instanceName) {
+        this(artificialNamePrefix, instanceName, false);
+    }
+
+    /**
+     * Create new naming context
+     *
+     * @param artificialNamePrefix artificial name to be used for items without a name in VPP (or not provided)
+     * @param instanceName         name of this context instance. Will be used as list item identifier within context
+     *                             data tree
+     * @param indexed              if true, lookups are served from index built once per {@link MappingContext}
+     *                             instead of scanning all mappings on every call. All writes to this context have to
+     *                             go through this instance to keep the index consistent.
+     */
+    public NamingContext(@Nonnull final String artificialNamePrefix, @Nonnull final String instanceName,
+                         final boolean indexed) {
         this.artificialNamePrefix = artificialNamePrefix;
+        this.instanceName = instanceName;
+        this.store = null;
         namingContextIid = InstanceIdentifier.create(Contexts.class).child(
                 org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.NamingContext.class,
                 new NamingContextKey(instanceName));
+        if (indexed) {
+            // weak keys use identity comparison, so each transaction gets its own index
+            indexes = CacheBuilder.newBuilder().weakKeys()
+                    .build(new CacheLoader<MappingContext, NamingContextIndex>() {
+                        @Override
+                        public NamingContextIndex load(@Nonnull final MappingContext mappingContext) {
+                            return loadIndex(mappingContext);
+                        }
+                    });
+        } else {
+            indexes = null;
+        }
+    }
+
+    /**
+     * Create new naming context backed by context store
+     *
+     * @param artificialNamePrefix artificial name to be used for items without a name in VPP (or not provided)
+     * @param instanceName         name of this context instance. Will be used as list item identifier within context
+     *                             data tree and as context name within the store
+     * @param store                store serving lookups of this context. All writes to this context have to go
+     *                             through this instance to keep the store consistent.
+     */
+    public NamingContext(@Nonnull final String artificialNamePrefix, @Nonnull final String instanceName,
+                         @Nonnull final TransactionalContextStore store) {
+        this.artificialNamePrefix = artificialNamePrefix;
+        this.instanceName = instanceName;
+        this.store = store;
+        namingContextIid = InstanceIdentifier.create(Contexts.class).child(
+                org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.NamingContext.class,
+                new NamingContextKey(instanceName));
+        indexes = null;
+        store.register(instanceName, (mappingContext, mappings) -> mappingContext
+                .read(namingContextIid.child(Mappings.class))
+                .transform(Mappings::getMapping)
+                .or(Collections.emptyList())
+                .forEach(mapping -> mappings.accept(STORE_PARENT, mapping.getName(), mapping.getIndex(), null)));
+    }
+
+    /**
+     * Returns view of this context, that reads mappings from {@link MappingContext} on every call instead of using
+     * the index. Has to be used with long-lived {@link MappingContext} (not bound to single transaction), for which
+     * the index would be built just once and never refreshed.
+     *
+     * @return this context, if it is not indexed
+     */
+    @Nonnull
+    public NamingContext unindexed() {
+        return isIndexed()
+                ? new NamingContext(artificialNamePrefix, instanceName, false)
+                : this;
+    }
+
+    private NamingContextIndex loadIndex(final MappingContext mappingContext) {
+        return new NamingContextIndex(mappingContext.read(namingContextIid.child(Mappings.class)), START_INDEX);
+    }
+
+    private boolean isIndexed() {
+        return indexes != null;
+    }
+
+    private boolean isStored() {
+        return store != null;
+    }
+
+    private NamingContextIndex index(final MappingContext mappingContext) {
+        return indexes.getUnchecked(mappingContext);
     }
 
     /**
@@ -71,7 +179,30 @@ public final class NamingContext implements AutoCloseable {
      * @return name mapped to provided index
      */
     @Nonnull
-    public synchronized String getName(final int index, @Nonnull final MappingContext mappingContext) {
+    public String getName(final int index, @Nonnull final MappingContext mappingContext) {
+        if (isStored()) {
+            final String name = store.getName(instanceName, STORE_PARENT, index, mappingContext);
+            if (name != null) {
+                return name;
+            }
+            final String artificialName = getArtificialName(index);
+            addName(index, artificialName, mappingContext);
+            return artificialName;
+        }
+        if (isIndexed()) {
+            final NamingContextIndex contextIndex = index(mappingContext);
+            final String name = contextIndex.getName(index);
+            if (name != null) {
+                return name;
+            }
+            final String artificialName = getArtificialName(index);
+            addName(index, artificialName, mappingContext);
+            return artificialName;
+        }
+        return getNameFromMappings(index, mappingContext);
+    }
+
+    private synchronized String getNameFromMappings(final int index, @Nonnull final MappingContext mappingContext) {
         if (!containsName(index, mappingContext)) {
             final String artificialName = getArtificialName(index);
             addName(index, artificialName, mappingContext);
@@ -93,8 +224,18 @@ public final class NamingContext implements AutoCloseable {
      * @return name mapped to provided index
      */
     @Nonnull
-    public synchronized Optional<String> getNameIfPresent(final int index,
-                                                          @Nonnull final MappingContext mappingContext) {
+    public Optional<String> getNameIfPresent(final int index, @Nonnull final MappingContext mappingContext) {
+        if (isStored()) {
+            return Optional.fromNullable(store.getName(instanceName, STORE_PARENT, index, mappingContext));
+        }
+        if (isIndexed()) {
+            return Optional.fromNullable(index(mappingContext).getName(index));
+        }
+        return getNameIfPresentInMappings(index, mappingContext);
+    }
+
+    private synchronized Optional<String> getNameIfPresentInMappings(final int index,
+                                                                     @Nonnull final MappingContext mappingContext) {
         final Optional<Mappings> read = mappingContext.read(namingContextIid.child(Mappings.class));
         if (!read.isPresent()) {
             return Optional.absent();
@@ -113,6 +254,62 @@ public final class NamingContext implements AutoCloseable {
         }
     }
 
+    /**
+     * Retrieve names for multiple indexes at once. Mappings are read just once for all indexes.
+     *
+     * @param indexes        indexes of mapped items
+     * @param mappingContext mapping context providing context data for current transaction
+     * @return names mapped to provided indexes, indexes without mapping are not present
+     */
+    @Nonnull
+    public Map<Integer, String> getNamesIfPresent(@Nonnull final Collection<Integer> indexes,
+                                                  @Nonnull final MappingContext mappingContext) {
+        if (isStored()) {
+            final Map<Integer, String> names = new HashMap<>();
+            for (final Integer index : indexes) {
+                final String name = store.getName(instanceName, STORE_PARENT, index, mappingContext);
+                if (name != null) {
+                    names.put(index, name);
+                }
+            }
+            return names;
+        }
+        if (isIndexed()) {
+            final NamingContextIndex contextIndex = index(mappingContext);
+            final Map<Integer, String> names = new HashMap<>();
+            for (final Integer index : indexes) {
+                final String name = contextIndex.getName(index);
+                if (name != null) {
+                    names.put(index, name);
+                }
+            }
+            return names;
+        }
+        return getNamesIfPresentInMappings(indexes, mappingContext);
+    }
+
+    private synchronized Map<Integer, String> getNamesIfPresentInMappings(final Collection<Integer> indexes,
+                                                                          final MappingContext mappingContext) {
+        final Map<Integer, String> names = new HashMap<>();
+        if (indexes.isEmpty()) {
+            return names;
+        }
+        final Optional<Mappings> read = mappingContext.read(namingContextIid.child(Mappings.class));
+        if (!read.isPresent()) {
+            return names;
+        }
+
+        final Set<Integer> requested = new HashSet<>(indexes);
+        for (final Mapping mapping : read.get().getMapping()) {
+            if (requested.contains(mapping.getIndex())) {
+                final String previous = names.put(mapping.getIndex(), mapping.getName());
+                checkState(previous == null, "Multiple mappings defined with index=%s: %s, %s", mapping.getIndex(),
+                        previous, mapping.getName());
+            }
+        }
+        return names;
+    }
+
     /**
      * Check whether mapping is present for index.
      *
@@ -120,7 +317,17 @@ public final class NamingContext implements AutoCloseable {
      * @param mappingContext mapping context providing context data for current transaction
      * @return true if present, false otherwise
      */
-    public synchronized boolean containsName(final int index, @Nonnull final MappingContext mappingContext) {
+    public boolean containsName(final int index, @Nonnull final MappingContext mappingContext) {
+        if (isStored()) {
+            return store.getName(instanceName, STORE_PARENT, index, mappingContext) != null;
+        }
+        if (isIndexed()) {
+            return index(mappingContext).containsIndex(index);
+        }
+        return containsNameInMappings(index, mappingContext);
+    }
+
+    private synchronized boolean containsNameInMappings(final int index, @Nonnull final MappingContext mappingContext) {
         final Optional<Mappings> read = mappingContext.read(namingContextIid.child(Mappings.class));
         return read.isPresent()
                 ? read.get().getMapping().stream().anyMatch(mapping -> mapping.getIndex().equals(index))
@@ -135,7 +342,23 @@ public final class NamingContext implements AutoCloseable {
      * @param name           name of a mapped item
      * @param mappingContext mapping context providing context data for current transaction
      */
-    public synchronized void addName(final int index, final String name, final MappingContext mappingContext) {
+    public void addName(final int index, final String name, final MappingContext mappingContext) {
+        if (isStored()) {
+            putMapping(index, name, mappingContext);
+            store.put(instanceName, STORE_PARENT, name, index, null, mappingContext);
+        } else if (isIndexed()) {
+            // index is loaded before the write, otherwise the written mapping would be loaded and added twice
+            final NamingContextIndex contextIndex = index(mappingContext);
+            putMapping(index, name, mappingContext);
+            contextIndex.add(index, name);
+        } else {
+            synchronized (this) {
+                putMapping(index, name, mappingContext);
+            }
+        }
+    }
+
+    private void putMapping(final int index, final String name, final MappingContext mappingContext) {
         final KeyedInstanceIdentifier<Mapping, MappingKey> mappingIid = getMappingIid(name);
         mappingContext.put(mappingIid, new MappingBuilder().setIndex(index).setName(name).build());
     }
@@ -147,8 +370,17 @@ public final class NamingContext implements AutoCloseable {
      * @param name           name of a mapped item
      * @param mappingContext mapping context providing context data for current transaction
      */
-    public synchronized void addName(final String name, final MappingContext mappingContext) {
-        addName(getNextAvailableIndex(mappingContext), name, mappingContext);
+    public void addName(final String name, final MappingContext mappingContext) {
+        if (isStored()) {
+            final long index = store.nextIndex(instanceName, STORE_PARENT, START_INDEX, mappingContext);
+            addName((int) index, name, mappingContext);
+        } else if (isIndexed()) {
+            addName(index(mappingContext).allocateIndex(), name, mappingContext);
+        } else {
+            synchronized (this) {
+                addName(getNextAvailableIndex(mappingContext), name, mappingContext);
+            }
+        }
     }
 
     private KeyedInstanceIdentifier<Mapping, MappingKey> getMappingIid(final String name) {
@@ -161,8 +393,19 @@ public final class NamingContext implements AutoCloseable {
      * @param name           name of a mapped item
      * @param mappingContext mapping context providing context data for current transaction
      */
-    public synchronized void removeName(final String name, final MappingContext mappingContext) {
-        mappingContext.delete(getMappingIid(name));
+    public void removeName(final String name, final MappingContext mappingContext) {
+        if (isStored()) {
+            mappingContext.delete(getMappingIid(name));
+            store.remove(instanceName, STORE_PARENT, name, mappingContext);
+        } else if (isIndexed()) {
+            final NamingContextIndex contextIndex = index(mappingContext);
+            mappingContext.delete(getMappingIid(name));
+            contextIndex.remove(name);
+        } else {
+            synchronized (this) {
+                mappingContext.delete(getMappingIid(name));
+            }
+        }
     }
 
     /**
@@ -173,7 +416,16 @@ public final class NamingContext implements AutoCloseable {
      * @return integer index value matching supplied name
      * @throws IllegalArgumentException if name was not found
      */
-    public synchronized int getIndex(final String name, final MappingContext mappingContext) {
+    public int getIndex(final String name, final MappingContext mappingContext) {
+        if (isStored() || isIndexed()) {
+            final Integer index = findIndex(name, mappingContext);
+            checkArgument(index != null, "No mapping stored for name: %s", name);
+            return index;
+        }
+        return getIndexFromMapping(name, mappingContext);
+    }
+
+    private synchronized int getIndexFromMapping(final String name, final MappingContext mappingContext) {
         final Optional<Mapping> read = mappingContext.read(getMappingIid(name));
         checkArgument(read.isPresent(), "No mapping stored for name: %s", name);
         return read.get().getIndex();
@@ -189,10 +441,23 @@ public final class NamingContext implements AutoCloseable {
      * @return integer index value matching supplied name
      * @throws T if name was not found
      */
-    public synchronized <T extends Throwable> int getIndex(final String name,
-                                                           final MappingContext mappingContext,
-                                                           final Supplier<T> throwIfNonExisting) throws T {
+    public <T extends Throwable> int getIndex(final String name,
+                                             final MappingContext mappingContext,
+                                             final Supplier<T> throwIfNonExisting) throws T {
         // supplier is used to not instantiate exception if not needed
+        if (isStored() || isIndexed()) {
+            final Integer index = findIndex(name, mappingContext);
+            if (index == null) {
+                throw throwIfNonExisting.get();
+            }
+            return index;
+        }
+        return getIndexFromMapping(name, mappingContext, throwIfNonExisting);
+    }
+
+    private synchronized <T extends Throwable> int getIndexFromMapping(final String name,
+                                                                      final MappingContext mappingContext,
+                                                                      final Supplier<T> throwIfNonExisting) throws T {
         final Optional<Mapping> read = mappingContext.read(getMappingIid(name));
         if (!read.isPresent()) {
             throw throwIfNonExisting.get();
@@ -207,8 +472,23 @@ public final class NamingContext implements AutoCloseable {
      * @param mappingContext mapping context providing context data for current transaction
      * @return true if present, false otherwise
      */
-    public synchronized boolean containsIndex(final String name, final MappingContext mappingContext) {
-        return mappingContext.read(getMappingIid(name)).isPresent();
+    public boolean containsIndex(final String name, final MappingContext mappingContext) {
+        if (isStored() || isIndexed()) {
+            return findIndex(name, mappingContext) != null;
+        }
+        synchronized (this) {
+            return mappingContext.read(getMappingIid(name)).isPresent();
+        }
+    }
+
+    private Integer findIndex(final String name, final MappingContext mappingContext) {
+        if (isStored()) {
+            final Long index = store.getIndex(instanceName, STORE_PARENT, name, mappingContext);
+            return index == null
+                    ? null
+                    : index.intValue();
+        }
+        return index(mappingContext).getIndex(name);
     }
 
     private String getArtificialName(final int index) {
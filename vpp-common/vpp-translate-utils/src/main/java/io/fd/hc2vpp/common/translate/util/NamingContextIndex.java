@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import com.google.common.base.Optional;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.naming.context.Mappings;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.naming.context.mappings.Mapping;
+
+/**
+ * Bidirectional in-memory view of naming context {@link Mappings} bound to single
+ * {@link io.fd.honeycomb.translate.MappingContext}. Built once from the backing data and afterwards updated by
+ * {@link NamingContext} together with every write it performs, so it never has to re-read the whole list.
+ */
+final class NamingContextIndex {
+
+    private final Map<Integer, String> indexToName = new ConcurrentHashMap<>();
+    private final Map<String, Integer> nameToIndex = new ConcurrentHashMap<>();
+    private final AtomicInteger nextIndex;
+
+    NamingContextIndex(@Nonnull final Optional<Mappings> mappings, final int startIndex) {
+        nextIndex = new AtomicInteger(startIndex);
+        if (mappings.isPresent() && mappings.get().getMapping() != null) {
+            for (final Mapping mapping : mappings.get().getMapping()) {
+                add(mapping.getIndex(), mapping.getName());
+            }
+        }
+    }
+
+    @Nullable
+    String getName(final int index) {
+        return indexToName.get(index);
+    }
+
+    @Nullable
+    Integer getIndex(@Nonnull final String name) {
+        return nameToIndex.get(name);
+    }
+
+    boolean containsIndex(final int index) {
+        return indexToName.containsKey(index);
+    }
+
+    /**
+     * Mappings are keyed by name, so storing existing name with different index replaces the previous mapping.
+     */
+    void add(final int index, @Nonnull final String name) {
+        final Integer previousIndex = nameToIndex.put(name, index);
+        if (previousIndex != null && previousIndex != index) {
+            indexToName.remove(previousIndex, name);
+        }
+        indexToName.put(index, name);
+        nextIndex.accumulateAndGet(index + 1, Math::max);
+    }
+
+    void remove(@Nonnull final String name) {
+        final Integer index = nameToIndex.remove(name);
+        if (index != null) {
+            indexToName.remove(index, name);
+        }
+    }
+
+    /**
+     * Reserves next index higher than any index seen so far. Indexes of removed mappings are not reused.
+     */
+    int allocateIndex() {
+        return nextIndex.getAndIncrement();
+    }
+}
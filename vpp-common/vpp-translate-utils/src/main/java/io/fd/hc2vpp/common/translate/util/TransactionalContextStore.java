@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static io.fd.hc2vpp.common.translate.util.ContextStore.NO_TRANSACTION;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import io.fd.honeycomb.translate.MappingContext;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Binds transactions of {@link ContextStore} to {@link MappingContext} instances, so changes of context mappings are
+ * applied to the store only if the transaction they were made in succeeds.
+ *
+ * <p>Each {@link MappingContext} (i.e. transaction) changing the store gets its own store transaction, so its changes
+ * are visible just to that {@link MappingContext}. Marker of the store transaction is written to the
+ * {@link MappingContext} as well, so it is committed or dropped together with the rest of context data of the
+ * transaction. Store transactions are resolved whenever a new {@link MappingContext} accesses the store and on every
+ * access through the realtime mapping context. Store transaction is committed once its marker is visible through the
+ * realtime mapping context and aborted once its {@link MappingContext} is garbage collected without the marker being
+ * committed. Store transactions left open by restart are resolved the same way.
+ *
+ * <p>Changes made through the realtime mapping context are applied to the store directly, since the realtime context
+ * commits them immediately.
+ *
+ * <p>Contexts backed by the store register {@link Seeder}, that fills the store from context data when the context is
+ * accessed for the first time, e.g. when the store is enabled with context data already present.
+ */
+@ThreadSafe
+public final class TransactionalContextStore {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TransactionalContextStore.class);
+    private static final String MARKER_CONTEXT = "context-store-transactions";
+
+    private final ContextStore store;
+    private final MappingContext realtimeContext;
+    private final NamingContext markers = new NamingContext("transaction-", MARKER_CONTEXT);
+    // markers left in context data by previous runs are never matched by new transactions
+    private final String markerPrefix = UUID.randomUUID() + "-";
+    private final LoadingCache<MappingContext, ContextTransaction> contextTransactions;
+    private final Map<Integer, WeakReference<MappingContext>> startedTransactions = new HashMap<>();
+    private final Map<String, Seeder> seeders = new HashMap<>();
+    private long nextMarker;
+
+    /**
+     * @param store           store keeping the mappings
+     * @param realtimeContext mapping context reading committed context data and committing its changes immediately
+     */
+    public TransactionalContextStore(@Nonnull final ContextStore store,
+                                     @Nonnull final MappingContext realtimeContext) {
+        this.store = store;
+        this.realtimeContext = realtimeContext;
+        // weak keys use identity comparison, so each transaction gets its own store transaction
+        contextTransactions = CacheBuilder.newBuilder().weakKeys()
+                .build(new CacheLoader<MappingContext, ContextTransaction>() {
+                    @Override
+                    public ContextTransaction load(@Nonnull final MappingContext mappingContext) {
+                        resolve();
+                        return new ContextTransaction();
+                    }
+                });
+    }
+
+    /**
+     * Registers seeder filling the context, if it is not present in the store yet.
+     */
+    public synchronized void register(@Nonnull final String context, @Nonnull final Seeder seeder) {
+        seeders.put(context, seeder);
+    }
+
+    /**
+     * @see ContextStore#getIndex(int, String, String, String)
+     */
+    @Nullable
+    public synchronized Long getIndex(@Nonnull final String context, @Nonnull final String parent,
+                                      @Nonnull final String name, @Nonnull final MappingContext mappingContext) {
+        return store.getIndex(readTransaction(context, mappingContext), context, parent, name);
+    }
+
+    /**
+     * @see ContextStore#getValue(int, String, String, String)
+     */
+    @Nullable
+    public synchronized String getValue(@Nonnull final String context, @Nonnull final String parent,
+                                        @Nonnull final String name, @Nonnull final MappingContext mappingContext) {
+        return store.getValue(readTransaction(context, mappingContext), context, parent, name);
+    }
+
+    /**
+     * @see ContextStore#getName(int, String, String, long)
+     */
+    @Nullable
+    public synchronized String getName(@Nonnull final String context, @Nonnull final String parent, final long index,
+                                       @Nonnull final MappingContext mappingContext) {
+        return store.getName(readTransaction(context, mappingContext), context, parent, index);
+    }
+
+    /**
+     * @see ContextStore#getChildren(int, String, String)
+     */
+    @Nonnull
+    public synchronized Map<String, Long> getChildren(@Nonnull final String context, @Nonnull final String parent,
+                                                      @Nonnull final MappingContext mappingContext) {
+        return store.getChildren(readTransaction(context, mappingContext), context, parent);
+    }
+
+    /**
+     * @see ContextStore#containsParent(int, String, String)
+     */
+    public synchronized boolean containsParent(@Nonnull final String context, @Nonnull final String parent,
+                                               @Nonnull final MappingContext mappingContext) {
+        return store.containsParent(readTransaction(context, mappingContext), context, parent);
+    }
+
+    /**
+     * @see ContextStore#nextIndex(int, String, String, long)
+     */
+    public synchronized long nextIndex(@Nonnull final String context, @Nonnull final String parent,
+                                       final long startIndex, @Nonnull final MappingContext mappingContext) {
+        return store.nextIndex(readTransaction(context, mappingContext), context, parent, startIndex);
+    }
+
+    /**
+     * @see ContextStore#put(int, String, String, String, long, String)
+     */
+    public synchronized void put(@Nonnull final String context, @Nonnull final String parent,
+                                 @Nonnull final String name, final long index, @Nullable final String value,
+                                 @Nonnull final MappingContext mappingContext) {
+        store.put(writeTransaction(context, mappingContext), context, parent, name, index, value);
+    }
+
+    /**
+     * @see ContextStore#remove(int, String, String, String)
+     */
+    public synchronized void remove(@Nonnull final String context, @Nonnull final String parent,
+                                    @Nonnull final String name, @Nonnull final MappingContext mappingContext) {
+        store.remove(writeTransaction(context, mappingContext), context, parent, name);
+    }
+
+    /**
+     * @see ContextStore#removeParent(int, String, String)
+     */
+    public synchronized void removeParent(@Nonnull final String context, @Nonnull final String parent,
+                                          @Nonnull final MappingContext mappingContext) {
+        store.removeParent(writeTransaction(context, mappingContext), context, parent);
+    }
+
+    private int readTransaction(final String context, final MappingContext mappingContext) {
+        final int transaction;
+        if (mappingContext == realtimeContext) {
+            resolve();
+            transaction = NO_TRANSACTION;
+        } else {
+            transaction = contextTransactions.getUnchecked(mappingContext).id;
+        }
+        seed(context);
+        return transaction;
+    }
+
+    private int writeTransaction(final String context, final MappingContext mappingContext) {
+        final int transaction = readTransaction(context, mappingContext);
+        if (transaction != NO_TRANSACTION || mappingContext == realtimeContext) {
+            return transaction;
+        }
+        final ContextTransaction contextTransaction = contextTransactions.getUnchecked(mappingContext);
+        final String marker = markerPrefix + nextMarker++;
+        contextTransaction.id = store.begin(marker);
+        markers.addName(contextTransaction.id, marker, mappingContext);
+        startedTransactions.put(contextTransaction.id, new WeakReference<>(mappingContext));
+        return contextTransaction.id;
+    }
+
+    private void seed(final String context) {
+        if (store.containsContext(context)) {
+            return;
+        }
+        store.addContext(context);
+        final Seeder seeder = seeders.get(context);
+        if (seeder != null) {
+            LOG.info("Filling context store with mappings of {}", context);
+            seeder.seed(realtimeContext,
+                    (parent, name, index, value) -> store.put(NO_TRANSACTION, context, parent, name, index, value));
+        }
+    }
+
+    private void resolve() {
+        for (final Map.Entry<Integer, String> transaction : store.getOpenTransactions().entrySet()) {
+            final int id = transaction.getKey();
+            final String marker = transaction.getValue();
+            if (markers.containsIndex(marker, realtimeContext)) {
+                store.commit(id);
+                markers.removeName(marker, realtimeContext);
+                startedTransactions.remove(id);
+                continue;
+            }
+            final WeakReference<MappingContext> mappingContext = startedTransactions.get(id);
+            if (mappingContext == null || mappingContext.get() == null) {
+                LOG.debug("Transaction {} was not committed, dropping its changes of context store", marker);
+                store.abort(id);
+                startedTransactions.remove(id);
+            }
+        }
+    }
+
+    /**
+     * Fills context of the store from context data.
+     */
+    @FunctionalInterface
+    public interface Seeder {
+
+        /**
+         * @param mappingContext mapping context to read context data from
+         * @param mappings       consumer of mappings found in context data
+         */
+        void seed(@Nonnull MappingContext mappingContext, @Nonnull MappingConsumer mappings);
+    }
+
+    @FunctionalInterface
+    public interface MappingConsumer {
+
+        void accept(@Nonnull String parent, @Nonnull String name, long index, @Nullable String value);
+    }
+
+    private static final class ContextTransaction {
+        private int id = NO_TRANSACTION;
+    }
+}
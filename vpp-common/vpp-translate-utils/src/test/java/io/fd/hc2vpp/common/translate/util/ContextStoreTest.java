@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static io.fd.hc2vpp.common.translate.util.ContextStore.NO_TRANSACTION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ContextStoreTest {
+
+    private static final String CONTEXT = "interface-context";
+    private static final String ACE_CONTEXT = "acl-context-ace";
+    private static final String NO_PARENT = "";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path path;
+
+    @Before
+    public void setUp() throws IOException {
+        path = folder.getRoot().toPath().resolve("contexts");
+    }
+
+    @Test
+    public void testPutAndRemove() throws IOException {
+        try (ContextStore store = new ContextStore(path)) {
+            store.put(NO_TRANSACTION, CONTEXT, NO_PARENT, "local0", 1, null);
+            store.put(NO_TRANSACTION, CONTEXT, NO_PARENT, "tap0", 2, null);
+            store.put(NO_TRANSACTION, "bridge-domain-context", NO_PARENT, "bd1", 1, null);
+            store.remove(NO_TRANSACTION, CONTEXT, NO_PARENT, "tap0");
+
+            assertEquals("local0", store.getName(NO_TRANSACTION, CONTEXT, NO_PARENT, 1));
+            assertEquals(Long.valueOf(1), store.getIndex(NO_TRANSACTION, CONTEXT, NO_PARENT, "local0"));
+            assertNull(store.getName(NO_TRANSACTION, CONTEXT, NO_PARENT, 2));
+            assertNull(store.getIndex(NO_TRANSACTION, CONTEXT, NO_PARENT, "tap0"));
+            assertEquals("bd1", store.getName(NO_TRANSACTION, "bridge-domain-context", NO_PARENT, 1));
+            assertNull(store.getName(NO_TRANSACTION, "unknown-context", NO_PARENT, 1));
+            assertFalse(store.containsContext("unknown-context"));
+        }
+    }
+
+    @Test
+    public void testPutReplacesIndexOfName() throws IOException {
+        try (ContextStore store = new ContextStore(path)) {
+            store.put(NO_TRANSACTION, CONTEXT, NO_PARENT, "local0", 1, null);
+            store.put(NO_TRANSACTION, CONTEXT, NO_PARENT, "local0", 2, null);
+
+            assertNull(store.getName(NO_TRANSACTION, CONTEXT, NO_PARENT, 1));
+            assertEquals("local0", store.getName(NO_TRANSACTION, CONTEXT, NO_PARENT, 2));
+        }
+    }
+
+    @Test
+    public void testParentsAndValues() throws IOException {
+        try (ContextStore store = new ContextStore(path)) {
+            store.put(NO_TRANSACTION, ACE_CONTEXT, "acl1", "ace1", 0, null);
+            store.put(NO_TRANSACTION, ACE_CONTEXT, "acl1", "ace2", 1, null);
+            store.put(NO_TRANSACTION, ACE_CONTEXT, "acl2", "ace1", 0, "value");
+
+            assertEquals(ImmutableMap.of("ace1", 0L, "ace2", 1L),
+                    store.getChildren(NO_TRANSACTION, ACE_CONTEXT, "acl1"));
+            assertEquals("ace2", store.getName(NO_TRANSACTION, ACE_CONTEXT, "acl1", 1));
+            assertNull(store.getName(NO_TRANSACTION, ACE_CONTEXT, "acl2", 1));
+            assertNull(store.getValue(NO_TRANSACTION, ACE_CONTEXT, "acl1", "ace1"));
+            assertEquals("value", store.getValue(NO_TRANSACTION, ACE_CONTEXT, "acl2", "ace1"));
+            assertEquals(2, store.nextIndex(NO_TRANSACTION, ACE_CONTEXT, "acl1", 0));
+            assertEquals(5, store.nextIndex(NO_TRANSACTION, ACE_CONTEXT, "acl2", 5));
+
+            store.removeParent(NO_TRANSACTION, ACE_CONTEXT, "acl1");
+            assertFalse(store.containsParent(NO_TRANSACTION, ACE_CONTEXT, "acl1"));
+            assertEquals(Collections.emptyMap(), store.getChildren(NO_TRANSACTION, ACE_CONTEXT, "acl1"));
+            assertTrue(store.containsParent(NO_TRANSACTION, ACE_CONTEXT, "acl2"));
+        }
+    }
+
+    @Test
+    public void testReload() throws IOException {
+        try (ContextStore store = new ContextStore(path)) {
+            store.put(NO_TRANSACTION, CONTEXT, NO_PARENT, "local0", 1, null);
+            store.put(NO_TRANSACTION, CONTEXT, NO_PARENT, "tap0", 2, null);
+            store.put(NO_TRANSACTION, CONTEXT, NO_PARENT, "tap1", 3, "value");
+            store.remove(NO_TRANSACTION, CONTEXT, NO_PARENT, "tap0");
+            store.put(NO_TRANSACTION, ACE_CONTEXT, "acl1", "ace1", 0, null);
+            store.removeParent(NO_TRANSACTION, ACE_CONTEXT, "acl1");
+            store.addContext("empty-context");
+        }
+
+        try (ContextStore store = new ContextStore(path)) {
+            assertEquals("local0", store.getName(NO_TRANSACTION, CONTEXT, NO_PARENT, 1));
+            assertNull(store.getName(NO_TRANSACTION, CONTEXT, NO_PARENT, 2));
+            assertEquals(Long.valueOf(3), store.getIndex(NO_TRANSACTION, CONTEXT, NO_PARENT, "tap1"));
+            assertEquals("value", store.getValue(NO_TRANSACTION, CONTEXT, NO_PARENT, "tap1"));
+            assertEquals(4, store.nextIndex(NO_TRANSACTION, CONTEXT, NO_PARENT, 0));
+            assertFalse(store.containsParent(NO_TRANSACTION, ACE_CONTEXT, "acl1"));
+            assertTrue(store.containsContext("empty-context"));
+        }
+    }
+
+    @Test
+    public void testLogGrows() throws IOException {
+        try (ContextStore store = new ContextStore(path)) {
+            for (int i = 0; i < 100000; i++) {
+                store.put(NO_TRANSACTION, CONTEXT, NO_PARENT, "interface-" + i, i, null);
+            }
+        }
+
+        try (ContextStore store = new ContextStore(path)) {
+            assertEquals("interface-0", store.getName(NO_TRANSACTION, CONTEXT, NO_PARENT, 0));
+            assertEquals("interface-99999", store.getName(NO_TRANSACTION, CONTEXT, NO_PARENT, 99999));
+        }
+    }
+
+    @Test
+    public void testCompaction() throws IOException {
+        try (ContextStore store = new ContextStore(path, 100)) {
+            final int transaction = store.begin("open");
+            store.put(transaction, CONTEXT, NO_PARENT, "tap0", 2, null);
+            for (int i = 0; i < 10000; i++) {
+                store.put(NO_TRANSACTION, CONTEXT, NO_PARENT, "interface-" + i, i, null);
+                store.remove(NO_TRANSACTION, CONTEXT, NO_PARENT, "interface-" + i);
+            }
+            store.put(NO_TRANSACTION, CONTEXT, NO_PARENT, "local0", 1, null);
+        }
+        // without compaction, the log would take more than 500kB
+        assertTrue(Files.size(path) < 100000);
+        assertFalse(Files.exists(path.resolveSibling(path.getFileName() + ".compact")));
+
+        try (ContextStore store = new ContextStore(path)) {
+            assertEquals("local0", store.getName(NO_TRANSACTION, CONTEXT, NO_PARENT, 1));
+            assertNull(store.getName(NO_TRANSACTION, CONTEXT, NO_PARENT, 0));
+            // open transaction survives compaction
+            final int transaction = store.getOpenTransactions().keySet().iterator().next();
+            assertEquals(Long.valueOf(2), store.getIndex(transaction, CONTEXT, NO_PARENT, "tap0"));
+        }
+    }
+
+    @Test
+    public void testTransaction() throws IOException {
+        try (ContextStore store = new ContextStore(path)) {
+            store.put(NO_TRANSACTION, CONTEXT, NO_PARENT, "local0", 0, null);
+            store.put(NO_TRANSACTION, ACE_CONTEXT, "acl1", "ace1", 0, null);
+            final int transaction = store.begin("tx1");
+            store.put(transaction, CONTEXT, NO_PARENT, "tap0", 1, null);
+            store.remove(transaction, CONTEXT, NO_PARENT, "local0");
+            store.removeParent(transaction, ACE_CONTEXT, "acl1");
+            store.put(transaction, ACE_CONTEXT, "acl1", "ace2", 0, null);
+
+            // changes are visible to the transaction only
+            assertEquals(Long.valueOf(1), store.getIndex(transaction, CONTEXT, NO_PARENT, "tap0"));
+            assertNull(store.getName(transaction, CONTEXT, NO_PARENT, 0));
+            assertEquals(ImmutableMap.of("ace2", 0L), store.getChildren(transaction, ACE_CONTEXT, "acl1"));
+            assertNull(store.getIndex(NO_TRANSACTION, CONTEXT, NO_PARENT, "tap0"));
+            assertEquals("local0", store.getName(NO_TRANSACTION, CONTEXT, NO_PARENT, 0));
+            assertEquals(ImmutableMap.of("ace1", 0L), store.getChildren(NO_TRANSACTION, ACE_CONTEXT, "acl1"));
+            assertEquals(ImmutableMap.of(transaction, "tx1"), store.getOpenTransactions());
+
+            store.commit(transaction);
+            assertEquals(Long.valueOf(1), store.getIndex(NO_TRANSACTION, CONTEXT, NO_PARENT, "tap0"));
+            assertNull(store.getName(NO_TRANSACTION, CONTEXT, NO_PARENT, 0));
+            assertEquals(ImmutableMap.of("ace2", 0L), store.getChildren(NO_TRANSACTION, ACE_CONTEXT, "acl1"));
+            assertTrue(store.getOpenTransactions().isEmpty());
+        }
+
+        try (ContextStore store = new ContextStore(path)) {
+            assertEquals(Long.valueOf(1), store.getIndex(NO_TRANSACTION, CONTEXT, NO_PARENT, "tap0"));
+            assertNull(store.getName(NO_TRANSACTION, CONTEXT, NO_PARENT, 0));
+            assertEquals(ImmutableMap.of("ace2", 0L), store.getChildren(NO_TRANSACTION, ACE_CONTEXT, "acl1"));
+        }
+    }
+
+    @Test
+    public void testAbort() throws IOException {
+        try (ContextStore store = new ContextStore(path)) {
+            final int transaction = store.begin("tx1");
+            store.put(transaction, CONTEXT, NO_PARENT, "tap0", 1, null);
+            store.abort(transaction);
+
+            assertNull(store.getIndex(NO_TRANSACTION, CONTEXT, NO_PARENT, "tap0"));
+            // closed transaction reads committed mappings
+            assertNull(store.getIndex(transaction, CONTEXT, NO_PARENT, "tap0"));
+        }
+
+        try (ContextStore store = new ContextStore(path)) {
+            assertNull(store.getIndex(NO_TRANSACTION, CONTEXT, NO_PARENT, "tap0"));
+            assertTrue(store.getOpenTransactions().isEmpty());
+        }
+    }
+
+    @Test
+    public void testOpenTransactionAfterReload() throws IOException {
+        final int transaction;
+        try (ContextStore store = new ContextStore(path)) {
+            transaction = store.begin("tx1");
+            store.put(transaction, CONTEXT, NO_PARENT, "tap0", 1, null);
+        }
+
+        try (ContextStore store = new ContextStore(path)) {
+            assertEquals(ImmutableMap.of(transaction, "tx1"), store.getOpenTransactions());
+            assertNull(store.getIndex(NO_TRANSACTION, CONTEXT, NO_PARENT, "tap0"));
+            store.commit(transaction);
+            assertEquals(Long.valueOf(1), store.getIndex(NO_TRANSACTION, CONTEXT, NO_PARENT, "tap0"));
+            // transaction ids are not reused
+            assertTrue(store.begin("tx2") > transaction);
+        }
+    }
+
+    @Test
+    public void testMissingHeader() throws IOException {
+        // left by crash after the file was extended, but before the header was written
+        Files.write(path, new byte[1024]);
+
+        try (ContextStore store = new ContextStore(path)) {
+            assertNull(store.getName(NO_TRANSACTION, CONTEXT, NO_PARENT, 1));
+            store.put(NO_TRANSACTION, CONTEXT, NO_PARENT, "local0", 1, null);
+        }
+
+        try (ContextStore store = new ContextStore(path)) {
+            assertEquals("local0", store.getName(NO_TRANSACTION, CONTEXT, NO_PARENT, 1));
+        }
+    }
+
+    @Test
+    public void testInvalidHeader() throws IOException {
+        Files.write(path, new byte[] {1, 2, 3, 4, 5});
+
+        try (ContextStore store = new ContextStore(path)) {
+            assertNull(store.getName(NO_TRANSACTION, CONTEXT, NO_PARENT, 1));
+            store.put(NO_TRANSACTION, CONTEXT, NO_PARENT, "local0", 1, null);
+        }
+        assertTrue(Files.exists(path.resolveSibling(path.getFileName() + ".corrupted")));
+
+        try (ContextStore store = new ContextStore(path)) {
+            assertEquals("local0", store.getName(NO_TRANSACTION, CONTEXT, NO_PARENT, 1));
+        }
+    }
+}
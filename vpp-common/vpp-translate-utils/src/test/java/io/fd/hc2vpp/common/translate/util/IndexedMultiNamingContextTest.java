@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.Lists;
+import io.fd.honeycomb.translate.MappingContext;
+import java.util.Collections;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.multi.naming.context.rev160411.MultiMappingCtxAugmentation;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.multi.naming.context.rev160411.multi.naming.contexts.attributes.MultiNamingContexts;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.multi.naming.context.rev160411.multi.naming.contexts.attributes.multi.naming.contexts.MultiNaming;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.multi.naming.context.rev160411.multi.naming.contexts.attributes.multi.naming.contexts.MultiNamingKey;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.multi.naming.context.rev160411.multi.naming.contexts.attributes.multi.naming.contexts.multi.naming.Mappings;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.multi.naming.context.rev160411.multi.naming.contexts.attributes.multi.naming.contexts.multi.naming.mappings.Mapping;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.multi.naming.context.rev160411.multi.naming.contexts.attributes.multi.naming.contexts.multi.naming.mappings.MappingBuilder;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.multi.naming.context.rev160411.multi.naming.contexts.attributes.multi.naming.contexts.multi.naming.mappings.MappingKey;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.multi.naming.context.rev160411.multi.naming.contexts.attributes.multi.naming.contexts.multi.naming.mappings.mapping.Value;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.multi.naming.context.rev160411.multi.naming.contexts.attributes.multi.naming.contexts.multi.naming.mappings.mapping.ValueBuilder;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.multi.naming.context.rev160411.multi.naming.contexts.attributes.multi.naming.contexts.multi.naming.mappings.mapping.ValueKey;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.Contexts;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
+
+public class IndexedMultiNamingContextTest {
+
+    private static final String PARENT_1 = "parent-1";
+    private static final String PARENT_2 = "parent-2";
+    private static final String CHILD_1 = "child-1";
+    private static final String CHILD_2 = "child-2";
+
+    private static final InstanceIdentifier<Mappings> MAPPINGS_IID = InstanceIdentifier.create(Contexts.class)
+            .augmentation(MultiMappingCtxAugmentation.class)
+            .child(MultiNamingContexts.class)
+            .child(MultiNaming.class, new MultiNamingKey("context"))
+            .child(Mappings.class);
+
+    private MultiNamingContext namingContext;
+    private MappingContext mappingContext;
+
+    @Before
+    public void init() {
+        namingContext = new MultiNamingContext("context", 1, true);
+        mappingContext = mock(MappingContext.class);
+        when(mappingContext.read(parentIid(PARENT_1))).thenReturn(Optional.of(new MappingBuilder()
+                .setName(PARENT_1)
+                .setValue(Lists.newArrayList(value(CHILD_1, 1), value(CHILD_2, 2)))
+                .build()));
+        when(mappingContext.read(parentIid(PARENT_2))).thenReturn(Optional.absent());
+    }
+
+    @Test
+    public void testLookupsReadParentOnce() {
+        assertEquals(CHILD_1, namingContext.getChildName(PARENT_1, 1, mappingContext));
+        assertEquals(CHILD_2, namingContext.getChildName(PARENT_1, 2, mappingContext));
+        assertEquals(1, namingContext.getChildIndex(PARENT_1, CHILD_1, mappingContext));
+        assertEquals(2, namingContext.getChildIndex(PARENT_1, CHILD_2, mappingContext));
+
+        verify(mappingContext, times(1)).read(parentIid(PARENT_1));
+        verify(mappingContext, never()).read(MAPPINGS_IID);
+    }
+
+    @Test
+    public void testIndexPerMappingContext() {
+        final MappingContext otherMappingContext = mock(MappingContext.class);
+        when(otherMappingContext.read(parentIid(PARENT_1))).thenReturn(Optional.of(new MappingBuilder()
+                .setName(PARENT_1)
+                .setValue(Collections.singletonList(value(CHILD_2, 1)))
+                .build()));
+
+        assertEquals(CHILD_1, namingContext.getChildName(PARENT_1, 1, mappingContext));
+        assertEquals(CHILD_2, namingContext.getChildName(PARENT_1, 1, otherMappingContext));
+    }
+
+    @Test
+    public void testAddChildNextAvailableIndex() {
+        namingContext.addChild(PARENT_1, "child-3", mappingContext);
+        namingContext.addChild(PARENT_2, CHILD_1, mappingContext);
+
+        verify(mappingContext).merge(parentIid(PARENT_1), mapping(PARENT_1, value("child-3", 3)));
+        verify(mappingContext).merge(parentIid(PARENT_2), mapping(PARENT_2, value(CHILD_1, 1)));
+        assertEquals("child-3", namingContext.getChildName(PARENT_1, 3, mappingContext));
+        assertEquals(1, namingContext.getChildIndex(PARENT_2, CHILD_1, mappingContext));
+    }
+
+    @Test
+    public void testNextIndexFollowsHighestIndex() {
+        namingContext.addChild(PARENT_1, 10, "child-10", mappingContext);
+        namingContext.removeChild(PARENT_1, "child-10", mappingContext);
+        namingContext.addChild(PARENT_1, "child-11", mappingContext);
+
+        verify(mappingContext).merge(parentIid(PARENT_1), mapping(PARENT_1, value("child-11", 11)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddInvalidIndex() {
+        namingContext.addChild(PARENT_1, 0, CHILD_1, mappingContext);
+    }
+
+    @Test
+    public void testRemoveChildDeletesChildOnly() {
+        namingContext.removeChild(PARENT_1, CHILD_1, mappingContext);
+
+        verify(mappingContext).delete(parentIid(PARENT_1).child(Value.class, new ValueKey(CHILD_1)));
+        verify(mappingContext, never()).put(any(), any());
+        assertEquals(CHILD_2, namingContext.getChildName(PARENT_1, 2, mappingContext));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testGetRemovedChild() {
+        namingContext.removeChild(PARENT_1, CHILD_1, mappingContext);
+        namingContext.getChildName(PARENT_1, 1, mappingContext);
+    }
+
+    @Test
+    public void testRemoveNonExistingChild() {
+        namingContext.removeChild(PARENT_1, "non-existing", mappingContext);
+        namingContext.removeChild(PARENT_2, CHILD_1, mappingContext);
+
+        verify(mappingContext, never()).delete(any());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testGetChildNameNonExistingParent() {
+        namingContext.getChildName(PARENT_2, 1, mappingContext);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testGetChildIndexNonExistingChild() {
+        namingContext.getChildIndex(PARENT_1, "non-existing", mappingContext);
+    }
+
+    @Test
+    public void testManyChildren() {
+        final int children = 1000;
+        for (int i = 0; i < children; i++) {
+            namingContext.addChild(PARENT_2, "hop-" + i, mappingContext);
+        }
+        // remove every other child, so lookups have to cross removed slots
+        for (int i = 0; i < children; i += 2) {
+            namingContext.removeChild(PARENT_2, "hop-" + i, mappingContext);
+        }
+        for (int i = 1; i < children; i += 2) {
+            assertEquals("hop-" + i, namingContext.getChildName(PARENT_2, i + 1, mappingContext));
+            assertEquals(i + 1, namingContext.getChildIndex(PARENT_2, "hop-" + i, mappingContext));
+        }
+    }
+
+    private static Mapping mapping(final String parent, final Value value) {
+        return new MappingBuilder().setName(parent).setValue(Collections.singletonList(value)).build();
+    }
+
+    private static Value value(final String name, final int index) {
+        return new ValueBuilder().setName(name).setIndex(index).build();
+    }
+
+    private static KeyedInstanceIdentifier<Mapping, MappingKey> parentIid(final String parent) {
+        return MAPPINGS_IID.child(Mapping.class, new MappingKey(parent));
+    }
+}
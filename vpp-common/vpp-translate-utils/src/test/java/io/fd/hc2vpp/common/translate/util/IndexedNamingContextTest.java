@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.Lists;
+import io.fd.honeycomb.translate.MappingContext;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.Contexts;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.NamingContextKey;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.naming.context.Mappings;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.naming.context.MappingsBuilder;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.naming.context.mappings.Mapping;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.naming.context.mappings.MappingBuilder;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.naming.context.mappings.MappingKey;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
+
+public class IndexedNamingContextTest {
+
+    private static final String NAME_1 = "name-1";
+    private static final String NAME_2 = "name-2";
+
+    private static final InstanceIdentifier<Mappings> MAPPINGS_IID = InstanceIdentifier.create(Contexts.class).child(
+            org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.NamingContext.class,
+            new NamingContextKey("context")).child(Mappings.class);
+
+    private NamingContext namingContext;
+    private MappingContext mappingContext;
+
+    @Before
+    public void init() {
+        namingContext = new NamingContext("prefix-", "context", true);
+        mappingContext = mock(MappingContext.class);
+        when(mappingContext.read(MAPPINGS_IID)).thenReturn(Optional.of(new MappingsBuilder()
+                .setMapping(Lists.newArrayList(mapping(NAME_1, 1), mapping(NAME_2, 2)))
+                .build()));
+    }
+
+    @Test
+    public void testUnindexedReadsMappingsOnEveryCall() {
+        final NamingContext unindexed = namingContext.unindexed();
+        assertEquals(Optional.of(NAME_1), unindexed.getNameIfPresent(1, mappingContext));
+        when(mappingContext.read(MAPPINGS_IID)).thenReturn(Optional.of(new MappingsBuilder()
+                .setMapping(Lists.newArrayList(mapping(NAME_1, 1), mapping("name-3", 3)))
+                .build()));
+        assertEquals(Optional.of("name-3"), unindexed.getNameIfPresent(3, mappingContext));
+        assertSame(unindexed, unindexed.unindexed());
+    }
+
+    @Test
+    public void testLookupsReadMappingsOnce() {
+        assertEquals(NAME_1, namingContext.getName(1, mappingContext));
+        assertEquals(Optional.of(NAME_2), namingContext.getNameIfPresent(2, mappingContext));
+        assertEquals(Optional.absent(), namingContext.getNameIfPresent(3, mappingContext));
+        assertTrue(namingContext.containsName(1, mappingContext));
+        assertFalse(namingContext.containsName(3, mappingContext));
+        assertEquals(2, namingContext.getIndex(NAME_2, mappingContext));
+        assertTrue(namingContext.containsIndex(NAME_1, mappingContext));
+        assertFalse(namingContext.containsIndex("name-3", mappingContext));
+
+        verify(mappingContext, times(1)).read(MAPPINGS_IID);
+    }
+
+    @Test
+    public void testIndexPerMappingContext() {
+        final MappingContext otherMappingContext = mock(MappingContext.class);
+        when(otherMappingContext.read(MAPPINGS_IID)).thenReturn(Optional.absent());
+
+        assertTrue(namingContext.containsName(1, mappingContext));
+        assertFalse(namingContext.containsName(1, otherMappingContext));
+    }
+
+    @Test
+    public void testAddName() {
+        namingContext.addName("name-3", mappingContext);
+        namingContext.addName("name-4", mappingContext);
+
+        verify(mappingContext).put(mappingIid("name-3"), mapping("name-3", 3));
+        verify(mappingContext).put(mappingIid("name-4"), mapping("name-4", 4));
+        assertEquals(4, namingContext.getIndex("name-4", mappingContext));
+        assertEquals("name-3", namingContext.getName(3, mappingContext));
+    }
+
+    @Test
+    public void testArtificialName() {
+        assertEquals("prefix-7", namingContext.getName(7, mappingContext));
+        verify(mappingContext).put(mappingIid("prefix-7"), mapping("prefix-7", 7));
+        assertEquals(Optional.of("prefix-7"), namingContext.getNameIfPresent(7, mappingContext));
+
+        // next available index follows highest index seen
+        namingContext.addName("name-8", mappingContext);
+        verify(mappingContext).put(mappingIid("name-8"), mapping("name-8", 8));
+    }
+
+    @Test
+    public void testRemoveName() {
+        namingContext.removeName(NAME_1, mappingContext);
+
+        verify(mappingContext).delete(mappingIid(NAME_1));
+        assertFalse(namingContext.containsName(1, mappingContext));
+        assertFalse(namingContext.containsIndex(NAME_1, mappingContext));
+        assertTrue(namingContext.containsName(2, mappingContext));
+    }
+
+    @Test
+    public void testReplaceIndexForName() {
+        namingContext.addName(5, NAME_1, mappingContext);
+
+        assertFalse(namingContext.containsName(1, mappingContext));
+        assertEquals(NAME_1, namingContext.getName(5, mappingContext));
+        assertEquals(5, namingContext.getIndex(NAME_1, mappingContext));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetIndexMissing() {
+        namingContext.getIndex("non-existing", mappingContext);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testGetIndexMissingWithSupplier() {
+        namingContext.getIndex("non-existing", mappingContext, () -> new IllegalStateException("Non existing"));
+    }
+
+    private static Mapping mapping(final String name, final int index) {
+        return new MappingBuilder().setName(name).setIndex(index).build();
+    }
+
+    private static KeyedInstanceIdentifier<Mapping, MappingKey> mappingIid(final String name) {
+        return MAPPINGS_IID.child(Mapping.class, new MappingKey(name));
+    }
+}
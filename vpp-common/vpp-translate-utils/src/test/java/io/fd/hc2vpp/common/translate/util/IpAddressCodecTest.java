@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import com.google.common.net.InetAddresses;
+import org.junit.Test;
+
+public class IpAddressCodecTest {
+
+    @Test
+    public void testParseIpv4() {
+        assertEquals(0xc0a80201, IpAddressCodec.parseIpv4("192.168.2.1"));
+        assertEquals(0, IpAddressCodec.parseIpv4("0.0.0.0"));
+        assertEquals(0xffffffff, IpAddressCodec.parseIpv4("255.255.255.255"));
+    }
+
+    @Test
+    public void testParseIpv4FromPrefix() {
+        final String prefix = "10.0.0.1/24";
+        assertEquals(0x0a000001, IpAddressCodec.parseIpv4(prefix, 0, IpAddressCodec.prefixSeparator(prefix)));
+        assertEquals(24, IpAddressCodec.prefixLength(prefix));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseIpv4OctetOutOfRange() {
+        IpAddressCodec.parseIpv4("192.168.2.256");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseIpv4TooManyOctets() {
+        IpAddressCodec.parseIpv4("1.2.3.4.5");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseIpv4TrailingDot() {
+        IpAddressCodec.parseIpv4("1.2.3.");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseIpv4EmptyOctet() {
+        IpAddressCodec.parseIpv4("1..2.3");
+    }
+
+    @Test
+    public void testFormatIpv4() {
+        assertEquals("192.168.2.1", IpAddressCodec.formatIpv4(0xc0a80201));
+        assertEquals("0.0.0.0", IpAddressCodec.formatIpv4(0));
+        assertEquals("10.20.100.255", IpAddressCodec.formatIpv4(IpAddressCodec.parseIpv4("10.20.100.255")));
+    }
+
+    @Test
+    public void testIpv6RoundTrip() {
+        assertIpv6("2001:db8:a0b:12f0::1");
+        assertIpv6("2001:0db8:0a0b:12f0:0000:0000:0000:0001");
+        assertIpv6("::");
+        assertIpv6("::1");
+        assertIpv6("1::");
+        assertIpv6("fe80::");
+        assertIpv6("1:0:0:2::3");
+        assertIpv6("1:0:1:0:1:0:1:0");
+        assertIpv6("1:0:0:1:0:0:1:1");
+        assertIpv6("3ffe:1900:4545:3:200:f8ff:fe21:67cf");
+        assertIpv6("FFFF:FFFF:FFFF:FFFF:FFFF:FFFF:FFFF:FFFF");
+        assertIpv6("::10.0.0.1");
+        assertIpv6("64:ff9b::192.0.2.33");
+        assertIpv6("1:2:3:4:5:6:1.2.3.4");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseIpv6TooManyGroups() {
+        parseIpv6("1:2:3:4:5:6:7:8:9");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseIpv6DoubleCompression() {
+        parseIpv6("1::2::3");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseIpv6CompressionOfAllGroups() {
+        parseIpv6("1:2:3:4::5:6:7:8");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseIpv6TooLongGroup() {
+        parseIpv6("12345::");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseIpv6TrailingColon() {
+        parseIpv6("1:2:3:4:5:6:7:");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseIpv6InvalidDigit() {
+        parseIpv6("1:2:3:4:5:6:7:g");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPrefixLengthMissing() {
+        IpAddressCodec.prefixLength("10.0.0.1");
+    }
+
+    private static byte[] parseIpv6(final String address) {
+        final byte[] parsed = new byte[16];
+        IpAddressCodec.parseIpv6(address, 0, address.length(), parsed, 0);
+        return parsed;
+    }
+
+    /**
+     * Checks parsing and formatting against InetAddresses, which formats IPv6 addresses in RFC 5952 format too. Does
+     * not work for IPv4 mapped addresses, those are converted to IPv4 addresses by InetAddresses.
+     */
+    private static void assertIpv6(final String address) {
+        final byte[] parsed = parseIpv6(address);
+        assertArrayEquals(InetAddresses.forString(address).getAddress(), parsed);
+        assertEquals(InetAddresses.toAddrString(InetAddresses.forString(address)),
+                IpAddressCodec.formatIpv6(parsed));
+    }
+}
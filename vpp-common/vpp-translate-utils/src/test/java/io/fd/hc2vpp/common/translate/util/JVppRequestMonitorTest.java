@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import javax.management.ObjectName;
+import org.junit.Test;
+
+public class JVppRequestMonitorTest {
+
+    @Test
+    public void testQueueDepth() {
+        final JVppRequestMonitor monitor = new JVppRequestStats(0, 0).getMonitor("test");
+        final CompletableFuture<String> first = new CompletableFuture<>();
+        final CompletableFuture<String> second = new CompletableFuture<>();
+        monitor.sendDump(() -> first);
+        monitor.send(() -> second);
+        final JVppRequestStats.PluginStats stats = monitor.getStats();
+        assertEquals(2, stats.getQueueDepth());
+
+        first.complete("reply");
+        second.completeExceptionally(new IllegalStateException("failed"));
+        assertEquals(0, stats.getQueueDepth());
+        assertEquals(2, stats.getMaxQueueDepth());
+        assertEquals(2, stats.getRequestCount());
+        assertEquals(1, stats.getFailureCount());
+    }
+
+    @Test
+    public void testDumpLimit() {
+        final JVppRequestMonitor monitor = new JVppRequestStats(1, 0).getMonitor("test");
+        final CompletableFuture<String> first = new CompletableFuture<>();
+        monitor.sendDump(() -> first);
+        final CompletionStage<String> rejected = monitor.sendDump(CompletableFuture::new);
+        assertTrue(rejected.toCompletableFuture().isCompletedExceptionally());
+        assertEquals(1, monitor.getStats().getRejectedDumpCount());
+
+        // only dumps are limited
+        assertFalse(monitor.send(CompletableFuture::new).toCompletableFuture().isDone());
+
+        first.complete("reply");
+        final CompletableFuture<String> next = new CompletableFuture<>();
+        assertSame(next, monitor.sendDump(() -> next));
+    }
+
+    @Test
+    public void testStatsExposedOverJmx() throws Exception {
+        final JVppRequestStats stats = new JVppRequestStats(0, 0);
+        stats.getMonitor("jmx-test").send(() -> CompletableFuture.completedFuture("reply"));
+
+        final ObjectName name = new ObjectName("io.fd.hc2vpp:type=JVppRequestStats,plugin=jmx-test");
+        assertEquals(1L, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "RequestCount"));
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import io.fd.honeycomb.translate.write.WriteFailedException;
+import io.fd.vpp.jvpp.VppCallbackException;
+import io.fd.vpp.jvpp.core.dto.ShowVersionReply;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.binding.DataContainer;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class JvppReplyPipelineTest {
+
+    private static final InstanceIdentifier<AnDataObject> ID = InstanceIdentifier.create(AnDataObject.class);
+
+    private static class AnDataObject implements DataObject {
+        @Override
+        public Class<? extends DataContainer> getImplementedInterface() {
+            return null;
+        }
+    }
+
+    @Test
+    public void testWindowIsBounded() {
+        final JvppReplyPipeline pipeline = new JvppReplyPipeline(2, 1);
+        final List<CompletableFuture<ShowVersionReply>> sent = new ArrayList<>();
+
+        for (int i = 0; i < 5; i++) {
+            pipeline.submitCreate(() -> {
+                final CompletableFuture<ShowVersionReply> future =
+                        CompletableFuture.completedFuture(new ShowVersionReply());
+                sent.add(future);
+                return future;
+            }, ID, new AnDataObject());
+            assertTrue(pipeline.inFlight() <= 2);
+        }
+
+        assertEquals(5, sent.size());
+        assertTrue(pipeline.drain().isEmpty());
+        assertEquals(0, pipeline.inFlight());
+    }
+
+    @Test
+    public void testFailuresInSubmissionOrder() {
+        final JvppReplyPipeline pipeline = new JvppReplyPipeline(10, 1);
+        final AnDataObject data = new AnDataObject();
+
+        pipeline.submitCreate(() -> failed(1), ID, data);
+        pipeline.submitCreate(() -> CompletableFuture.completedFuture(new ShowVersionReply()), ID, data);
+        pipeline.submitDelete(() -> failed(3), ID);
+
+        final List<WriteFailedException> failures = pipeline.drain();
+        assertEquals(2, failures.size());
+        assertTrue(failures.get(0) instanceof WriteFailedException.CreateFailedException);
+        assertEquals(1, ((VppCallbackException) failures.get(0).getCause()).getCtxId());
+        assertTrue(failures.get(1) instanceof WriteFailedException.DeleteFailedException);
+        assertEquals(3, ((VppCallbackException) failures.get(1).getCause()).getCtxId());
+
+        // failures are reported just once
+        assertTrue(pipeline.drain().isEmpty());
+    }
+
+    @Test
+    public void testUnexpectedFailure() {
+        final JvppReplyPipeline pipeline = new JvppReplyPipeline(10, 1);
+        final CompletableFuture<ShowVersionReply> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalArgumentException("unexpected"));
+
+        pipeline.submitDelete(() -> failed, ID);
+        pipeline.submitDelete(() -> failed(2), ID);
+
+        final List<WriteFailedException> failures = pipeline.drain();
+        assertEquals(2, failures.size());
+        assertTrue(failures.get(0) instanceof WriteFailedException.DeleteFailedException);
+        assertTrue(failures.get(0).getCause() instanceof IllegalStateException);
+        assertTrue(failures.get(1) instanceof WriteFailedException.DeleteFailedException);
+        assertEquals(2, ((VppCallbackException) failures.get(1).getCause()).getCtxId());
+    }
+
+    @Test
+    public void testDrainOrThrow() {
+        final JvppReplyPipeline pipeline = new JvppReplyPipeline(1, 1);
+
+        pipeline.submitWrite(() -> failed(1), ID);
+        pipeline.submitWrite(() -> failed(2), ID);
+
+        try {
+            pipeline.drainOrThrow();
+        } catch (WriteFailedException e) {
+            assertEquals(1, ((VppCallbackException) e.getCause()).getCtxId());
+            assertEquals(1, e.getSuppressed().length);
+            return;
+        }
+        fail("WriteFailedException was expected");
+    }
+
+    @Test
+    public void testTimeout() {
+        final JvppReplyPipeline pipeline = new JvppReplyPipeline(1, 1);
+        final CompletableFuture<ShowVersionReply> neverCompleted = new CompletableFuture<>();
+
+        pipeline.submitWrite(() -> neverCompleted, ID);
+
+        final List<WriteFailedException> failures = pipeline.drain();
+        assertEquals(1, failures.size());
+        assertTrue(failures.get(0) instanceof WriteTimeoutException);
+    }
+
+    @Test
+    public void testReplyIsReturned() throws Exception {
+        final JvppReplyPipeline pipeline = new JvppReplyPipeline(1, 1);
+        final ShowVersionReply reply = new ShowVersionReply();
+
+        assertSame(reply, pipeline.submitWrite(() -> CompletableFuture.completedFuture(reply), ID)
+                .toCompletableFuture().get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidWindow() {
+        new JvppReplyPipeline(0, 1);
+    }
+
+    private static CompletableFuture<ShowVersionReply> failed(final int ctxId) {
+        final CompletableFuture<ShowVersionReply> future = new CompletableFuture<>();
+        future.completeExceptionally(new VppCallbackException("test-call", "test error msg", ctxId, -1));
+        return future;
+    }
+}
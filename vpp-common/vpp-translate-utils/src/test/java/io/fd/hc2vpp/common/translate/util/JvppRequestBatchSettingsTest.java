@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+
+public class JvppRequestBatchSettingsTest {
+
+    private final Map<String, AutoCloseable> registered = new HashMap<>();
+
+    @Test
+    public void testDisabled() {
+        final JvppRequestBatchSettings settings = new JvppRequestBatchSettings(0, 256, 100);
+        assertFalse(settings.isEnabled());
+        assertNull(settings.createBatch("test", registered::put));
+        assertTrue(registered.isEmpty());
+    }
+
+    @Test
+    public void testBatchRegisteredForShutdown() throws Exception {
+        final JvppRequestBatchSettings settings = new JvppRequestBatchSettings(16, 256, 100);
+        assertTrue(settings.isEnabled());
+        final JvppRequestBatch<String> batch = settings.createBatch("test", registered::put);
+        assertNotNull(batch);
+        assertEquals(1, registered.size());
+        assertSame(batch, registered.get("test"));
+        batch.close();
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import io.fd.honeycomb.translate.write.WriteFailedException;
+import io.fd.vpp.jvpp.VppCallbackException;
+import io.fd.vpp.jvpp.core.dto.ShowVersionReply;
+import io.fd.vpp.jvpp.dto.JVppReply;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.binding.DataContainer;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class JvppRequestBatchTest {
+
+    private static final InstanceIdentifier<AnDataObject> ID = InstanceIdentifier.create(AnDataObject.class);
+    private static final AnDataObject DATA = new AnDataObject();
+    // long enough not to trigger flush during the test
+    private static final long LINGER_MILLIS = 60_000;
+
+    private final List<String> sent = new ArrayList<>();
+
+    private static class AnDataObject implements DataObject {
+        @Override
+        public Class<? extends DataContainer> getImplementedInterface() {
+            return null;
+        }
+    }
+
+    @Test
+    public void testFlushOnSize() {
+        final JvppRequestBatch<String> batch = new JvppRequestBatch<>("test", 2, 1, LINGER_MILLIS);
+
+        batch.create("a", ID, DATA, request("create-a"));
+        assertTrue(sent.isEmpty());
+        assertEquals(1, batch.size());
+
+        batch.create("b", ID, DATA, request("create-b"));
+        assertEquals(2, sent.size());
+        assertEquals(0, batch.size());
+    }
+
+    @Test
+    public void testCreateAndDeleteCancelOut() {
+        final JvppRequestBatch<String> batch = new JvppRequestBatch<>("test", 10, 1, LINGER_MILLIS);
+
+        batch.create("a", ID, DATA, request("create-a"));
+        batch.delete("a", ID, request("delete-a"));
+        assertEquals(0, batch.size());
+
+        batch.flush();
+        assertTrue(sent.isEmpty());
+    }
+
+    @Test
+    public void testDeleteAndCreateKeptInOrder() {
+        final JvppRequestBatch<String> batch = new JvppRequestBatch<>("test", 10, 1, LINGER_MILLIS);
+
+        batch.delete("a", ID, request("delete-a"));
+        batch.create("b", ID, DATA, request("create-b"));
+        batch.create("a", ID, DATA, request("create-a"));
+        batch.flush();
+
+        assertEquals(3, sent.size());
+        assertTrue(sent.indexOf("delete-a") < sent.indexOf("create-a"));
+    }
+
+    @Test
+    public void testDeleteOfSentCreateIsNotCancelled() {
+        final JvppRequestBatch<String> batch = new JvppRequestBatch<>("test", 10, 1, LINGER_MILLIS);
+
+        batch.create("a", ID, DATA, request("create-a"));
+        batch.flush();
+        batch.delete("a", ID, request("delete-a"));
+        batch.flush();
+
+        assertEquals(2, sent.size());
+    }
+
+    @Test
+    public void testFailuresReportedPerBatch() {
+        final JvppRequestBatch<String> batch = new JvppRequestBatch<>("test", 10, 2, LINGER_MILLIS);
+
+        batch.create("a", ID, DATA, request("create-a"));
+        batch.create("b", ID, DATA, Collections.singletonList(() -> failed()));
+        batch.delete("c", ID, Collections.singletonList(() -> failed()));
+
+        final List<WriteFailedException> failures = batch.flush();
+        assertEquals(2, failures.size());
+        assertTrue(failures.get(0) instanceof WriteFailedException.CreateFailedException);
+        assertTrue(failures.get(1) instanceof WriteFailedException.DeleteFailedException);
+    }
+
+    @Test(timeout = 10000)
+    public void testFlushOnLinger() throws InterruptedException {
+        try (final JvppRequestBatch<String> batch = new JvppRequestBatch<>("test", 10, 1, 10)) {
+            batch.create("a", ID, DATA, request("create-a"));
+            while (batch.size() != 0) {
+                Thread.sleep(10);
+            }
+        }
+        assertEquals(1, sent.size());
+    }
+
+    @Test
+    public void testFlushOnClose() {
+        final JvppRequestBatch<String> batch = new JvppRequestBatch<>("test", 10, 1, LINGER_MILLIS);
+        batch.create("a", ID, DATA, request("create-a"));
+        assertTrue(sent.isEmpty());
+
+        batch.close();
+        assertEquals(1, sent.size());
+        assertEquals(0, batch.size());
+    }
+
+    @Test(timeout = 10000)
+    public void testAppendDuringFlush() throws InterruptedException {
+        final JvppRequestBatch<String> batch = new JvppRequestBatch<>("test", 10, 1, LINGER_MILLIS);
+        final CompletableFuture<ShowVersionReply> reply = new CompletableFuture<>();
+        final CountDownLatch requestSent = new CountDownLatch(1);
+        batch.create("a", ID, DATA, Collections.singletonList(() -> {
+            requestSent.countDown();
+            return reply;
+        }));
+        final Thread flush = new Thread(batch::flush);
+        flush.start();
+        assertTrue(requestSent.await(5, TimeUnit.SECONDS));
+
+        // flush waits for reply, but does not block new operations
+        batch.create("b", ID, DATA, request("create-b"));
+        assertEquals(1, batch.size());
+
+        reply.complete(new ShowVersionReply());
+        flush.join();
+        batch.close();
+        assertEquals(1, sent.size());
+    }
+
+    private List<Supplier<CompletionStage<? extends JVppReply<?>>>> request(final String name) {
+        return Collections.singletonList(() -> {
+            synchronized (sent) {
+                sent.add(name);
+            }
+            return CompletableFuture.completedFuture(new ShowVersionReply());
+        });
+    }
+
+    private static CompletableFuture<ShowVersionReply> failed() {
+        final CompletableFuture<ShowVersionReply> future = new CompletableFuture<>();
+        future.completeExceptionally(new VppCallbackException("test-call", "test error msg", 1, -1));
+        return future;
+    }
+}
@@ -32,6 +32,7 @@ import io.fd.honeycomb.test.tools.annotations.SchemaContextProvider;
 import io.fd.honeycomb.translate.MappingContext;
 import io.fd.honeycomb.translate.util.RWUtils;
 import java.util.Collections;
+import java.util.Map;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -158,6 +159,18 @@ public class NamingContextTest implements InjectablesProcessor {
         assertEquals(Optional.of(NAME_1), namingContext.getNameIfPresent(1, mappingContext));
     }
 
+    @Test
+    public void getNamesIfPresent() {
+        final Mapping mapping1 = new MappingBuilder().setIndex(1).setName(NAME_1).build();
+        final Mapping mapping2 = new MappingBuilder().setIndex(2).setName(NAME_2).build();
+        final Mappings mappings = new MappingsBuilder().setMapping(Lists.newArrayList(mapping1, mapping2)).build();
+        when(mappingContext.read(namingContextIid.child(Mappings.class))).thenReturn(Optional.of(mappings));
+
+        final Map<Integer, String> names = namingContext.getNamesIfPresent(Lists.newArrayList(0, 2), mappingContext);
+        assertEquals(Collections.singletonMap(2, NAME_2), names);
+        verify(mappingContext).read(namingContextIid.child(Mappings.class));
+    }
+
     private Mapping filterForParent(final String parent) {
         return mappings.getMapping().stream()
                 .filter(mapping -> mapping.getName().equals(parent))
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2018 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.base.Optional;
+import io.fd.honeycomb.translate.MappingContext;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.Contexts;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.NamingContextKey;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.naming.context.Mappings;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.naming.context.MappingsBuilder;
+import org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.naming.context.mappings.MappingBuilder;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class TransactionalContextStoreTest {
+
+    private static final String CONTEXT = "interface-context";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Mock
+    private MappingContext realtimeContext;
+
+    private Path path;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        path = folder.getRoot().toPath().resolve("contexts");
+        when(realtimeContext.read(any())).thenReturn(Optional.absent());
+    }
+
+    @Test
+    public void testCommittedTransaction() throws IOException {
+        try (ContextStore contextStore = new ContextStore(path)) {
+            final NamingContext namingContext = namingContext(contextStore);
+            final MappingContext transaction = mock(MappingContext.class);
+            namingContext.addName(1, "tap0", transaction);
+
+            // changes are visible just to the transaction making them, until it is committed
+            assertEquals(1, namingContext.getIndex("tap0", transaction));
+            assertFalse(namingContext.containsIndex("tap0", mock(MappingContext.class)));
+
+            commit(transaction);
+            assertEquals(1, namingContext.getIndex("tap0", mock(MappingContext.class)));
+            assertTrue(contextStore.getOpenTransactions().isEmpty());
+        }
+    }
+
+    @Test
+    public void testTransactionCommittedBeforeRestart() throws IOException {
+        try (ContextStore contextStore = new ContextStore(path)) {
+            final MappingContext transaction = mock(MappingContext.class);
+            namingContext(contextStore).addName(1, "tap0", transaction);
+            commit(transaction);
+        }
+
+        try (ContextStore contextStore = new ContextStore(path)) {
+            assertEquals(1, namingContext(contextStore).getIndex("tap0", mock(MappingContext.class)));
+            assertTrue(contextStore.getOpenTransactions().isEmpty());
+        }
+    }
+
+    @Test
+    public void testFailedTransactionDropped() throws IOException {
+        try (ContextStore contextStore = new ContextStore(path)) {
+            namingContext(contextStore).addName(1, "tap0", mock(MappingContext.class));
+        }
+
+        try (ContextStore contextStore = new ContextStore(path)) {
+            assertFalse(namingContext(contextStore).containsIndex("tap0", mock(MappingContext.class)));
+            assertTrue(contextStore.getOpenTransactions().isEmpty());
+        }
+    }
+
+    @Test
+    public void testSeedFromContextData() throws IOException {
+        final InstanceIdentifier<Mappings> mappingsId = InstanceIdentifier.create(Contexts.class).child(
+                org.opendaylight.yang.gen.v1.urn.honeycomb.params.xml.ns.yang.naming.context.rev160513.contexts.NamingContext.class,
+                new NamingContextKey(CONTEXT)).child(Mappings.class);
+        when(realtimeContext.read(mappingsId)).thenReturn(Optional.of(new MappingsBuilder()
+                .setMapping(Collections.singletonList(new MappingBuilder().setName("local0").setIndex(0).build()))
+                .build()));
+
+        try (ContextStore contextStore = new ContextStore(path)) {
+            final NamingContext namingContext = namingContext(contextStore);
+            final MappingContext transaction = mock(MappingContext.class);
+            assertEquals("local0", namingContext.getName(0, transaction));
+            // index of seeded mapping is not reused
+            namingContext.addName("tap0", transaction);
+            assertEquals(1, namingContext.getIndex("tap0", transaction));
+        }
+    }
+
+    private NamingContext namingContext(final ContextStore contextStore) {
+        return new NamingContext("interface-", CONTEXT, new TransactionalContextStore(contextStore, realtimeContext));
+    }
+
+    /**
+     * Makes context data written by the transaction visible through the realtime context.
+     */
+    @SuppressWarnings("unchecked")
+    private void commit(final MappingContext transaction) {
+        final ArgumentCaptor<InstanceIdentifier> ids = ArgumentCaptor.forClass(InstanceIdentifier.class);
+        final ArgumentCaptor<DataObject> data = ArgumentCaptor.forClass(DataObject.class);
+        verify(transaction, atLeastOnce()).put(ids.capture(), data.capture());
+        final List<InstanceIdentifier> written = ids.getAllValues();
+        for (int i = 0; i < written.size(); i++) {
+            when(realtimeContext.read(written.get(i))).thenReturn(Optional.of(data.getAllValues().get(i)));
+        }
+    }
+}